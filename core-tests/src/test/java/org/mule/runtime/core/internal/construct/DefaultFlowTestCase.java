@@ -62,6 +62,7 @@ import org.mule.runtime.core.api.source.MessageSource;
 import org.mule.runtime.core.internal.construct.DefaultFlowBuilder.DefaultFlow;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.management.stats.DefaultFlowConstructStatistics;
 import org.mule.runtime.core.internal.processor.strategy.BlockingProcessingStrategyFactory;
 import org.mule.runtime.core.internal.processor.strategy.ProactorStreamEmitterProcessingStrategyFactory;
 import org.mule.runtime.core.internal.registry.MuleRegistry;
@@ -263,6 +264,39 @@ public class DefaultFlowTestCase extends AbstractFlowConstructTestCase {
     }
   }
 
+  @Test
+  public void adaptiveConcurrency() throws Exception {
+    Flow adaptiveFlow = Flow.builder(FLOW_NAME, muleContext)
+        .source(directInboundMessageSource)
+        .processors(getSensingNullMessageProcessor())
+        .processingStrategyFactory(new ProactorStreamEmitterProcessingStrategyFactory())
+        .maxConcurrency(4)
+        .adaptiveConcurrency(true)
+        .build();
+    try {
+      assertThat(((DefaultFlowConstructStatistics) adaptiveFlow.getStatistics()).getAdaptiveConcurrencyStatistics().isEnabled(),
+                 is(true));
+    } finally {
+      adaptiveFlow.dispose();
+    }
+  }
+
+  @Test
+  public void fixedConcurrencyByDefault() throws Exception {
+    Flow fixedFlow = Flow.builder(FLOW_NAME, muleContext)
+        .source(directInboundMessageSource)
+        .processors(getSensingNullMessageProcessor())
+        .processingStrategyFactory(new ProactorStreamEmitterProcessingStrategyFactory())
+        .maxConcurrency(4)
+        .build();
+    try {
+      assertThat(((DefaultFlowConstructStatistics) fixedFlow.getStatistics()).getAdaptiveConcurrencyStatistics().isEnabled(),
+                 is(false));
+    } finally {
+      fixedFlow.dispose();
+    }
+  }
+
   @Test
   public void illegalCustomMaxConcurrency() {
     expectedException.expect(IllegalArgumentException.class);
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el.cache;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.internal.el.cache.CompiledExpressionCaches.MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE;
+import static org.mule.runtime.core.internal.el.cache.CompiledExpressionCaches.createCompiledExpressionCache;
+
+import org.mule.runtime.core.internal.el.CompiledExpressionCache;
+import org.mule.runtime.core.internal.el.CompiledExpressionKey;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class CompiledExpressionCacheTestCase extends AbstractMuleTestCase {
+
+  private static final CompiledExpressionKey KEY = new CompiledExpressionKey("dw", "payload.name", "UTF-8|");
+
+  private final AtomicInteger compilations = new AtomicInteger();
+
+  private final Function<CompiledExpressionKey, String> compiler = key -> {
+    compilations.incrementAndGet();
+    return "compiled " + key.getExpression();
+  };
+
+  @After
+  public void after() {
+    clearProperty(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE);
+  }
+
+  @Test
+  public void inMemoryCompilesOnce() {
+    InMemoryCompiledExpressionCache cache = new InMemoryCompiledExpressionCache(10);
+
+    String compiled = cache.get(KEY, compiler);
+    assertThat(cache.get(KEY, compiler), is(sameInstance(compiled)));
+    assertThat(compilations.get(), is(1));
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  public void differentCompilationContextCompilesAgain() {
+    InMemoryCompiledExpressionCache cache = new InMemoryCompiledExpressionCache(10);
+
+    cache.get(KEY, compiler);
+    cache.get(new CompiledExpressionKey("dw", "payload.name", "UTF-16|"), compiler);
+    assertThat(compilations.get(), is(2));
+  }
+
+  @Test
+  public void keyDependsOnAllParts() {
+    assertThat(KEY, equalTo(new CompiledExpressionKey("dw", "payload.name", "UTF-8|")));
+    assertThat(KEY, not(equalTo(new CompiledExpressionKey("dw", "payload.nam", "eUTF-8|"))));
+    assertThat(KEY, not(equalTo(new CompiledExpressionKey("mel", "payload.name", "UTF-8|"))));
+  }
+
+  @Test
+  public void disabledByDefault() {
+    assertThat(createCompiledExpressionCache(), is(nullValue()));
+  }
+
+  @Test
+  public void disabled() {
+    setProperty(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE, "0");
+    assertThat(createCompiledExpressionCache(), is(nullValue()));
+  }
+
+  @Test
+  public void notSharedBetweenArtifacts() {
+    setProperty(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE, "10");
+    CompiledExpressionCache cache1 = createCompiledExpressionCache();
+    CompiledExpressionCache cache2 = createCompiledExpressionCache();
+
+    assertThat(cache1, is(instanceOf(InMemoryCompiledExpressionCache.class)));
+    assertThat(cache1, is(not(sameInstance(cache2))));
+
+    cache1.get(KEY, compiler);
+    cache2.get(KEY, compiler);
+    assertThat(compilations.get(), is(2));
+  }
+}
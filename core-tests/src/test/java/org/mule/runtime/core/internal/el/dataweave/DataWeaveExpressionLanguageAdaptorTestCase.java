@@ -33,6 +33,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
@@ -90,8 +91,10 @@ import org.mule.runtime.core.api.config.MuleManifest;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
 import org.mule.runtime.core.api.security.DefaultMuleCredentials;
+import org.mule.runtime.core.internal.el.CompiledExpressionCache;
 import org.mule.runtime.core.internal.el.ExpressionLanguageSessionAdaptor;
 import org.mule.runtime.core.internal.el.IllegalCompiledExpression;
+import org.mule.runtime.core.internal.el.cache.InMemoryCompiledExpressionCache;
 import org.mule.runtime.core.internal.message.BaseAttributes;
 import org.mule.runtime.core.internal.message.ErrorBuilder;
 import org.mule.runtime.core.internal.message.InternalMessage;
@@ -673,6 +676,46 @@ public class DataWeaveExpressionLanguageAdaptorTestCase extends AbstractWeaveExp
     }
   }
 
+  @Test
+  public void compiledExpressionCacheUsed() {
+    CompiledExpression compiled = mock(CompiledExpression.class);
+    when(genericExpressionLanguage.compile(eq("payload.name"), any(BindingContext.class))).thenReturn(compiled);
+    DataWeaveExpressionLanguageAdaptor expressionLanguageAdaptor =
+        new DataWeaveExpressionLanguageAdaptor(mock(MuleContext.class, RETURNS_DEEP_STUBS), registry,
+                                               genericExpressionLanguageService);
+    expressionLanguageAdaptor.setCompiledExpressionCache(new InMemoryCompiledExpressionCache(10));
+
+    assertThat(expressionLanguageAdaptor.compile("#[payload.name]", bindingContext), is(sameInstance(compiled)));
+    assertThat(expressionLanguageAdaptor.compile("#[payload.name]", bindingContext), is(sameInstance(compiled)));
+    verify(genericExpressionLanguage, times(1)).compile(eq("payload.name"), any(BindingContext.class));
+  }
+
+  @Test
+  public void compiledExpressionWithImportNotSharedWithOtherArtifact() {
+    String expression = "%dw 2.0\nimport\tupperName from MyModule\n---\nupperName(payload)";
+    when(genericExpressionLanguage.compile(anyString(), any(BindingContext.class))).thenReturn(mock(CompiledExpression.class));
+    InMemoryCompiledExpressionCache cache = new InMemoryCompiledExpressionCache(10);
+    DataWeaveExpressionLanguageAdaptor artifact1Adaptor = artifactAdaptor("artifact1", cache);
+    DataWeaveExpressionLanguageAdaptor artifact2Adaptor = artifactAdaptor("artifact2", cache);
+
+    artifact1Adaptor.compile("#[payload.name]", bindingContext);
+    artifact2Adaptor.compile("#[payload.name]", bindingContext);
+    artifact1Adaptor.compile("#[" + expression + "]", bindingContext);
+    artifact2Adaptor.compile("#[" + expression + "]", bindingContext);
+
+    verify(genericExpressionLanguage, times(1)).compile(eq("payload.name"), any(BindingContext.class));
+    verify(genericExpressionLanguage, times(2)).compile(eq(expression), any(BindingContext.class));
+  }
+
+  private DataWeaveExpressionLanguageAdaptor artifactAdaptor(String artifactId, CompiledExpressionCache cache) {
+    MuleContext muleContext = mock(MuleContext.class, RETURNS_DEEP_STUBS);
+    when(muleContext.getConfiguration().getId()).thenReturn(artifactId);
+    DataWeaveExpressionLanguageAdaptor expressionLanguageAdaptor =
+        new DataWeaveExpressionLanguageAdaptor(muleContext, registry, genericExpressionLanguageService);
+    expressionLanguageAdaptor.setCompiledExpressionCache(cache);
+    return expressionLanguageAdaptor;
+  }
+
   @Test
   public void evaluateInvalidCompiledExpression() throws MuleException {
     ExpressionCompilationException e = new ExpressionCompilationException(createStaticMessage("oopsy"));
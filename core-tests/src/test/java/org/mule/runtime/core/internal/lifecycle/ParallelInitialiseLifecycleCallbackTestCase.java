@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.Thread.State.BLOCKED;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static org.mule.tck.probe.PollingProber.probe;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.internal.context.DefaultMuleContext;
+import org.mule.runtime.core.internal.lifecycle.phases.LifecyclePhase;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class ParallelInitialiseLifecycleCallbackTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expected = none();
+
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private final Map<String, Object> objects = new LinkedHashMap<>();
+  private final Map<String, List<Object>> dependencies = new HashMap<>();
+  private final Map<Object, LifecycleAction> actions = new HashMap<>();
+  private final List<String> initialised = new CopyOnWriteArrayList<>();
+
+  private DefaultMuleContext muleContext;
+  private LifecyclePhase phase;
+  private ParallelInitialiseLifecycleCallback<Object> callback;
+
+  @Before
+  public void before() throws Exception {
+    muleContext = spy(new DefaultMuleContext());
+    doReturn(schedulerService).when(muleContext).getSchedulerService();
+    doReturn(config()).when(muleContext).getSchedulerBaseConfig();
+
+    RegistryLifecycleManager registryLifecycleManager = mock(RegistryLifecycleManager.class);
+    registryLifecycleManager.muleContext = muleContext;
+    when(registryLifecycleManager.lookupObjectsForLifecycle()).thenReturn(objects);
+
+    phase = mock(LifecyclePhase.class);
+    when(phase.getName()).thenReturn(Initialisable.PHASE_NAME);
+    doAnswer(invocation -> {
+      Object target = invocation.getArgument(0);
+      LifecycleAction action = actions.get(target);
+      if (action != null) {
+        action.run();
+      }
+      initialised.add(nameOf(target));
+      return null;
+    }).when(phase).applyLifecycle(any());
+
+    callback = new ParallelInitialiseLifecycleCallback<>(registryLifecycleManager,
+                                                         name -> dependencies.getOrDefault(name, emptyList()));
+  }
+
+  @After
+  public void after() throws MuleException {
+    schedulerService.stop();
+  }
+
+  @Test
+  public void independentFlowsInitialisedConcurrently() throws Exception {
+    // Each initialisation waits for the other one, so they only finish if both run at the same time
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    LifecycleAction awaitOther = () -> {
+      bothStarted.countDown();
+      bothStarted.await(5, SECONDS);
+    };
+    actions.put(flow("flow1"), awaitOther);
+    actions.put(flow("flow2"), awaitOther);
+
+    applyInitialise();
+
+    assertThat(bothStarted.getCount(), is(0L));
+    assertThat(initialised, containsInAnyOrder("flow1", "flow2"));
+  }
+
+  @Test
+  public void dependenciesInitialisedFirst() throws Exception {
+    // flow1 only finishes once the independent flow3 has been initialised, but flow2 still has to wait for it
+    CountDownLatch flow3Initialised = new CountDownLatch(1);
+    Object flow1 = flow("flow1");
+    actions.put(flow1, () -> flow3Initialised.await(5, SECONDS));
+    flow("flow2");
+    actions.put(flow("flow3"), flow3Initialised::countDown);
+    dependencies.put("flow2", singletonList(flow1));
+
+    applyInitialise();
+
+    assertThat(initialised, contains("flow3", "flow1", "flow2"));
+  }
+
+  @Test
+  public void otherObjectsActAsBarrier() throws Exception {
+    flow("flow1");
+    object("object");
+    flow("flow2");
+    flow("flow3");
+
+    applyInitialise();
+
+    assertThat(initialised.subList(0, 2), contains("flow1", "object"));
+    assertThat(initialised.subList(2, 4), containsInAnyOrder("flow2", "flow3"));
+  }
+
+  @Test
+  public void failurePropagated() throws Exception {
+    LifecycleException failure = new LifecycleException(createStaticMessage("Expected"), this);
+    actions.put(flow("flow1"), () -> {
+      throw failure;
+    });
+    flow("flow2");
+
+    expected.expect(is(sameInstance(failure)));
+    applyInitialise();
+  }
+
+  @Test
+  public void lifecycleLockHeldDuringPhase() throws Exception {
+    List<String> lockedCommands = new CopyOnWriteArrayList<>();
+    Thread outsider = new Thread(() -> muleContext.withLifecycleLock(() -> lockedCommands.add("outsider")));
+
+    actions.put(flow("flow1"), () -> {
+      outsider.start();
+      probe(() -> outsider.getState() == BLOCKED);
+      muleContext.withLifecycleLock(() -> lockedCommands.add("flow1"));
+    });
+    actions.put(flow("flow2"), () -> muleContext.withLifecycleLock(() -> lockedCommands.add("flow2")));
+
+    muleContext.withLifecycleLock(() -> {
+      try {
+        applyInitialise();
+      } catch (LifecycleException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    outsider.join(SECONDS.toMillis(5));
+
+    assertThat(lockedCommands.subList(0, 2), containsInAnyOrder("flow1", "flow2"));
+    assertThat(lockedCommands.subList(2, 3), contains("outsider"));
+  }
+
+  private void applyInitialise() throws LifecycleException {
+    callback.doApplyLifecycle(phase, new HashSet<>(), new ArrayList<>(objects.values()));
+  }
+
+  private Object flow(String name) {
+    FlowConstruct flow = mock(FlowConstruct.class, name);
+    objects.put(name, flow);
+    return flow;
+  }
+
+  private Object object(String name) {
+    Object object = mock(Initialisable.class, name);
+    objects.put(name, object);
+    return object;
+  }
+
+  private String nameOf(Object target) {
+    return objects.entrySet().stream().filter(entry -> entry.getValue() == target).findFirst().get().getKey();
+  }
+
+  @FunctionalInterface
+  private interface LifecycleAction {
+
+    void run() throws Exception;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.startup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.getProfile;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.removeProfile;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startArtifact;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class StartupProfilerTestCase extends AbstractMuleTestCase {
+
+  private static final String ARTIFACT_NAME = "app";
+  private static final String OTHER_ARTIFACT_NAME = "otherApp";
+
+  @After
+  public void after() {
+    removeProfile(ARTIFACT_NAME);
+    removeProfile(OTHER_ARTIFACT_NAME);
+  }
+
+  @Test
+  public void phasesAreNested() {
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      try (StartupPhase create = startPhase("create")) {
+        try (StartupPhase classLoaderModel = startPhase("classLoaderModel")) {
+          // Nothing to do
+        }
+      }
+      try (StartupPhase deploy = startPhase("deploy")) {
+        // Nothing to do
+      }
+    }
+
+    StartupPhase root = getProfile(ARTIFACT_NAME).get();
+    assertThat(root.isFinished(), is(true));
+    assertThat(root.getChildren(), hasSize(2));
+    assertThat(root.getChildren().get(0).getName(), is("create"));
+    assertThat(root.getChildren().get(0).getChildren().get(0).getName(), is("classLoaderModel"));
+    assertThat(root.getChildren().get(1).getName(), is("deploy"));
+  }
+
+  @Test
+  public void phaseOutsideArtifactIsNotRecorded() {
+    try (StartupPhase phase = startPhase("orphan")) {
+      assertThat(phase.getChildren(), is(empty()));
+    }
+
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      // Nothing to do
+    }
+
+    try (StartupPhase phase = startPhase("afterArtifact")) {
+      // Nothing to do
+    }
+
+    assertThat(getProfile(ARTIFACT_NAME).get().getChildren(), is(empty()));
+  }
+
+  @Test
+  public void nestedArtifactRestoresOuterPhase() {
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      try (StartupPhase other = startArtifact(OTHER_ARTIFACT_NAME)) {
+        try (StartupPhase phase = startPhase("inner")) {
+          // Nothing to do
+        }
+      }
+      try (StartupPhase phase = startPhase("outer")) {
+        // Nothing to do
+      }
+    }
+
+    assertThat(getProfile(OTHER_ARTIFACT_NAME).get().getChildren().get(0).getName(), is("inner"));
+    assertThat(getProfile(ARTIFACT_NAME).get().getChildren(), hasSize(1));
+    assertThat(getProfile(ARTIFACT_NAME).get().getChildren().get(0).getName(), is("outer"));
+  }
+
+  @Test
+  public void redeploymentReplacesProfile() {
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      startPhase("first").close();
+    }
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      startPhase("second").close();
+    }
+
+    assertThat(StartupProfiler.getProfiles().keySet(), contains(ARTIFACT_NAME));
+    assertThat(getProfile(ARTIFACT_NAME).get().getChildren().get(0).getName(), is("second"));
+  }
+
+  @Test
+  public void json() {
+    try (StartupPhase root = startArtifact(ARTIFACT_NAME)) {
+      startPhase("extensionModel: \"quoted\"").close();
+    }
+
+    String json = getProfile(ARTIFACT_NAME).get().toJson();
+    assertThat(json, containsString("{\"name\":\"app\",\"durationMillis\":"));
+    assertThat(json, containsString("\"children\":[{\"name\":\"extensionModel: \\\"quoted\\\"\""));
+    assertThat(new StartupProfilerService().getProfileAsJson(ARTIFACT_NAME), is(json));
+  }
+}
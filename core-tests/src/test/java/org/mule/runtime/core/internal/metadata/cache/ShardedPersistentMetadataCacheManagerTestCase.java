@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata.cache;
+
+import static java.util.Optional.of;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.api.metadata.MetadataCache;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerConfig;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.core.internal.metadata.cache.ShardedPersistentMetadataCacheManager.MetadataCacheEntry;
+import org.mule.tck.core.util.store.InMemoryObjectStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ShardedPersistentMetadataCacheManagerTestCase {
+
+  private static final String SOME_KEY = "1874947571-1840879217-380895431-1745289126";
+  private static final String OTHER_KEY = "1874947571-1840879217-123123123-1745289126";
+
+  @Mock
+  private ObjectStoreManager objectStoreManager;
+
+  @Mock
+  private LockFactory lockFactory;
+
+  @Mock
+  private Lock mockLock;
+
+  @Mock
+  private SchedulerService schedulerService;
+
+  @Mock
+  private Scheduler scheduler;
+
+  private final AtomicInteger allKeysCalls = new AtomicInteger();
+  private final AtomicInteger failingStores = new AtomicInteger();
+  private final InMemoryObjectStore<MetadataCacheEntry> objectStore = new InMemoryObjectStore<MetadataCacheEntry>() {
+
+    @Override
+    protected void doStore(String id, MetadataCacheEntry value) throws ObjectStoreException {
+      if (failingStores.getAndDecrement() > 0) {
+        throw new ObjectStoreException(createStaticMessage("Expected"));
+      }
+      super.doStore(id, value);
+    }
+
+    @Override
+    public List<String> allKeys() throws ObjectStoreException {
+      allKeysCalls.incrementAndGet();
+      return super.allKeys();
+    }
+  };
+  private final List<Runnable> pendingTasks = new ArrayList<>();
+
+  @InjectMocks
+  private ShardedPersistentMetadataCacheManager cacheManager = new ShardedPersistentMetadataCacheManager();
+
+  @Before
+  public void setUp() {
+    when(lockFactory.createLock(anyString())).thenReturn(mockLock);
+    when(objectStoreManager.getOrCreateObjectStore(anyString(), any())).thenReturn(objectStore);
+    when(schedulerService.customScheduler(any(SchedulerConfig.class))).thenReturn(scheduler);
+    when(scheduler.submit(any(Runnable.class))).then(inv -> {
+      pendingTasks.add(inv.getArgument(0));
+      return null;
+    });
+
+    cacheManager.start();
+  }
+
+  @Test
+  public void sameCacheWhileInMemory() {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY), is(sameInstance(cache)));
+  }
+
+  @Test
+  public void updateIsWrittenBehind() throws ObjectStoreException {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    assertThat(objectStore.allKeys(), is(empty()));
+
+    runPendingTasks();
+    assertThat(objectStore.allKeys(), hasSize(1));
+  }
+
+  @Test
+  public void updatesAreCoalesced() throws ObjectStoreException {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+    cache.put("otherKey", "otherValue");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    assertThat(pendingTasks, hasSize(1));
+    runPendingTasks();
+    assertThat(objectStore.allKeys(), hasSize(2));
+  }
+
+  @Test
+  public void onlyChangedEntriesAreWritten() throws ObjectStoreException {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+    runPendingTasks();
+
+    MetadataCacheEntry written = objectStore.retrieve(objectStore.allKeys().get(0));
+    cache.put("otherKey", "otherValue");
+    cacheManager.updateCache(SOME_KEY, cache);
+    runPendingTasks();
+
+    assertThat(objectStore.allKeys(), hasSize(2));
+    assertThat(objectStore.retrieve(objectStore.allKeys().get(0)), is(sameInstance(written)));
+  }
+
+  @Test
+  public void loadedFromStoreWhenNotInMemory() {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+    runPendingTasks();
+
+    ShardedPersistentMetadataCacheManager otherCacheManager = new ShardedPersistentMetadataCacheManager();
+    otherCacheManager.setLockFactory(lockFactory);
+    otherCacheManager.setObjectStoreManager(objectStoreManager);
+    otherCacheManager.setSchedulerService(schedulerService);
+    otherCacheManager.start();
+
+    assertThat(otherCacheManager.getOrCreateCache(SOME_KEY).get("key"), is(of("value")));
+  }
+
+  @Test
+  public void pendingWritesOnStop() throws ObjectStoreException {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    cacheManager.stop();
+    assertThat(objectStore.allKeys(), hasSize(1));
+  }
+
+  @Test
+  public void updateAfterStopIsWritten() throws ObjectStoreException {
+    cacheManager.stop();
+
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    assertThat(objectStore.allKeys(), hasSize(1));
+  }
+
+  @Test
+  public void failedWriteIsRetried() throws ObjectStoreException {
+    when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).then(inv -> {
+      pendingTasks.add(inv.getArgument(0));
+      return null;
+    });
+    failingStores.set(1);
+
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+    runPendingTasks();
+
+    assertThat(objectStore.allKeys(), is(empty()));
+    assertThat(pendingTasks, hasSize(1));
+
+    runPendingTasks();
+    assertThat(objectStore.allKeys(), hasSize(1));
+  }
+
+  @Test
+  public void failedWriteIsWrittenOnStop() throws ObjectStoreException {
+    failingStores.set(1);
+
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+    runPendingTasks();
+
+    cacheManager.stop();
+    assertThat(objectStore.allKeys(), hasSize(1));
+  }
+
+  @Test
+  public void storeKeysListedOnce() {
+    writeCache(SOME_KEY);
+    writeCache(OTHER_KEY);
+    cacheManager.dispose(SOME_KEY);
+    cacheManager.dispose(OTHER_KEY);
+    cacheManager.getOrCreateCache(SOME_KEY);
+
+    assertThat(allKeysCalls.get(), is(1));
+  }
+
+  @Test
+  public void disposeExactId() throws ObjectStoreException {
+    writeCache(SOME_KEY);
+    writeCache(OTHER_KEY);
+
+    cacheManager.dispose(SOME_KEY);
+
+    assertThat(objectStore.allKeys(), hasSize(1));
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY).get("key").isPresent(), is(false));
+    assertThat(cacheManager.getOrCreateCache(OTHER_KEY).get("key").isPresent(), is(true));
+  }
+
+  @Test
+  public void disposePartialId() throws ObjectStoreException {
+    writeCache(SOME_KEY);
+    writeCache(OTHER_KEY);
+
+    cacheManager.dispose("1874947571-1840879217");
+
+    assertThat(objectStore.allKeys(), is(empty()));
+    assertThat(cacheManager.getOrCreateCache(SOME_KEY).get("key").isPresent(), is(false));
+  }
+
+  @Test
+  public void disposeBeforePendingWrite() throws ObjectStoreException {
+    MetadataCache cache = cacheManager.getOrCreateCache(SOME_KEY);
+    cache.put("key", "value");
+    cacheManager.updateCache(SOME_KEY, cache);
+
+    cacheManager.dispose(SOME_KEY);
+    runPendingTasks();
+
+    assertThat(objectStore.allKeys(), is(empty()));
+  }
+
+  @Test
+  public void disposeAll() throws ObjectStoreException {
+    writeCache(SOME_KEY);
+    writeCache(OTHER_KEY);
+
+    cacheManager.dispose("");
+
+    assertThat(objectStore.allKeys(), is(empty()));
+  }
+
+  private void writeCache(String id) {
+    MetadataCache cache = cacheManager.getOrCreateCache(id);
+    cache.put("key", "value");
+    cacheManager.updateCache(id, cache);
+    runPendingTasks();
+  }
+
+  private void runPendingTasks() {
+    List<Runnable> tasks = new ArrayList<>(pendingTasks);
+    pendingTasks.clear();
+    tasks.forEach(Runnable::run);
+  }
+}
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.component.location.Location.builderFromStringRepresentation;
@@ -30,6 +31,7 @@ import static org.mule.tck.probe.PollingProber.DEFAULT_POLLING_INTERVAL;
 
 import io.qameta.allure.Issue;
 import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.component.execution.CompletableCallback;
 import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.exception.MuleException;
@@ -94,6 +96,7 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
 
     when(policyProvider.isSourcePoliciesAvailable()).thenReturn(true);
     when(policyProvider.isOperationPoliciesAvailable()).thenReturn(true);
+    when(policyProvider.isOperationPoliciesAvailable(any(ComponentIdentifier.class))).thenReturn(true);
 
     flow1Component = mock(Component.class);
     when(flow1Component.getLocation()).thenReturn(fromSingleComponent("flow1"));
@@ -209,6 +212,20 @@ public class DefaultPolicyManagerTestCase extends AbstractMuleContextTestCase {
     assertThat(policy1, sameInstance(policy2));
   }
 
+  @Test
+  public void operationNoPoliciesForOperation() {
+    when(policyProvider.isOperationPoliciesAvailable(any(ComponentIdentifier.class))).thenReturn(false);
+    when(policyProvider.findOperationParameterizedPolicies(any(PolicyPointcutParameters.class)))
+        .thenReturn(asList(mockPolicy()));
+    policiesChangeCallbackCaptor.getValue().run();
+
+    final OperationPolicy policy = policyManager.createOperationPolicy(operation1Component, mock(InternalEvent.class),
+                                                                       mock(OperationParametersProcessor.class));
+
+    assertThat(policy, not(instanceOf(CompositeOperationPolicy.class)));
+    verify(policyProvider, never()).findOperationParameterizedPolicies(any(PolicyPointcutParameters.class));
+  }
+
   @Test
   public void operationSamePolicyForSameParams() {
     Policy policy = mockPolicy();
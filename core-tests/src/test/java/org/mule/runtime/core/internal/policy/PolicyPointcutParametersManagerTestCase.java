@@ -6,9 +6,11 @@
  */
 package org.mule.runtime.core.internal.policy;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.of;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +25,7 @@ import static org.mule.tck.junit4.matcher.IsEmptyOptional.empty;
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.policy.ParameterAwareOperationPolicyPointcutParametersFactory;
 import org.mule.runtime.core.internal.message.EventInternalContext;
 import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
@@ -34,6 +37,7 @@ import org.mule.tck.junit4.AbstractMuleTestCase;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import org.junit.Before;
@@ -287,6 +291,48 @@ public class PolicyPointcutParametersManagerTestCase extends AbstractMuleTestCas
     verify(factory).createPolicyPointcutParameters(component, operationParameters);
   }
 
+  @Test
+  public void createOperationParametersReusedForSamePointcutParameterValues() {
+    PolicyPointcutParameters sourceParameters =
+        parametersManager.createSourcePointcutParameters(component, event.getMessage().getAttributes());
+    setPointcutParameters(sourceParameters);
+
+    ParameterAwareOperationPolicyPointcutParametersFactory factory = mockParameterAwareOperationFactory("path");
+    operationPointcutFactories.add(factory);
+
+    Map<String, Object> operationParameters = new HashMap<>();
+    operationParameters.put("path", "/api");
+    operationParameters.put("body", "first");
+    PolicyPointcutParameters parameters =
+        parametersManager.createOperationPointcutParameters(component, event, operationParameters);
+
+    operationParameters.put("body", "second");
+    PolicyPointcutParameters otherParameters =
+        parametersManager.createOperationPointcutParameters(component, event, operationParameters);
+
+    assertThat(otherParameters, is(sameInstance(parameters)));
+    verify(factory).createPolicyPointcutParameters(any(), any(), any());
+  }
+
+  @Test
+  public void createOperationParametersNotReusedForDifferentPointcutParameterValues() {
+    PolicyPointcutParameters sourceParameters =
+        parametersManager.createSourcePointcutParameters(component, event.getMessage().getAttributes());
+    setPointcutParameters(sourceParameters);
+
+    ParameterAwareOperationPolicyPointcutParametersFactory factory = mockParameterAwareOperationFactory("path");
+    operationPointcutFactories.add(factory);
+
+    Map<String, Object> operationParameters = new HashMap<>();
+    operationParameters.put("path", "/api");
+    parametersManager.createOperationPointcutParameters(component, event, operationParameters);
+
+    operationParameters.put("path", "/other");
+    parametersManager.createOperationPointcutParameters(component, event, operationParameters);
+
+    verify(factory, times(2)).createPolicyPointcutParameters(any(), any(), any());
+  }
+
   private void mockEvent() {
     event = mock(InternalEvent.class, RETURNS_DEEP_STUBS);
     eventContext = mock(BaseEventContext.class, RETURNS_DEEP_STUBS);
@@ -309,6 +355,16 @@ public class PolicyPointcutParametersManagerTestCase extends AbstractMuleTestCas
     return factory;
   }
 
+  private ParameterAwareOperationPolicyPointcutParametersFactory mockParameterAwareOperationFactory(String... parameterNames) {
+    ParameterAwareOperationPolicyPointcutParametersFactory factory =
+        mock(ParameterAwareOperationPolicyPointcutParametersFactory.class);
+    when(factory.supportsOperationIdentifier(identifier)).thenReturn(true);
+    when(factory.getPointcutParameterNames()).thenReturn(new HashSet<>(asList(parameterNames)));
+    when(factory.createPolicyPointcutParameters(any(), any(), any()))
+        .thenAnswer(invocation -> new PolicyPointcutParameters(component));
+    return factory;
+  }
+
   private OperationPolicyPointcutParametersFactory mockOperationFactory(boolean supportsIdentifier,
                                                                         PolicyPointcutParameters sourceParameters) {
     OperationPolicyPointcutParametersFactory factory = mock(OperationPolicyPointcutParametersFactory.class);
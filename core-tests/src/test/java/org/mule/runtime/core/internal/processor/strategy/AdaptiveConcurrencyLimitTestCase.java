@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.construct.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
+import static org.mule.runtime.core.internal.processor.strategy.AdaptiveConcurrencyLimit.BACKOFF_RATIO;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+@SmallTest
+public class AdaptiveConcurrencyLimitTestCase extends AbstractMuleTestCase {
+
+  private static final long LATENCY = MILLISECONDS.toNanos(10);
+
+  private final AtomicLong nanoClock = new AtomicLong();
+
+  @Test
+  public void limitBoundedByMaxConcurrency() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1);
+    assertThat(limit.getLimit(), is(1));
+
+    limit.onComplete(LATENCY, false, 1);
+    assertThat(limit.getLimit(), is(1));
+    assertThat(limit.getIncreases(), is(0L));
+  }
+
+  @Test
+  public void unboundedMaxConcurrency() {
+    assertThat(new AdaptiveConcurrencyLimit(MAX_VALUE).getMaxLimit(), is(lessThan(MAX_VALUE)));
+  }
+
+  @Test
+  public void increasesWhenLoadedAndFast() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100);
+    int initial = limit.getLimit();
+
+    limit.onComplete(LATENCY, false, initial);
+
+    assertThat(limit.getLimit(), is(initial + 1));
+    assertThat(limit.getIncreases(), is(1L));
+  }
+
+  @Test
+  public void doesNotIncreaseWhenNotLoaded() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100);
+    int initial = limit.getLimit();
+
+    limit.onComplete(LATENCY, false, 0);
+
+    assertThat(limit.getLimit(), is(initial));
+  }
+
+  @Test
+  public void decreasesOnError() {
+    AdaptiveConcurrencyLimit limit = grownLimit();
+    int current = limit.getLimit();
+
+    limit.onComplete(LATENCY, true, current);
+
+    assertThat(limit.getLimit(), is(lessThan(current)));
+    assertThat(limit.getDecreases(), is(1L));
+  }
+
+  @Test
+  public void decreasesOnLatencyIncrease() {
+    AdaptiveConcurrencyLimit limit = grownLimit();
+    int current = limit.getLimit();
+
+    limit.onComplete(LATENCY * 10, false, current);
+
+    assertThat(limit.getLimit(), is(lessThan(current)));
+  }
+
+  @Test
+  public void decreasesOncePerWindow() {
+    AdaptiveConcurrencyLimit limit = grownLimit();
+    int current = limit.getLimit();
+
+    // a burst of errors of events that were being processed at the same time
+    nanoClock.addAndGet(LATENCY);
+    for (int i = 0; i < 10; ++i) {
+      limit.onComplete(LATENCY, true, current);
+    }
+    assertThat(limit.getLimit(), is((int) (current * BACKOFF_RATIO)));
+    assertThat(limit.getDecreases(), is(1L));
+
+    // an error of an event accepted after the decrease
+    nanoClock.addAndGet(LATENCY * 2);
+    limit.onComplete(LATENCY, true, current);
+    assertThat(limit.getLimit(), is(lessThan((int) (current * BACKOFF_RATIO))));
+    assertThat(limit.getDecreases(), is(2L));
+  }
+
+  @Test
+  public void neverBelowOne() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, new AdaptiveConcurrencyStatistics(), nanoClock::get);
+    for (int i = 0; i < 100; ++i) {
+      nanoClock.addAndGet(LATENCY * 2);
+      limit.onComplete(LATENCY, true, 1);
+    }
+
+    assertThat(limit.getLimit(), is(1));
+  }
+
+  @Test
+  public void publishedToStatistics() {
+    AdaptiveConcurrencyStatistics statistics = new AdaptiveConcurrencyStatistics();
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, statistics);
+    int initial = limit.getLimit();
+    assertThat(statistics.isEnabled(), is(true));
+    assertThat(statistics.getMaxLimit(), is(100));
+    assertThat(statistics.getLimit(), is(initial));
+
+    limit.onComplete(LATENCY, false, initial);
+    assertThat(statistics.getLimit(), is(initial + 1));
+    assertThat(statistics.getIncreases(), is(1L));
+
+    limit.onComplete(LATENCY, true, initial);
+    assertThat(statistics.getLimit(), is(limit.getLimit()));
+    assertThat(statistics.getDecreases(), is(1L));
+
+    limit.onRejected();
+    assertThat(statistics.getRejections(), is(1L));
+  }
+
+  @Test
+  public void limitOwnedByEachProcessingStrategy() {
+    StreamEmitterProcessingStrategyFactory factory = new StreamEmitterProcessingStrategyFactory();
+    factory.setMaxConcurrency(1);
+    AdaptiveConcurrencyStatistics statistics = new AdaptiveConcurrencyStatistics();
+
+    ProcessingStrategy adaptive = factory.create(mock(MuleContext.class), "flow1");
+    ProcessingStrategy fixed = factory.create(mock(MuleContext.class), "flow3");
+    assertThat(((AdaptiveConcurrencyProcessingStrategy) adaptive).enableAdaptiveConcurrencyLimit(statistics), is(true));
+
+    assertThat(adaptive.checkBackpressureEmitting(newEvent()), is(nullValue()));
+    assertThat(adaptive.checkBackpressureEmitting(newEvent()), is(MAX_CONCURRENCY_EXCEEDED));
+    assertThat(fixed.checkBackpressureEmitting(newEvent()), is(nullValue()));
+    assertThat(fixed.checkBackpressureEmitting(newEvent()), is(MAX_CONCURRENCY_EXCEEDED));
+
+    assertThat(statistics.getRejections(), is(1L));
+  }
+
+  @Test
+  public void notEnabledWithoutEagerCheck() {
+    StreamEmitterProcessingStrategyFactory factory = new StreamEmitterProcessingStrategyFactory();
+    factory.setMaxConcurrencyEagerCheck(false);
+    AdaptiveConcurrencyStatistics statistics = new AdaptiveConcurrencyStatistics();
+
+    ProcessingStrategy processingStrategy = factory.create(mock(MuleContext.class), "flow1");
+
+    assertThat(((AdaptiveConcurrencyProcessingStrategy) processingStrategy).enableAdaptiveConcurrencyLimit(statistics),
+               is(false));
+    assertThat(statistics.isEnabled(), is(false));
+  }
+
+  private CoreEvent newEvent() {
+    CoreEvent event = mock(CoreEvent.class);
+    when(event.getContext()).thenReturn(mock(BaseEventContext.class));
+    return event;
+  }
+
+  private AdaptiveConcurrencyLimit grownLimit() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, new AdaptiveConcurrencyStatistics(), nanoClock::get);
+    for (int i = 0; i < 20; ++i) {
+      limit.onComplete(LATENCY, false, limit.getLimit());
+    }
+    assertThat(limit.getLimit(), is(greaterThan(10)));
+    return limit;
+  }
+}
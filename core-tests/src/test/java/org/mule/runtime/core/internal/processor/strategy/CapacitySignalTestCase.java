@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class CapacitySignalTestCase extends AbstractMuleTestCase {
+
+  private final CapacitySignal signal = new CapacitySignal();
+  private final ExecutorService executor = newFixedThreadPool(2);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void timesOutWithoutSignal() throws Exception {
+    assertThat(signal.await(signal.generation(), 10, MILLISECONDS), is(false));
+    assertThat(signal.getWaiters(), is(0));
+  }
+
+  @Test
+  public void signalBeforeAwaitIsNotLost() throws Exception {
+    long generation = signal.generation();
+    signal.signal();
+
+    assertThat(signal.await(generation, 10, SECONDS), is(true));
+  }
+
+  @Test
+  public void signalWakesUpWaiter() throws Exception {
+    long generation = signal.generation();
+    Future<Boolean> waiter = executor.submit(() -> signal.await(generation, 10, SECONDS));
+    awaitWaiters(1);
+
+    signal.signal();
+
+    assertThat(waiter.get(10, SECONDS), is(true));
+  }
+
+  @Test
+  public void waitersAreWokenUpInArrivalOrder() throws Exception {
+    List<String> woken = new CopyOnWriteArrayList<>();
+    long generation = signal.generation();
+
+    executor.submit(() -> awaitAndRecord(generation, "first", woken));
+    awaitWaiters(1);
+    executor.submit(() -> awaitAndRecord(generation, "second", woken));
+    awaitWaiters(2);
+
+    signal.signal();
+    new PollingProber().check(new JUnitLambdaProbe(() -> woken.size() == 1));
+    assertThat(woken, contains("first"));
+
+    signal.signal();
+    new PollingProber().check(new JUnitLambdaProbe(() -> woken.size() == 2));
+    assertThat(woken, contains("first", "second"));
+  }
+
+  private Object awaitAndRecord(long generation, String name, List<String> woken) throws InterruptedException {
+    signal.await(generation, 10, SECONDS);
+    woken.add(name);
+    return null;
+  }
+
+  private void awaitWaiters(int waiters) {
+    new PollingProber().check(new JUnitLambdaProbe(() -> signal.getWaiters() == waiters));
+  }
+}
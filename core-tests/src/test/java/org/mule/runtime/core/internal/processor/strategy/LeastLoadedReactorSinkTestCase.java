@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.construct.BackPressureReason.EVENTS_ACCUMULATED;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.processor.strategy.AbstractProcessingStrategy.ReactorSink;
+import org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.StreamEmitterProcessingStrategy.LeastLoadedReactorSink;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class LeastLoadedReactorSinkTestCase extends AbstractMuleTestCase {
+
+  private ReactorSink<CoreEvent> sink1;
+  private ReactorSink<CoreEvent> sink2;
+  private LeastLoadedReactorSink<CoreEvent> leastLoadedSink;
+
+  @Before
+  public void before() {
+    sink1 = mock(ReactorSink.class);
+    sink2 = mock(ReactorSink.class);
+    leastLoadedSink = new LeastLoadedReactorSink<>(asList(sink1, sink2));
+  }
+
+  @Test
+  public void dispatchesToLeastLoadedSink() {
+    CoreEvent slowEvent = mockEvent();
+    leastLoadedSink.accept(slowEvent);
+    verify(sink1).accept(slowEvent);
+
+    // The slow event is still pending in sink1, so the following ones go to sink2 as long as it is idle
+    for (int i = 0; i < 3; ++i) {
+      CoreEvent event = mockEvent();
+      leastLoadedSink.accept(event);
+      verify(sink2).accept(event);
+      complete(event);
+    }
+
+    assertThat(queueDepths(), contains(1, 0));
+  }
+
+  @Test
+  public void completionReducesQueueDepth() {
+    CoreEvent event1 = mockEvent();
+    CoreEvent event2 = mockEvent();
+    leastLoadedSink.accept(event1);
+    leastLoadedSink.accept(event2);
+    assertThat(queueDepths(), contains(1, 1));
+
+    complete(event1);
+    assertThat(queueDepths(), contains(0, 1));
+  }
+
+  @Test
+  public void rejectedEmissionIsNotCounted() {
+    when(sink1.emit(any())).thenReturn(EVENTS_ACCUMULATED);
+    CoreEvent event = mockEvent();
+
+    assertThat(leastLoadedSink.emit(event), is(EVENTS_ACCUMULATED));
+    assertThat(queueDepths(), contains(0, 0));
+    verify((BaseEventContext) event.getContext(), never()).onResponse(any());
+  }
+
+  @Test
+  public void acceptedEmissionIsCounted() {
+    CoreEvent event = mockEvent();
+
+    assertThat(leastLoadedSink.emit(event), is(nullValue()));
+    assertThat(queueDepths(), contains(1, 0));
+  }
+
+  @Test
+  public void disposeNotifiesCallback() {
+    List<LeastLoadedReactorSink<CoreEvent>> disposed = new ArrayList<>();
+    leastLoadedSink = new LeastLoadedReactorSink<>(asList(sink1, sink2), disposed::add);
+
+    leastLoadedSink.dispose();
+
+    verify(sink1).dispose();
+    verify(sink2).dispose();
+    assertThat(disposed, contains(leastLoadedSink));
+  }
+
+  private List<Integer> queueDepths() {
+    List<Integer> queueDepths = new ArrayList<>();
+    leastLoadedSink.addQueueDepths(queueDepths);
+    return queueDepths;
+  }
+
+  private CoreEvent mockEvent() {
+    CoreEvent event = mock(CoreEvent.class);
+    BaseEventContext context = mock(BaseEventContext.class);
+    when(event.getContext()).thenReturn(context);
+    return event;
+  }
+
+  private void complete(CoreEvent event) {
+    ArgumentCaptor<BiConsumer> callbackCaptor = ArgumentCaptor.forClass(BiConsumer.class);
+    verify((BaseEventContext) event.getContext()).onResponse(callbackCaptor.capture());
+    callbackCaptor.getValue().accept(event, null);
+  }
+}
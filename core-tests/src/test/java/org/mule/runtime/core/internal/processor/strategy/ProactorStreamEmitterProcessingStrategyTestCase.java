@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.processor.strategy;
 
 import static java.lang.Integer.MAX_VALUE;
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
 import static java.lang.Thread.currentThread;
 import static java.lang.Thread.sleep;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -15,6 +17,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -45,6 +48,8 @@ import static org.mule.runtime.core.internal.processor.strategy.AbstractProcessi
 import static org.mule.runtime.core.internal.processor.strategy.AbstractProcessingStrategyTestCase.RejectingScheduler.REJECTION_COUNT;
 import static org.mule.runtime.core.internal.processor.strategy.AbstractStreamProcessingStrategyFactory.CORES;
 import static org.mule.runtime.core.internal.processor.strategy.AbstractStreamProcessingStrategyFactory.DEFAULT_BUFFER_SIZE;
+import static org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.LEAST_LOADED_SINK_SELECTION;
+import static org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.SINK_SELECTION_PROPERTY;
 import static org.mule.tck.probe.PollingProber.probe;
 import static org.mule.tck.util.MuleContextUtils.getNotificationDispatcher;
 import static org.mule.test.allure.AllureConstants.ExecutionEngineFeature.ExecutionEngineStory.BACKPRESSURE;
@@ -66,6 +71,7 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.AsyncProcessingStrategyFactory;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.construct.AbstractPipeline;
 import org.mule.runtime.core.internal.construct.FlowBackPressureMaxConcurrencyExceededException;
 import org.mule.runtime.core.internal.construct.FlowBackPressureRequiredSchedulerBusyException;
 import org.mule.runtime.core.internal.exception.MessagingException;
@@ -919,6 +925,25 @@ public class ProactorStreamEmitterProcessingStrategyTestCase extends AbstractPro
     verify(cpuIntensive).stop();
   }
 
+  @Test
+  @Description("With least loaded sink selection, the queue depths of a flow are reported under its name while its sink is alive.")
+  public void leastLoadedSinkQueueDepthsReportedPerFlow() throws Exception {
+    setProperty(SINK_SELECTION_PROPERTY, LEAST_LOADED_SINK_SELECTION);
+    try {
+      flow = flowBuilder.get().processors(cpuLightProcessor).build();
+    } finally {
+      clearProperty(SINK_SELECTION_PROPERTY);
+    }
+    startFlow();
+
+    assertThat(((AbstractPipeline) flow).getSinkQueueDepths().keySet(), contains("test"));
+
+    flow.stop();
+    assertThat(((AbstractPipeline) flow).getSinkQueueDepths().keySet(), is(empty()));
+    flow.dispose();
+    flow = null;
+  }
+
   private void spySchedulers() {
     cpuLight = spy(cpuLight);
     blocking = spy(blocking);
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.util.Collections.nCopies;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class VirtualThreadSchedulerTestCase extends AbstractMuleTestCase {
+
+  private static final int MAX_CONCURRENCY = 2;
+
+  private Scheduler timer;
+  private VirtualThreadScheduler scheduler;
+
+  @Before
+  public void before() {
+    timer = mock(Scheduler.class);
+    // A platform thread pool is used, so that the permits handling can be verified in any JVM
+    scheduler = new VirtualThreadScheduler("test", newCachedThreadPool(), timer, MAX_CONCURRENCY, 1000);
+  }
+
+  @After
+  public void after() {
+    scheduler.stop();
+  }
+
+  @Test
+  public void concurrencyLimitedByPermits() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+
+    for (int i = 0; i < MAX_CONCURRENCY * 2; ++i) {
+      scheduler.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          release.await(10, SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        completed.incrementAndGet();
+      });
+    }
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> running.get() == MAX_CONCURRENCY));
+    assertThat(scheduler.getAvailablePermits(), is(0));
+
+    release.countDown();
+    new PollingProber().check(new JUnitLambdaProbe(() -> completed.get() == MAX_CONCURRENCY * 2));
+
+    assertThat(maxRunning.get(), is(MAX_CONCURRENCY));
+    assertThat(scheduler.getAvailablePermits(), is(MAX_CONCURRENCY));
+  }
+
+  @Test
+  public void permitReleasedOnFailure() throws Exception {
+    scheduler.submit(() -> {
+      throw new IllegalStateException("expected");
+    });
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> scheduler.getAvailablePermits() == MAX_CONCURRENCY));
+  }
+
+  @Test
+  public void delayedTaskRunsOutOfTimer() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    ArgumentCaptor<Runnable> triggerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    scheduler.schedule(executions::incrementAndGet, 10, MILLISECONDS);
+    verify(timer).schedule(triggerCaptor.capture(), eq(10L), eq(MILLISECONDS));
+    assertThat(executions.get(), is(0));
+
+    triggerCaptor.getValue().run();
+    new PollingProber().check(new JUnitLambdaProbe(() -> executions.get() == 1));
+  }
+
+  @Test
+  public void delayedCallableRunsOutOfTimer() throws Exception {
+    ArgumentCaptor<Runnable> triggerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    ScheduledFuture<String> result = scheduler.schedule(() -> Thread.currentThread().getName(), 10, MILLISECONDS);
+    verify(timer).schedule(triggerCaptor.capture(), eq(10L), eq(MILLISECONDS));
+    assertThat(result.isDone(), is(false));
+
+    Thread timerThread = new Thread(triggerCaptor.getValue(), "timer");
+    timerThread.start();
+    timerThread.join();
+
+    assertThat(result.get(10, SECONDS), is(not("timer")));
+  }
+
+  @Test
+  public void cancelledDelayedCallableDoesNotRun() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    ArgumentCaptor<Runnable> triggerCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    ScheduledFuture<Integer> result = scheduler.schedule(executions::incrementAndGet, 10, MILLISECONDS);
+    verify(timer).schedule(triggerCaptor.capture(), eq(10L), eq(MILLISECONDS));
+    result.cancel(false);
+    triggerCaptor.getValue().run();
+
+    assertThat(result.isCancelled(), is(true));
+    assertThat(executions.get(), is(0));
+  }
+
+  @Test
+  public void invokeAllLimitedByPermits() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    Callable<Integer> task = () -> {
+      int concurrent = running.incrementAndGet();
+      release.await(10, SECONDS);
+      running.decrementAndGet();
+      return concurrent;
+    };
+
+    ExecutorService invoker = newSingleThreadExecutor();
+    try {
+      Future<List<Future<Integer>>> results = invoker.submit(() -> scheduler.invokeAll(nCopies(MAX_CONCURRENCY * 2, task)));
+
+      new PollingProber().check(new JUnitLambdaProbe(() -> running.get() == MAX_CONCURRENCY));
+      assertThat(scheduler.getAvailablePermits(), is(0));
+
+      release.countDown();
+      for (Future<Integer> result : results.get(10, SECONDS)) {
+        assertThat(result.get(), is(lessThanOrEqualTo(MAX_CONCURRENCY)));
+      }
+      assertThat(scheduler.getAvailablePermits(), is(MAX_CONCURRENCY));
+    } finally {
+      invoker.shutdownNow();
+    }
+  }
+
+  @Test
+  public void invokeAnyWithinPermits() throws Exception {
+    Callable<Integer> task = () -> scheduler.getAvailablePermits();
+
+    assertThat(scheduler.invokeAny(nCopies(MAX_CONCURRENCY, task)), is(lessThanOrEqualTo(MAX_CONCURRENCY - 1)));
+  }
+
+  @Test
+  public void stopStopsTimer() {
+    scheduler.stop();
+    verify(timer).stop();
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.time.Duration.ofMillis;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -14,7 +15,9 @@ import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
@@ -32,6 +35,7 @@ import static org.mule.runtime.core.internal.routing.Foreach.DEFAULT_ROOT_MESSAG
 import static org.mule.runtime.core.internal.routing.ForeachRouter.MAP_NOT_SUPPORTED_MESSAGE;
 import static org.mule.runtime.core.internal.streaming.CursorUtils.unwrap;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static org.mule.tck.junit4.matcher.DataTypeCompatibilityMatcher.assignableTo;
 import static org.mule.tck.processor.ContextPropagationChecker.assertContextPropagation;
 import static org.mule.tck.util.MuleContextUtils.eventBuilder;
@@ -63,6 +67,8 @@ import org.mule.tck.testmodels.mule.TestMessageProcessor;
 
 import java.nio.BufferOverflowException;
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.Iterator;
 import java.util.List;
@@ -76,11 +82,14 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 
 import io.qameta.allure.Feature;
 import io.qameta.allure.Issue;
 import io.qameta.allure.Story;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Feature(ROUTERS)
 @Story(FOR_EACH)
@@ -631,6 +640,134 @@ public class ForeachTestCase extends AbstractReactiveProcessorTestCase {
     }
   }
 
+  @Test
+  public void concurrentVariablesAreCommittedInOrder() throws Exception {
+    AtomicInteger inflight = new AtomicInteger();
+    AtomicInteger maxInflight = new AtomicInteger();
+    foreach = createForeach();
+    foreach.setMessageProcessors(singletonList(new DelayingProcessor(inflight, maxInflight)));
+    foreach.setMaxConcurrency(3);
+    initialiseIfNeeded(foreach, muleContext);
+
+    CoreEvent result = process(foreach, eventBuilder(muleContext).message(of(asList(1, 2, 3, 4, 5, 6))).build());
+
+    assertThat(maxInflight.get(), greaterThan(1));
+    assertThat(result.getVariables().get("last").getValue(), is(6));
+    for (int item = 1; item <= 6; ++item) {
+      assertThat(result.getVariables().get("item" + item).getValue(), is(item));
+    }
+    assertThat(result.getVariables().containsKey(DEFAULT_COUNTER_VARIABLE), is(false));
+    assertThat(result.getVariables().containsKey(DEFAULT_ROOT_MESSAGE_VARIABLE), is(false));
+    assertThat(result.getMessage().getPayload().getValue(), equalTo(asList(1, 2, 3, 4, 5, 6)));
+  }
+
+  @Test
+  public void concurrentItemsAreProcessedOnceWithTheirOwnVariables() throws Exception {
+    List<Object> processed = new CopyOnWriteArrayList<>();
+    foreach = createForeach();
+    foreach.setMessageProcessors(singletonList(new AccumulatingProcessor(processed)));
+    foreach.setMaxConcurrency(3);
+    initialiseIfNeeded(foreach, muleContext);
+
+    CoreEvent result = process(foreach, eventBuilder(muleContext).message(of(asList(1, 2, 3, 4, 5, 6)))
+        .addVariable("total", 0)
+        .build());
+
+    assertThat(processed, hasSize(6));
+    assertThat(processed, containsInAnyOrder(1, 2, 3, 4, 5, 6));
+    // Every item saw the total the foreach started with, and the change of the last one was applied last
+    assertThat(result.getVariables().get("total").getValue(), is(6));
+  }
+
+  @Test
+  public void concurrentWithoutVariableChangesProcessesEachItemOnce() throws Exception {
+    List<Object> processed = new CopyOnWriteArrayList<>();
+    foreach = createForeach();
+    foreach.setMessageProcessors(singletonList((InternalTestProcessor) event -> {
+      processed.add(event.getMessage().getPayload().getValue());
+      return event;
+    }));
+    foreach.setMaxConcurrency(3);
+    initialiseIfNeeded(foreach, muleContext);
+
+    process(foreach, eventBuilder(muleContext).message(of(asList(1, 2, 3, 4, 5, 6))).build());
+
+    assertThat(processed, containsInAnyOrder(1, 2, 3, 4, 5, 6));
+  }
+
+  @Test
+  public void concurrentEmpty() throws Exception {
+    simpleForeach.setMaxConcurrency(2);
+    CoreEvent input = eventBuilder(muleContext).message(of(emptyList())).build();
+    CoreEvent result = process(simpleForeach, input);
+
+    assertThat(result.getMessage(), equalTo(input.getMessage()));
+    assertThat(processedEvents, hasSize(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMaxConcurrency() {
+    createForeach().setMaxConcurrency(0);
+  }
+
+  /**
+   * Sets variables for the item being processed, finishing the first items last.
+   */
+  private static class DelayingProcessor implements InternalTestProcessor {
+
+    private final AtomicInteger inflight;
+    private final AtomicInteger maxInflight;
+
+    DelayingProcessor(AtomicInteger inflight, AtomicInteger maxInflight) {
+      this.inflight = inflight;
+      this.maxInflight = maxInflight;
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) throws MuleException {
+      return processToApply(event, this);
+    }
+
+    @Override
+    public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      return Flux.from(publisher).flatMap(event -> {
+        int item = (Integer) event.getMessage().getPayload().getValue();
+        maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+        return Mono.just(CoreEvent.builder(event).addVariable("last", item).addVariable("item" + item, item).build())
+            .delayElement(ofMillis((7 - item) * 20))
+            .doOnNext(e -> inflight.decrementAndGet());
+      });
+    }
+  }
+
+  /**
+   * Adds the item being processed to the {@code total} variable, finishing the first items last.
+   */
+  private static class AccumulatingProcessor implements InternalTestProcessor {
+
+    private final List<Object> processed;
+
+    private AccumulatingProcessor(List<Object> processed) {
+      this.processed = processed;
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) throws MuleException {
+      return processToApply(event, this);
+    }
+
+    @Override
+    public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      return Flux.from(publisher).flatMap(event -> {
+        int item = (Integer) event.getMessage().getPayload().getValue();
+        processed.add(item);
+        int total = (Integer) event.getVariables().get("total").getValue();
+        return Mono.just(CoreEvent.builder(event).addVariable("total", total + item).build())
+            .delayElement(ofMillis((7 - item) * 20));
+      });
+    }
+  }
+
   private static class FailingProcessorMatcher extends BaseMatcher<MessagingException> {
 
     private final Processor expectedFailingProcessor;
@@ -15,6 +15,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
@@ -44,6 +45,8 @@ import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.streaming.CursorProvider;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
 import org.mule.runtime.core.api.construct.Flow;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
@@ -57,6 +60,7 @@ import org.mule.tck.SensingNullMessageProcessor;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 import org.mule.tck.processor.ContextPropagationChecker;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -236,6 +240,42 @@ public class ParallelForEachTestCase extends AbstractMuleContextTestCase {
     assertThat(router.getDefaultForkJoinStrategyFactory().getResultDataType(), equalTo(MULE_MESSAGE_LIST));
   }
 
+  @Test
+  @Description("In streaming mode, the route results are returned as a repeatable iterator, in the same order as the collection.")
+  public void streaming() throws Exception {
+    final ParallelForEach streamingRouter = new ParallelForEach();
+    streamingRouter.setStreaming(true);
+
+    try {
+      MessageProcessorChain nested = newChain(empty(), event -> CoreEvent.builder(event)
+          .message(Message.of(event.getMessage().getPayload().getValue() + "!"))
+          .build());
+      nested.setMuleContext(muleContext);
+      streamingRouter.setMessageProcessors(singletonList(nested));
+
+      muleContext.getInjector().inject(streamingRouter);
+      streamingRouter.setAnnotations(getAppleFlowComponentLocationAnnotations());
+      streamingRouter.initialise();
+
+      Event result = streamingRouter.process(createListEvent());
+
+      assertThat(result.getMessage().getPayload().getValue(), instanceOf(CursorIteratorProvider.class));
+      CursorIteratorProvider results = (CursorIteratorProvider) result.getMessage().getPayload().getValue();
+      assertThat(payloads(results), contains("bar!", "zip!"));
+      assertThat(payloads(results), contains("bar!", "zip!"));
+    } finally {
+      streamingRouter.dispose();
+    }
+  }
+
+  private List<Object> payloads(CursorIteratorProvider results) throws IOException {
+    List<Object> payloads = new ArrayList<>();
+    try (CursorIterator<Message> cursor = results.openCursor()) {
+      cursor.forEachRemaining(message -> payloads.add(message.getPayload().getValue()));
+    }
+    return payloads;
+  }
+
   @Test
   @Description("Delay errors is always true for scatter-gather currently.")
   public void defaultDelayErrors() {
@@ -45,6 +45,7 @@ import org.mule.runtime.core.api.transaction.Transaction;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.message.InternalEvent;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorder;
+import org.mule.runtime.core.internal.util.timer.ExponentialBackoff;
 import org.mule.runtime.core.privileged.processor.InternalProcessor;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 import org.mule.tck.processor.ContextPropagationChecker;
@@ -223,6 +224,21 @@ public class UntilSuccessfulTestCase extends AbstractMuleContextTestCase {
     assertEquals(targetMessageProcessor.getEventCount(), Integer.parseInt(untilSuccessful.getMaxRetries()) + 1);
   }
 
+  @Test
+  public void testTemporaryDeliveryFailureWithBackoff() throws Exception {
+    targetMessageProcessor.setNumberOfFailuresToSimulate(Integer.parseInt(untilSuccessful.getMaxRetries()));
+    untilSuccessful.setBackoffMultiplier(2);
+    untilSuccessful.setMaxMillisBetweenRetries(1000);
+    untilSuccessful.setJitter(0.5);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    final CoreEvent testEvent = eventBuilder(muleContext).message(of("ERROR")).build();
+    assertSame(testEvent.getMessage(), untilSuccessful.process(testEvent).getMessage());
+    assertTargetEventReceived(testEvent);
+    assertEquals(targetMessageProcessor.getEventCount(), Integer.parseInt(untilSuccessful.getMaxRetries()) + 1);
+  }
+
   @Test
   public void testProcessingStrategyUsage() throws Exception {
     targetMessageProcessor.setNumberOfFailuresToSimulate(Integer.parseInt(untilSuccessful.getMaxRetries()));
@@ -386,7 +402,8 @@ public class UntilSuccessfulTestCase extends AbstractMuleContextTestCase {
 
     final UntilSuccessfulRouter router = new UntilSuccessfulRouter(flow, emitter.flux(), e -> e, ps,
                                                                    muleContext.getExpressionManager(), null, null,
-                                                                   "1", MILLIS_BETWEEN_RETRIES);
+                                                                   "1", MILLIS_BETWEEN_RETRIES,
+                                                                   new ExponentialBackoff(1, -1, 0), null);
     // Assert that the inner flux was registered in the ps.
     verify(ps).configureInternalPublisher(any());
 
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.Duration.ofMillis;
+import static java.util.Collections.singletonMap;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.TIMEOUT;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.FORK_JOIN_STRATEGIES;
+import static reactor.core.Exceptions.unwrap;
+import static reactor.core.publisher.Flux.range;
+import static reactor.core.publisher.Mono.from;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.streaming.bytes.ByteArrayCursorStreamProvider;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.runtime.core.privileged.processor.InternalProcessor;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Feature(FORK_JOIN_STRATEGIES)
+public class EarlyCompletionForkJoinStrategyTestCase extends AbstractMuleContextTestCase {
+
+  private static final long SLOW = 60000;
+  private static final Object FAIL = new Object();
+
+  private final AtomicInteger started = new AtomicInteger();
+  private final AtomicInteger cancelled = new AtomicInteger();
+
+  private ProcessingStrategy processingStrategy;
+  private Scheduler scheduler;
+  private MessageProcessorChain route;
+
+  private Object[] results;
+  private long[] delays;
+  private long[] startTimes;
+
+  @Before
+  public void setup() throws Exception {
+    processingStrategy = mock(ProcessingStrategy.class);
+    when(processingStrategy.onPipeline(any(ReactiveProcessor.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    scheduler = muleContext.getSchedulerService().ioScheduler();
+
+    route = newChain(empty(), new DelayedRouteProcessor());
+    initialiseIfNeeded(route, muleContext);
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.stop();
+    disposeIfNeeded(route, null);
+  }
+
+  @Test
+  @Description("The result is emitted once the required amount of routes succeed, and the remaining routes are cancelled.")
+  public void firstCompleted() throws Exception {
+    FirstCompletedForkJoinStrategyFactory factory = new FirstCompletedForkJoinStrategyFactory();
+    factory.setCount(2);
+    routes(new Object[] {"a", "b", "c", "d"}, new long[] {0, SLOW, 10, SLOW});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0", "2"));
+    assertThat(cancelled.get(), is(2));
+  }
+
+  @Test
+  @Description("Failed routes don't count towards completion, and a composite exception is thrown if the routes are exhausted.")
+  public void firstCompletedNotEnoughSuccesses() throws Exception {
+    FirstCompletedForkJoinStrategyFactory factory = new FirstCompletedForkJoinStrategyFactory();
+    factory.setCount(2);
+    routes(new Object[] {"a", FAIL, FAIL}, new long[] {0, 0, 0});
+
+    assertRoutesExhausted(factory, 2);
+  }
+
+  @Test
+  @Description("The result is emitted once enough routes agree on the result, leaving out the routes that don't.")
+  public void quorum() throws Exception {
+    QuorumForkJoinStrategyFactory factory = new QuorumForkJoinStrategyFactory();
+    factory.setQuorum(2);
+    routes(new Object[] {"a", "b", "a", "a"}, new long[] {0, 0, 20, SLOW});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0", "2"));
+    assertThat(cancelled.get(), is(1));
+  }
+
+  @Test
+  @Description("A composite exception is thrown if the routes are exhausted before enough of them agree.")
+  public void quorumNotReached() throws Exception {
+    QuorumForkJoinStrategyFactory factory = new QuorumForkJoinStrategyFactory();
+    factory.setQuorum(2);
+    routes(new Object[] {"a", "b", FAIL}, new long[] {0, 0, 0});
+
+    assertRoutesExhausted(factory, 1);
+  }
+
+  @Test
+  @Description("Results with streams in the payload agree when the contents of the streams are equal.")
+  public void quorumComparesStreamContents() throws Exception {
+    QuorumForkJoinStrategyFactory factory = new QuorumForkJoinStrategyFactory();
+    factory.setQuorum(2);
+    routes(new Object[] {stream("a"), stream("b"), stream("a")}, new long[] {0, 0, 20});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0", "2"));
+  }
+
+  @Test
+  @Description("When a key expression is set, results agree when the values of the expression on them are equal.")
+  public void quorumComparesKey() throws Exception {
+    QuorumForkJoinStrategyFactory factory = new QuorumForkJoinStrategyFactory();
+    factory.setQuorum(2);
+    factory.setKey("#[payload.id]");
+    muleContext.getInjector().inject(factory);
+    routes(new Object[] {singletonMap("id", 1), singletonMap("id", 2), singletonMap("id", 1)}, new long[] {0, 0, 20});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0", "2"));
+  }
+
+  @Test
+  @Description("The next route is not started when the first one completes within the hedge delay.")
+  public void hedgedFast() throws Exception {
+    HedgedForkJoinStrategyFactory factory = new HedgedForkJoinStrategyFactory();
+    factory.setHedgeDelay(SLOW);
+    routes(new Object[] {"a", "b"}, new long[] {0, 0});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0"));
+    assertThat(started.get(), is(1));
+  }
+
+  @Test
+  @Description("The next route is started when the first one takes longer than the hedge delay, and the slow one is cancelled.")
+  public void hedgedSlow() throws Exception {
+    HedgedForkJoinStrategyFactory factory = new HedgedForkJoinStrategyFactory();
+    factory.setHedgeDelay(20);
+    routes(new Object[] {"a", "b"}, new long[] {SLOW, 0});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("1"));
+    assertThat(started.get(), is(2));
+    assertThat(cancelled.get(), is(1));
+  }
+
+  @Test
+  @Description("The next route is started right away when the ones already started failed.")
+  public void hedgedFailure() throws Exception {
+    HedgedForkJoinStrategyFactory factory = new HedgedForkJoinStrategyFactory();
+    factory.setHedgeDelay(SLOW);
+    routes(new Object[] {FAIL, "b"}, new long[] {0, 0});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("1"));
+  }
+
+  @Test
+  @Description("The hedge delay of each route is counted from the start of the previous route.")
+  public void hedgeDelayFromPreviousRouteStart() throws Exception {
+    HedgedForkJoinStrategyFactory factory = new HedgedForkJoinStrategyFactory();
+    factory.setHedgeDelay(200);
+    // The first route fails right away, so the second one starts right away too
+    routes(new Object[] {FAIL, "b", "c"}, new long[] {0, SLOW, 0});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("2"));
+    assertThat(NANOSECONDS.toMillis(startTimes[2] - startTimes[1]), greaterThanOrEqualTo(200L));
+    assertThat(NANOSECONDS.toMillis(startTimes[2] - startTimes[0]), lessThan(400L));
+  }
+
+  @Test
+  @Description("The latencies used to calculate the hedge delay are those of the routes of the same router.")
+  public void hedgeLatenciesKeptPerRouter() throws Exception {
+    HedgedForkJoinStrategyFactory factory = new HedgedForkJoinStrategyFactory();
+    factory.setHedgeDelay(SLOW);
+    ForkJoinStrategy fastRouter = createStrategy(factory);
+    ForkJoinStrategy otherRouter = createStrategy(factory);
+
+    routes(new Object[] {"a"}, new long[] {0});
+    for (int i = 0; i < 16; ++i) {
+      forkJoin(fastRouter);
+    }
+
+    routes(new Object[] {"a", "b"}, new long[] {500, 0});
+    assertThat(forkJoin(fastRouter).keySet(), contains("1"));
+    assertThat(forkJoin(otherRouter).keySet(), contains("0"));
+  }
+
+  @Test
+  @Description("The child contexts of cancelled routes are completed, so the context of the original event can complete.")
+  public void cancelledRoutesCompleteTheirContexts() throws Exception {
+    FirstCompletedForkJoinStrategyFactory factory = new FirstCompletedForkJoinStrategyFactory();
+    routes(new Object[] {"a", "b", "c"}, new long[] {0, SLOW, SLOW});
+
+    forkJoin(factory);
+    assertThat(cancelled.get(), is(2));
+
+    ((BaseEventContext) testEvent().getContext()).success();
+    assertThat(((BaseEventContext) testEvent().getContext()).isComplete(), is(true));
+  }
+
+  @Test
+  @Description("The streams of the successful results that are not part of the result event are released.")
+  public void unselectedResultsReleaseTheirStreams() throws Exception {
+    QuorumForkJoinStrategyFactory factory = new QuorumForkJoinStrategyFactory();
+    factory.setQuorum(2);
+    CursorStreamProvider stream = spy(new ByteArrayCursorStreamProvider("b".getBytes(UTF_8)));
+    routes(new Object[] {"a", stream, "a"}, new long[] {0, 0, 20});
+
+    Map<String, Message> result = forkJoin(factory);
+
+    assertThat(result.keySet(), contains("0", "2"));
+    verify(stream).close();
+    verify(stream).releaseResources();
+  }
+
+  private CursorStreamProvider stream(String content) {
+    return new ByteArrayCursorStreamProvider(content.getBytes(UTF_8));
+  }
+
+  private void routes(Object[] results, long[] delays) {
+    this.results = results;
+    this.delays = delays;
+    this.startTimes = new long[results.length];
+  }
+
+  private Map<String, Message> forkJoin(AbstractEarlyCompletionForkJoinStrategyFactory factory) throws Exception {
+    return forkJoin(createStrategy(factory));
+  }
+
+  private Map<String, Message> forkJoin(ForkJoinStrategy strategy) throws Exception {
+    CoreEvent result = from(strategy.forkJoin(testEvent(), range(0, results.length).map(this::pair))).block();
+    return (Map<String, Message>) result.getMessage().getPayload().getValue();
+  }
+
+  private void assertRoutesExhausted(AbstractEarlyCompletionForkJoinStrategyFactory factory, int expectedErrors)
+      throws Exception {
+    try {
+      forkJoin(factory);
+      fail("Expected the routes to be exhausted");
+    } catch (RuntimeException e) {
+      Throwable cause = unwrap(e);
+      assertThat(cause, instanceOf(CompositeRoutingException.class));
+      assertThat(((CompositeRoutingException) cause).getErrors().size(), is(expectedErrors));
+    }
+  }
+
+  private ForkJoinStrategy createStrategy(AbstractEarlyCompletionForkJoinStrategyFactory factory) {
+    return factory.createForkJoinStrategy(processingStrategy, MAX_VALUE, true, MAX_VALUE, scheduler,
+                                          muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get());
+  }
+
+  private RoutingPair pair(int part) {
+    try {
+      return of(CoreEvent.builder(testEvent()).message(of(part)).build(), route);
+    } catch (MuleException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Completes each part after its configured delay, with its configured result.
+   */
+  private class DelayedRouteProcessor implements Processor, InternalProcessor {
+
+    @Override
+    public CoreEvent process(CoreEvent event) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      return Flux.from(publisher).flatMap(event -> {
+        int part = (Integer) event.getMessage().getPayload().getValue();
+        started.incrementAndGet();
+        startTimes[part] = nanoTime();
+        return Mono.delay(ofMillis(delays[part]))
+            .map(l -> {
+              if (results[part] == FAIL) {
+                throw new IllegalStateException("Route failed");
+              }
+              return CoreEvent.builder(event).message(of(results[part])).build();
+            })
+            .doOnCancel(cancelled::incrementAndGet);
+      });
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.exception.Errors.ComponentIdentifiers.Handleable.TIMEOUT;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.rx.Exceptions.rxExceptionToMuleException;
+import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
+import static org.mule.tck.probe.PollingProber.probe;
+import static org.mule.test.allure.AllureConstants.ForkJoinStrategiesFeature.FORK_JOIN_STRATEGIES;
+import static reactor.core.publisher.Flux.range;
+import static reactor.core.publisher.Mono.from;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.processor.ReactiveProcessor;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.streaming.DefaultStreamingManager;
+import org.mule.runtime.core.privileged.processor.InternalProcessor;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import reactor.core.publisher.Flux;
+
+@Feature(FORK_JOIN_STRATEGIES)
+public class StreamingCollectListForkJoinStrategyTestCase extends AbstractMuleContextTestCase {
+
+  private static final int CONCURRENCY = 2;
+
+  private DefaultStreamingManager streamingManager;
+  private ProcessingStrategy processingStrategy;
+  private Scheduler scheduler;
+  private MessageProcessorChain route;
+  private ForkJoinStrategy strategy;
+
+  @Before
+  public void setup() throws Exception {
+    streamingManager = new DefaultStreamingManager();
+    initialiseIfNeeded(streamingManager, muleContext);
+    scheduler = muleContext.getSchedulerService().ioScheduler();
+    processingStrategy = mock(ProcessingStrategy.class);
+    when(processingStrategy.onPipeline(any(ReactiveProcessor.class)))
+        .thenAnswer(invocation -> {
+          ReactiveProcessor processor = invocation.getArgument(0);
+          return (ReactiveProcessor) publisher -> Flux.from(publisher).publishOn(fromExecutorService(scheduler))
+              .transform(processor);
+        });
+
+    route = newChain(empty(), (InternalTestProcessor) event -> {
+      int part = (Integer) event.getMessage().getPayload().getValue();
+      if (part < 0) {
+        throw new IllegalArgumentException("Negative part");
+      }
+      return CoreEvent.builder(event).message(of(part * 10)).build();
+    });
+    initialiseIfNeeded(route, muleContext);
+
+    strategy = new StreamingCollectListForkJoinStrategyFactory(streamingManager, null)
+        .createForkJoinStrategy(processingStrategy, CONCURRENCY, true, Long.MAX_VALUE, scheduler,
+                                muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get());
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.stop();
+    disposeIfNeeded(route, null);
+    streamingManager.dispose();
+  }
+
+  @Test
+  @Description("Route results are handed out as a cursor provider, in the same order as the routing pairs.")
+  public void resultsInOrder() throws Exception {
+    CursorIteratorProvider results = forkJoin(range(0, 5).map(this::pair));
+
+    assertThat(payloads(results), contains(0, 10, 20, 30, 40));
+  }
+
+  @Test
+  @Description("The route results can be iterated more than once.")
+  public void resultsAreRepeatable() throws Exception {
+    CursorIteratorProvider results = forkJoin(range(0, 3).map(this::pair));
+
+    assertThat(payloads(results), contains(0, 10, 20));
+    assertThat(payloads(results), contains(0, 10, 20));
+  }
+
+  @Test
+  @Description("The result event is emitted once all routes complete, without any thread waiting for the routes.")
+  public void resultEmittedWhenRoutesComplete() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    MessageProcessorChain waitingRoute = newChain(empty(), (InternalTestProcessor) event -> {
+      try {
+        release.await(5, SECONDS);
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+      }
+      return event;
+    });
+    initialiseIfNeeded(waitingRoute, muleContext);
+
+    try {
+      AtomicReference<CoreEvent> result = new AtomicReference<>();
+      from(strategy.forkJoin(testEvent(), Flux.just(pair(1), of(testEvent(), waitingRoute)))).subscribe(result::set);
+      assertThat(result.get(), is(nullValue()));
+
+      release.countDown();
+      probe(() -> result.get() != null);
+      assertThat(result.get().getMessage().getPayload().getValue(), instanceOf(CursorIteratorProvider.class));
+    } finally {
+      release.countDown();
+      disposeIfNeeded(waitingRoute, null);
+    }
+  }
+
+  @Test
+  @Description("Failed routes are reported through a composite exception once all routes complete.")
+  public void errorsAreThrownWhenRoutesComplete() throws Exception {
+    try {
+      forkJoin(range(0, 4).map(i -> pair(i == 1 ? -1 : i)));
+      fail("Expected the route error to be thrown");
+    } catch (Throwable t) {
+      Throwable thrown = rxExceptionToMuleException(t);
+      assertThat(thrown, instanceOf(CompositeRoutingException.class));
+      assertThat(((CompositeRoutingException) thrown).getErrors().size(), is(1));
+    }
+  }
+
+  private CursorIteratorProvider forkJoin(Flux<RoutingPair> routingPairs) throws Exception {
+    CoreEvent result = from(strategy.forkJoin(testEvent(), routingPairs)).block();
+    assertThat(result.getMessage().getPayload().getValue(), instanceOf(CursorIteratorProvider.class));
+    return (CursorIteratorProvider) result.getMessage().getPayload().getValue();
+  }
+
+  private RoutingPair pair(int part) {
+    try {
+      return of(CoreEvent.builder(testEvent()).message(of(part)).build(), route);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private List<Object> payloads(CursorIteratorProvider results) throws IOException {
+    List<Object> payloads = new ArrayList<>();
+    try (CursorIterator<Message> cursor = results.openCursor()) {
+      cursor.forEachRemaining(message -> payloads.add(message.getPayload().getValue()));
+    }
+    return payloads;
+  }
+
+  @FunctionalInterface
+  private interface InternalTestProcessor extends Processor, InternalProcessor {
+
+  }
+}
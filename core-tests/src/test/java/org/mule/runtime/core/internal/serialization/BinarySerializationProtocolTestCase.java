@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.util.Arrays.asList;
+import static java.util.Optional.of;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+
+import org.mule.runtime.api.message.ItemSequenceInfo;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.core.api.context.notification.FlowStackElement;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.event.DefaultEventContext;
+import org.mule.runtime.core.internal.util.store.PersistentObjectStorePartition.StoreValue;
+import org.mule.tck.core.internal.serialization.AbstractSerializerProtocolContractTestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+public class BinarySerializationProtocolTestCase extends AbstractSerializerProtocolContractTestCase {
+
+  private BinarySerializationProtocol binaryProtocol;
+
+  @Override
+  protected void doSetUp() throws Exception {
+    binaryProtocol = new BinarySerializationProtocol();
+    binaryProtocol.setMuleContext(muleContext);
+    serializationProtocol = binaryProtocol;
+  }
+
+  @Test(expected = SerializationException.class)
+  public void notSerializable() throws Exception {
+    serializationProtocol.serialize(new Object());
+  }
+
+  @Test
+  public void simpleValues() throws Exception {
+    List<Object> values = asList("Hello", "Ünïcödé", 42, -42, Long.MAX_VALUE, true, false, 3.14d, 2.5f, (short) -7, (byte) 3,
+                                 'x', "");
+    for (Object value : values) {
+      assertThat(roundTrip(value), equalTo(value));
+    }
+    byte[] bytes = roundTrip(new byte[] {1, 2, 3});
+    assertThat(Arrays.equals(bytes, new byte[] {1, 2, 3}), is(true));
+  }
+
+  @Test
+  public void longString() throws Exception {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 5000; ++i) {
+      builder.append("ñandú-");
+    }
+    String value = builder.toString();
+
+    assertThat(roundTrip(value), equalTo(value));
+  }
+
+  @Test
+  public void message() throws Exception {
+    DataType jsonString = DataType.builder().type(String.class).mediaType(APPLICATION_JSON).build();
+    Message message = Message.builder()
+        .payload(new TypedValue<>("{\"key\": \"value\"}", jsonString))
+        .attributes(new TypedValue<>(new TestAttributes("attribute"), DataType.fromType(TestAttributes.class)))
+        .build();
+
+    Message deserialized = roundTrip(message);
+
+    assertThat(deserialized.getPayload().getValue(), equalTo(message.getPayload().getValue()));
+    assertThat(deserialized.getPayload().getDataType(), equalTo(message.getPayload().getDataType()));
+    assertThat(deserialized.getAttributes().getValue(), equalTo(message.getAttributes().getValue()));
+    assertThat(deserialized.getAttributes().getDataType(), equalTo(message.getAttributes().getDataType()));
+  }
+
+  @Test
+  public void event() throws Exception {
+    CoreEvent event = CoreEvent.builder(testEvent())
+        .addVariable("count", 3)
+        .addVariable("name", "value")
+        .itemSequenceInfo(of(ItemSequenceInfo.of(2, 5)))
+        .build();
+
+    CoreEvent deserialized = roundTrip(event);
+
+    assertThat(deserialized.getContext().getId(), equalTo(event.getContext().getId()));
+    assertThat(deserialized.getMessage().getPayload().getValue(), equalTo(event.getMessage().getPayload().getValue()));
+    assertThat(deserialized.getVariables().get("count").getValue(), equalTo(3));
+    assertThat(deserialized.getVariables().get("name").getValue(), equalTo("value"));
+    assertThat(deserialized.getItemSequenceInfo().get().getPosition(), is(2));
+    assertThat(deserialized.getItemSequenceInfo().get().getSequenceSize().getAsInt(), is(5));
+  }
+
+  @Test
+  public void eventContext() throws Exception {
+    DefaultEventContext context = (DefaultEventContext) testEvent().getContext();
+    context.getFlowCallStack().push(new FlowStackElement("flow", "flow/processors/0"));
+
+    DefaultEventContext deserialized = roundTrip(context);
+
+    assertThat(deserialized.getId(), equalTo(context.getId()));
+    assertThat(deserialized.getServerId(), equalTo(context.getServerId()));
+    assertThat(deserialized.getCorrelationId(), equalTo(context.getCorrelationId()));
+    assertThat(deserialized.isCorrelationIdFromSource(), is(context.isCorrelationIdFromSource()));
+    assertThat(deserialized.getReceivedTime(), equalTo(context.getReceivedTime()));
+    assertThat(deserialized.getOriginatingLocation().getLocation(), equalTo(context.getOriginatingLocation().getLocation()));
+    assertThat(deserialized.getFlowCallStack().toString(), equalTo(context.getFlowCallStack().toString()));
+    assertThat(serializationProtocol.serialize(context).length, lessThan(SerializationUtils.serialize(context).length));
+  }
+
+  @Test
+  public void storeValue() throws Exception {
+    StoreValue<Message> storeValue = new StoreValue<>("key", Message.of(TEST_PAYLOAD));
+
+    StoreValue<Message> deserialized = roundTrip(storeValue);
+
+    assertThat(deserialized.getKey(), equalTo("key"));
+    assertThat(deserialized.getValue().getPayload().getValue(), equalTo(TEST_PAYLOAD));
+  }
+
+  @Test
+  public void registeredCodec() throws Exception {
+    binaryProtocol.registerCodec(BinarySerializationProtocol.FIRST_CUSTOM_CODEC_ID, TestAttributes.class,
+                                 new BinaryCodec<TestAttributes>() {
+
+                                   @Override
+                                   public void write(TestAttributes value, BinaryWriter writer) throws IOException {
+                                     writer.writeString(value.value);
+                                   }
+
+                                   @Override
+                                   public TestAttributes read(BinaryReader reader) throws IOException {
+                                     return new TestAttributes(reader.readString());
+                                   }
+                                 });
+
+    TestAttributes attributes = new TestAttributes("attribute");
+    byte[] bytes = serializationProtocol.serialize(attributes);
+
+    assertThat(serializationProtocol.deserialize(bytes), equalTo(attributes));
+    assertThat(bytes.length, lessThan(SerializationUtils.serialize(attributes).length));
+  }
+
+  @Test
+  public void nestedSerializationInCodec() throws Exception {
+    binaryProtocol.registerCodec(BinarySerializationProtocol.FIRST_CUSTOM_CODEC_ID, TestAttributes.class,
+                                 new BinaryCodec<TestAttributes>() {
+
+                                   @Override
+                                   public void write(TestAttributes value, BinaryWriter writer) throws IOException {
+                                     writer.writeBytes(serializationProtocol.serialize(value.value));
+                                   }
+
+                                   @Override
+                                   public TestAttributes read(BinaryReader reader) throws IOException {
+                                     return new TestAttributes(serializationProtocol.deserialize(reader.readBytes()));
+                                   }
+                                 });
+
+    List<Object> values = asList("before", new TestAttributes("attribute"), "after");
+
+    assertThat(roundTrip(values), equalTo(values));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void reservedCodecId() throws Exception {
+    binaryProtocol.registerCodec(1, TestAttributes.class, null);
+  }
+
+  @Test
+  public void readsJavaSerialization() throws Exception {
+    Message message = Message.of(TEST_PAYLOAD);
+    byte[] bytes = new JavaExternalSerializerProtocol().serialize(message);
+
+    Message deserialized = serializationProtocol.deserialize(bytes);
+
+    assertThat(deserialized.getPayload().getValue(), equalTo(TEST_PAYLOAD));
+  }
+
+  @Test
+  public void smallerThanJavaSerialization() throws Exception {
+    CoreEvent event = CoreEvent.builder(testEvent()).addVariable("name", "value").build();
+
+    assertThat(serializationProtocol.serialize(event.getMessage()).length,
+               lessThan(SerializationUtils.serialize((Serializable) event.getMessage()).length));
+    assertThat(serializationProtocol.serialize(event).length,
+               lessThan(SerializationUtils.serialize((Serializable) event).length));
+  }
+
+  @Test
+  public void serializeToStream() throws Exception {
+    Message message = Message.of(TEST_PAYLOAD);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    serializationProtocol.serialize(message, out);
+
+    assertThat(Arrays.equals(out.toByteArray(), serializationProtocol.serialize(message)), is(true));
+  }
+
+  private <T> T roundTrip(Object value) {
+    return serializationProtocol.deserialize(serializationProtocol.serialize(value));
+  }
+
+  private static class TestAttributes implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String value;
+
+    private TestAttributes(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestAttributes && ((TestAttributes) obj).value.equals(value);
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class ExponentialBackoffTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void fixed() {
+    ExponentialBackoff backoff = new ExponentialBackoff(1, -1, 0);
+
+    assertThat(backoff.isFixed(), is(true));
+    assertThat(backoff.delayFor(100, 1), is(100L));
+    assertThat(backoff.delayFor(100, 5), is(100L));
+  }
+
+  @Test
+  public void exponential() {
+    ExponentialBackoff backoff = new ExponentialBackoff(2, -1, 0);
+
+    assertThat(backoff.isFixed(), is(false));
+    assertThat(backoff.delayFor(100, 1), is(100L));
+    assertThat(backoff.delayFor(100, 2), is(200L));
+    assertThat(backoff.delayFor(100, 4), is(800L));
+  }
+
+  @Test
+  public void exponentialCapped() {
+    ExponentialBackoff backoff = new ExponentialBackoff(2, 500, 0);
+
+    assertThat(backoff.delayFor(100, 3), is(400L));
+    assertThat(backoff.delayFor(100, 4), is(500L));
+    assertThat(backoff.delayFor(100, 40), is(500L));
+  }
+
+  @Test
+  public void jittered() {
+    ExponentialBackoff backoff = new ExponentialBackoff(2, -1, 0.25);
+
+    for (int i = 0; i < 1000; ++i) {
+      assertThat(backoff.delayFor(100, 2), allOf(greaterThanOrEqualTo(150L), lessThanOrEqualTo(250L)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMultiplier() {
+    new ExponentialBackoff(0.5, -1, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidJitter() {
+    new ExponentialBackoff(1, -1, 1.5);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.internal.util.timer.HashedWheelTimer.Timeout;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class HashedWheelTimerTestCase extends AbstractMuleTestCase {
+
+  private static final int TIMEOUT_MILLIS = 5000;
+
+  private ScheduledExecutorService executor;
+  private ExecutorService workerExecutor;
+  private HashedWheelTimer timer;
+
+  @Before
+  public void before() {
+    executor = newSingleThreadScheduledExecutor();
+    workerExecutor = newSingleThreadExecutor();
+    // A small wheel, so that delays longer than a round are covered
+    timer = new HashedWheelTimer("test.timer", 5, MILLISECONDS, 8, workerExecutor);
+  }
+
+  @After
+  public void after() {
+    timer.stop();
+    executor.shutdownNow();
+    workerExecutor.shutdownNow();
+  }
+
+  @Test
+  public void expiresAfterDelay() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = nanoTime();
+    timer.newTimeout(latch::countDown, 100, MILLISECONDS, executor);
+
+    assertThat(latch.await(TIMEOUT_MILLIS, MILLISECONDS), is(true));
+    assertThat(NANOSECONDS.toMillis(nanoTime() - start), greaterThanOrEqualTo(100L));
+  }
+
+  @Test
+  public void expiresManyTimeouts() throws InterruptedException {
+    int count = 10000;
+    CountDownLatch latch = new CountDownLatch(count);
+    for (int i = 0; i < count; ++i) {
+      timer.newTimeout(latch::countDown, i % 200, MILLISECONDS, executor);
+    }
+
+    assertThat(latch.await(TIMEOUT_MILLIS, MILLISECONDS), is(true));
+    assertThat(timer.getPendingTimeouts(), is(0));
+  }
+
+  @Test
+  public void cancelledTimeoutDoesNotRun() throws InterruptedException {
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+    Timeout cancelled = timer.newTimeout(runs::incrementAndGet, 50, MILLISECONDS, executor);
+    timer.newTimeout(latch::countDown, 100, MILLISECONDS, executor);
+    assertThat(timer.getPendingTimeouts(), is(2));
+
+    assertThat(cancelled.cancel(), is(true));
+    assertThat(timer.getPendingTimeouts(), is(1));
+
+    assertThat(latch.await(TIMEOUT_MILLIS, MILLISECONDS), is(true));
+    assertThat(runs.get(), is(0));
+    assertThat(cancelled.isCancelled(), is(true));
+    assertThat(cancelled.isExpired(), is(false));
+    assertThat(cancelled.cancel(), is(false));
+  }
+
+  @Test(expected = RejectedExecutionException.class)
+  public void stoppedTimerRejects() {
+    timer.newTimeout(() -> {
+    }, 1, MILLISECONDS, executor);
+    timer.stop();
+    timer.newTimeout(() -> {
+    }, 1, MILLISECONDS, executor);
+  }
+
+  @Test
+  public void stopReleasesWorker() throws InterruptedException {
+    timer.newTimeout(() -> {
+    }, TIMEOUT_MILLIS, MILLISECONDS, executor);
+    timer.stop();
+
+    // The worker executor only has one thread, so this only runs if the timer released it
+    CountDownLatch latch = new CountDownLatch(1);
+    workerExecutor.execute(latch::countDown);
+    assertThat(latch.await(TIMEOUT_MILLIS, MILLISECONDS), is(true));
+  }
+
+  @Test
+  public void decoratorSchedulesInTimer() throws InterruptedException, ExecutionException {
+    WheelTimerExecutorServiceDecorator decorated = new WheelTimerExecutorServiceDecorator(executor, timer);
+
+    ScheduledFuture<String> future = decorated.schedule(() -> "done", 20, MILLISECONDS);
+    assertThat(future.getDelay(MILLISECONDS), lessThanOrEqualTo(20L));
+    assertThat(future.get(), is("done"));
+
+    ScheduledFuture<?> cancelled = decorated.schedule(() -> {
+    }, TIMEOUT_MILLIS, MILLISECONDS);
+    assertThat(cancelled.cancel(false), is(true));
+    assertThat(timer.getPendingTimeouts(), is(0));
+  }
+}
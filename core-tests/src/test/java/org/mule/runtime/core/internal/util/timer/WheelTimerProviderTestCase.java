@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+
+import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
+import org.mule.runtime.core.internal.util.timer.HashedWheelTimer.Timeout;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class WheelTimerProviderTestCase extends AbstractMuleContextTestCase {
+
+  private WheelTimerProvider timerProvider;
+
+  @Before
+  public void before() throws Exception {
+    timerProvider = new WheelTimerProvider();
+    initialiseIfNeeded(timerProvider, muleContext);
+  }
+
+  @After
+  public void after() {
+    disposeIfNeeded(timerProvider, null);
+  }
+
+  @Test
+  public void pendingTimeoutsPublished() {
+    Timeout timeout = timerProvider.getTimer().newTimeout(() -> {
+    }, 1, MINUTES, Runnable::run);
+    assertThat(applicationStatistics().getPendingTimeouts(), is(1));
+
+    timeout.cancel();
+    assertThat(applicationStatistics().getPendingTimeouts(), is(0));
+  }
+
+  @Test
+  public void pendingTimeoutsClearedOnDispose() {
+    timerProvider.getTimer().newTimeout(() -> {
+    }, 1, MINUTES, Runnable::run);
+    assertThat(applicationStatistics().getPendingTimeouts(), is(1));
+
+    timerProvider.dispose();
+    assertThat(applicationStatistics().getPendingTimeouts(), is(0));
+  }
+
+  private ApplicationStatistics applicationStatistics() {
+    return (ApplicationStatistics) muleContext.getStatistics().getApplicationStatistics();
+  }
+}
@@ -21,5 +21,20 @@ public class MuleDeploymentProperties {
 
   public static final String MULE_FORCE_TOOLING_APP_LOGS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".lazyInit.forceLog";
 
+  /**
+   * When {@code true}, only the flows with message sources and their dependencies are created when the application starts. The
+   * rest of the components are created on first reference and warmed up in background once the application is started.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".onDemandInit";
+  /**
+   * When {@code false}, the components not required at startup by
+   * {@link #MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY on demand initialization} are only created on first reference.
+   *
+   * @since 4.4
+   */
+  public static final String MULE_ON_DEMAND_INIT_WARM_UP_DEPLOYMENT_PROPERTY = MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY + ".warmUp";
+
   private MuleDeploymentProperties() {}
 }
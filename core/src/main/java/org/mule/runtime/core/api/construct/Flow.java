@@ -136,6 +136,17 @@ public interface Flow extends ExecutableComponent, Lifecycle, Pipeline, Processo
      */
     Builder maxConcurrency(int maxConcurrency);
 
+    /**
+     * Configures whether the concurrency of the {@link Flow} adapts to the observed latency and errors, within the configured
+     * {@link #maxConcurrency(int) maxConcurrency}, instead of being fixed to it. Only has effect with processing strategies that
+     * check the {@code maxConcurrency} when events are emitted.
+     *
+     * @param adaptiveConcurrency whether the concurrency limit of the flow adapts to its load.
+     * @return same builder instance.
+     * @since 4.4
+     */
+    Builder adaptiveConcurrency(boolean adaptiveConcurrency);
+
     /**
      * Builds a flow with the provided configuration.
      *
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.policy;
+
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
+
+/**
+ * A {@link org.mule.runtime.policy.api.PolicyPointcut} that knows in advance which components it may match, regardless of the
+ * {@link PolicyPointcutParameters} for a particular execution.
+ *
+ * @since 4.4
+ */
+public interface ComponentAwarePointcut extends org.mule.runtime.policy.api.PolicyPointcut {
+
+  /**
+   * @param componentIdentifier the identifier of a source or operation
+   * @return {@code false} if this pointcut will never match the {@link PolicyPointcutParameters} of the component with the given
+   *         identifier, {@code true} otherwise.
+   */
+  boolean mayMatch(ComponentIdentifier componentIdentifier);
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.policy;
+
+import org.mule.runtime.policy.api.OperationPolicyPointcutParametersFactory;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
+
+import java.util.Set;
+
+/**
+ * An {@link OperationPolicyPointcutParametersFactory} that declares which of the parameters of the operation the
+ * {@link PolicyPointcutParameters} it creates depend on.
+ * <p>
+ * Since the created {@link PolicyPointcutParameters} only depend on the operation, the declared parameters and the pointcut
+ * parameters of the source, the runtime may reuse them for executions where those are the same, instead of calling this factory
+ * each time.
+ *
+ * @since 4.4
+ */
+public interface ParameterAwareOperationPolicyPointcutParametersFactory extends OperationPolicyPointcutParametersFactory {
+
+  /**
+   * @return the names of the parameters of the operation that the created {@link PolicyPointcutParameters} depend on.
+   */
+  Set<String> getPointcutParameterNames();
+
+}
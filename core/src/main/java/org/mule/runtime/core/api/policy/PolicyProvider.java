@@ -7,6 +7,7 @@
 package org.mule.runtime.core.api.policy;
 
 import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.policy.api.PolicyAwareAttributes;
 import org.mule.runtime.policy.api.PolicyPointcutParameters;
 
@@ -73,6 +74,18 @@ public interface PolicyProvider {
    */
   boolean isOperationPoliciesAvailable();
 
+  /**
+   * Returns whether there are policies registered that may be applied to the operation with the given identifier. In case this
+   * returns {@code false}, the caller may skip altogether the policies code for that operation, including the creation of its
+   * {@link PolicyPointcutParameters}.
+   *
+   * @param operationIdentifier the identifier of the operation
+   * @since 4.4
+   */
+  default boolean isOperationPoliciesAvailable(ComponentIdentifier operationIdentifier) {
+    return isOperationPoliciesAvailable();
+  }
+
   /**
    * Register a callback to be executed any time a policy is added or removed.
    *
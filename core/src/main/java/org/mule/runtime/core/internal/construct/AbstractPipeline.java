@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.construct;
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.lang.System.getProperty;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.function.Function.identity;
@@ -75,9 +76,14 @@ import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.execution.FlowProcessor;
 import org.mule.runtime.core.internal.interception.InterceptorManager;
 import org.mule.runtime.core.internal.interception.ReactiveInterceptor;
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
+import org.mule.runtime.core.internal.management.stats.BackPressureStatistics;
+import org.mule.runtime.core.internal.management.stats.DefaultFlowConstructStatistics;
 import org.mule.runtime.core.internal.message.ErrorBuilder;
 import org.mule.runtime.core.internal.processor.interceptor.FlowInterceptorFactoryAdapter;
+import org.mule.runtime.core.internal.processor.strategy.AdaptiveConcurrencyProcessingStrategy;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.QueueDepthReportingProcessingStrategy;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorder;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.processor.MessageProcessorBuilder;
@@ -166,6 +172,23 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
     FLOW_BACKPRESSURE_ERROR_TYPE = muleContext.getErrorTypeRepository().getErrorType(FLOW_BACK_PRESSURE).get();
   }
 
+  /**
+   * Makes the concurrency limit of this flow adapt to its load, if its processing strategy supports it.
+   */
+  void enableAdaptiveConcurrencyLimit() {
+    final FlowConstructStatistics statistics = getStatistics();
+    final AdaptiveConcurrencyStatistics adaptiveConcurrencyStatistics = statistics instanceof DefaultFlowConstructStatistics
+        ? ((DefaultFlowConstructStatistics) statistics).getAdaptiveConcurrencyStatistics()
+        : new AdaptiveConcurrencyStatistics();
+
+    if (!(processingStrategy instanceof AdaptiveConcurrencyProcessingStrategy)
+        || !((AdaptiveConcurrencyProcessingStrategy) processingStrategy)
+            .enableAdaptiveConcurrencyLimit(adaptiveConcurrencyStatistics)) {
+      LOGGER.warn("{} does not support an adaptive concurrency limit. Using the fixed 'maxConcurrency' for flow '{}'.",
+                  processingStrategy.getClass().getSimpleName(), getName());
+    }
+  }
+
   /**
    * Creates a {@link Processor} that will process messages from the configured {@link MessageSource} .
    * <p>
@@ -655,4 +678,23 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
   public Map<BackPressureReason, FlowBackPressureException> getBackPressureExceptions() {
     return backPressureExceptions;
   }
+
+  /**
+   * @return the statistics of the back-pressure applied by this flow on sources with the {@code WAIT} strategy.
+   * @since 4.4
+   */
+  public BackPressureStatistics getBackPressureStatistics() {
+    return backpressureStrategySelector.getStatistics();
+  }
+
+  /**
+   * @return for each live sink of this flow, keyed by its name, the amount of events pending in each of its inner sinks, if
+   *         tracked by its processing strategy.
+   * @since 4.4
+   */
+  public Map<String, List<Integer>> getSinkQueueDepths() {
+    return processingStrategy instanceof QueueDepthReportingProcessingStrategy
+        ? ((QueueDepthReportingProcessingStrategy) processingStrategy).getSinkQueueDepths()
+        : emptyMap();
+  }
 }
@@ -6,14 +6,21 @@
  */
 package org.mule.runtime.core.internal.construct;
 
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
 import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.construct.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
 import static org.mule.runtime.core.api.source.MessageSource.BackPressureStrategy.WAIT;
 import static org.mule.runtime.core.internal.construct.FlowBackPressureException.createAndThrowIfNeeded;
 
 import org.mule.runtime.core.api.construct.BackPressureReason;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.source.MessageSource;
+import org.mule.runtime.core.internal.management.stats.BackPressureStatistics;
+import org.mule.runtime.core.internal.processor.strategy.CapacitySignal;
+import org.mule.runtime.core.internal.processor.strategy.CapacitySignalingProcessingStrategy;
 
 /**
  * Implements the different backpressure handling strategies, and checks against a
@@ -26,34 +33,72 @@ class BackPressureStrategySelector {
 
   private static int EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS = 2;
 
+  /**
+   * Maximum time to wait for a capacity signal before checking again. Capacity freed by completed events is signaled, so this is
+   * only a safety net.
+   */
+  private static long CAPACITY_SIGNAL_TIMEOUT_MS = 100;
+
   private final AbstractPipeline abstractPipeline;
+  private final BackPressureStatistics statistics = new BackPressureStatistics();
 
   public BackPressureStrategySelector(AbstractPipeline abstractPipeline) {
     this.abstractPipeline = abstractPipeline;
   }
 
   /**
-   * Wait backpressure strategy. Implements a busy-wait strategy.
+   * Wait backpressure strategy. If the processing strategy publishes a {@link CapacitySignal}, the current thread parks until
+   * capacity is signaled. Otherwise, it implements a busy-wait strategy.
    *
    * @param event the event about to begin processing
    * @throws FlowBackPressureException
    */
   protected void checkWithWaitStrategy(CoreEvent event)
       throws FlowBackPressureException {
-    boolean accepted = false;
-    while (!accepted) {
-      try {
-        abstractPipeline.getProcessingStrategy().checkBackpressureAccepting(event);
-        accepted = true;
-      } catch (FromFlowRejectedExecutionException ree) {
-        // TODO MULE-16106 Add a callback for WAIT back pressure applied on the source
+    final ProcessingStrategy processingStrategy = abstractPipeline.getProcessingStrategy();
+    final CapacitySignal capacitySignal = processingStrategy instanceof CapacitySignalingProcessingStrategy
+        ? ((CapacitySignalingProcessingStrategy) processingStrategy).getCapacitySignal().orElse(null)
+        : null;
+
+    long generation = capacitySignal != null ? capacitySignal.generation() : 0;
+    BackPressureReason reason;
+    try {
+      processingStrategy.checkBackpressureAccepting(event);
+      return;
+    } catch (FromFlowRejectedExecutionException ree) {
+      statistics.incRejections();
+      reason = ree.getReason();
+    }
+
+    // TODO MULE-16106 Add a callback for WAIT back pressure applied on the source
+    final long waitStart = nanoTime();
+    statistics.waitStarted();
+    try {
+      while (true) {
         try {
-          sleep(EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS);
+          if (capacitySignal != null) {
+            capacitySignal.await(generation, reason == MAX_CONCURRENCY_EXCEEDED
+                ? CAPACITY_SIGNAL_TIMEOUT_MS
+                : EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS, MILLISECONDS);
+            generation = capacitySignal.generation();
+          } else {
+            sleep(EVENT_LOOP_SCHEDULER_BUSY_RETRY_INTERVAL_MS);
+          }
         } catch (InterruptedException e) {
           currentThread().interrupt();
-          createAndThrowIfNeeded(abstractPipeline, ree.getReason(), ree);
+          createAndThrowIfNeeded(abstractPipeline, reason, e);
+        }
+
+        try {
+          processingStrategy.checkBackpressureAccepting(event);
+          return;
+        } catch (FromFlowRejectedExecutionException ree) {
+          statistics.incRejections();
+          reason = ree.getReason();
         }
       }
+    } finally {
+      statistics.waitFinished(nanoTime() - waitStart);
     }
   }
 
@@ -86,4 +131,11 @@ class BackPressureStrategySelector {
       checkWithFailDropStrategy(event);
     }
   }
+
+  /**
+   * @return the statistics of the back-pressure applied with the wait strategy.
+   */
+  public BackPressureStatistics getStatistics() {
+    return statistics;
+  }
 }
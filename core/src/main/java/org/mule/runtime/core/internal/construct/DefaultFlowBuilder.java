@@ -57,6 +57,7 @@ public class DefaultFlowBuilder implements Builder {
   private ProcessingStrategyFactory processingStrategyFactory;
   private String initialState = INITIAL_STATE_STARTED;
   private Integer maxConcurrency;
+  private boolean adaptiveConcurrency;
 
   private DefaultFlow flow;
 
@@ -170,6 +171,13 @@ public class DefaultFlowBuilder implements Builder {
     return this;
   }
 
+  @Override
+  public Builder adaptiveConcurrency(boolean adaptiveConcurrency) {
+    checkImmutable();
+    this.adaptiveConcurrency = adaptiveConcurrency;
+    return this;
+  }
+
   /**
    * Builds a flow with the provided configuration.
    *
@@ -182,6 +190,9 @@ public class DefaultFlowBuilder implements Builder {
     flow = new DefaultFlow(name, muleContext, source, processors,
                            ofNullable(exceptionListener), ofNullable(processingStrategyFactory), initialState, maxConcurrency,
                            createFlowStatistics(name, muleContext), componentInitialStateManager);
+    if (adaptiveConcurrency) {
+      flow.enableAdaptiveConcurrencyLimit();
+    }
 
     return flow;
   }
@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.context;
 
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.SystemUtils.JAVA_VERSION;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
@@ -132,8 +133,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.transaction.TransactionManager;
@@ -184,6 +191,8 @@ public class DefaultMuleContext implements MuleContextWithRegistry, PrivilegedMu
    */
   private MuleContextLifecycleManager lifecycleManager;
   private final Object lifecycleStateLock = new Object();
+  private final BlockingQueue<Runnable> lifecycleLockHolderCommands = new LinkedBlockingQueue<>();
+  private final ThreadLocal<Boolean> helpingLifecycleLockHolder = ThreadLocal.withInitial(() -> false);
 
   private ServerNotificationManager notificationManager;
 
@@ -527,11 +536,70 @@ public class DefaultMuleContext implements MuleContextWithRegistry, PrivilegedMu
 
   @Override
   public void withLifecycleLock(Runnable command) {
+    if (helpingLifecycleLockHolder.get()) {
+      // The thread holding the lock is waiting for this one, so it has to be the one to run the command
+      final FutureTask<Object> task = new FutureTask<>(command, null);
+      lifecycleLockHolderCommands.add(task);
+      try {
+        task.get();
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        throw new MuleRuntimeException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        } else if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw new MuleRuntimeException(e.getCause());
+      }
+      return;
+    }
+
     synchronized (lifecycleStateLock) {
       command.run();
     }
   }
 
+  /**
+   * Runs {@code task} in the current thread on behalf of a thread waiting in
+   * {@link #awaitHoldingLifecycleLock(CompletableFuture)}. Any command {@code task} runs {@link #withLifecycleLock(Runnable) with
+   * the lifecycle lock} is handed to that thread, that runs it without having released the lock in between.
+   *
+   * @param task the work helping to complete the future the thread holding the lifecycle lock is waiting for.
+   * @return the result of {@code task}.
+   * @since 4.4
+   */
+  public <T> T helpLifecycleLockHolder(Supplier<T> task) {
+    helpingLifecycleLockHolder.set(true);
+    try {
+      return task.get();
+    } finally {
+      helpingLifecycleLockHolder.remove();
+    }
+  }
+
+  /**
+   * Waits for the given {@code future} to complete while holding the lifecycle lock, so no other lifecycle transition may happen
+   * in the meantime. The commands that the threads completing the {@code future} from within
+   * {@link #helpLifecycleLockHolder(Supplier)} need to run with the lifecycle lock are run by the current thread while waiting.
+   *
+   * @param future the completion of the work the current thread is waiting for.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   * @since 4.4
+   */
+  public void awaitHoldingLifecycleLock(CompletableFuture<?> future) throws InterruptedException {
+    synchronized (lifecycleStateLock) {
+      // Wakes up this thread once done
+      future.whenComplete((result, error) -> lifecycleLockHolderCommands.add(() -> {
+      }));
+
+      while (!future.isDone()) {
+        lifecycleLockHolderCommands.take().run();
+      }
+    }
+  }
+
   @Override
   public LifecycleManager getLifecycleManager() {
     return lifecycleManager;
@@ -10,6 +10,7 @@ import static java.util.Optional.empty;
 import static org.mule.runtime.core.api.context.notification.ServerNotificationManager.createDefaultNotificationManager;
 import static org.mule.runtime.core.internal.exception.ErrorTypeLocatorFactory.createDefaultErrorTypeLocator;
 import static org.mule.runtime.core.internal.exception.ErrorTypeRepositoryFactory.createDefaultErrorTypeRepository;
+import static org.mule.runtime.core.internal.serialization.BinaryObjectSerializer.createDefaultObjectSerializer;
 
 import org.mule.runtime.api.exception.ErrorTypeRepository;
 import org.mule.runtime.api.exception.MuleRuntimeException;
@@ -32,7 +33,6 @@ import org.mule.runtime.core.api.util.ClassUtils;
 import org.mule.runtime.core.internal.exception.DefaultSystemExceptionStrategy;
 import org.mule.runtime.core.internal.lifecycle.MuleContextLifecycleManager;
 import org.mule.runtime.core.internal.registry.SimpleRegistry;
-import org.mule.runtime.core.internal.serialization.JavaObjectSerializer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -121,7 +121,7 @@ public class DefaultMuleContextBuilder implements MuleContextBuilder {
 
   private void getObjectSerializer(DefaultMuleContext muleContext) {
     if (objectSerializer == null) {
-      objectSerializer = new JavaObjectSerializer();
+      objectSerializer = createDefaultObjectSerializer();
     }
 
     if (objectSerializer instanceof MuleContextAware) {
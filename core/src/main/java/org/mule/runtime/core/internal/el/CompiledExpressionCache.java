@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el;
+
+import java.util.function.Function;
+
+/**
+ * Keeps the results of compiling expressions, so that an {@link ExpressionLanguageAdaptor} doesn't have to compile again an
+ * expression it, or another adaptor with the same compilation context, already compiled.
+ * <p>
+ * Compiled expressions may hold classes of the artifact that compiled them, so implementations keep them only for the lifetime of
+ * that artifact. Implementations must be thread safe.
+ *
+ * @since 4.4
+ */
+public interface CompiledExpressionCache {
+
+  /**
+   * Returns the compilation result for {@code key}, compiling the expression if it's not cached.
+   * <p>
+   * The {@code compiler} of a given {@link CompiledExpressionKey#getLanguage() language} must always return the same type of
+   * result, since a cached result may be returned to any adaptor of that language with the same key.
+   *
+   * @param key      identifies the expression and everything its compilation depends on
+   * @param compiler compiles the expression when it's not cached. Exceptions it throws are propagated and nothing is cached.
+   * @param <T>      the type of the compilation result
+   * @return the compilation result
+   */
+  <T> T get(CompiledExpressionKey key, Function<CompiledExpressionKey, T> compiler);
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el;
+
+import java.util.Objects;
+
+/**
+ * Identifies the result of compiling an expression in a {@link CompiledExpressionCache}.
+ * <p>
+ * Besides the expression, the key has the language and a description of everything else the compilation result depends on, such
+ * as the names and types of the bindings available when compiling. Two adaptors may share the result of a compilation only if
+ * they build the same key for it.
+ *
+ * @since 4.4
+ */
+public final class CompiledExpressionKey {
+
+  private final String language;
+  private final String expression;
+  private final String compilationContext;
+
+  /**
+   * @param language           the language of the expression, without any prefix
+   * @param expression         the expression, as given to the compiler
+   * @param compilationContext a description of everything else the compilation depends on
+   */
+  public CompiledExpressionKey(String language, String expression, String compilationContext) {
+    this.language = language;
+    this.expression = expression;
+    this.compilationContext = compilationContext;
+  }
+
+  public String getLanguage() {
+    return language;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  public String getCompilationContext() {
+    return compilationContext;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CompiledExpressionKey that = (CompiledExpressionKey) o;
+    return language.equals(that.language) && expression.equals(that.expression)
+        && compilationContext.equals(that.compilationContext);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(language, expression, compilationContext);
+  }
+
+  @Override
+  public String toString() {
+    return language + ":" + expression;
+  }
+}
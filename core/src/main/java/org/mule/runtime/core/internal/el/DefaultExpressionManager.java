@@ -19,6 +19,7 @@ import static org.mule.runtime.core.api.config.MuleProperties.isMelDefault;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.isLazyInitMode;
 import static org.mule.runtime.core.api.util.ClassUtils.isInstance;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateTypedValueForStreaming;
+import static org.mule.runtime.core.internal.el.cache.CompiledExpressionCaches.createCompiledExpressionCache;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.artifact.Registry;
@@ -122,6 +123,12 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
         ? ((DefaultBindingContextBuilder) contextBuilder).flattenAndBuild()
         : contextBuilder.build());
 
+    CompiledExpressionCache compiledExpressionCache = registry.lookupByType(CompiledExpressionCache.class)
+        .orElseGet(() -> createCompiledExpressionCache());
+    if (compiledExpressionCache != null) {
+      expressionLanguage.setCompiledExpressionCache(compiledExpressionCache);
+    }
+
     if (melDefault) {
       LOGGER.warn("Using MEL as the default expression language.");
     }
@@ -157,4 +157,17 @@ public interface ExpressionLanguageAdaptor {
    * @since 4.3.0
    */
   CompiledExpression compile(String expression, BindingContext bindingContext);
+
+  /**
+   * Sets the cache to keep the results of {@link #compile(String, BindingContext) compiling} expressions in, so expressions
+   * already compiled by this or another adaptor with the same compilation context are not compiled again.
+   * <p>
+   * Adaptors that don't support caching compiled expressions ignore it.
+   *
+   * @param compiledExpressionCache the cache to use
+   * @since 4.4
+   */
+  default void setCompiledExpressionCache(CompiledExpressionCache compiledExpressionCache) {
+    // Nothing to do, expressions are compiled every time
+  }
 }
@@ -153,6 +153,11 @@ public class ExpressionLanguageAdaptorHandler implements ExtendedExpressionLangu
     return selectExpressionLanguage(expression).compile(expression, bindingContext);
   }
 
+  @Override
+  public void setCompiledExpressionCache(CompiledExpressionCache compiledExpressionCache) {
+    expressionLanguages.values().forEach(language -> language.setCompiledExpressionCache(compiledExpressionCache));
+  }
+
   private ExtendedExpressionLanguageAdaptor selectExpressionLanguage(String expression) {
     return expressionLanguagesByExpressionCache.get(expression);
   }
@@ -35,6 +35,7 @@ public class LazyExpressionLanguageAdaptor implements ExtendedExpressionLanguage
   private volatile boolean initialised = false;
   private CheckedSupplier<ExtendedExpressionLanguageAdaptor> delegateSupplier;
   private ExtendedExpressionLanguageAdaptor delegate;
+  private CompiledExpressionCache compiledExpressionCache;
 
   /**
    * Creates a new instance
@@ -66,6 +67,9 @@ public class LazyExpressionLanguageAdaptor implements ExtendedExpressionLanguage
         if (!initialised) {
           delegate = delegateSupplier.get();
           globalBindings.forEach(delegate::addGlobalBindings);
+          if (compiledExpressionCache != null) {
+            delegate.setCompiledExpressionCache(compiledExpressionCache);
+          }
           globalBindings = null;
           initialised = true;
         }
@@ -113,6 +117,21 @@ public class LazyExpressionLanguageAdaptor implements ExtendedExpressionLanguage
     return delegate().compile(expression, bindingContext);
   }
 
+  @Override
+  public void setCompiledExpressionCache(CompiledExpressionCache compiledExpressionCache) {
+    if (initialised) {
+      delegate.setCompiledExpressionCache(compiledExpressionCache);
+    } else {
+      synchronized (this) {
+        if (initialised) {
+          delegate.setCompiledExpressionCache(compiledExpressionCache);
+        } else {
+          this.compiledExpressionCache = compiledExpressionCache;
+        }
+      }
+    }
+  }
+
   @Override
   public TypedValue<?> evaluateLogExpression(String expression, CoreEvent event, ComponentLocation componentLocation,
                                              BindingContext bindingContext)
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el.cache;
+
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.core.internal.el.CompiledExpressionCache;
+
+/**
+ * Provides the {@link CompiledExpressionCache} of each artifact, according to the
+ * {@value #MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE} system property: the maximum number of compiled expressions kept in memory.
+ * No cache is used if not set.
+ *
+ * @since 4.4
+ */
+public final class CompiledExpressionCaches {
+
+  public static final String MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE =
+      SYSTEM_PROPERTY_PREFIX + "expressions.compiledCache.maxSize";
+
+  private CompiledExpressionCaches() {}
+
+  /**
+   * Creates the cache for an artifact. The cache is only reachable from that artifact, so it is discarded along with it.
+   *
+   * @return the cache for the artifact, or {@code null} if compiled expressions are not to be cached
+   */
+  public static CompiledExpressionCache createCompiledExpressionCache() {
+    int maxSize = getInteger(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE, 0);
+    return maxSize > 0 ? new InMemoryCompiledExpressionCache(maxSize) : null;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el.cache;
+
+import org.mule.runtime.core.internal.el.CompiledExpressionCache;
+import org.mule.runtime.core.internal.el.CompiledExpressionKey;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link CompiledExpressionCache} that keeps the most recently used compilation results in memory.
+ * <p>
+ * Concurrent requests for the same key compile the expression only once.
+ *
+ * @since 4.4
+ */
+public class InMemoryCompiledExpressionCache implements CompiledExpressionCache {
+
+  private final Cache<CompiledExpressionKey, Object> compiledExpressions;
+
+  /**
+   * @param maxSize the maximum number of compilation results to keep in memory
+   */
+  public InMemoryCompiledExpressionCache(long maxSize) {
+    this.compiledExpressions = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(CompiledExpressionKey key, Function<CompiledExpressionKey, T> compiler) {
+    return (T) compiledExpressions.get(key, compiler);
+  }
+
+  /**
+   * @return the number of compilation results currently in memory
+   */
+  public long size() {
+    return compiledExpressions.estimatedSize();
+  }
+
+  /**
+   * Discards the compilation results in memory.
+   */
+  public void invalidateAll() {
+    compiledExpressions.invalidateAll();
+  }
+}
@@ -14,11 +14,13 @@ import static org.mule.runtime.api.metadata.DataType.fromType;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_EXPRESSIONS_COMPILATION_FAIL_DEPLOYMENT;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.expressionEvaluationFailed;
 import static org.mule.runtime.core.api.util.SystemUtils.getDefaultEncoding;
+import static org.mule.runtime.core.internal.el.DefaultExpressionManager.DW_PREFIX;
 import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.isSanitizedPayload;
 import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.sanitize;
 
 import org.mule.runtime.api.artifact.Registry;
 import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.el.Binding;
 import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.el.BindingContext.Builder;
 import org.mule.runtime.api.el.CompiledExpression;
@@ -34,6 +36,8 @@ import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
+import org.mule.runtime.core.internal.el.CompiledExpressionCache;
+import org.mule.runtime.core.internal.el.CompiledExpressionKey;
 import org.mule.runtime.core.internal.el.DefaultBindingContextBuilder;
 import org.mule.runtime.core.internal.el.ExpressionLanguageSessionAdaptor;
 import org.mule.runtime.core.internal.el.ExtendedExpressionLanguageAdaptor;
@@ -42,7 +46,11 @@ import org.mule.runtime.core.internal.el.context.MuleInstanceContext;
 import org.mule.runtime.core.internal.el.context.ServerContext;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 
@@ -52,8 +60,15 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
   public static final String MULE = "mule";
   public static final String APP = "app";
 
+  // A module reference or an import directive, whatever whitespace follows it. Matching more than that only makes an expression
+  // not be shared with other artifacts.
+  private static final Pattern MODULE_REFERENCE = Pattern.compile("::|\\bimport\\b");
+
   private final ExpressionLanguage expressionExecutor;
   private final MuleContext muleContext;
+  // The names and types of the global bindings, which expressions are compiled against
+  private final Map<String, String> globalBindingTypes = new ConcurrentSkipListMap<>();
+  private CompiledExpressionCache compiledExpressionCache;
 
   @Inject
   public DataWeaveExpressionLanguageAdaptor(MuleContext muleContext, Registry registry,
@@ -87,6 +102,14 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
   @Override
   public void addGlobalBindings(BindingContext bindingContext) {
     expressionExecutor.addGlobalBindings(bindingContext);
+    for (Binding binding : bindingContext.bindings()) {
+      globalBindingTypes.put(binding.identifier(), String.valueOf(binding.value().getDataType()));
+    }
+  }
+
+  @Override
+  public void setCompiledExpressionCache(CompiledExpressionCache compiledExpressionCache) {
+    this.compiledExpressionCache = compiledExpressionCache;
   }
 
   @Override
@@ -139,8 +162,13 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
 
   @Override
   public CompiledExpression compile(String expression, BindingContext bindingContext) {
+    String sanitized = sanitize(expression);
     try {
-      return expressionExecutor.compile(sanitize(expression), bindingContext);
+      if (compiledExpressionCache == null) {
+        return expressionExecutor.compile(sanitized, bindingContext);
+      }
+      return compiledExpressionCache.get(compiledExpressionKey(sanitized, bindingContext),
+                                         key -> expressionExecutor.compile(key.getExpression(), bindingContext));
     } catch (ExpressionCompilationException e) {
       if (badExpressionFailsDeployment()) {
         throw e;
@@ -149,6 +177,27 @@ public class DataWeaveExpressionLanguageAdaptor implements ExtendedExpressionLan
     }
   }
 
+  /**
+   * The compilation of an expression depends on the names and types of the bindings it may refer to. Expressions that may refer
+   * to modules also depend on the modules available to this artifact, so their result is only shared with itself.
+   */
+  private CompiledExpressionKey compiledExpressionKey(String expression, BindingContext bindingContext) {
+    StringBuilder compilationContext = new StringBuilder().append(getDefaultEncoding(muleContext)).append('|');
+    globalBindingTypes.forEach((identifier, type) -> compilationContext.append(identifier).append(':').append(type).append(','));
+    compilationContext.append('|');
+    TreeSet<String> bindings = new TreeSet<>();
+    if (bindingContext != null) {
+      for (Binding binding : bindingContext.bindings()) {
+        bindings.add(binding.identifier() + ":" + binding.value().getDataType());
+      }
+    }
+    bindings.forEach(binding -> compilationContext.append(binding).append(','));
+    if (MODULE_REFERENCE.matcher(expression).find()) {
+      compilationContext.append('|').append(muleContext.getConfiguration().getId());
+    }
+    return new CompiledExpressionKey(DW_PREFIX, expression, compilationContext.toString());
+  }
+
   private boolean badExpressionFailsDeployment() {
     return getProperty(MULE_EXPRESSIONS_COMPILATION_FAIL_DEPLOYMENT) != null;
   }
@@ -91,7 +91,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   private final String id;
   private final String correlationId;
-  private final Instant receivedDate = now();
+  private final Instant receivedDate;
 
   private final String serverId;
   private final ComponentLocation location;
@@ -173,6 +173,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
     this.location = location;
     this.processingTime = ProcessingTime.newInstance(flow);
     this.correlationId = correlationId;
+    this.receivedDate = now();
 
     // Only generate flowStack dump information for when the eventContext is created for a flow.
     if (flow != null && flow.getMuleContext() != null) {
@@ -202,6 +203,7 @@ public final class DefaultEventContext extends AbstractEventContext implements S
     this.location = location;
     this.processingTime = ProcessingTime.newInstance(flow);
     this.correlationId = correlationId;
+    this.receivedDate = now();
 
     // Only generate flowStack dump information for when the eventContext is created for a flow.
     if (flow != null && flow.getMuleContext() != null) {
@@ -251,10 +253,41 @@ public final class DefaultEventContext extends AbstractEventContext implements S
     this.location = location;
     this.processingTime = null;
     this.correlationId = correlationId;
+    this.receivedDate = now();
     this.flowCallStack = new DefaultFlowCallStack();
     createStreamingState();
   }
 
+  /**
+   * Restores a serialized execution context, keeping its identity. The restored context starts its own completion lifecycle.
+   *
+   * @param id            the unique id of the serialized context.
+   * @param serverId      the id of the mule server where the serialized context was created
+   * @param location      the location of the component that received the first message for the serialized context.
+   * @param correlationId the correlation id that was set by the {@link MessageSource} for the serialized context, if available.
+   * @param receivedTime  the time when the first message of the serialized context was received.
+   * @param flowCallStack the flow call stack of the serialized context.
+   * @return the restored context
+   * @since 4.4
+   */
+  public static DefaultEventContext restore(String id, String serverId, ComponentLocation location, String correlationId,
+                                            Instant receivedTime, FlowCallStack flowCallStack) {
+    return new DefaultEventContext(id, serverId, location, correlationId, receivedTime, flowCallStack);
+  }
+
+  private DefaultEventContext(String id, String serverId, ComponentLocation location, String correlationId,
+                              Instant receivedTime, FlowCallStack flowCallStack) {
+    super(NullExceptionHandler.getInstance(), 0, empty());
+    this.id = id;
+    this.serverId = serverId;
+    this.location = location;
+    this.processingTime = null;
+    this.correlationId = correlationId;
+    this.receivedDate = receivedTime;
+    this.flowCallStack = flowCallStack;
+    createStreamingState();
+  }
+
   void createStreamingState() {
     if (streamingState == null) {
       initCompletionLists();
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.lifecycle;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.internal.context.DefaultMuleContext;
+import org.mule.runtime.core.internal.lifecycle.phases.LifecyclePhase;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
+/**
+ * Specialization of {@link RegistryLifecycleCallback} that initialises {@link ConfigurationProvider}s and {@link FlowConstruct}s
+ * concurrently.
+ * <p>
+ * Objects are still processed in the order given by the phase, so objects of other types and the boundaries between the ordered
+ * lifecycle types act as barriers. Within a run of objects of the same parallel type, an object is initialised only after all the
+ * objects it depends on, which allows independent subgraphs to be initialised concurrently on a bounded pool.
+ * <p>
+ * The calling thread keeps the lifecycle lock of the {@link MuleContext} for the whole phase, running on behalf of the
+ * initialising threads whatever they need to do with that lock.
+ * <p>
+ * Once the phase completes, the critical path of the initialisation is logged.
+ *
+ * @since 4.4
+ */
+public class ParallelInitialiseLifecycleCallback<T> extends RegistryLifecycleCallback<T> {
+
+  public static final String PARALLEL_INITIALISATION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallelInitialisation";
+  public static final String PARALLEL_INITIALISATION_MAX_CONCURRENCY_PROPERTY =
+      PARALLEL_INITIALISATION_PROPERTY + ".maxConcurrency";
+
+  private static final Logger LOGGER = getLogger(ParallelInitialiseLifecycleCallback.class);
+
+  private static final Class<?>[] PARALLEL_TYPES = new Class<?>[] {ConfigurationProvider.class, FlowConstruct.class};
+  private static final long MIN_REPORTED_NANOS = MILLISECONDS.toNanos(1);
+
+  private final Function<String, Collection<Object>> dependenciesResolver;
+  private final int maxConcurrency;
+
+  /**
+   * Creates a new instance
+   *
+   * @param registryLifecycleManager the manager of the registry to apply the lifecycle to
+   * @param dependenciesResolver     function that returns the objects the object with the given name depends on
+   */
+  public ParallelInitialiseLifecycleCallback(RegistryLifecycleManager registryLifecycleManager,
+                                             Function<String, Collection<Object>> dependenciesResolver) {
+    super(registryLifecycleManager);
+    this.dependenciesResolver = dependenciesResolver;
+    this.maxConcurrency = getInteger(PARALLEL_INITIALISATION_MAX_CONCURRENCY_PROPERTY, getRuntime().availableProcessors());
+  }
+
+  /**
+   * @return whether the initialise phase of the registries should be applied concurrently.
+   */
+  public static boolean isParallelInitialisationEnabled() {
+    return getBoolean(PARALLEL_INITIALISATION_PROPERTY);
+  }
+
+  @Override
+  protected void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects)
+      throws LifecycleException {
+    final MuleContext muleContext = registryLifecycleManager.muleContext;
+    if (!Initialisable.PHASE_NAME.equals(phase.getName()) || !(muleContext instanceof DefaultMuleContext)
+        || targetObjects == null || targetObjects.isEmpty()) {
+      super.doApplyLifecycle(phase, duplicates, targetObjects);
+      return;
+    }
+
+    final Map<Object, String> names = new IdentityHashMap<>();
+    registryLifecycleManager.lookupObjectsForLifecycle().forEach((name, object) -> names.putIfAbsent(object, name));
+
+    final Set<Object> safeDuplicates = synchronizedSet(duplicates);
+    final Scheduler scheduler = muleContext.getSchedulerService()
+        .ioScheduler(muleContext.getSchedulerBaseConfig().withName("parallel-initialisation")
+            .withMaxConcurrentTasks(maxConcurrency));
+    try {
+      PathNode criticalPath = null;
+      final List<Object> run = new ArrayList<>();
+      final Set<Object> inRun = newSetFromMap(new IdentityHashMap<>());
+      Class<?> runType = null;
+
+      for (Object target : targetObjects) {
+        if (target == null || safeDuplicates.contains(target) || inRun.contains(target)) {
+          continue;
+        }
+
+        final Class<?> targetType = parallelTypeOf(target);
+        if (targetType != runType && !run.isEmpty()) {
+          criticalPath = applyConcurrently(phase, safeDuplicates, run, names, criticalPath, scheduler);
+          run.clear();
+          inRun.clear();
+        }
+        runType = targetType;
+
+        if (targetType == null) {
+          criticalPath = apply(phase, safeDuplicates, target, names.get(target), criticalPath);
+        } else {
+          run.add(target);
+          inRun.add(target);
+        }
+      }
+      if (!run.isEmpty()) {
+        criticalPath = applyConcurrently(phase, safeDuplicates, run, names, criticalPath, scheduler);
+      }
+
+      logCriticalPath(criticalPath);
+    } finally {
+      scheduler.stop();
+    }
+  }
+
+  private PathNode applyConcurrently(LifecyclePhase phase, Set<Object> duplicates, List<Object> run, Map<Object, String> names,
+                                     PathNode previous, Scheduler scheduler)
+      throws LifecycleException {
+    if (run.size() == 1) {
+      return apply(phase, duplicates, run.get(0), names.get(run.get(0)), previous);
+    }
+
+    final DefaultMuleContext muleContext = (DefaultMuleContext) registryLifecycleManager.muleContext;
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    final Map<Object, CompletableFuture<PathNode>> futures = new IdentityHashMap<>();
+    final CompletableFuture<PathNode> entry = completedFuture(previous);
+
+    for (Object target : run) {
+      final String name = names.get(target);
+      final List<CompletableFuture<PathNode>> dependencies = new ArrayList<>();
+      dependencies.add(entry);
+      resolveDependencies(name).stream()
+          .filter(dependency -> dependency != target && futures.containsKey(dependency))
+          .forEach(dependency -> dependencies.add(futures.get(dependency)));
+
+      futures.put(target, allOf(dependencies.toArray(new CompletableFuture[dependencies.size()]))
+          .thenApplyAsync(v -> withContextClassLoader(contextClassLoader, () -> muleContext.helpLifecycleLockHolder(() -> {
+            try {
+              return apply(phase, duplicates, target, name, longest(dependencies));
+            } catch (LifecycleException e) {
+              throw new CompletionException(e);
+            }
+          })), scheduler));
+    }
+
+    try {
+      muleContext.awaitHoldingLifecycleLock(allOf(futures.values().toArray(new CompletableFuture[futures.size()])));
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new LifecycleException(e, run.get(0));
+    }
+
+    PathNode longest = previous;
+    for (Object target : run) {
+      final PathNode node;
+      try {
+        node = futures.get(target).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof LifecycleException) {
+          throw (LifecycleException) e.getCause();
+        }
+        throw new LifecycleException(e.getCause(), target);
+      }
+      if (longest == null || node.totalNanos > longest.totalNanos) {
+        longest = node;
+      }
+    }
+    return longest;
+  }
+
+  private PathNode apply(LifecyclePhase phase, Set<Object> duplicates, Object target, String name, PathNode previous)
+      throws LifecycleException {
+    final long startNanos = nanoTime();
+    applyLifecycle(phase, duplicates, target);
+    return new PathNode(name != null ? name : target.getClass().getSimpleName(), nanoTime() - startNanos, previous);
+  }
+
+  private Collection<Object> resolveDependencies(String name) {
+    if (name == null) {
+      return emptyList();
+    }
+    try {
+      return dependenciesResolver.apply(name);
+    } catch (Exception e) {
+      LOGGER.debug("Could not resolve dependencies of '{}', it will be initialised after the previous objects", name, e);
+      return emptyList();
+    }
+  }
+
+  private static PathNode longest(List<CompletableFuture<PathNode>> dependencies) {
+    return dependencies.stream()
+        .map(CompletableFuture::join)
+        .reduce(null, (longest, node) -> node != null && (longest == null || node.totalNanos > longest.totalNanos)
+            ? node
+            : longest);
+  }
+
+  private static Class<?> parallelTypeOf(Object target) {
+    for (Class<?> parallelType : PARALLEL_TYPES) {
+      if (parallelType.isInstance(target)) {
+        return parallelType;
+      }
+    }
+    return null;
+  }
+
+  private void logCriticalPath(PathNode last) {
+    if (last == null || !LOGGER.isInfoEnabled()) {
+      return;
+    }
+
+    final LinkedList<PathNode> path = new LinkedList<>();
+    for (PathNode node = last; node != null; node = node.previous) {
+      if (node.nanos >= MIN_REPORTED_NANOS) {
+        path.addFirst(node);
+      }
+    }
+
+    LOGGER.info("Initialisation critical path ({} ms): {}", NANOSECONDS.toMillis(last.totalNanos),
+                path.stream().map(node -> node.name + " (" + NANOSECONDS.toMillis(node.nanos) + " ms)").collect(joining(" -> ")));
+  }
+
+  /**
+   * A step of the longest chain of initialisations that had to run one after the other.
+   */
+  private static final class PathNode {
+
+    private final String name;
+    private final long nanos;
+    private final long totalNanos;
+    private final PathNode previous;
+
+    private PathNode(String name, long nanos, PathNode previous) {
+      this.name = name;
+      this.nanos = nanos;
+      this.previous = previous;
+      this.totalNanos = nanos + (previous != null ? previous.totalNanos : 0);
+    }
+  }
+}
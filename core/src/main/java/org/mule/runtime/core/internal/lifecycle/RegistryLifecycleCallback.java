@@ -72,7 +72,7 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     interceptor.onPhaseCompleted(phase);
   }
 
-  private void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects)
+  protected void doApplyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Collection<?> targetObjects)
       throws LifecycleException {
     if (CollectionUtils.isEmpty(targetObjects)) {
       return;
@@ -87,7 +87,7 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     }
   }
 
-  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
+  protected void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target) throws LifecycleException {
     try {
       if (interceptor.beforePhaseExecution(phase, target)) {
         phase.applyLifecycle(target);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.startup;
+
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A phase of the startup of an artifact, as recorded by the {@link StartupProfiler}.
+ * <p>
+ * Phases are hierarchical: any phase started while another one is open in the same thread is recorded as a child of the open
+ * one. A phase is finished by {@link #close() closing} it, so it is meant to be used in a {@code try-with-resources} block.
+ *
+ * @since 4.4
+ */
+public class StartupPhase implements AutoCloseable {
+
+  /**
+   * Phase returned when there is no artifact being profiled in the current thread. Closing it has no effect.
+   */
+  static final StartupPhase NO_OP_PHASE = new StartupPhase(null, null, -1) {
+
+    @Override
+    public void close() {
+      // Nothing to do
+    }
+  };
+
+  private final String name;
+  private final StartupPhase previous;
+  private final List<StartupPhase> children = new CopyOnWriteArrayList<>();
+  private final long startTime;
+  private final long startAllocatedBytes;
+
+  private volatile long durationNanos = -1;
+  private volatile long allocatedBytes = -1;
+
+  StartupPhase(String name, StartupPhase previous, long startAllocatedBytes) {
+    this.name = name;
+    this.previous = previous;
+    this.startAllocatedBytes = startAllocatedBytes;
+    this.startTime = nanoTime();
+  }
+
+  /**
+   * @return the name of this phase.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the phases that were started while this one was open.
+   */
+  public List<StartupPhase> getChildren() {
+    return this == NO_OP_PHASE ? emptyList() : unmodifiableList(children);
+  }
+
+  /**
+   * @return whether this phase has already been closed.
+   */
+  public boolean isFinished() {
+    return durationNanos >= 0;
+  }
+
+  /**
+   * @return the time in milliseconds this phase took, or the time elapsed until now if it is not finished yet.
+   */
+  public long getDurationMillis() {
+    return NANOSECONDS.toMillis(isFinished() ? durationNanos : nanoTime() - startTime);
+  }
+
+  /**
+   * @return the bytes allocated by the thread that executed this phase, or {@code -1} if the JVM doesn't support measuring it
+   *         or the phase is not finished yet.
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  StartupPhase getPrevious() {
+    return previous;
+  }
+
+  long getStartAllocatedBytes() {
+    return startAllocatedBytes;
+  }
+
+  void addChild(StartupPhase child) {
+    children.add(child);
+  }
+
+  void finish(long endAllocatedBytes) {
+    if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+      allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+    }
+    durationNanos = nanoTime() - startTime;
+  }
+
+  /**
+   * Finishes this phase, making the phase that was open when this one was started the current one again.
+   */
+  @Override
+  public void close() {
+    StartupProfiler.finishPhase(this);
+  }
+
+  /**
+   * @return a JSON representation of this phase and its children.
+   */
+  public String toJson() {
+    StringBuilder builder = new StringBuilder();
+    appendJson(builder);
+    return builder.toString();
+  }
+
+  void appendJson(StringBuilder builder) {
+    builder.append("{\"name\":\"");
+    for (char c : name.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        builder.append('\\').append(c);
+      } else if (c < ' ') {
+        builder.append(String.format("\\u%04x", (int) c));
+      } else {
+        builder.append(c);
+      }
+    }
+    builder.append("\",\"durationMillis\":").append(getDurationMillis())
+        .append(",\"allocatedBytes\":").append(getAllocatedBytes())
+        .append(",\"children\":[");
+    boolean first = true;
+    for (StartupPhase child : children) {
+      if (!first) {
+        builder.append(',');
+      }
+      child.appendJson(builder);
+      first = false;
+    }
+    builder.append("]}");
+  }
+
+  @Override
+  public String toString() {
+    return "StartupPhase{name: " + name + ", durationMillis: " + getDurationMillis() + "}";
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.startup;
+
+import static java.lang.Thread.currentThread;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+/**
+ * Records hierarchical timings and allocations of the phases of the deployment of each artifact.
+ * <p>
+ * The deployment of an artifact is profiled by {@link #startArtifact(String) starting} its root phase in the thread that deploys
+ * it. Any {@link #startPhase(String) phase} started afterwards in that same thread is added to the tree of that artifact until
+ * its root phase is closed. Phases started in a thread with no artifact being profiled are no-ops, so the components involved in
+ * the deployment may be instrumented without knowing whether they run as part of a profiled deployment.
+ * <p>
+ * Allocations are measured for the deploying thread only, and only when the JVM supports it.
+ *
+ * @since 4.4
+ */
+public final class StartupProfiler {
+
+  private static final Logger LOGGER = getLogger(StartupProfiler.class);
+
+  private static final ThreadLocal<StartupPhase> CURRENT_PHASE = new ThreadLocal<>();
+  private static final Map<String, StartupPhase> PROFILES = new LinkedHashMap<>();
+  private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+  private static volatile boolean allocationsSupported = isAllocationMeasurementSupported();
+
+  private StartupProfiler() {
+    // Nothing to do
+  }
+
+  /**
+   * Starts profiling the deployment of an artifact in the current thread, replacing any previous profile of an artifact with
+   * the same name.
+   *
+   * @param artifactName the name of the artifact being deployed.
+   * @return the root phase of the deployment of the artifact, to be closed when the deployment finishes.
+   */
+  public static StartupPhase startArtifact(String artifactName) {
+    StartupPhase root = new StartupPhase(artifactName, CURRENT_PHASE.get(), currentThreadAllocatedBytes());
+    synchronized (PROFILES) {
+      PROFILES.remove(artifactName);
+      PROFILES.put(artifactName, root);
+    }
+    CURRENT_PHASE.set(root);
+    return root;
+  }
+
+  /**
+   * Starts a phase as a child of the phase currently open in this thread.
+   *
+   * @param phaseName the name of the phase.
+   * @return the started phase, to be closed when it finishes.
+   */
+  public static StartupPhase startPhase(String phaseName) {
+    StartupPhase current = CURRENT_PHASE.get();
+    if (current == null) {
+      return StartupPhase.NO_OP_PHASE;
+    }
+
+    StartupPhase phase = new StartupPhase(phaseName, current, currentThreadAllocatedBytes());
+    current.addChild(phase);
+    CURRENT_PHASE.set(phase);
+    return phase;
+  }
+
+  static void finishPhase(StartupPhase phase) {
+    phase.finish(phase.getStartAllocatedBytes() >= 0 ? currentThreadAllocatedBytes() : -1);
+
+    if (CURRENT_PHASE.get() == phase) {
+      StartupPhase previous = phase.getPrevious();
+      if (previous == null) {
+        CURRENT_PHASE.remove();
+      } else {
+        CURRENT_PHASE.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @param artifactName the name of an artifact.
+   * @return the root phase of the last deployment of the given artifact, if it was profiled.
+   */
+  public static Optional<StartupPhase> getProfile(String artifactName) {
+    synchronized (PROFILES) {
+      return ofNullable(PROFILES.get(artifactName));
+    }
+  }
+
+  /**
+   * @return the root phase of the last deployment of each profiled artifact, keyed by artifact name in deployment order.
+   */
+  public static Map<String, StartupPhase> getProfiles() {
+    synchronized (PROFILES) {
+      return unmodifiableMap(new LinkedHashMap<>(PROFILES));
+    }
+  }
+
+  /**
+   * Discards the profile of the given artifact.
+   *
+   * @param artifactName the name of an artifact.
+   */
+  public static void removeProfile(String artifactName) {
+    synchronized (PROFILES) {
+      PROFILES.remove(artifactName);
+    }
+  }
+
+  /**
+   * @return a JSON representation of all the profiled artifacts.
+   */
+  public static String toJson() {
+    StringBuilder builder = new StringBuilder("[");
+    boolean first = true;
+    for (StartupPhase profile : getProfiles().values()) {
+      if (!first) {
+        builder.append(',');
+      }
+      profile.appendJson(builder);
+      first = false;
+    }
+    return builder.append(']').toString();
+  }
+
+  private static boolean isAllocationMeasurementSupported() {
+    try {
+      return THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported()
+          && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+    } catch (Throwable t) {
+      LOGGER.debug("Unable to measure allocations during startup", t);
+      return false;
+    }
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    if (!allocationsSupported) {
+      return -1;
+    }
+
+    try {
+      return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(currentThread().getId());
+    } catch (Throwable t) {
+      LOGGER.debug("Unable to measure allocations during startup", t);
+      allocationsSupported = false;
+      return -1;
+    }
+  }
+}
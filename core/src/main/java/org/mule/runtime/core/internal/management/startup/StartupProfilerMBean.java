@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.startup;
+
+/**
+ * JMX interface exposing the phases recorded by the {@link StartupProfiler}.
+ *
+ * @since 4.4
+ */
+public interface StartupProfilerMBean {
+
+  String DEFAULT_JMX_NAME = "Mule.Deployment:type=StartupProfiler";
+
+  /**
+   * @return the names of the profiled artifacts.
+   */
+  String[] getArtifactNames();
+
+  /**
+   * @return a JSON representation of the startup phases of all the profiled artifacts.
+   */
+  String getProfilesAsJson();
+
+  /**
+   * @param artifactName the name of an artifact.
+   * @return a JSON representation of the startup phases of the given artifact, or {@code null} if it was not profiled.
+   */
+  String getProfileAsJson(String artifactName);
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.startup;
+
+/**
+ * Default implementation of {@link StartupProfilerMBean}, backed by the {@link StartupProfiler}.
+ *
+ * @since 4.4
+ */
+public class StartupProfilerService implements StartupProfilerMBean {
+
+  @Override
+  public String[] getArtifactNames() {
+    return StartupProfiler.getProfiles().keySet().toArray(new String[0]);
+  }
+
+  @Override
+  public String getProfilesAsJson() {
+    return StartupProfiler.toJson();
+  }
+
+  @Override
+  public String getProfileAsJson(String artifactName) {
+    return StartupProfiler.getProfile(artifactName).map(StartupPhase::toJson).orElse(null);
+  }
+}
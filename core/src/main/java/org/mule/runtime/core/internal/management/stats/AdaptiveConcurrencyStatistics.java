@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the adaptive concurrency limit of a flow.
+ *
+ * @since 4.4
+ */
+public class AdaptiveConcurrencyStatistics {
+
+  private volatile int limit;
+  private volatile int maxLimit;
+  private final AtomicLong increases = new AtomicLong();
+  private final AtomicLong decreases = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+
+  /**
+   * Indicates the current value of the limit.
+   *
+   * @param limit the current concurrency limit
+   */
+  public void setLimit(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * Indicates the upper bound of the limit.
+   *
+   * @param maxLimit the upper bound of the concurrency limit
+   */
+  public void setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * Indicates that the limit was increased.
+   */
+  public void incIncreases() {
+    increases.incrementAndGet();
+  }
+
+  /**
+   * Indicates that the limit was decreased.
+   */
+  public void incDecreases() {
+    decreases.incrementAndGet();
+  }
+
+  /**
+   * Indicates that an event was rejected because the limit was reached.
+   */
+  public void incRejections() {
+    rejections.incrementAndGet();
+  }
+
+  /**
+   * @return whether an adaptive concurrency limit is enforced for the flow.
+   */
+  public boolean isEnabled() {
+    return maxLimit > 0;
+  }
+
+  /**
+   * @return the current concurrency limit, or {@code 0} if none is enforced.
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * @return the upper bound of the concurrency limit, or {@code 0} if none is enforced.
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * @return the number of times the limit was increased.
+   */
+  public long getIncreases() {
+    return increases.get();
+  }
+
+  /**
+   * @return the number of times the limit was decreased.
+   */
+  public long getDecreases() {
+    return decreases.get();
+  }
+
+  /**
+   * @return the number of events rejected because the limit was reached.
+   */
+  public long getRejections() {
+    return rejections.get();
+  }
+
+  /**
+   * Resets the counters, keeping the current state of the limit.
+   */
+  public void clear() {
+    increases.set(0);
+    decreases.set(0);
+    rejections.set(0);
+  }
+}
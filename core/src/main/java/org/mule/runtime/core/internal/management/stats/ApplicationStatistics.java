@@ -9,6 +9,8 @@ package org.mule.runtime.core.internal.management.stats;
 import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
 
+import java.util.function.IntSupplier;
+
 /**
  * Aggregate statistics for all services and flows in an application. Do this by looping through all of the applications'
  * FlowConstructStatistics that aren;t themselves aggregators.
@@ -16,12 +18,30 @@ import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
 public class ApplicationStatistics extends DefaultFlowConstructStatistics {
 
   private AllStatistics parent;
+  private volatile IntSupplier pendingTimeouts = () -> 0;
 
   public ApplicationStatistics(AllStatistics parent) {
     super("Application", "application totals");
     this.parent = parent;
   }
 
+  /**
+   * @param pendingTimeouts supplies the amount of timeouts pending in the timer of the application.
+   * @since 4.4
+   */
+  public void setPendingTimeouts(IntSupplier pendingTimeouts) {
+    this.pendingTimeouts = pendingTimeouts;
+  }
+
+  /**
+   * @return the amount of delays, such as the ones between the retries of {@code until-successful}, waiting in the timer of the
+   *         application.
+   * @since 4.4
+   */
+  public int getPendingTimeouts() {
+    return pendingTimeouts.getAsInt();
+  }
+
   @Override
   public long getAverageProcessingTime() {
     long totalTime = 0;
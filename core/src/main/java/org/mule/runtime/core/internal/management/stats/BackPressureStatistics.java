@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Statistics about the back-pressure applied by a flow on the sources that use the {@code WAIT} back-pressure strategy.
+ *
+ * @since 4.4
+ */
+public class BackPressureStatistics {
+
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final AtomicLong rejections = new AtomicLong();
+  private final AtomicLong waits = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Indicates that the processing strategy rejected an event.
+   */
+  public void incRejections() {
+    rejections.incrementAndGet();
+  }
+
+  /**
+   * Indicates that a thread started waiting for capacity.
+   */
+  public void waitStarted() {
+    waiters.incrementAndGet();
+  }
+
+  /**
+   * Indicates that a thread stopped waiting for capacity.
+   *
+   * @param waitNanos the time the thread waited, in nanoseconds
+   */
+  public void waitFinished(long waitNanos) {
+    waiters.decrementAndGet();
+    waits.incrementAndGet();
+    totalWaitNanos.addAndGet(waitNanos);
+    maxWaitNanos.accumulate(waitNanos);
+  }
+
+  /**
+   * @return the number of threads currently waiting for capacity.
+   */
+  public int getWaiters() {
+    return waiters.get();
+  }
+
+  /**
+   * @return the number of times an event was rejected by the processing strategy.
+   */
+  public long getRejections() {
+    return rejections.get();
+  }
+
+  /**
+   * @return the number of events that had to wait for capacity before being accepted.
+   */
+  public long getWaits() {
+    return waits.get();
+  }
+
+  /**
+   * @return the total time waited for capacity, in milliseconds.
+   */
+  public long getTotalWaitTime() {
+    return NANOSECONDS.toMillis(totalWaitNanos.get());
+  }
+
+  /**
+   * @return the average time waited for capacity by the events that had to wait, in milliseconds.
+   */
+  public long getAverageWaitTime() {
+    final long waitsCount = waits.get();
+    return waitsCount == 0 ? 0 : NANOSECONDS.toMillis(totalWaitNanos.get() / waitsCount);
+  }
+
+  /**
+   * @return the maximum time waited for capacity by a single event, in milliseconds.
+   */
+  public long getMaxWaitTime() {
+    return NANOSECONDS.toMillis(maxWaitNanos.get());
+  }
+
+  /**
+   * Resets all the accumulated statistics. Current waiters are not affected.
+   */
+  public void clear() {
+    rejections.set(0);
+    waits.set(0);
+    totalWaitNanos.set(0);
+    maxWaitNanos.reset();
+  }
+}
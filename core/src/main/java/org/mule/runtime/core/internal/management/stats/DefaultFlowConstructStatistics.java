@@ -26,6 +26,7 @@ public class DefaultFlowConstructStatistics implements FlowConstructStatistics {
   private final AtomicLong executionError = new AtomicLong(0);
   private final AtomicLong fatalError = new AtomicLong(0);
   protected final ComponentStatistics flowStatistics = new ComponentStatistics();
+  private final AdaptiveConcurrencyStatistics adaptiveConcurrencyStatistics = new AdaptiveConcurrencyStatistics();
 
   public DefaultFlowConstructStatistics(String flowConstructType, String name) {
     this.name = name;
@@ -82,6 +83,9 @@ public class DefaultFlowConstructStatistics implements FlowConstructStatistics {
     if (flowStatistics != null) {
       flowStatistics.clear();
     }
+    if (adaptiveConcurrencyStatistics != null) {
+      adaptiveConcurrencyStatistics.clear();
+    }
   }
 
   @Override
@@ -143,4 +147,12 @@ public class DefaultFlowConstructStatistics implements FlowConstructStatistics {
     return currentTimeMillis() - samplePeriod;
   }
 
+  /**
+   * @return the statistics of the adaptive concurrency limit of the flow.
+   * @since 4.4
+   */
+  public AdaptiveConcurrencyStatistics getAdaptiveConcurrencyStatistics() {
+    return adaptiveConcurrencyStatistics;
+  }
+
 }
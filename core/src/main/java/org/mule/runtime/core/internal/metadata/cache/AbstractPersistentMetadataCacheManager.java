@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata.cache;
+
+import static java.lang.Boolean.getBoolean;
+import static java.lang.System.getProperty;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.apache.commons.lang3.math.NumberUtils.toLong;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
+
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.api.metadata.MetadataCache;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.api.store.ObjectStoreSettings;
+
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+/**
+ * Base class for the {@link MetadataCacheManager}s that persist the {@link MetadataCache}s using the ObjectStore, holding the
+ * {@link ObjectStoreManager} and {@link LockFactory} to work with.
+ *
+ * @since 4.4
+ */
+public abstract class AbstractPersistentMetadataCacheManager implements MetadataCacheManager {
+
+  public static final String MULE_METADATA_CACHE_ENTRY_TTL = SYSTEM_PROPERTY_PREFIX + "metadata.cache.entryTtl.minutes";
+  public static final String MULE_METADATA_CACHE_EXPIRATION_INTERVAL =
+      SYSTEM_PROPERTY_PREFIX + "metadata.cache.expirationInterval.millis";
+
+  /**
+   * When set, the {@link ShardedPersistentMetadataCacheManager} is used instead of the
+   * {@link DefaultPersistentMetadataCacheManager}.
+   */
+  public static final String MULE_METADATA_CACHE_SHARDED = SYSTEM_PROPERTY_PREFIX + "metadata.cache.sharded";
+
+  /**
+   * Default implementation should use an {@link ObjectStoreManager} that is tied to the deployable artifact lifecyle.
+   */
+  @Inject
+  @Named(OBJECT_STORE_MANAGER)
+  private ObjectStoreManager objectStoreManager;
+
+  /**
+   * Default implementation should a {@link LockFactory} that comes from the deployable artifact context.
+   */
+  @Inject
+  private LockFactory lockFactory;
+
+  /**
+   * @return the type of the persistent {@link MetadataCacheManager} to use, according to the
+   *         {@link #MULE_METADATA_CACHE_SHARDED} system property.
+   */
+  public static Class<? extends AbstractPersistentMetadataCacheManager> getPersistentMetadataCacheManagerType() {
+    return getBoolean(MULE_METADATA_CACHE_SHARDED)
+        ? ShardedPersistentMetadataCacheManager.class
+        : DefaultPersistentMetadataCacheManager.class;
+  }
+
+  public void setLockFactory(LockFactory lockFactory) {
+    this.lockFactory = lockFactory;
+  }
+
+  public void setObjectStoreManager(ObjectStoreManager objectStoreManager) {
+    this.objectStoreManager = objectStoreManager;
+  }
+
+  protected ObjectStoreManager getObjectStoreManager() {
+    return objectStoreManager;
+  }
+
+  /**
+   * @return the settings of the persistent store for the caches, honoring the {@link #MULE_METADATA_CACHE_ENTRY_TTL} and
+   *         {@link #MULE_METADATA_CACHE_EXPIRATION_INTERVAL} system properties.
+   */
+  protected ObjectStoreSettings createStoreSettings() {
+    ObjectStoreSettings.Builder builder = ObjectStoreSettings.builder().persistent(true);
+    getSystemProperty(MULE_METADATA_CACHE_ENTRY_TTL).map(stringValue -> toLong(stringValue))
+        .ifPresent(entryTtl -> builder.entryTtl(MINUTES.convert(entryTtl, MILLISECONDS)));
+    getSystemProperty(MULE_METADATA_CACHE_EXPIRATION_INTERVAL).map(stringValue -> toLong(stringValue))
+        .ifPresent(expirationInterval -> builder.expirationInterval(expirationInterval));
+    return builder.build();
+  }
+
+  private Optional<String> getSystemProperty(String propertyName) {
+    return ofNullable(getProperty(propertyName, null));
+  }
+
+  protected <T> T withKeyLock(String key, Function<String, T> producer) {
+    Lock lock = lockFactory.createLock(key);
+    lock.lock();
+    try {
+      return producer.apply(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
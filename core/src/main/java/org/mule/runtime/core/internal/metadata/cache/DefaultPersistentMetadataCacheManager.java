@@ -7,32 +7,15 @@
 package org.mule.runtime.core.internal.metadata.cache;
 
 import static java.lang.String.format;
-import static java.lang.System.getProperty;
-import static java.util.Optional.ofNullable;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.MINUTES;
-import static org.apache.commons.lang3.math.NumberUtils.toLong;
-import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
-import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
 
 import org.mule.runtime.api.lifecycle.Startable;
-import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MetadataCache;
 import org.mule.runtime.api.store.ObjectDoesNotExistException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
-import org.mule.runtime.api.store.ObjectStoreManager;
-import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.api.util.LazyValue;
 
-import java.util.Optional;
-import java.util.concurrent.locks.Lock;
-import java.util.function.Function;
-
-import javax.inject.Inject;
-import javax.inject.Named;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,51 +28,17 @@ import org.slf4j.LoggerFactory;
  *
  * @since 4.1.4, 4.2.0
  */
-public class DefaultPersistentMetadataCacheManager implements MetadataCacheManager, Startable {
+public class DefaultPersistentMetadataCacheManager extends AbstractPersistentMetadataCacheManager implements Startable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultPersistentMetadataCacheManager.class);
   public static final String PERSISTENT_METADATA_SERVICE_CACHE = "_mulePersistentMetadataService";
-  public static final String MULE_METADATA_CACHE_ENTRY_TTL = SYSTEM_PROPERTY_PREFIX + "metadata.cache.entryTtl.minutes";
-  public static final String MULE_METADATA_CACHE_EXPIRATION_INTERVAL =
-      SYSTEM_PROPERTY_PREFIX + "metadata.cache.expirationInterval.millis";
-
-  /**
-   * Default implementation should use an {@link ObjectStoreManager} that is tied to the deployable artifact lifecyle.
-   */
-  @Inject
-  @Named(OBJECT_STORE_MANAGER)
-  private ObjectStoreManager objectStoreManager;
-
-  /**
-   * Default implementation should a {@link LockFactory} that comes from the deployable artifact context.
-   */
-  @Inject
-  private LockFactory lockFactory;
-
-  public void setLockFactory(LockFactory lockFactory) {
-    this.lockFactory = lockFactory;
-  }
-
-  public void setObjectStoreManager(ObjectStoreManager objectStoreManager) {
-    this.objectStoreManager = objectStoreManager;
-  }
 
   private LazyValue<ObjectStore<MetadataCache>> metadataStore;
 
   @Override
   public void start() {
-    metadataStore = new LazyValue<>(() -> {
-      ObjectStoreSettings.Builder builder = ObjectStoreSettings.builder().persistent(true);
-      getSystemProperty(MULE_METADATA_CACHE_ENTRY_TTL).map(stringValue -> toLong(stringValue))
-          .ifPresent(entryTtl -> builder.entryTtl(MINUTES.convert(entryTtl, MILLISECONDS)));
-      getSystemProperty(MULE_METADATA_CACHE_EXPIRATION_INTERVAL).map(stringValue -> toLong(stringValue))
-          .ifPresent(expirationInterval -> builder.expirationInterval(expirationInterval));
-      return objectStoreManager.getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE, builder.build());
-    });
-  }
-
-  private Optional<String> getSystemProperty(String propertyName) {
-    return ofNullable(getProperty(propertyName, null));
+    metadataStore = new LazyValue<>(() -> getObjectStoreManager()
+        .getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE, createStoreSettings()));
   }
 
   @Override
@@ -186,14 +135,4 @@ public class DefaultPersistentMetadataCacheManager implements MetadataCacheManag
     }
   }
 
-  private <T> T withKeyLock(String key, Function<String, T> producer) {
-    Lock lock = lockFactory.createLock(key);
-    lock.lock();
-    try {
-      return producer.apply(key);
-    } finally {
-      lock.unlock();
-    }
-  }
-
 }
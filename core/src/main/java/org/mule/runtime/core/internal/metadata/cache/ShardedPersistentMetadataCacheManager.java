@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata.cache;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.String.format;
+import static java.lang.Math.min;
+import static java.util.Base64.getUrlEncoder;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.SerializationUtils.serialize;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.StringUtils.isBlank;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.metadata.MetadataCache;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.util.LazyValue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link MetadataCacheManager} that keeps the most recently used {@link MetadataCache}s in memory, over a persistent
+ * ObjectStore that holds an entry for each key of each cache.
+ * <p>
+ * Requests for a cache already in memory are served without locking nor deserializing it, and concurrent requests for a cache
+ * that is not in memory load it from the store only once. Updates to a cache are written to the store asynchronously, only for
+ * the keys whose values changed since the last write, and many updates of the same cache before it is written are coalesced in
+ * a single write. A write that fails is retried, with an increasing delay, until it succeeds or the cache is disposed.
+ * <p>
+ * Cache's are <b>never evicted</b> from the store, and will be cleared only when an explicit disposal is invoked.
+ *
+ * @since 4.4
+ */
+public class ShardedPersistentMetadataCacheManager extends AbstractPersistentMetadataCacheManager
+    implements Startable, Stoppable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ShardedPersistentMetadataCacheManager.class);
+
+  public static final String PERSISTENT_METADATA_SERVICE_CACHE_ENTRIES = "_mulePersistentMetadataServiceEntries";
+  public static final String MULE_METADATA_CACHE_MAX_IN_MEMORY = SYSTEM_PROPERTY_PREFIX + "metadata.cache.maxInMemory";
+
+  private static final int DEFAULT_MAX_IN_MEMORY = 256;
+  private static final String ENTRY_SEPARATOR = "|";
+  private static final long MIN_WRITE_RETRY_DELAY_MILLIS = 1000;
+  private static final long MAX_WRITE_RETRY_DELAY_MILLIS = 60000;
+
+  @Inject
+  private SchedulerService schedulerService;
+
+  private final Cache<String, CacheHolder> caches = Caffeine.newBuilder()
+      .maximumSize(getInteger(MULE_METADATA_CACHE_MAX_IN_MEMORY, DEFAULT_MAX_IN_MEMORY))
+      .build();
+
+  // The caches updated since they were last written, until the write-behind task writes them
+  private final ConcurrentMap<String, CacheHolder> pendingWrites = new ConcurrentHashMap<>();
+
+  private LazyValue<ObjectStore<MetadataCacheEntry>> metadataStore;
+  // The keys of the entries in the store for each cache ID, so the store keys are only listed once
+  private LazyValue<ConcurrentMap<String, Set<String>>> entryKeys;
+  private volatile Scheduler writeScheduler;
+
+  public void setSchedulerService(SchedulerService schedulerService) {
+    this.schedulerService = schedulerService;
+  }
+
+  @Override
+  public void start() {
+    metadataStore = new LazyValue<>(() -> getObjectStoreManager()
+        .getOrCreateObjectStore(PERSISTENT_METADATA_SERVICE_CACHE_ENTRIES, createStoreSettings()));
+    entryKeys = new LazyValue<>(this::indexEntryKeys);
+    writeScheduler = schedulerService.customScheduler(config()
+        .withMaxConcurrentTasks(1)
+        .withName("MetadataCacheManager-WriteBehind"));
+    // Caches that could not be written when stopped
+    new ArrayList<>(pendingWrites.keySet()).forEach(this::scheduleWrite);
+  }
+
+  @Override
+  public void stop() {
+    if (writeScheduler != null) {
+      writeScheduler.stop();
+      writeScheduler = null;
+    }
+    // Whatever was not written by the write-behind task is written now, so it is not lost
+    new ArrayList<>(pendingWrites.keySet()).forEach(this::write);
+  }
+
+  @Override
+  public MetadataCache getOrCreateCache(String id) {
+    return caches.get(id, this::load).cache;
+  }
+
+  @Override
+  public void updateCache(String id, MetadataCache cache) {
+    if (!(cache instanceof DefaultMetadataCache)) {
+      throw new IllegalArgumentException(format("Only instances of '%s' can be handled, but '%s' was given for ID '%s'",
+                                                DefaultMetadataCache.class.getName(), cache.getClass().getName(), id));
+    }
+
+    LOGGER.debug("updateCache Key: " + id);
+    CacheHolder holder = caches.get(id, this::load);
+    holder.cache = (DefaultMetadataCache) cache;
+    if (pendingWrites.put(id, holder) == null) {
+      scheduleWrite(id);
+    }
+  }
+
+  private void scheduleWrite(String id) {
+    Scheduler scheduler = writeScheduler;
+    if (scheduler != null) {
+      try {
+        scheduler.submit(() -> write(id));
+        return;
+      } catch (RejectedExecutionException e) {
+        // Stopping, so write it right away
+      }
+    }
+    // Stopped, so there is no write-behind
+    write(id);
+  }
+
+  @Override
+  public void dispose(String keyHash) {
+    withKeyLock(keyHash, key -> {
+      try {
+        if (isBlank(keyHash)) {
+          clearMetadataCaches();
+        } else if (!dispose(id -> id.equals(keyHash))) {
+          LOGGER.debug(format("No exact match found for key '%s'. "
+              + "Disposing all the elements with a prefix matching the given value.", keyHash));
+          dispose(id -> id.startsWith(keyHash));
+        }
+      } catch (Exception e) {
+        String msg = format("An error occurred while disposing the MetadataCache with ID '%s': %s",
+                            keyHash, e.getMessage());
+        LOGGER.error(msg);
+        throw new RuntimeException(msg, e);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Disposes the caches whose ID matches {@code idMatcher}, along with their entries in the store.
+   *
+   * @return whether any cache was found to dispose
+   */
+  private boolean dispose(Predicate<String> idMatcher) {
+    boolean found = false;
+
+    for (Map.Entry<String, CacheHolder> cached : caches.asMap().entrySet()) {
+      if (idMatcher.test(cached.getKey())) {
+        found = true;
+        cached.getValue().disposed = true;
+        caches.invalidate(cached.getKey());
+      }
+    }
+    for (Map.Entry<String, CacheHolder> pending : pendingWrites.entrySet()) {
+      if (idMatcher.test(pending.getKey())) {
+        found = true;
+        pending.getValue().disposed = true;
+        pendingWrites.remove(pending.getKey(), pending.getValue());
+      }
+    }
+
+    List<String> storedIds = entryKeys.get().keySet().stream().filter(idMatcher).collect(toList());
+    for (String id : storedIds) {
+      withKeyLock(id, key -> {
+        for (String entryKey : new ArrayList<>(entryKeysOf(key))) {
+          try {
+            metadataStore.get().remove(entryKey);
+          } catch (ObjectStoreException e) {
+            LOGGER.debug(format("Failed to dispose entry '%s' of the MetadataCache with ID '%s': %s", entryKey, id,
+                                e.getMessage()));
+          }
+          unindexEntryKey(key, entryKey);
+        }
+        return null;
+      });
+    }
+
+    return found || !storedIds.isEmpty();
+  }
+
+  private void clearMetadataCaches() throws ObjectStoreException {
+    caches.asMap().values().forEach(holder -> holder.disposed = true);
+    caches.invalidateAll();
+    pendingWrites.values().forEach(holder -> holder.disposed = true);
+    pendingWrites.clear();
+    metadataStore.get().clear();
+    entryKeys.get().clear();
+  }
+
+  private CacheHolder load(String id) {
+    CacheHolder pending = pendingWrites.get(id);
+    if (pending != null) {
+      // Evicted from memory before being written
+      return pending;
+    }
+
+    return withKeyLock(id, key -> {
+      try {
+        CacheHolder holder = new CacheHolder();
+        for (String entryKey : entryKeysOf(key)) {
+          MetadataCacheEntry entry = metadataStore.get().retrieve(entryKey);
+          holder.cache.put(entry.key, entry.value);
+          holder.written.put(entry.key, entry.value);
+        }
+
+        if (holder.written.isEmpty()) {
+          LOGGER.debug("Creating new cache " + id);
+        }
+        return holder;
+      } catch (Exception e) {
+        String msg = format("An error occurred while retrieving the MetadataCache with ID '%s': %s",
+                            id, e.getMessage());
+        LOGGER.error(msg);
+        throw new RuntimeException(msg, e);
+      }
+    });
+  }
+
+  private void write(String id) {
+    CacheHolder holder = pendingWrites.remove(id);
+    if (holder == null) {
+      return;
+    }
+
+    withKeyLock(id, key -> {
+      if (holder.disposed) {
+        return null;
+      }
+
+      try {
+        Map<Serializable, Serializable> values = holder.cache.asMap();
+        for (Map.Entry<Serializable, Serializable> value : values.entrySet()) {
+          if (holder.written.get(value.getKey()) != value.getValue()) {
+            String entryKey = entryKey(key, value.getKey());
+            if (metadataStore.get().contains(entryKey)) {
+              metadataStore.get().remove(entryKey);
+            }
+            metadataStore.get().store(entryKey, new MetadataCacheEntry(value.getKey(), value.getValue()));
+            indexEntryKey(key, entryKey);
+            holder.written.put(value.getKey(), value.getValue());
+          }
+        }
+
+        // The cache may have been replaced by one without some of the keys written before
+        for (Serializable writtenKey : new ArrayList<>(holder.written.keySet())) {
+          if (!values.containsKey(writtenKey)) {
+            String entryKey = entryKey(key, writtenKey);
+            if (metadataStore.get().contains(entryKey)) {
+              metadataStore.get().remove(entryKey);
+            }
+            unindexEntryKey(key, entryKey);
+            holder.written.remove(writtenKey);
+          }
+        }
+        holder.writeRetryDelay = 0;
+      } catch (Exception e) {
+        LOGGER.error(format("An error occurred while updating the MetadataCache with ID '%s', it will be retried: %s", id,
+                            e.getMessage()),
+                     e);
+        retryWrite(id, holder);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Keeps the given cache pending to be written, so what was not written is written by a retry, by the write of a later update
+   * or when stopping.
+   */
+  private void retryWrite(String id, CacheHolder holder) {
+    if (holder.disposed || pendingWrites.putIfAbsent(id, holder) != null) {
+      // Disposed or updated meanwhile, so there is nothing to retry or its write is already scheduled
+      return;
+    }
+
+    holder.writeRetryDelay = holder.writeRetryDelay == 0
+        ? MIN_WRITE_RETRY_DELAY_MILLIS
+        : min(holder.writeRetryDelay * 2, MAX_WRITE_RETRY_DELAY_MILLIS);
+    Scheduler scheduler = writeScheduler;
+    if (scheduler != null) {
+      try {
+        scheduler.schedule(() -> write(id), holder.writeRetryDelay, MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        // Stopping, so it is written when started again
+      }
+    }
+  }
+
+  private ConcurrentMap<String, Set<String>> indexEntryKeys() {
+    ConcurrentMap<String, Set<String>> index = new ConcurrentHashMap<>();
+    try {
+      for (String entryKey : metadataStore.get().allKeys()) {
+        index.computeIfAbsent(entryKey.substring(0, entryKey.indexOf(ENTRY_SEPARATOR)), id -> newKeySet()).add(entryKey);
+      }
+    } catch (ObjectStoreException e) {
+      throw new MuleRuntimeException(createStaticMessage("Could not read the keys of the MetadataCache entries"), e);
+    }
+    return index;
+  }
+
+  private Set<String> entryKeysOf(String id) {
+    return entryKeys.get().getOrDefault(id, emptySet());
+  }
+
+  private void indexEntryKey(String id, String entryKey) {
+    entryKeys.get().computeIfAbsent(id, k -> newKeySet()).add(entryKey);
+  }
+
+  private void unindexEntryKey(String id, String entryKey) {
+    entryKeys.get().computeIfPresent(id, (k, keys) -> {
+      keys.remove(entryKey);
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  private static String entryKey(String id, Serializable key) {
+    if (key instanceof String) {
+      return id + ENTRY_SEPARATOR + "s:" + key;
+    }
+    return id + ENTRY_SEPARATOR + "b:" + getUrlEncoder().encodeToString(serialize(key));
+  }
+
+  private static final class CacheHolder {
+
+    private volatile DefaultMetadataCache cache = new DefaultMetadataCache();
+    // The values of the keys as last written to the store
+    private final Map<Serializable, Serializable> written = new ConcurrentHashMap<>();
+    private volatile boolean disposed;
+    // The delay before retrying a failed write, 0 if the last write succeeded
+    private volatile long writeRetryDelay;
+  }
+
+  /**
+   * The value of a key of a {@link MetadataCache}, as kept in the store.
+   */
+  static final class MetadataCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -3471826437529683042L;
+
+    private final Serializable key;
+    private final Serializable value;
+
+    MetadataCacheEntry(Serializable key, Serializable value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    Serializable getKey() {
+      return key;
+    }
+
+    Serializable getValue() {
+      return value;
+    }
+  }
+}
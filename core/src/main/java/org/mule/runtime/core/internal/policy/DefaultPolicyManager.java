@@ -133,6 +133,12 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
       Caffeine.newBuilder()
           .build();
 
+  // Whether a registered policy may be applied to an operation, to avoid creating the pointcut parameters for operations no
+  // policy can match.
+  private final Cache<ComponentIdentifier, Boolean> operationPoliciesAvailability =
+      Caffeine.newBuilder()
+          .build();
+
   // These next caches contain the Composite Policies for a given sequence of policies to be applied.
 
   private final Cache<Pair<String, List<Policy>>, SourcePolicy> sourcePolicyInnerCache =
@@ -233,11 +239,15 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
       return NO_POLICY_OPERATION;
     }
 
+    final ComponentIdentifier operationIdentifier = operation.getLocation().getComponentIdentifier().getIdentifier();
+    if (!isOperationPoliciesAvailable(operationIdentifier)) {
+      return NO_POLICY_OPERATION;
+    }
+
     PolicyPointcutParameters operationPointcutParameters =
         policyPointcutParametersManager.createOperationPointcutParameters(operation, event,
                                                                           operationParameters.getOperationParameters());
 
-    final ComponentIdentifier operationIdentifier = operation.getLocation().getComponentIdentifier().getIdentifier();
     final Pair<ComponentIdentifier, PolicyPointcutParameters> policyKey =
         new Pair<>(operationIdentifier, operationPointcutParameters);
 
@@ -280,6 +290,21 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
     }
   }
 
+  private boolean isOperationPoliciesAvailable(ComponentIdentifier operationIdentifier) {
+    final Boolean available = operationPoliciesAvailability.getIfPresent(operationIdentifier);
+    if (available != null) {
+      return available;
+    }
+
+    // Same as with the policies caches, avoid the cache being invalidated while being populated.
+    cacheInvalidateLock.readLock().lock();
+    try {
+      return operationPoliciesAvailability.get(operationIdentifier, policyProvider::isOperationPoliciesAvailable);
+    } finally {
+      cacheInvalidateLock.readLock().unlock();
+    }
+  }
+
   private Optional<OperationPolicyParametersTransformer> lookupOperationParametersTransformer(ComponentIdentifier componentIdentifier) {
     return registry.lookupAllByType(OperationPolicyParametersTransformer.class).stream()
         .filter(policyOperationParametersTransformer -> policyOperationParametersTransformer.supports(componentIdentifier))
@@ -422,6 +447,7 @@ public class DefaultPolicyManager implements PolicyManager, Lifecycle {
 
     try {
       noPolicySourceInstances.invalidateAll();
+      operationPoliciesAvailability.invalidateAll();
 
       sourcePolicyInnerCache.invalidateAll();
       operationPolicyInnerCache.invalidateAll();
@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.policy;
 
 import static java.lang.String.format;
+import static java.lang.System.identityHashCode;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.internal.policy.SourcePolicyContext.from;
 
@@ -15,21 +17,41 @@ import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.policy.ParameterAwareOperationPolicyPointcutParametersFactory;
 import org.mule.runtime.policy.api.OperationPolicyPointcutParametersFactory;
 import org.mule.runtime.policy.api.PolicyPointcutParameters;
 import org.mule.runtime.policy.api.SourcePolicyPointcutParametersFactory;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
  * Responsible for the creation of {@link PolicyPointcutParameters} for both source and operation policies
+ * <p>
+ * The {@link PolicyPointcutParameters} created by a {@link ParameterAwareOperationPolicyPointcutParametersFactory} are reused for
+ * the executions of an operation with the same values for the parameters the factory depends on.
  */
 public class PolicyPointcutParametersManager {
 
+  private static final int MAX_CACHED_OPERATION_POINTCUT_PARAMETERS = 1024;
+
   private final Collection<SourcePolicyPointcutParametersFactory> sourcePointcutFactories;
   private final Collection<OperationPolicyPointcutParametersFactory> operationPointcutFactories;
 
+  private final Map<ParameterAwareOperationPolicyPointcutParametersFactory, String[]> pointcutParameterNames =
+      new ConcurrentHashMap<>();
+  private final Cache<OperationPointcutParametersKey, PolicyPointcutParameters> operationPointcutParameters =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_CACHED_OPERATION_POINTCUT_PARAMETERS)
+          .expireAfterAccess(60, SECONDS)
+          .build();
+
   public PolicyPointcutParametersManager(Collection<SourcePolicyPointcutParametersFactory> sourcePointcutFactories,
                                          Collection<OperationPolicyPointcutParametersFactory> operationPointcutFactories) {
     this.sourcePointcutFactories = sourcePointcutFactories;
@@ -72,8 +94,26 @@ public class PolicyPointcutParametersManager {
    */
   public PolicyPointcutParameters createOperationPointcutParameters(Component operation, CoreEvent event,
                                                                     Map<String, Object> operationParameters) {
-    ComponentIdentifier operationIdentifier = operation.getLocation().getComponentIdentifier().getIdentifier();
+    final OperationPolicyPointcutParametersFactory factory =
+        findOperationFactory(operation.getLocation().getComponentIdentifier().getIdentifier());
 
+    SourcePolicyContext ctx = from(event);
+    PolicyPointcutParameters sourceParameters = ctx != null ? ctx.getPointcutParameters() : null;
+
+    if (factory == null) {
+      return new PolicyPointcutParameters(operation, sourceParameters);
+    } else if (factory instanceof ParameterAwareOperationPolicyPointcutParametersFactory) {
+      final Object[] parameterValues =
+          pointcutParameterValues((ParameterAwareOperationPolicyPointcutParametersFactory) factory, operationParameters);
+      return operationPointcutParameters.get(new OperationPointcutParametersKey(operation, sourceParameters, parameterValues),
+                                             k -> doCreateOperationPointcutParameters(factory, operation, operationParameters,
+                                                                                      sourceParameters));
+    } else {
+      return doCreateOperationPointcutParameters(factory, operation, operationParameters, sourceParameters);
+    }
+  }
+
+  private OperationPolicyPointcutParametersFactory findOperationFactory(ComponentIdentifier operationIdentifier) {
     OperationPolicyPointcutParametersFactory found = null;
     for (OperationPolicyPointcutParametersFactory factory : operationPointcutFactories) {
       if (factory.supportsOperationIdentifier(operationIdentifier)) {
@@ -83,19 +123,30 @@ public class PolicyPointcutParametersManager {
         found = factory;
       }
     }
+    return found;
+  }
 
-    SourcePolicyContext ctx = from(event);
-    PolicyPointcutParameters sourceParameters = ctx != null ? ctx.getPointcutParameters() : null;
+  private PolicyPointcutParameters doCreateOperationPointcutParameters(OperationPolicyPointcutParametersFactory factory,
+                                                                       Component operation,
+                                                                       Map<String, Object> operationParameters,
+                                                                       PolicyPointcutParameters sourceParameters) {
+    try {
+      return factory.createPolicyPointcutParameters(operation, operationParameters, sourceParameters);
+    } catch (AbstractMethodError error) {
+      return factory.createPolicyPointcutParameters(operation, operationParameters);
+    }
+  }
 
-    if (found != null) {
-      try {
-        return found.createPolicyPointcutParameters(operation, operationParameters, sourceParameters);
-      } catch (AbstractMethodError error) {
-        return found.createPolicyPointcutParameters(operation, operationParameters);
-      }
-    } else {
-      return new PolicyPointcutParameters(operation, sourceParameters);
+  private Object[] pointcutParameterValues(ParameterAwareOperationPolicyPointcutParametersFactory factory,
+                                           Map<String, Object> operationParameters) {
+    final String[] names =
+        pointcutParameterNames.computeIfAbsent(factory, f -> f.getPointcutParameterNames().toArray(new String[0]));
+
+    final Object[] values = new Object[names.length];
+    for (int i = 0; i < names.length; ++i) {
+      values[i] = operationParameters.get(names[i]);
     }
+    return values;
   }
 
   private void throwMoreThanOneFactoryFoundException(ComponentIdentifier sourceIdentifier, Class factoryClass) {
@@ -103,4 +154,44 @@ public class PolicyPointcutParametersManager {
                                                               "More than one %s for component %s was found. There should be only one.",
                                                               factoryClass.getName(), sourceIdentifier)));
   }
+
+  /**
+   * Identifies the {@link PolicyPointcutParameters} created by a {@link ParameterAwareOperationPolicyPointcutParametersFactory}
+   * by the values of the parameters it depends on.
+   */
+  private static final class OperationPointcutParametersKey {
+
+    private final Component operation;
+    private final PolicyPointcutParameters sourceParameters;
+    private final Object[] parameterValues;
+    private final int hash;
+
+    private OperationPointcutParametersKey(Component operation, PolicyPointcutParameters sourceParameters,
+                                           Object[] parameterValues) {
+      this.operation = operation;
+      this.sourceParameters = sourceParameters;
+      this.parameterValues = parameterValues;
+      this.hash = 31 * (31 * identityHashCode(operation) + Objects.hashCode(sourceParameters)) + Arrays.hashCode(parameterValues);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof OperationPointcutParametersKey)) {
+        return false;
+      }
+
+      final OperationPointcutParametersKey other = (OperationPointcutParametersKey) obj;
+      return operation == other.operation
+          && Objects.equals(sourceParameters, other.sourceParameters)
+          && Arrays.equals(parameterValues, other.parameterValues);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
 }
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.processor.strategy;
 
+import static java.lang.System.nanoTime;
+import static java.util.Optional.of;
 import static org.mule.runtime.core.api.construct.BackPressureReason.MAX_CONCURRENCY_EXCEEDED;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE_ASYNC;
 import static org.mule.runtime.core.internal.processor.strategy.AbstractStreamProcessingStrategyFactory.DEFAULT_BUFFER_SIZE;
@@ -20,23 +22,31 @@ import org.mule.runtime.core.api.construct.BackPressureReason;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.internal.construct.FromFlowRejectedExecutionException;
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
 import org.mule.runtime.core.internal.processor.strategy.AbstractStreamProcessingStrategyFactory.AbstractStreamProcessingStrategy;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
+import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
-abstract class AbstractReactorStreamProcessingStrategy extends AbstractStreamProcessingStrategy implements Startable, Disposable {
+abstract class AbstractReactorStreamProcessingStrategy extends AbstractStreamProcessingStrategy
+    implements CapacitySignalingProcessingStrategy, AdaptiveConcurrencyProcessingStrategy, Startable, Disposable {
 
   private final Supplier<Scheduler> cpuLightSchedulerSupplier;
   private final int parallelism;
   private final AtomicInteger inFlightEvents = new AtomicInteger();
-  private final BiConsumer<CoreEvent, Throwable> inFlightDecrementCallback = (e, t) -> inFlightEvents.decrementAndGet();
+  protected final CapacitySignal capacitySignal = new CapacitySignal();
+  private final BiConsumer<CoreEvent, Throwable> inFlightDecrementCallback = (e, t) -> {
+    inFlightEvents.decrementAndGet();
+    capacitySignal.signal();
+  };
 
   private Scheduler cpuLightScheduler;
+  private AdaptiveConcurrencyLimit adaptiveConcurrencyLimit;
 
   AbstractReactorStreamProcessingStrategy(int subscribers,
                                           Supplier<Scheduler> cpuLightSchedulerSupplier,
@@ -87,6 +97,10 @@ abstract class AbstractReactorStreamProcessingStrategy extends AbstractStreamPro
    * @return true if the event can be accepted for processing
    */
   protected BackPressureReason checkCapacity(CoreEvent event) {
+    if (adaptiveConcurrencyLimit != null) {
+      return checkAdaptiveCapacity(event);
+    }
+
     if (maxConcurrencyEagerCheck) {
       if (inFlightEvents.incrementAndGet() > maxConcurrency) {
         inFlightEvents.decrementAndGet();
@@ -101,6 +115,37 @@ abstract class AbstractReactorStreamProcessingStrategy extends AbstractStreamPro
     return null;
   }
 
+  private BackPressureReason checkAdaptiveCapacity(CoreEvent event) {
+    final int inFlight = inFlightEvents.incrementAndGet();
+    if (inFlight > adaptiveConcurrencyLimit.getLimit()) {
+      inFlightEvents.decrementAndGet();
+      adaptiveConcurrencyLimit.onRejected();
+      return MAX_CONCURRENCY_EXCEEDED;
+    }
+
+    final long startNanos = nanoTime();
+    ((BaseEventContext) event.getContext()).onResponse((e, t) -> {
+      adaptiveConcurrencyLimit.onComplete(nanoTime() - startNanos, t != null, inFlight);
+      inFlightDecrementCallback.accept(e, t);
+    });
+    return null;
+  }
+
+  @Override
+  public boolean enableAdaptiveConcurrencyLimit(AdaptiveConcurrencyStatistics statistics) {
+    if (!maxConcurrencyEagerCheck) {
+      return false;
+    }
+
+    adaptiveConcurrencyLimit = new AdaptiveConcurrencyLimit(maxConcurrency, statistics);
+    return true;
+  }
+
+  @Override
+  public Optional<CapacitySignal> getCapacitySignal() {
+    return of(capacitySignal);
+  }
+
   protected int getParallelism() {
     return parallelism;
   }
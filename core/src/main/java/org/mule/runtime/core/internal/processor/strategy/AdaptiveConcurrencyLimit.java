@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit of a flow that adapts to the observed processing latency and errors, following an additive-increase /
+ * multiplicative-decrease (AIMD) algorithm.
+ * <p>
+ * The limit is increased by one for every successful event processed fast enough while the flow is using at least half of its
+ * current limit. It is decreased by {@link #BACKOFF_RATIO} when an event fails or its latency exceeds the lowest observed
+ * latency by more than {@link #LATENCY_TOLERANCE}, at most once per window: events that were already being processed when the
+ * limit was last decreased don't decrease it again, so a burst of errors backs off once instead of once per failed event. The
+ * limit never goes below 1 nor above the configured {@code maxConcurrency} of the flow.
+ * <p>
+ * Events exceeding the current limit are rejected the same way as with a fixed {@code maxConcurrency}.
+ * <p>
+ * The state of the limit is published through the {@link AdaptiveConcurrencyStatistics} of the flow.
+ * <p>
+ * It is enabled for a flow with its {@code adaptiveConcurrency} attribute.
+ *
+ * @since 4.4
+ */
+public class AdaptiveConcurrencyLimit {
+
+  /**
+   * System property to set the upper bound of the limit for flows without a {@code maxConcurrency}.
+   */
+  public static final String ADAPTIVE_CONCURRENCY_MAX_LIMIT_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "flow.adaptiveConcurrency.maxLimit";
+
+  private static final int DEFAULT_MAX_LIMIT = getInteger(ADAPTIVE_CONCURRENCY_MAX_LIMIT_PROPERTY, 1000);
+
+  static final double BACKOFF_RATIO = 0.9;
+  static final double LATENCY_TOLERANCE = 2.0;
+
+  /**
+   * Amount of samples after which the lowest observed latency is allowed to grow, so that the baseline follows permanent changes in
+   * the latency of the flow.
+   */
+  private static final int BASELINE_WINDOW = 1000;
+
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final int maxLimit;
+  private final AtomicInteger limit;
+  private final AtomicLong minLatencyNanos = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicInteger samples = new AtomicInteger();
+  private final AtomicLong lastDecreaseNanos = new AtomicLong(NEVER);
+  private final AdaptiveConcurrencyStatistics statistics;
+  private final LongSupplier nanoClock;
+
+  /**
+   * @param maxConcurrency the {@code maxConcurrency} configured for the flow, which will be the upper bound of the limit.
+   */
+  public AdaptiveConcurrencyLimit(int maxConcurrency) {
+    this(maxConcurrency, new AdaptiveConcurrencyStatistics());
+  }
+
+  /**
+   * @param maxConcurrency the {@code maxConcurrency} configured for the flow, which will be the upper bound of the limit.
+   * @param statistics     where to publish the state of the limit.
+   */
+  public AdaptiveConcurrencyLimit(int maxConcurrency, AdaptiveConcurrencyStatistics statistics) {
+    this(maxConcurrency, statistics, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimit(int maxConcurrency, AdaptiveConcurrencyStatistics statistics, LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.maxLimit = maxConcurrency == MAX_VALUE ? DEFAULT_MAX_LIMIT : maxConcurrency;
+    this.limit = new AtomicInteger(min(maxLimit, max(1, getRuntime().availableProcessors())));
+    this.statistics = statistics;
+    statistics.setMaxLimit(maxLimit);
+    statistics.setLimit(limit.get());
+  }
+
+  /**
+   * Notifies that an event was rejected because the limit was reached.
+   */
+  public void onRejected() {
+    statistics.incRejections();
+  }
+
+  /**
+   * Notifies the completion of an event, adapting the limit accordingly.
+   *
+   * @param latencyNanos the time it took to process the event, in nanoseconds
+   * @param failed       whether the processing of the event failed
+   * @param inFlight     the amount of events being processed when the event was accepted
+   */
+  public void onComplete(long latencyNanos, boolean failed, int inFlight) {
+    final long baseline = updateBaseline(latencyNanos);
+
+    if (failed || latencyNanos > baseline * LATENCY_TOLERANCE) {
+      final long nowNanos = nanoClock.getAsLong();
+      final long lastDecrease = lastDecreaseNanos.get();
+      // An event that started before the last decrease was accepted with the previous limit, so it was already accounted for
+      if (lastDecrease != NEVER && nowNanos - latencyNanos - lastDecrease < 0) {
+        return;
+      }
+
+      if (limit.get() > 1 && lastDecreaseNanos.compareAndSet(lastDecrease, nowNanos)) {
+        statistics.setLimit(limit.updateAndGet(current -> max(1, (int) (current * BACKOFF_RATIO))));
+        statistics.incDecreases();
+      }
+    } else {
+      final int current = limit.get();
+      if (inFlight * 2 >= current && current < maxLimit && limit.compareAndSet(current, current + 1)) {
+        statistics.setLimit(current + 1);
+        statistics.incIncreases();
+      }
+    }
+  }
+
+  private long updateBaseline(long latencyNanos) {
+    if (samples.incrementAndGet() % BASELINE_WINDOW == 0) {
+      // let the baseline drift towards the current latency
+      minLatencyNanos.updateAndGet(v -> v == Long.MAX_VALUE ? latencyNanos : v + (max(latencyNanos, v) - v) / 2);
+    }
+    return minLatencyNanos.accumulateAndGet(latencyNanos, Math::min);
+  }
+
+  /**
+   * @return the current concurrency limit.
+   */
+  public int getLimit() {
+    return limit.get();
+  }
+
+  /**
+   * @return the upper bound of the concurrency limit.
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * @return the number of times the limit was increased.
+   */
+  public long getIncreases() {
+    return statistics.getIncreases();
+  }
+
+  /**
+   * @return the number of times the limit was decreased.
+   */
+  public long getDecreases() {
+    return statistics.getDecreases();
+  }
+
+  /**
+   * @return the number of events rejected because the limit was reached.
+   */
+  public long getRejections() {
+    return statistics.getRejections();
+  }
+}
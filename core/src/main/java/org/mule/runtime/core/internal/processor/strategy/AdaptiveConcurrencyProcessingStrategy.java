@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
+
+/**
+ * A {@link ProcessingStrategy} that can enforce an {@link AdaptiveConcurrencyLimit} instead of its fixed {@code maxConcurrency}.
+ *
+ * @since 4.4
+ */
+public interface AdaptiveConcurrencyProcessingStrategy extends ProcessingStrategy {
+
+  /**
+   * Makes this processing strategy enforce its own {@link AdaptiveConcurrencyLimit}, bounded by its {@code maxConcurrency}. Must
+   * be called before the processing strategy is started.
+   *
+   * @param statistics where to publish the state of the limit
+   * @return whether the limit is enforced, which requires {@code maxConcurrency} to be checked eagerly.
+   */
+  boolean enableAdaptiveConcurrencyLimit(AdaptiveConcurrencyStatistics statistics);
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Signal published by a {@link org.mule.runtime.core.api.processor.strategy.ProcessingStrategy} every time it may have capacity
+ * available to accept a new event after having rejected one.
+ * <p>
+ * Threads that got an event rejected read the current {@link #generation()} before checking the capacity, and then
+ * {@link #await(long, long, TimeUnit) await} for it to change. Waiters are woken up one at a time, in arrival order, so that a
+ * single freed slot doesn't cause every waiter to compete for it.
+ * <p>
+ * Signaling is cheap when there are no waiters, so it can be done on every completed event.
+ *
+ * @since 4.4
+ */
+public final class CapacitySignal {
+
+  private final ReentrantLock lock = new ReentrantLock(true);
+  private final Condition capacityAvailable = lock.newCondition();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicInteger waiters = new AtomicInteger();
+
+  /**
+   * @return a value that changes every time this signal is fired.
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Notifies that capacity may be available, waking up the longest waiting thread, if any.
+   */
+  public void signal() {
+    generation.incrementAndGet();
+    if (waiters.get() > 0) {
+      lock.lock();
+      try {
+        capacityAvailable.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Waits until this signal is fired after the given {@code observedGeneration}, or the timeout elapses.
+   *
+   * @param observedGeneration the value of {@link #generation()} when the capacity was last checked
+   * @param timeout            the maximum time to wait
+   * @param unit               the unit of {@code timeout}
+   * @return {@code true} if the signal was fired, {@code false} if the timeout elapsed.
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public boolean await(long observedGeneration, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    waiters.incrementAndGet();
+    try {
+      while (generation.get() == observedGeneration) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = capacityAvailable.awaitNanos(nanos);
+      }
+      return true;
+    } finally {
+      waiters.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of threads currently waiting on this signal.
+   */
+  public int getWaiters() {
+    return waiters.get();
+  }
+}
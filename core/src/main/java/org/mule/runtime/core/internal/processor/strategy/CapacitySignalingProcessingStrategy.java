@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+
+import java.util.Optional;
+
+/**
+ * A {@link ProcessingStrategy} that publishes a {@link CapacitySignal} when capacity becomes available after rejecting events,
+ * so that sources with a {@code WAIT} back-pressure strategy don't have to poll it.
+ *
+ * @since 4.4
+ */
+public interface CapacitySignalingProcessingStrategy extends ProcessingStrategy {
+
+  /**
+   * @return the signal fired by this processing strategy when capacity is available, or {@link Optional#empty()} if it doesn't
+   *         publish one.
+   */
+  Optional<CapacitySignal> getCapacitySignal();
+}
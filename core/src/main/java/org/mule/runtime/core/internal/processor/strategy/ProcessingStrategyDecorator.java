@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.processor.strategy;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Optional.empty;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
@@ -20,7 +22,11 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.management.stats.AdaptiveConcurrencyStatistics;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.reactivestreams.Publisher;
@@ -33,7 +39,9 @@ import org.reactivestreams.Publisher;
  *
  * @since 4.3.0
  */
-public abstract class ProcessingStrategyDecorator implements ProcessingStrategy, Lifecycle {
+public abstract class ProcessingStrategyDecorator
+    implements CapacitySignalingProcessingStrategy, QueueDepthReportingProcessingStrategy, AdaptiveConcurrencyProcessingStrategy,
+    Lifecycle {
 
   protected final ProcessingStrategy delegate;
 
@@ -81,6 +89,26 @@ public abstract class ProcessingStrategyDecorator implements ProcessingStrategy,
     return delegate.checkBackpressureEmitting(event);
   }
 
+  @Override
+  public Optional<CapacitySignal> getCapacitySignal() {
+    return delegate instanceof CapacitySignalingProcessingStrategy
+        ? ((CapacitySignalingProcessingStrategy) delegate).getCapacitySignal()
+        : empty();
+  }
+
+  @Override
+  public Map<String, List<Integer>> getSinkQueueDepths() {
+    return delegate instanceof QueueDepthReportingProcessingStrategy
+        ? ((QueueDepthReportingProcessingStrategy) delegate).getSinkQueueDepths()
+        : emptyMap();
+  }
+
+  @Override
+  public boolean enableAdaptiveConcurrencyLimit(AdaptiveConcurrencyStatistics statistics) {
+    return delegate instanceof AdaptiveConcurrencyProcessingStrategy
+        && ((AdaptiveConcurrencyProcessingStrategy) delegate).enableAdaptiveConcurrencyLimit(statistics);
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     initialiseIfNeeded(delegate);
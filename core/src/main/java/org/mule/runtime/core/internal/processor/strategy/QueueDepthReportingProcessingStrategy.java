@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ProcessingStrategy} that keeps track of the amount of events pending in each of the sinks it creates.
+ *
+ * @since 4.4
+ */
+public interface QueueDepthReportingProcessingStrategy extends ProcessingStrategy {
+
+  /**
+   * @return for each live sink created by this processing strategy, keyed by the name of the flow it was created for, the amount
+   *         of events accepted and not yet completed by each of its inner sinks. Empty if queue depths are not being tracked.
+   */
+  Map<String, List<Integer>> getSinkQueueDepths();
+}
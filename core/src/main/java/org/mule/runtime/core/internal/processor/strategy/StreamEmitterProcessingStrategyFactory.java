@@ -16,6 +16,7 @@ import static java.time.Duration.ofMillis;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.MuleSystemProperties.MULE_LIFECYCLE_FAIL_ON_FIRST_DISPOSE_ERROR;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.construct.BackPressureReason.REQUIRED_SCHEDULER_BUSY;
 import static org.mule.runtime.core.api.construct.BackPressureReason.REQUIRED_SCHEDULER_BUSY_WITH_FULL_BUFFER;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.CPU_LITE;
@@ -42,8 +43,12 @@ import org.mule.runtime.core.privileged.event.BaseEventContext;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -64,6 +69,22 @@ import reactor.core.publisher.EmitterProcessor;
  */
 public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProcessingStrategyFactory {
 
+  /**
+   * System property to select how events are distributed among the sinks of a flow. Events are distributed in round robin,
+   * unless it is set to {@link #LEAST_LOADED_SINK_SELECTION}.
+   *
+   * @since 4.4
+   */
+  public static final String SINK_SELECTION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "processingStrategy.sinkSelection";
+
+  /**
+   * Value of {@link #SINK_SELECTION_PROPERTY} to dispatch each event to the sink with the fewest pending events. In this mode, the
+   * amount of pending events of each sink is available through {@link QueueDepthReportingProcessingStrategy}.
+   *
+   * @since 4.4
+   */
+  public static final String LEAST_LOADED_SINK_SELECTION = "leastLoaded";
+
   @Override
   public ProcessingStrategy create(MuleContext muleContext, String schedulersNamePrefix) {
     return new StreamEmitterProcessingStrategy(getBufferSize(),
@@ -103,7 +124,8 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
   }
 
 
-  static class StreamEmitterProcessingStrategy extends AbstractReactorStreamProcessingStrategy implements Stoppable {
+  static class StreamEmitterProcessingStrategy extends AbstractReactorStreamProcessingStrategy
+      implements QueueDepthReportingProcessingStrategy, Stoppable {
 
     private static final Logger LOGGER = getLogger(StreamEmitterProcessingStrategy.class);
     private static final String NO_SUBSCRIPTIONS_ACTIVE_FOR_PROCESSOR = "No subscriptions active for processor.";
@@ -113,7 +135,10 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
     private final LazyValue<Scheduler> flowDispatchSchedulerLazy;
     private final AtomicLong lastRetryTimestamp = new AtomicLong(MIN_VALUE);
     private final AtomicInteger queuedEvents = new AtomicInteger();
-    private final BiConsumer<CoreEvent, Throwable> queuedDecrementCallback = (e, t) -> queuedEvents.decrementAndGet();
+    private final BiConsumer<CoreEvent, Throwable> queuedDecrementCallback = (e, t) -> {
+      queuedEvents.decrementAndGet();
+      capacitySignal.signal();
+    };
     private final LongUnaryOperator lastRetryTimestampCheckOperator =
         v -> nanoTime() - v < SCHEDULER_BUSY_RETRY_INTERVAL_NS * 2
             ? v
@@ -121,6 +146,8 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
 
     private final int sinksCount;
     private final Supplier<Long> shutdownTimeoutSupplier;
+    private final boolean leastLoadedSinkSelection = LEAST_LOADED_SINK_SELECTION.equals(getProperty(SINK_SELECTION_PROPERTY));
+    private final Map<String, LeastLoadedReactorSink<?>> leastLoadedSinks = new ConcurrentHashMap<>();
 
     // This counter keeps track of how many sinks are created for fluxes that use this processing strategy.
     // Using it, an eager stop of the schedulers is implmented in `stopSchedulersIfNeeded`
@@ -249,7 +276,36 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
       }
 
       activeSinksCount.addAndGet(sinksCount);
-      return new RoundRobinReactorSink<>(sinks);
+      if (leastLoadedSinkSelection) {
+        return registerLeastLoadedSink(flowConstruct.getName(), sinks);
+      } else {
+        return new RoundRobinReactorSink<>(sinks);
+      }
+    }
+
+    private LeastLoadedReactorSink<CoreEvent> registerLeastLoadedSink(String flowName, List<ReactorSink<CoreEvent>> sinks) {
+      String sinkName = flowName;
+      for (int i = 2;; ++i) {
+        final String name = sinkName;
+        final LeastLoadedReactorSink<CoreEvent> leastLoadedSink =
+            new LeastLoadedReactorSink<>(sinks, disposed -> leastLoadedSinks.remove(name, disposed));
+        if (leastLoadedSinks.putIfAbsent(name, leastLoadedSink) == null) {
+          return leastLoadedSink;
+        }
+        // More than one sink created for the same flow is alive
+        sinkName = flowName + "#" + i;
+      }
+    }
+
+    @Override
+    public Map<String, List<Integer>> getSinkQueueDepths() {
+      final Map<String, List<Integer>> queueDepths = new TreeMap<>();
+      leastLoadedSinks.forEach((name, sink) -> {
+        final List<Integer> sinkQueueDepths = new ArrayList<>();
+        sink.addQueueDepths(sinkQueueDepths);
+        queueDepths.put(name, sinkQueueDepths);
+      });
+      return queueDepths;
     }
 
     @Override
@@ -279,7 +335,10 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
     protected ScheduledExecutorService getRetryScheduler(ScheduledExecutorService scheduler) {
       return new RejectionCallbackExecutorServiceDecorator(scheduler, scheduler,
                                                            () -> onRejected(scheduler),
-                                                           () -> lastRetryTimestamp.set(MIN_VALUE),
+                                                           () -> {
+                                                             lastRetryTimestamp.set(MIN_VALUE);
+                                                             capacitySignal.signal();
+                                                           },
                                                            ofMillis(SCHEDULER_BUSY_RETRY_INTERVAL_MS));
     }
 
@@ -403,5 +462,108 @@ public class StreamEmitterProcessingStrategyFactory extends AbstractStreamProces
         return (E) event;
       }
     }
+
+    /**
+     * Dispatches each event to the sink with the fewest events accepted and not yet completed, so that a slow event delays as
+     * few other events as possible. Ties are resolved in round robin.
+     */
+    static class LeastLoadedReactorSink<E> implements AbstractProcessingStrategy.ReactorSink<E> {
+
+      private final List<AbstractProcessingStrategy.ReactorSink<E>> fluxSinks;
+      private final AtomicIntegerArray queueDepths;
+      private final List<BiConsumer<CoreEvent, Throwable>> decrementCallbacks;
+      private final AtomicInteger offset = new AtomicInteger(0);
+      private final Consumer<LeastLoadedReactorSink<E>> onDispose;
+
+      public LeastLoadedReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks) {
+        this(sinks, disposed -> {
+        });
+      }
+
+      /**
+       * @param sinks     the sinks to dispatch the events to
+       * @param onDispose callback to run once this sink is disposed
+       */
+      public LeastLoadedReactorSink(List<AbstractProcessingStrategy.ReactorSink<E>> sinks,
+                                    Consumer<LeastLoadedReactorSink<E>> onDispose) {
+        this.fluxSinks = sinks;
+        this.onDispose = onDispose;
+        this.queueDepths = new AtomicIntegerArray(sinks.size());
+        this.decrementCallbacks = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); ++i) {
+          final int index = i;
+          decrementCallbacks.add((e, t) -> queueDepths.decrementAndGet(index));
+        }
+      }
+
+      @Override
+      public void prepareDispose() {
+        fluxSinks.stream().forEach(sink -> sink.prepareDispose());
+      }
+
+      @Override
+      public void dispose() {
+        try {
+          fluxSinks.stream().forEach(sink -> sink.prepareDispose());
+          fluxSinks.stream().forEach(sink -> sink.dispose());
+        } finally {
+          onDispose.accept(this);
+        }
+      }
+
+      @Override
+      public void accept(CoreEvent event) {
+        final int index = leastLoadedIndex();
+        queueDepths.incrementAndGet(index);
+        try {
+          fluxSinks.get(index).accept(event);
+        } catch (RuntimeException e) {
+          queueDepths.decrementAndGet(index);
+          throw e;
+        }
+        ((BaseEventContext) event.getContext()).onResponse(decrementCallbacks.get(index));
+      }
+
+      @Override
+      public BackPressureReason emit(CoreEvent event) {
+        final int index = leastLoadedIndex();
+        queueDepths.incrementAndGet(index);
+        final BackPressureReason reason = fluxSinks.get(index).emit(event);
+        if (reason == null) {
+          ((BaseEventContext) event.getContext()).onResponse(decrementCallbacks.get(index));
+        } else {
+          queueDepths.decrementAndGet(index);
+        }
+        return reason;
+      }
+
+      private int leastLoadedIndex() {
+        final int size = fluxSinks.size();
+        final int start = (offset.getAndIncrement() & Integer.MAX_VALUE) % size;
+
+        int selected = start;
+        int minDepth = queueDepths.get(start);
+        for (int i = 1; i < size && minDepth > 0; ++i) {
+          final int index = (start + i) % size;
+          final int depth = queueDepths.get(index);
+          if (depth < minDepth) {
+            selected = index;
+            minDepth = depth;
+          }
+        }
+        return selected;
+      }
+
+      void addQueueDepths(List<Integer> target) {
+        for (int i = 0; i < queueDepths.length(); ++i) {
+          target.add(queueDepths.get(i));
+        }
+      }
+
+      @Override
+      public E intoSink(CoreEvent event) {
+        return (E) event;
+      }
+    }
   }
 }
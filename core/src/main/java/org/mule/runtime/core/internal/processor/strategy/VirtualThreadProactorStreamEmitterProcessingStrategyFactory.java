@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+import static org.mule.runtime.core.internal.processor.strategy.VirtualThreadScheduler.isVirtualThreadsSupported;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Creates a processing strategy with the same behavior as {@link TransactionAwareProactorStreamEmitterProcessingStrategyFactory},
+ * except that {@link org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType#BLOCKING} and
+ * {@link org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType#IO_RW} processors are run on virtual threads
+ * instead of on the IO pool.
+ * <p>
+ * The amount of blocking processors running concurrently is limited with a semaphore to the {@code maxConcurrency} of the flow,
+ * or to {@link #VIRTUAL_THREADS_MAX_CONCURRENCY_PROPERTY} if the flow has none.
+ * <p>
+ * If the JVM doesn't support virtual threads, the IO pool is used.
+ * <p>
+ * It is selected for a flow with its {@code virtualThreads} attribute.
+ *
+ * @since 4.4
+ */
+public class VirtualThreadProactorStreamEmitterProcessingStrategyFactory
+    extends TransactionAwareProactorStreamEmitterProcessingStrategyFactory {
+
+  /**
+   * System property to set the maximum number of blocking processors running concurrently for flows without a
+   * {@code maxConcurrency}.
+   */
+  public static final String VIRTUAL_THREADS_MAX_CONCURRENCY_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "processingStrategy.virtualThreads.maxConcurrency";
+
+  private static final Logger LOGGER = getLogger(VirtualThreadProactorStreamEmitterProcessingStrategyFactory.class);
+
+  private static final int DEFAULT_MAX_CONCURRENCY = getInteger(VIRTUAL_THREADS_MAX_CONCURRENCY_PROPERTY, 1024);
+
+  @Override
+  protected Supplier<Scheduler> getBlockingSchedulerSupplier(MuleContext muleContext, String schedulersNamePrefix) {
+    if (!isVirtualThreadsSupported()) {
+      LOGGER.warn("Virtual threads are not supported by this JVM. Blocking processors of '{}' will run on the IO pool.",
+                  schedulersNamePrefix);
+      return super.getBlockingSchedulerSupplier(muleContext, schedulersNamePrefix);
+    }
+
+    final int maxConcurrency = getMaxConcurrency() == MAX_VALUE ? DEFAULT_MAX_CONCURRENCY : getMaxConcurrency();
+    return () -> VirtualThreadScheduler
+        .create(schedulersNamePrefix + "." + BLOCKING.name() + ".virtual",
+                muleContext.getSchedulerService()
+                    .cpuLightScheduler(muleContext.getSchedulerBaseConfig()
+                        .withName(schedulersNamePrefix + "." + BLOCKING.name() + ".timer")),
+                maxConcurrency,
+                muleContext.getConfiguration().getShutdownTimeout());
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.processor.strategy;
+
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link Scheduler} that runs each task on its own virtual thread, limiting the amount of tasks running concurrently with a
+ * {@link Semaphore} instead of with the size of a thread pool.
+ * <p>
+ * Tasks waiting for a permit park their virtual thread, so no platform thread is held while waiting. Delayed and periodic tasks
+ * are triggered by a separate timer {@link Scheduler} and then run on a virtual thread, also within the permits.
+ * <p>
+ * Virtual threads are only available on JDK 21+. {@link #isVirtualThreadsSupported()} has to be checked before creating instances
+ * with {@link #create(String, Scheduler, int, long)}.
+ *
+ * @since 4.4
+ */
+class VirtualThreadScheduler implements Scheduler {
+
+  private static final Logger LOGGER = getLogger(VirtualThreadScheduler.class);
+
+  private static final Supplier<ExecutorService> VIRTUAL_THREAD_EXECUTOR_FACTORY = resolveVirtualThreadExecutorFactory();
+
+  private final String name;
+  private final ExecutorService executor;
+  private final Scheduler timer;
+  private final Semaphore permits;
+  private final long shutdownTimeoutMillis;
+
+  VirtualThreadScheduler(String name, ExecutorService executor, Scheduler timer, int maxConcurrency,
+                         long shutdownTimeoutMillis) {
+    this.name = name;
+    this.executor = executor;
+    this.timer = timer;
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  /**
+   * @return whether the running JVM supports virtual threads.
+   */
+  static boolean isVirtualThreadsSupported() {
+    return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+  }
+
+  /**
+   * Creates a new scheduler backed by virtual threads.
+   *
+   * @param name                  the name of the scheduler
+   * @param timer                 the scheduler to trigger delayed and periodic tasks with. It is stopped along with this scheduler.
+   * @param maxConcurrency        the maximum number of tasks to run concurrently
+   * @param shutdownTimeoutMillis the time to wait for running tasks to finish when stopping
+   * @return the new scheduler
+   */
+  static VirtualThreadScheduler create(String name, Scheduler timer, int maxConcurrency, long shutdownTimeoutMillis) {
+    if (!isVirtualThreadsSupported()) {
+      throw new IllegalStateException("Virtual threads are not supported by this JVM");
+    }
+    return new VirtualThreadScheduler(name, VIRTUAL_THREAD_EXECUTOR_FACTORY.get(), timer, maxConcurrency, shutdownTimeoutMillis);
+  }
+
+  private static Supplier<ExecutorService> resolveVirtualThreadExecutorFactory() {
+    final Method factoryMethod;
+    try {
+      factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+
+    final Supplier<ExecutorService> factory = () -> {
+      try {
+        return (ExecutorService) factoryMethod.invoke(null);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+
+    try {
+      // On some JDK versions virtual threads are a preview feature, and the method fails if those are not enabled
+      factory.get().shutdown();
+      return factory;
+    } catch (Exception e) {
+      LOGGER.debug("Virtual threads are not available", e);
+      return null;
+    }
+  }
+
+  private Runnable limited(Runnable task) {
+    return () -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        return;
+      }
+      try {
+        task.run();
+      } finally {
+        permits.release();
+      }
+    };
+  }
+
+  private <T> Callable<T> limited(Callable<T> task) {
+    return () -> {
+      permits.acquire();
+      try {
+        return task.call();
+      } finally {
+        permits.release();
+      }
+    };
+  }
+
+  private <T> List<Callable<T>> limited(Collection<? extends Callable<T>> tasks) {
+    return tasks.stream().map(task -> limited(task)).collect(toList());
+  }
+
+  /**
+   * @return the number of tasks that may start running right away.
+   */
+  int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(limited(command));
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    return executor.submit(limited(task));
+  }
+
+  @Override
+  public <T> Future<T> submit(Runnable task, T result) {
+    return executor.submit(limited(task), result);
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    return executor.submit(limited(task));
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return timer.schedule(() -> execute(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    final FutureTask<V> task = new FutureTask<>(callable);
+    return new TriggeredScheduledFuture<>(timer.schedule(() -> execute(task), delay, unit), task);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return timer.scheduleAtFixedRate(() -> execute(command), initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return timer.scheduleWithFixedDelay(() -> execute(command), initialDelay, delay, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression) {
+    return timer.scheduleWithCronExpression(() -> execute(command), cronExpression);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithCronExpression(Runnable command, String cronExpression, TimeZone timeZone) {
+    return timer.scheduleWithCronExpression(() -> execute(command), cronExpression, timeZone);
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+    return executor.invokeAll(limited(tasks));
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    return executor.invokeAll(limited(tasks), timeout, unit);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+    return executor.invokeAny(limited(tasks));
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return executor.invokeAny(limited(tasks), timeout, unit);
+  }
+
+  @Override
+  public void stop() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(shutdownTimeoutMillis, MILLISECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      executor.shutdownNow();
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return executor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return "VirtualThreadScheduler{" + name + ", availablePermits=" + permits.availablePermits() + "}";
+  }
+
+  /**
+   * The result of a delayed {@link Callable}, which is triggered by the timer but run on a virtual thread.
+   */
+  private static final class TriggeredScheduledFuture<V> implements ScheduledFuture<V> {
+
+    private final ScheduledFuture<?> trigger;
+    private final FutureTask<V> task;
+
+    private TriggeredScheduledFuture(ScheduledFuture<?> trigger, FutureTask<V> task) {
+      this.trigger = trigger;
+      this.task = task;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return trigger.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return trigger.compareTo(other);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      trigger.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+}
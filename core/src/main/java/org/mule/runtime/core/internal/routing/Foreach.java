@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.routing;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
 import static org.mule.runtime.api.metadata.DataType.fromObject;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateTypedValueForStreaming;
 import static org.mule.runtime.core.internal.routing.ExpressionSplittingStrategy.DEFAULT_SPLIT_EXPRESSION;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.buildNewChainWithListOfProcessors;
@@ -53,6 +54,10 @@ import org.slf4j.Logger;
  * <p>
  * Defining a groupSize greater than one, allows iterating over collections of elements of the specified size.
  * <p>
+ * Defining a maxConcurrency greater than one, allows processing up to that many elements at the same time. Each element is
+ * processed with the variables as they were before the foreach, and their changes to the variables are applied in the order of
+ * the elements.
+ * <p>
  * The {@link CoreEvent} sent to the next message processor is the same that arrived to foreach.
  */
 public class Foreach extends AbstractMessageProcessorOwner implements Initialisable, Scope {
@@ -73,6 +78,7 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
   private List<Processor> messageProcessors;
   private String expression = DEFAULT_SPLIT_EXPRESSION;
   private int batchSize = 1;
+  private int maxConcurrency = 1;
   private SplittingStrategy<CoreEvent, Iterator<TypedValue<?>>> splittingStrategy;
 
   private MessageProcessorChain nestedChain;
@@ -84,6 +90,9 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
 
   @Override
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+    if (maxConcurrency > 1) {
+      return new OrderedConcurrentForeachRouter(this, expression, batchSize, maxConcurrency, nestedChain).apply(publisher);
+    }
     return new ForeachRouter(this, streamingManager, publisher, expression, batchSize, nestedChain).getDownstreamPublisher();
   }
 
@@ -112,6 +121,18 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     this.batchSize = batchSize;
   }
 
+  /**
+   * Set the maximum amount of elements to process at the same time.
+   *
+   * @param maxConcurrency
+   * @throws IllegalArgumentException if the value is zero or less.
+   * @since 4.4
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    checkArgument(maxConcurrency > 0, "Maximum concurrency must be one or more.");
+    this.maxConcurrency = maxConcurrency;
+  }
+
   public String getRootMessageVariableName() {
     return rootMessageVariableName;
   }
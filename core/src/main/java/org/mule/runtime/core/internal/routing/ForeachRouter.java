@@ -194,7 +194,7 @@ class ForeachRouter {
       }
 
       // Create ForEachContext
-      ForeachContext foreachContext = this.createForeachContext(event, typedValueIterator);
+      ForeachContext foreachContext = createForeachContext(owner, event, typedValueIterator);
 
       // TODO MULE-18174
       // Save it inside the internalParameters of the event
@@ -215,8 +215,8 @@ class ForeachRouter {
     return responseEvent;
   }
 
-  private CoreEvent createTypedValuePartToProcess(Foreach owner, CoreEvent event, ForeachContext foreachContext,
-                                                  TypedValue currentValue) {
+  static CoreEvent createTypedValuePartToProcess(Foreach owner, CoreEvent event, ForeachContext foreachContext,
+                                                 TypedValue currentValue) {
     Optional<ItemSequenceInfo> itemSequenceInfo = of(ItemSequenceInfo.of(foreachContext.getElementNumber().get()));
     // For each TypedValue part process the nested chain using the event from the previous part.
     CoreEvent.Builder partEventBuilder = CoreEvent.builder(event).itemSequenceInfo(itemSequenceInfo);
@@ -243,7 +243,7 @@ class ForeachRouter {
         .build();
   }
 
-  private ForeachContext createForeachContext(CoreEvent event, Iterator<TypedValue<?>> iterator) {
+  static ForeachContext createForeachContext(Foreach owner, CoreEvent event, Iterator<TypedValue<?>> iterator) {
     // Keep reference to existing rootMessage/count variables in order to restore later to support foreach nesting.
     Object previousCounterVar = event.getVariables().containsKey(owner.getCounterVariableName())
         ? event.getVariables().get(owner.getCounterVariableName()).getValue()
@@ -287,12 +287,13 @@ class ForeachRouter {
 
     final CoreEvent.Builder responseBuilder =
         builder(event).message(foreachContext.getOriginalMessage()).itemSequenceInfo(foreachContext.getItemSequenceInfo());
-    restoreVariables(foreachContext.getPreviousCounter(), foreachContext.getPreviousRootMessage(), responseBuilder);
+    restoreVariables(owner, foreachContext.getPreviousCounter(), foreachContext.getPreviousRootMessage(), responseBuilder);
 
     return eventWithCurrentContextDeleted(responseBuilder.build());
   }
 
-  private void restoreVariables(Object previousCounterVar, Object previousRootMessageVar, CoreEvent.Builder responseBuilder) {
+  static void restoreVariables(Foreach owner, Object previousCounterVar, Object previousRootMessageVar,
+                               CoreEvent.Builder responseBuilder) {
     // Restore original rootMessage/count variables.
     if (previousCounterVar != null) {
       responseBuilder.addVariable(owner.getCounterVariableName(), previousCounterVar, NUMBER);
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.metadata.DataType.MULE_MESSAGE;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.internal.routing.ForeachRouter.MAP_NOT_SUPPORTED_MESSAGE;
+import static org.mule.runtime.core.internal.routing.ForeachRouter.createForeachContext;
+import static org.mule.runtime.core.internal.routing.ForeachRouter.createTypedValuePartToProcess;
+import static org.mule.runtime.core.internal.routing.ForeachRouter.restoreVariables;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContextDontComplete;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Flux.fromIterable;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.fromCallable;
+import static reactor.core.publisher.Mono.just;
+
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.routing.outbound.EventBuilderConfigurer;
+import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Router for a {@link Foreach} with a {@code maxConcurrency} greater than one.
+ * <p>
+ * Up to {@code maxConcurrency} items of the collection are processed at the same time, each one exactly once. Every item is
+ * processed with its own copy of the variables as they were when the foreach started, so an item doesn't see the changes made by
+ * the items before it. The results are committed in the order of the items: the variables added, changed or removed by each item
+ * are applied to the event in that order, so when many items change the same variable, the change of the last one wins.
+ */
+class OrderedConcurrentForeachRouter {
+
+  private final Foreach owner;
+  private final String expression;
+  private final int batchSize;
+  private final int maxConcurrency;
+  private final MessageProcessorChain nestedChain;
+
+  OrderedConcurrentForeachRouter(Foreach owner, String expression, int batchSize, int maxConcurrency,
+                                 MessageProcessorChain nestedChain) {
+    this.owner = owner;
+    this.expression = expression;
+    this.batchSize = batchSize;
+    this.maxConcurrency = maxConcurrency;
+    this.nestedChain = nestedChain;
+  }
+
+  Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+    return from(publisher)
+        .flatMap(event -> from(iterate(event))
+            // Ensure reference to current event is maintained in MessagingException.
+            .onErrorMap(throwable -> !(throwable instanceof MessagingException),
+                        throwable -> new MessagingException(event, throwable, owner))
+            .onErrorStop());
+  }
+
+  private Publisher<CoreEvent> iterate(CoreEvent event) {
+    if (owner.validateExpression(event)) {
+      return error(new IllegalArgumentException(MAP_NOT_SUPPORTED_MESSAGE));
+    }
+
+    final CoreEvent rootEvent =
+        builder(event).addVariable(owner.getRootMessageVariableName(), event.getMessage(), MULE_MESSAGE).build();
+    final ForeachContext foreachContext;
+    try {
+      foreachContext = createForeachContext(owner, event, owner.splitRequest(rootEvent, expression));
+    } catch (Exception e) {
+      return error(new MessagingException(rootEvent, e, owner));
+    }
+
+    if (!foreachContext.getIterator().hasNext()) {
+      return just(event);
+    }
+
+    final AtomicReference<CoreEvent> committed = new AtomicReference<>(rootEvent);
+    return fromIterable(() -> new PartsIterator(foreachContext, rootEvent))
+        .flatMapSequential(this::process, maxConcurrency, 1)
+        .doOnNext(part -> {
+          part.onComplete.ifPresent(Runnable::run);
+          committed.set(applyChanges(committed.get(), part.event.getVariables(), part.result.getVariables()));
+        })
+        .then(fromCallable(() -> createResponseEvent(committed.get(), foreachContext)));
+  }
+
+  private Mono<Part> process(Part part) {
+    return Mono.from(processWithChildContextDontComplete(part.event, nestedChain, of(owner.getLocation())))
+        .map(result -> {
+          part.result = result;
+          return part;
+        });
+  }
+
+  /**
+   * Applies the variables added, changed or removed from {@code before} to {@code after} on top of the given event.
+   *
+   * @return the same event if there are no changes.
+   */
+  private static CoreEvent applyChanges(CoreEvent event, Map<String, TypedValue<?>> before, Map<String, TypedValue<?>> after) {
+    CoreEvent.Builder changed = null;
+
+    for (Entry<String, TypedValue<?>> variable : after.entrySet()) {
+      if (!variable.getValue().equals(before.get(variable.getKey()))) {
+        changed = changed == null ? builder(event) : changed;
+        changed.addVariable(variable.getKey(), variable.getValue());
+      }
+    }
+    for (String name : before.keySet()) {
+      if (!after.containsKey(name)) {
+        changed = changed == null ? builder(event) : changed;
+        changed.removeVariable(name);
+      }
+    }
+
+    return changed == null ? event : changed.build();
+  }
+
+  private CoreEvent createResponseEvent(CoreEvent committed, ForeachContext foreachContext) {
+    final CoreEvent.Builder responseBuilder = builder(committed)
+        .message(foreachContext.getOriginalMessage())
+        .itemSequenceInfo(foreachContext.getItemSequenceInfo());
+    restoreVariables(owner, foreachContext.getPreviousCounter(), foreachContext.getPreviousRootMessage(), responseBuilder);
+    return responseBuilder.build();
+  }
+
+  /**
+   * Lazily creates the event for each part of the collection, with the variables the foreach started with.
+   */
+  private class PartsIterator implements Iterator<Part> {
+
+    private final ForeachContext foreachContext;
+    private final CoreEvent rootEvent;
+
+    private PartsIterator(ForeachContext foreachContext, CoreEvent rootEvent) {
+      this.foreachContext = foreachContext;
+      this.rootEvent = rootEvent;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return foreachContext.getIterator().hasNext();
+    }
+
+    @Override
+    public Part next() {
+      final TypedValue currentValue = owner.setCurrentValue(batchSize, foreachContext, rootEvent);
+      final CoreEvent partEvent = createTypedValuePartToProcess(owner, rootEvent, foreachContext, currentValue);
+      return new Part(partEvent, currentValue.getValue() instanceof EventBuilderConfigurer
+          ? foreachContext.getOnComplete()
+          : empty());
+    }
+  }
+
+  private static final class Part {
+
+    private final CoreEvent event;
+    private final Optional<Runnable> onComplete;
+    private CoreEvent result;
+
+    private Part(CoreEvent event, Optional<Runnable> onComplete) {
+      this.event = event;
+      this.onComplete = onComplete;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.internal.routing.forkjoin.CollectListForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.routing.forkjoin.StreamingCollectListForkJoinStrategyFactory;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 
 import java.util.Iterator;
@@ -40,6 +41,9 @@ import javax.inject.Inject;
  * For advanced use cases, a custom {@link ForkJoinStrategyFactory} can be applied to customize the logic used to aggregate the
  * route responses back into one single Event.
  * <p>
+ * In streaming mode, the result is a repeatable iterator of the route results, handed out through the object streaming strategy
+ * of the application instead of as a list.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/BroadcastAggregate.html"<a/>
  * </p>
  *
@@ -55,6 +59,7 @@ public class ParallelForEach extends AbstractForkJoinRouter {
 
   private List<Processor> messageProcessors;
   private MessageProcessorChain nestedChain;
+  private boolean streaming;
 
   @Override
   public void initialise() throws InitialisationException {
@@ -95,9 +100,22 @@ public class ParallelForEach extends AbstractForkJoinRouter {
 
   @Override
   protected ForkJoinStrategyFactory getDefaultForkJoinStrategyFactory() {
+    if (streaming) {
+      return new StreamingCollectListForkJoinStrategyFactory(streamingManager, getLocation());
+    }
     return new CollectListForkJoinStrategyFactory(false);
   }
 
+  /**
+   * Set whether the route results should be handed out as a repeatable iterator instead of as a list.
+   *
+   * @param streaming whether the streaming mode is enabled.
+   * @since 4.4
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   /**
    * Set the expression used to split the incoming message.
    *
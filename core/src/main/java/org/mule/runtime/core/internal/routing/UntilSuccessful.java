@@ -25,6 +25,8 @@ import org.mule.runtime.core.api.processor.AbstractMuleObjectOwner;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.routing.UntilSuccessfulRouter.RetryContextInitializationException;
+import org.mule.runtime.core.internal.util.timer.ExponentialBackoff;
+import org.mule.runtime.core.internal.util.timer.WheelTimerProvider;
 import org.mule.runtime.core.privileged.processor.Scope;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 
@@ -54,8 +56,15 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
   @Inject
   private ConfigurationComponentLocator componentLocator;
 
+  @Inject
+  private WheelTimerProvider wheelTimerProvider;
+
   private String maxRetries = DEFAULT_RETRIES;
   private String millisBetweenRetries = DEFAULT_MILLIS_BETWEEN_RETRIES;
+  private double backoffMultiplier = 1;
+  private long maxMillisBetweenRetries = -1;
+  private double jitter = 0;
+  private ExponentialBackoff backoff;
   private MessageProcessorChain nestedChain;
   private Predicate<CoreEvent> shouldRetry;
   private Scheduler timer;
@@ -74,6 +83,7 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     super.initialise();
 
     timer = schedulerService.cpuLightScheduler();
+    backoff = new ExponentialBackoff(backoffMultiplier, maxMillisBetweenRetries, jitter);
     shouldRetry = event -> event.getError().isPresent();
 
     final Optional<ProcessingStrategy> processingStrategyFromRootContainer =
@@ -109,7 +119,7 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
   @Override
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
     return new UntilSuccessfulRouter(this, publisher, nestedChain, processingStrategy, expressionManager, shouldRetry, timer,
-                                     maxRetries, millisBetweenRetries)
+                                     maxRetries, millisBetweenRetries, backoff, wheelTimerProvider.getTimer())
                                          .getDownstreamPublisher();
   }
 
@@ -143,6 +153,32 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     this.millisBetweenRetries = millisBetweenRetries;
   }
 
+  /**
+   * @param backoffMultiplier the factor by which the time between retries grows on each retry. Default value is 1, for a fixed
+   *                          time between retries.
+   * @since 4.4
+   */
+  public void setBackoffMultiplier(double backoffMultiplier) {
+    this.backoffMultiplier = backoffMultiplier;
+  }
+
+  /**
+   * @param maxMillisBetweenRetries the maximum number of milliseconds between retries when using a backoff multiplier. A negative
+   *                                value means unbounded, which is the default.
+   * @since 4.4
+   */
+  public void setMaxMillisBetweenRetries(long maxMillisBetweenRetries) {
+    this.maxMillisBetweenRetries = maxMillisBetweenRetries;
+  }
+
+  /**
+   * @param jitter the fraction, between 0 and 1, by which the time between retries is randomly spread. Default value is 0.
+   * @since 4.4
+   */
+  public void setJitter(double jitter) {
+    this.jitter = jitter;
+  }
+
   /**
    * Configure the nested {@link Processor}'s that error handling and transactional behaviour should be applied to.
    *
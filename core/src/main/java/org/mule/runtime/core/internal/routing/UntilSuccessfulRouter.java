@@ -36,6 +36,9 @@ import org.mule.runtime.core.internal.event.EventInternalContextResolver;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.rx.FluxSinkRecorder;
 import org.mule.runtime.core.internal.util.rx.ConditionalExecutorServiceDecorator;
+import org.mule.runtime.core.internal.util.timer.ExponentialBackoff;
+import org.mule.runtime.core.internal.util.timer.HashedWheelTimer;
+import org.mule.runtime.core.internal.util.timer.WheelTimerExecutorServiceDecorator;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -73,6 +76,7 @@ class UntilSuccessfulRouter {
   private final Component owner;
   private final Predicate<CoreEvent> shouldRetry;
   private final ConditionalExecutorServiceDecorator delayScheduler;
+  private final ExponentialBackoff backoff;
 
   private final Flux<CoreEvent> upstreamFlux;
   private final Flux<CoreEvent> innerFlux;
@@ -97,10 +101,15 @@ class UntilSuccessfulRouter {
   UntilSuccessfulRouter(Component owner, Publisher<CoreEvent> publisher, Processor nestedChain,
                         ProcessingStrategy processingStrategy, ExtendedExpressionManager expressionManager,
                         Predicate<CoreEvent> shouldRetry, Scheduler delayScheduler,
-                        String maxRetries, String millisBetweenRetries) {
+                        String maxRetries, String millisBetweenRetries, ExponentialBackoff backoff,
+                        HashedWheelTimer delayTimer) {
     this.owner = owner;
     this.shouldRetry = shouldRetry;
-    this.delayScheduler = new ConditionalExecutorServiceDecorator(delayScheduler, s -> isTransactionActive());
+    // The delays are kept in a timer wheel, so that many events waiting for a retry don't load the scheduler
+    this.delayScheduler =
+        new ConditionalExecutorServiceDecorator(new WheelTimerExecutorServiceDecorator(delayScheduler, delayTimer),
+                                                s -> isTransactionActive());
+    this.backoff = backoff;
     this.retryContextResolver = new EventInternalContextResolver<>(RETRY_CTX_INTERNAL_PARAM_KEY,
                                                                    HashMap::new);
 
@@ -185,7 +194,8 @@ class UntilSuccessfulRouter {
 
         // Schedule retry with delay
         UntilSuccessfulRouter.this.delayScheduler.schedule(() -> innerRecorder.next(eventWithCurrentContext(ctx.event, ctx)),
-                                                           ctx.delayInMillis, MILLISECONDS);
+                                                           backoff.delayFor(ctx.delayInMillis, ctx.getAttemptNumber()),
+                                                           MILLISECONDS);
       } else { // Retries exhausted
         // Current context already pooped. No need to re-insert it
         LOGGER.error("Retry attempts exhausted. Failing...");
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.util.stream.Collectors.toMap;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.api.metadata.DataType.MULE_MESSAGE_MAP;
+import static org.mule.runtime.core.api.event.CoreEvent.builder;
+import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.defer;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.just;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
+
+import org.mule.runtime.api.message.ErrorType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Abstract {@link ForkJoinStrategy} for strategies that don't need to wait for every route to complete:
+ * <ul>
+ * <li>Emits a single result event as soon as the successful route results received so far are enough, as decided by
+ * {@link #select(List)}. The routes still being processed at that moment are cancelled.
+ * <li>Route errors never fail the whole strategy right away, since other routes may still complete it. If the routes are exhausted
+ * before that, a composite exception with the results of every route is thrown.
+ * <li>Merges variables of the selected results using a last-wins strategy.
+ * <li>Collects the selected results into a result {@link CoreEvent} with a {@link java.util.Map} of the route sequence number to
+ * its result {@link org.mule.runtime.api.message.Message}, in the order they completed.
+ * <li>Releases the streams of the successful results that are not part of the selection.
+ * </ul>
+ *
+ * @since 4.4
+ */
+public abstract class AbstractEarlyCompletionForkJoinStrategyFactory extends AbstractForkJoinStrategyFactory {
+
+  @Override
+  public ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
+                                                 long timeout, Scheduler timeoutScheduler, ErrorType timeoutErrorType) {
+    final reactor.core.scheduler.Scheduler reactorTimeoutScheduler = fromExecutorService(timeoutScheduler);
+    final RoutingPairsProcessor routingPairsProcessor = createRoutingPairsProcessor();
+    return (original, routingPairs) -> defer(() -> {
+      final List<CoreEvent> successes = new ArrayList<>();
+      final List<CoreEvent> failures = new ArrayList<>();
+      final List<CoreEvent> selected = new ArrayList<>();
+
+      return routingPairsProcessor.process(from(routingPairs).map(addSequence(new AtomicInteger())),
+                                           processRoutePair(processingStrategy, maxConcurrency, true, timeout,
+                                                            reactorTimeoutScheduler, timeoutErrorType),
+                                           maxConcurrency, reactorTimeoutScheduler)
+          .doOnNext(result -> {
+            if (result.getError().map(err -> !isOriginalError(err, original.getError())).orElse(false)) {
+              failures.add(result);
+            } else {
+              successes.add(removeOriginalError(result, original.getError()));
+              select(successes).ifPresent(selected::addAll);
+            }
+          })
+          // Completing early cancels the routes still being processed
+          .takeUntil(result -> !selected.isEmpty())
+          .then(defer(() -> {
+            if (selected.isEmpty()) {
+              successes.forEach(this::releaseResult);
+              final List<CoreEvent> results = new ArrayList<>(successes);
+              results.addAll(failures);
+              return error(createCompositeRoutingException(results));
+            }
+
+            successes.stream().filter(result -> !selected.contains(result)).forEach(this::releaseResult);
+            final CoreEvent.Builder resultBuilder = builder(original);
+            mergeVariables(original, resultBuilder).accept(selected);
+            return just(createResultEvent(original, resultBuilder).apply(selected));
+          }));
+    });
+  }
+
+  /**
+   * Template method that allows implementations to decide when each route is processed. It is called once for each created
+   * {@link ForkJoinStrategy}, so the returned processor may keep state about the routes of the router that strategy is for. The
+   * default implementation processes up to {@code maxConcurrency} routes at the same time.
+   *
+   * @return the processor of the routing pairs of the strategy being created.
+   */
+  protected RoutingPairsProcessor createRoutingPairsProcessor() {
+    return (routingPairs, processRoutePair, maxConcurrency, scheduler) -> routingPairs.flatMap(processRoutePair, maxConcurrency);
+  }
+
+  /**
+   * Template method to be implemented by implementations that decides whether the successful results received so far complete
+   * the strategy.
+   *
+   * @param successes the successful route results received so far, in the order they completed
+   * @return the results to aggregate into the result event, or {@link Optional#empty()} if more results are needed.
+   */
+  protected abstract Optional<List<CoreEvent>> select(List<CoreEvent> successes);
+
+  @Override
+  protected Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original, CoreEvent.Builder resultBuilder) {
+    return list -> resultBuilder
+        .message(of(list.stream().collect(toMap(event -> Integer.toString(event.getGroupCorrelation().get().getSequence()),
+                                                event -> event.getMessage(),
+                                                (a, b) -> b,
+                                                LinkedHashMap::new))))
+        .build();
+  }
+
+  @Override
+  public DataType getResultDataType() {
+    return MULE_MESSAGE_MAP;
+  }
+
+  /**
+   * Decides when each route of a {@link ForkJoinStrategy} is processed.
+   */
+  @FunctionalInterface
+  protected interface RoutingPairsProcessor {
+
+    /**
+     * @param routingPairs     the routing pairs, with their sequence already set
+     * @param processRoutePair the function that processes a routing pair
+     * @param maxConcurrency   the maximum amount of routes to process at the same time
+     * @param scheduler        a scheduler that implementations may use for timing
+     * @return the results of the routes, in the order they complete.
+     */
+    Flux<CoreEvent> process(Flux<RoutingPair> routingPairs, Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair,
+                            int maxConcurrency, reactor.core.scheduler.Scheduler scheduler);
+  }
+
+  /**
+   * Releases the stream in the payload of a route result that will not be part of the result event, if any.
+   */
+  private void releaseResult(CoreEvent result) {
+    final Object value = result.getMessage().getPayload().getValue();
+    if (value instanceof CursorProvider) {
+      ((CursorProvider) value).close();
+      ((CursorProvider) value).releaseResources();
+    } else if (value instanceof Closeable) {
+      closeQuietly((Closeable) value);
+    }
+  }
+}
@@ -13,7 +13,8 @@ import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.core.api.event.CoreEvent.builder;
 import static org.mule.runtime.core.internal.exception.ErrorHandlerContext.ERROR_HANDLER_CONTEXT;
 import static org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair.of;
-import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContextDontComplete;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChildContext;
+import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContext;
 import static reactor.core.Exceptions.propagate;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Mono.defer;
@@ -38,6 +39,7 @@ import org.mule.runtime.core.internal.message.ErrorBuilder;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategyFactory;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
 import org.mule.runtime.core.privileged.routing.RoutingResult;
 
@@ -112,11 +114,16 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
     };
   }
 
-  private boolean isOriginalError(Error newError, Optional<Error> originalError) {
+  /**
+   * @param newError      the error of a route result
+   * @param originalError the error of the event that was routed, if any
+   * @return whether {@code newError} was already present before routing.
+   */
+  protected boolean isOriginalError(Error newError, Optional<Error> originalError) {
     return originalError.map(error -> error.equals(newError)).orElse(false);
   }
 
-  private CoreEvent removeOriginalError(CoreEvent event, Optional<Error> originalError) {
+  protected CoreEvent removeOriginalError(CoreEvent event, Optional<Error> originalError) {
     return event.getError().map(err -> isOriginalError(err, originalError) ? CoreEvent.builder(event).error(null).build() : event)
         .orElse(event);
   }
@@ -132,23 +139,32 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
   protected abstract Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original,
                                                                             CoreEvent.Builder resultBuilder);
 
-  private Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
+  /**
+   * @param count the counter used to assign a sequence to each routing pair
+   * @return a function that sets the group correlation of the event of each routing pair.
+   */
+  protected Function<RoutingPair, RoutingPair> addSequence(AtomicInteger count) {
     return pair -> of(builder(pair.getEvent()).groupCorrelation(Optional.of(GroupCorrelation.of(count.getAndIncrement())))
         .build(), pair.getRoute());
   }
 
-  private Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair(ProcessingStrategy processingStrategy,
-                                                                                 int maxConcurrency,
-                                                                                 boolean delayErrors, long timeout,
-                                                                                 reactor.core.scheduler.Scheduler timeoutScheduler,
-                                                                                 ErrorType timeoutErrorType) {
+  /**
+   * Creates the function that processes each routing pair in a child context, applying the timeout and the error delaying
+   * behavior.
+   */
+  protected Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair(ProcessingStrategy processingStrategy,
+                                                                                   int maxConcurrency,
+                                                                                   boolean delayErrors, long timeout,
+                                                                                   reactor.core.scheduler.Scheduler timeoutScheduler,
+                                                                                   ErrorType timeoutErrorType) {
 
     return pair -> {
       ReactiveProcessor route = publisher -> from(publisher)
           .transform(pair.getRoute());
-      return from(processWithChildContextDontComplete(pair.getEvent(),
-                                                      applyProcessingStrategy(processingStrategy, route, maxConcurrency),
-                                                      empty()))
+      final BaseEventContext childContext = newChildContext(pair.getEvent(), empty());
+      return from(processWithChildContext(pair.getEvent(),
+                                          applyProcessingStrategy(processingStrategy, route, maxConcurrency),
+                                          childContext))
                                                           .timeout(ofMillis(timeout),
                                                                    onTimeout(processingStrategy, delayErrors, timeoutErrorType,
                                                                              pair),
@@ -158,8 +174,9 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
                                                                   .build())
                                                           .onErrorResume(MessagingException.class,
                                                                          me -> delayErrors ? just(me.getEvent()) : error(me))
-
-      ;
+                                                          // A cancelled route will not complete its context by itself, which
+                                                          // would keep the context of the original event from completing.
+                                                          .doOnCancel(() -> childContext.success());
     };
   }
 
@@ -196,7 +213,7 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
         + pair.getEvent().getGroupCorrelation().get().getSequence() + "'";
   }
 
-  private CompositeRoutingException createCompositeRoutingException(List<CoreEvent> results) {
+  protected CompositeRoutingException createCompositeRoutingException(List<CoreEvent> results) {
     Map<String, Message> successMap = new LinkedHashMap<>();
     Map<String, Error> errorMap = new LinkedHashMap<>();
 
@@ -211,7 +228,13 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
     return new CompositeRoutingException(new RoutingResult(successMap, errorMap));
   }
 
-  private Consumer<List<CoreEvent>> mergeVariables(CoreEvent original, CoreEvent.Builder result) {
+  /**
+   * @param original the original event
+   * @param result   the builder of the result event, where the merged variables are added
+   * @return a consumer that merges the variables of the given route results into the result event, if this factory was
+   *         configured to do so.
+   */
+  protected Consumer<List<CoreEvent>> mergeVariables(CoreEvent original, CoreEvent.Builder result) {
     return list -> {
       if (!mergeVariables) {
         return;
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}.
+ * <li>Emits a result event as soon as {@code count} routes complete successfully, cancelling the remaining routes.
+ * <li>Merges variables of those routes using a last-wins strategy.
+ * <li>Collects the results of those routes into a result {@link CoreEvent} with a {@link java.util.Map} of the route sequence
+ * number to its result {@link org.mule.runtime.api.message.Message}, in the order they completed.
+ * <li>Propagates a composite exception if the routes are exhausted before {@code count} of them complete successfully.
+ * </ul>
+ *
+ * @since 4.4
+ */
+public class FirstCompletedForkJoinStrategyFactory extends AbstractEarlyCompletionForkJoinStrategyFactory {
+
+  private int count = 1;
+
+  /**
+   * @param count the amount of routes that have to complete successfully. Must be one or more.
+   */
+  public void setCount(int count) {
+    checkArgument(count > 0, "count must be one or more.");
+    this.count = count;
+  }
+
+  @Override
+  protected Optional<List<CoreEvent>> select(List<CoreEvent> successes) {
+    return successes.size() >= count ? of(new ArrayList<>(successes)) : empty();
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.defer;
+import static reactor.core.publisher.Mono.delay;
+import static reactor.core.publisher.Mono.first;
+import static reactor.core.publisher.Mono.fromFuture;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * {@link ForkJoinStrategy} for redundant routes, that:
+ * <ul>
+ * <li>Starts with the first route only. Each following route is started if no route completed successfully within the hedge
+ * delay since the previous one was started, or right away if all the routes started before it failed. At most
+ * {@code maxConcurrency} routes are processed at the same time.
+ * <li>Uses as hedge delay the configured percentile of the latencies of the routes of the same router that completed
+ * successfully recently, or the configured {@code hedgeDelay} until there are enough of them.
+ * <li>Emits a result event as soon as a route completes successfully, cancelling the remaining routes.
+ * <li>Collects the result of that route into a result {@link CoreEvent} with a {@link java.util.Map} of the route sequence number
+ * to its result {@link org.mule.runtime.api.message.Message}.
+ * <li>Propagates a composite exception if every route fails.
+ * </ul>
+ *
+ * @since 4.4
+ */
+public class HedgedForkJoinStrategyFactory extends AbstractEarlyCompletionForkJoinStrategyFactory {
+
+  private static final int LATENCY_WINDOW_SIZE = 256;
+  private static final int MIN_LATENCY_SAMPLES = 16;
+
+  private long hedgeDelay = 100;
+  private int percentile = 95;
+
+  /**
+   * @param hedgeDelay the time in milliseconds to wait for a route before starting the next one, until there are enough latency
+   *                   samples to use the configured percentile instead.
+   */
+  public void setHedgeDelay(long hedgeDelay) {
+    checkArgument(hedgeDelay >= 0, "hedgeDelay must not be negative.");
+    this.hedgeDelay = hedgeDelay;
+  }
+
+  /**
+   * @param percentile the percentile of the recent route latencies to use as hedge delay, between 1 and 100.
+   */
+  public void setPercentile(int percentile) {
+    checkArgument(percentile > 0 && percentile <= 100, "percentile must be between 1 and 100.");
+    this.percentile = percentile;
+  }
+
+  @Override
+  protected RoutingPairsProcessor createRoutingPairsProcessor() {
+    // The latencies are those of the routes of the router the strategy is created for
+    final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+    return (routingPairs, processRoutePair, maxConcurrency, scheduler) -> hedge(routingPairs, processRoutePair, maxConcurrency,
+                                                                                scheduler, latencies);
+  }
+
+  private Flux<CoreEvent> hedge(Flux<RoutingPair> routingPairs,
+                                Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair,
+                                int maxConcurrency, Scheduler scheduler, LatencyWindow latencies) {
+    final Duration hedge = ofMillis(latencies.percentile(percentile).orElse(hedgeDelay));
+    final AtomicReference<CompletableFuture<Void>> lastStarted = new AtomicReference<>(completedFuture(null));
+    final Map<Long, CompletableFuture<Void>> failedRoutes = new ConcurrentHashMap<>();
+    final Function<Long, CompletableFuture<Void>> routesFailed =
+        count -> failedRoutes.computeIfAbsent(count, k -> new CompletableFuture<>());
+    final AtomicLong failed = new AtomicLong();
+
+    return routingPairs
+        .index()
+        .flatMap(indexed -> {
+          final long index = indexed.getT1();
+          final RoutingPair pair = indexed.getT2();
+          final CompletableFuture<Void> started = new CompletableFuture<>();
+          final CompletableFuture<Void> previousStarted = lastStarted.getAndSet(started);
+          final Mono<Void> start = index == 0
+              ? Mono.<Void>empty()
+              : first(fromFuture(previousStarted).then(delay(hedge, scheduler)).then(),
+                      fromFuture(routesFailed.apply(index)));
+
+          return start.then(defer(() -> {
+            started.complete(null);
+            final long startTime = nanoTime();
+            return from(processRoutePair.apply(pair))
+                .doOnNext(result -> {
+                  if (result.getError().map(err -> !isOriginalError(err, pair.getEvent().getError())).orElse(false)) {
+                    routesFailed.apply(failed.incrementAndGet()).complete(null);
+                  } else {
+                    latencies.record(NANOSECONDS.toMillis(nanoTime() - startTime));
+                  }
+                })
+                .next();
+          }));
+        }, maxConcurrency);
+  }
+
+  @Override
+  protected Optional<List<CoreEvent>> select(List<CoreEvent> successes) {
+    return of(singletonList(successes.get(0)));
+  }
+
+  /**
+   * Keeps the latest route latencies, to calculate percentiles over them.
+   */
+  private static final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    private LatencyWindow(int capacity) {
+      samples = new long[capacity];
+    }
+
+    private synchronized void record(long latency) {
+      samples[next] = latency;
+      next = (next + 1) % samples.length;
+      size = min(size + 1, samples.length);
+    }
+
+    private Optional<Long> percentile(int percentile) {
+      final long[] sorted;
+      synchronized (this) {
+        if (size < MIN_LATENCY_SAMPLES) {
+          return empty();
+        }
+        sorted = copyOf(samples, size);
+      }
+      sort(sorted);
+      return of(sorted[min(sorted.length - 1, (sorted.length * percentile + 99) / 100 - 1)]);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.api.util.IOUtils.toByteArray;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.api.streaming.object.CursorIterator;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}.
+ * <li>Emits a result event as soon as {@code quorum} routes complete successfully with equal results, cancelling the remaining
+ * routes.
+ * <li>Merges variables of the agreeing routes using a last-wins strategy.
+ * <li>Collects the results of the agreeing routes into a result {@link CoreEvent} with a {@link java.util.Map} of the route
+ * sequence number to its result {@link org.mule.runtime.api.message.Message}, in the order they completed.
+ * <li>Propagates a composite exception if the routes are exhausted before a quorum is reached.
+ * </ul>
+ * Results are compared by the value of the {@code key} expression evaluated on each of them, if set. Otherwise, they are compared
+ * by their payloads. Repeatable streams in the payloads are read into memory to compare their contents.
+ *
+ * @since 4.4
+ */
+public class QuorumForkJoinStrategyFactory extends AbstractEarlyCompletionForkJoinStrategyFactory {
+
+  @Inject
+  private ExpressionManager expressionManager;
+
+  private int quorum = 2;
+  private String key;
+
+  /**
+   * @param quorum the amount of routes that have to agree on the result. Must be one or more.
+   */
+  public void setQuorum(int quorum) {
+    checkArgument(quorum > 0, "quorum must be one or more.");
+    this.quorum = quorum;
+  }
+
+  /**
+   * @param key the expression whose value on each route result is compared to decide whether the routes agree. If not set, the
+   *            payloads of the results are compared.
+   */
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  @Override
+  protected Optional<List<CoreEvent>> select(List<CoreEvent> successes) {
+    // Only the last result may have completed a group that had not reached the quorum before
+    final Object latest = comparisonValue(successes.get(successes.size() - 1));
+    final List<CoreEvent> agreeing = successes.stream()
+        .filter(result -> Objects.equals(comparisonValue(result), latest))
+        .collect(toList());
+    return agreeing.size() >= quorum ? of(agreeing) : empty();
+  }
+
+  private Object comparisonValue(CoreEvent result) {
+    if (key != null) {
+      return expressionManager.evaluate(key, result).getValue();
+    }
+
+    final Object payload = result.getMessage().getPayload().getValue();
+    if (payload instanceof CursorStreamProvider) {
+      try (CursorStream cursor = ((CursorStreamProvider) payload).openCursor()) {
+        return wrap(toByteArray(cursor));
+      } catch (IOException e) {
+        throw new MuleRuntimeException(e);
+      }
+    } else if (payload instanceof CursorIteratorProvider) {
+      final List<Object> items = new ArrayList<>();
+      try (CursorIterator<?> cursor = ((CursorIteratorProvider) payload).openCursor()) {
+        cursor.forEachRemaining(items::add);
+      } catch (IOException e) {
+        throw new MuleRuntimeException(e);
+      }
+      return items;
+    } else if (payload instanceof byte[]) {
+      return wrap((byte[]) payload);
+    }
+    return payload;
+  }
+}
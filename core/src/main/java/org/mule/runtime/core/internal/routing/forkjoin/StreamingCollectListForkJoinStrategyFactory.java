@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.forkjoin;
+
+import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.api.util.StreamingUtils.streamingContent;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.streaming.object.CursorIteratorProvider;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link ForkJoinStrategy} that:
+ * <ul>
+ * <li>Performs parallel execution of route pairs subject to {@code maxConcurrency}, pulling the route pairs lazily.
+ * <li>Waits for the completion of all routes before emitting a result event, with an optional timeout.
+ * <li>Hands out the route result {@link Message}s, in the same order as the route pairs, as a repeatable
+ * {@link CursorIteratorProvider} created by the default object streaming strategy of the application, which is closed along with
+ * the event.
+ * <li>Will process all routes, regardless of errors, and propagating a composite exception where there were one or more errors.
+ * </ul>
+ * Variables set in the routes are not merged into the result event.
+ *
+ * @since 4.4
+ */
+public class StreamingCollectListForkJoinStrategyFactory extends AbstractForkJoinStrategyFactory {
+
+  private final StreamingManager streamingManager;
+  private final ComponentLocation location;
+
+  /**
+   * Creates a new instance
+   *
+   * @param streamingManager the manager of the cursor providers the results are handed out through
+   * @param location         the location of the router, used as the origin of the results
+   */
+  public StreamingCollectListForkJoinStrategyFactory(StreamingManager streamingManager, ComponentLocation location) {
+    super(false);
+    this.streamingManager = streamingManager;
+    this.location = location;
+  }
+
+  @Override
+  protected Function<List<CoreEvent>, CoreEvent> createResultEvent(CoreEvent original, CoreEvent.Builder resultBuilder) {
+    return list -> {
+      final Iterator<Message> results = list.stream().map(event -> event.getMessage()).collect(toList()).iterator();
+      return resultBuilder
+          .message(of(streamingContent(results, streamingManager.forObjects().getDefaultCursorProviderFactory(), original,
+                                       location)))
+          .build();
+    };
+  }
+
+  @Override
+  public DataType getResultDataType() {
+    return fromType(Iterator.class);
+  }
+}
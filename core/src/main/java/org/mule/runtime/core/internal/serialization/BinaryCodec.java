@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads instances of a given type in the format of the {@link BinarySerializationProtocol}.
+ * <p>
+ * Codecs are registered in the protocol with an id, which is what gets written instead of the class name of the serialized
+ * object.
+ *
+ * @param <T> the type of the objects handled by this codec
+ * @since 4.4
+ * @see BinarySerializationProtocol#registerCodec(int, Class, BinaryCodec)
+ */
+public interface BinaryCodec<T> {
+
+  /**
+   * Writes the state of the given {@code value}.
+   *
+   * @param value  the object to write, never {@code null}
+   * @param writer the writer to write the state to. Nested objects may be written with {@link BinaryWriter#writeObject(Object)}.
+   * @throws IOException if the state could not be written
+   */
+  void write(T value, BinaryWriter writer) throws IOException;
+
+  /**
+   * Reads an object previously written with {@link #write(Object, BinaryWriter)}.
+   *
+   * @param reader the reader to read the state from
+   * @return the read object
+   * @throws IOException if the state could not be read
+   */
+  T read(BinaryReader reader) throws IOException;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.Boolean.getBoolean;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.serialization.ObjectSerializer;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+
+/**
+ * Serializes objects with the {@link BinarySerializationProtocol} for the data the runtime persists itself, such as object stores,
+ * persistent queues and transaction journals. Objects serialized for other systems still use Java serialization.
+ * <p>
+ * Data previously persisted with {@link JavaObjectSerializer} can still be read, but data written by this serializer can't be read
+ * back by {@link JavaObjectSerializer}.
+ *
+ * @since 4.4
+ */
+public class BinaryObjectSerializer implements ObjectSerializer, MuleContextAware {
+
+  /**
+   * System property to use this serializer as the default one instead of {@link JavaObjectSerializer}.
+   */
+  public static final String BINARY_SERIALIZATION_PROPERTY = SYSTEM_PROPERTY_PREFIX + "serialization.binary";
+
+  private final BinarySerializationProtocol internalProtocol = new BinarySerializationProtocol();
+  private final JavaExternalSerializerProtocol externalProtocol = new JavaExternalSerializerProtocol();
+
+  /**
+   * @return a new {@link BinaryObjectSerializer} if {@link #BINARY_SERIALIZATION_PROPERTY} is set, or a
+   *         {@link JavaObjectSerializer} otherwise.
+   */
+  public static ObjectSerializer createDefaultObjectSerializer() {
+    return getBoolean(BINARY_SERIALIZATION_PROPERTY) ? new BinaryObjectSerializer() : new JavaObjectSerializer();
+  }
+
+  @Override
+  public BinarySerializationProtocol getInternalProtocol() {
+    return internalProtocol;
+  }
+
+  @Override
+  public SerializationProtocol getExternalProtocol() {
+    return externalProtocol;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    internalProtocol.setMuleContext(context);
+    externalProtocol.setMuleContext(context);
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.Double.longBitsToDouble;
+import static java.lang.Float.intBitsToFloat;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads values written by a {@link BinaryWriter} from an {@link InputStream}, reading ahead into a caller provided buffer.
+ *
+ * @since 4.4
+ */
+public final class BinaryReader {
+
+  private final BinarySerializationProtocol protocol;
+  private final InputStream in;
+  private final ClassLoader classLoader;
+  private final byte[] buffer;
+  private int position;
+  private int limit;
+
+  /**
+   * @param protocol    the protocol with the codecs to read objects with
+   * @param in          the stream to read from
+   * @param classLoader the {@link ClassLoader} to load the classes of the read objects with
+   * @param buffer      the buffer to read ahead into. It must not be used by anyone else until the reading is done, and must fit
+   *                    at least a double.
+   */
+  BinaryReader(BinarySerializationProtocol protocol, InputStream in, ClassLoader classLoader, byte[] buffer) {
+    this.protocol = protocol;
+    this.in = in;
+    this.classLoader = classLoader;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Reads an object written with {@link BinaryWriter#writeObject(Object)}.
+   *
+   * @return the read object, may be {@code null}
+   */
+  public <T> T readObject() throws IOException {
+    return (T) protocol.readValue(this);
+  }
+
+  /**
+   * @return the {@link ClassLoader} to use for loading the classes of the read objects.
+   */
+  public ClassLoader getClassLoader() {
+    return classLoader;
+  }
+
+  public int readByte() throws IOException {
+    require(1);
+    return buffer[position++] & 0xFF;
+  }
+
+  public boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  public int readVarInt() throws IOException {
+    int result = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      final int b = readByte();
+      result |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed variable length int");
+  }
+
+  public long readVarLong() throws IOException {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      final int b = readByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed variable length long");
+  }
+
+  public int readSignedVarInt() throws IOException {
+    final int value = readVarInt();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public long readSignedVarLong() throws IOException {
+    final long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public float readFloat() throws IOException {
+    require(4);
+    final int bits = (buffer[position] & 0xFF) << 24
+        | (buffer[position + 1] & 0xFF) << 16
+        | (buffer[position + 2] & 0xFF) << 8
+        | (buffer[position + 3] & 0xFF);
+    position += 4;
+    return intBitsToFloat(bits);
+  }
+
+  public double readDouble() throws IOException {
+    require(8);
+    long bits = 0;
+    for (int i = 0; i < 8; ++i) {
+      bits = (bits << 8) | (buffer[position++] & 0xFF);
+    }
+    return longBitsToDouble(bits);
+  }
+
+  public byte[] readBytes() throws IOException {
+    return readBytes(readVarInt());
+  }
+
+  public String readString() throws IOException {
+    final int length = readVarInt();
+    if (length > buffer.length) {
+      return new String(readBytes(length), UTF_8);
+    }
+
+    require(length);
+    final String value = new String(buffer, position, length, UTF_8);
+    position += length;
+    return value;
+  }
+
+  private byte[] readBytes(int length) throws IOException {
+    if (length < 0) {
+      throw new IOException("Negative array length: " + length);
+    }
+
+    final byte[] value = new byte[length];
+    int read = min(length, limit - position);
+    System.arraycopy(buffer, position, value, 0, read);
+    position += read;
+
+    while (read < length) {
+      final int count = in.read(value, read, length - read);
+      if (count < 0) {
+        throw new EOFException();
+      }
+      read += count;
+    }
+    return value;
+  }
+
+  /**
+   * Makes sure that at least {@code length} bytes are available in the buffer, reading from the stream as needed.
+   */
+  private void require(int length) throws IOException {
+    if (limit - position >= length) {
+      return;
+    }
+
+    System.arraycopy(buffer, position, buffer, 0, limit - position);
+    limit -= position;
+    position = 0;
+
+    while (limit < length) {
+      final int count = in.read(buffer, limit, buffer.length - limit);
+      if (count < 0) {
+        throw new EOFException();
+      }
+      limit += count;
+    }
+  }
+}
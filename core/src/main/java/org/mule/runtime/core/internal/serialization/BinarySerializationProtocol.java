@@ -0,0 +1,604 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.String.format;
+import static java.time.Instant.ofEpochSecond;
+import static java.util.Optional.of;
+import static org.mule.runtime.api.metadata.DataType.BOOLEAN;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.CURSOR_STREAM_PROVIDER;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.NUMBER;
+import static org.mule.runtime.api.metadata.DataType.OBJECT;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+import static org.mule.runtime.core.api.util.IOUtils.toByteArray;
+import static org.mule.runtime.core.internal.event.DefaultEventContext.restore;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.message.ItemSequenceInfo;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.FunctionDataType;
+import org.mule.runtime.api.metadata.MapDataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.security.SecurityContext;
+import org.mule.runtime.api.serialization.SerializationException;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.api.streaming.bytes.CursorStream;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.context.notification.FlowStackElement;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.context.notification.DefaultFlowCallStack;
+import org.mule.runtime.core.internal.event.DefaultEventContext;
+import org.mule.runtime.core.internal.message.InternalEvent;
+import org.mule.runtime.core.internal.message.InternalMessage;
+import org.mule.runtime.core.internal.util.store.PersistentObjectStorePartition.StoreValue;
+import org.mule.runtime.core.privileged.event.MuleSession;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.input.ClassLoaderObjectInputStream;
+
+/**
+ * Implementation of {@link SerializationProtocol} that writes objects in a compact binary format instead of using Java
+ * serialization.
+ * <p>
+ * {@link String}s, boxed primitives, byte arrays, {@link DataType}s, {@link TypedValue}s, {@link Message}s, {@link CoreEvent}s and
+ * their root {@link EventContext}s are written with specialized codecs that don't include class descriptors. Other types may be handled by
+ * registering a {@link BinaryCodec} for them with an id. Any other object is written with Java serialization, so it must be
+ * {@link Serializable}.
+ * <p>
+ * Streams produced by Java serialization can also be deserialized, so this protocol can read data persisted by
+ * {@link JavaExternalSerializerProtocol}.
+ *
+ * @since 4.4
+ */
+public class BinarySerializationProtocol extends AbstractSerializationProtocol {
+
+  /**
+   * The lowest id that can be used for codecs registered through {@link #registerCodec(int, Class, BinaryCodec)}. Lower ids are
+   * reserved for the codecs of the runtime.
+   */
+  public static final int FIRST_CUSTOM_CODEC_ID = 64;
+
+  private static final int MAGIC_0 = 'M';
+  private static final int MAGIC_1 = 'B';
+  private static final int VERSION = 1;
+
+  // First bytes of a stream written with Java serialization
+  private static final int JAVA_MAGIC_0 = 0xAC;
+  private static final int JAVA_MAGIC_1 = 0xED;
+
+  private static final int NULL = 0;
+  private static final int STRING_VALUE = 1;
+  private static final int INTEGER_VALUE = 2;
+  private static final int LONG_VALUE = 3;
+  private static final int TRUE_VALUE = 4;
+  private static final int FALSE_VALUE = 5;
+  private static final int DOUBLE_VALUE = 6;
+  private static final int FLOAT_VALUE = 7;
+  private static final int SHORT_VALUE = 8;
+  private static final int BYTE_VALUE = 9;
+  private static final int CHARACTER_VALUE = 10;
+  private static final int BYTES_VALUE = 11;
+  private static final int DATA_TYPE_VALUE = 12;
+  private static final int TYPED_VALUE_VALUE = 13;
+  private static final int MESSAGE_VALUE = 14;
+  private static final int EVENT_VALUE = 15;
+  private static final int REGISTERED_VALUE = 16;
+  private static final int JAVA_VALUE = 17;
+
+  private static final int STORE_VALUE_CODEC_ID = 1;
+  private static final int EVENT_CONTEXT_CODEC_ID = 2;
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  // Buffers for the writers and readers, reused by the serializations run by the same thread
+  private static final ThreadLocal<byte[]> WRITE_BUFFERS = new ThreadLocal<>();
+  private static final ThreadLocal<byte[]> READ_BUFFERS = new ThreadLocal<>();
+
+  // Data types written as their index in this array. New data types must be added at the end.
+  private static final DataType[] WELL_KNOWN_DATA_TYPES =
+      new DataType[] {STRING, OBJECT, BYTE_ARRAY, INPUT_STREAM, CURSOR_STREAM_PROVIDER, NUMBER, BOOLEAN};
+
+  private final Map<Class<?>, Registration<?>> codecsByType = new ConcurrentHashMap<>();
+  private final Map<Integer, Registration<?>> codecsById = new ConcurrentHashMap<>();
+
+  public BinarySerializationProtocol() {
+    doRegisterCodec(STORE_VALUE_CODEC_ID, StoreValue.class, new StoreValueCodec());
+    doRegisterCodec(EVENT_CONTEXT_CODEC_ID, DefaultEventContext.class, new EventContextCodec());
+  }
+
+  /**
+   * Registers a codec for the given type, so its instances are written with it instead of Java serialization.
+   * <p>
+   * Codecs are only used for instances of exactly the given type, not its subtypes. The id is written in place of the type, so
+   * it must not change once data has been serialized with it.
+   *
+   * @param id    the id of the codec, must be {@link #FIRST_CUSTOM_CODEC_ID} or greater
+   * @param type  the type of the objects handled by the codec
+   * @param codec the codec
+   * @param <T>   the type of the objects handled by the codec
+   * @throws IllegalArgumentException if there's already a codec with the given id or type
+   */
+  public <T> void registerCodec(int id, Class<T> type, BinaryCodec<T> codec) {
+    checkArgument(id >= FIRST_CUSTOM_CODEC_ID, format("Codec id must be %d or greater", FIRST_CUSTOM_CODEC_ID));
+    doRegisterCodec(id, type, codec);
+  }
+
+  private <T> void doRegisterCodec(int id, Class<T> type, BinaryCodec<T> codec) {
+    final Registration<T> registration = new Registration<>(id, codec);
+    checkArgument(codecsById.putIfAbsent(id, registration) == null, format("There's already a codec with id %d", id));
+    if (codecsByType.putIfAbsent(type, registration) != null) {
+      codecsById.remove(id);
+      throw new IllegalArgumentException(format("There's already a codec for type '%s'", type.getName()));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The object is written to the given stream as it is serialized, without serializing it to an intermediate array first.
+   */
+  @Override
+  public void serialize(Object object, OutputStream out) throws SerializationException {
+    try {
+      write(object, out);
+    } catch (SerializationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new SerializationException("Could not serialize object", e);
+    } finally {
+      closeQuietly(out);
+    }
+  }
+
+  @Override
+  protected byte[] doSerialize(Object object) throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(object, out);
+    return out.toByteArray();
+  }
+
+  private void write(Object object, OutputStream out) throws IOException {
+    final byte[] buffer = borrowBuffer(WRITE_BUFFERS);
+    try {
+      final BinaryWriter writer = new BinaryWriter(this, out, buffer);
+      writer.writeByte(MAGIC_0);
+      writer.writeByte(MAGIC_1);
+      writer.writeByte(VERSION);
+      writer.writeObject(object);
+      writer.flush();
+    } finally {
+      WRITE_BUFFERS.set(buffer);
+    }
+  }
+
+  @Override
+  protected <T> T doDeserialize(InputStream inputStream, ClassLoader classLoader) throws Exception {
+    final PushbackInputStream in = new PushbackInputStream(inputStream, 2);
+    final int magic0 = in.read();
+    final int magic1 = in.read();
+
+    if (magic0 == JAVA_MAGIC_0 && magic1 == JAVA_MAGIC_1) {
+      in.unread(new byte[] {(byte) magic0, (byte) magic1});
+      return (T) new ClassLoaderObjectInputStream(classLoader, in).readObject();
+    }
+    if (magic0 != MAGIC_0 || magic1 != MAGIC_1) {
+      throw new SerializationException("Stream was not written by a known serialization protocol");
+    }
+
+    final byte[] buffer = borrowBuffer(READ_BUFFERS);
+    try {
+      final BinaryReader reader = new BinaryReader(this, in, classLoader, buffer);
+      final int version = reader.readByte();
+      if (version != VERSION) {
+        throw new SerializationException(format("Unsupported binary serialization version %d", version));
+      }
+      return reader.readObject();
+    } finally {
+      READ_BUFFERS.set(buffer);
+    }
+  }
+
+  /**
+   * Takes the buffer of the current thread, so that a serialization nested in a codec gets a buffer of its own instead of
+   * sharing it.
+   */
+  private static byte[] borrowBuffer(ThreadLocal<byte[]> buffers) {
+    final byte[] buffer = buffers.get();
+    if (buffer == null) {
+      return new byte[BUFFER_SIZE];
+    }
+    buffers.remove();
+    return buffer;
+  }
+
+  void writeValue(Object value, BinaryWriter writer) throws IOException {
+    if (value == null) {
+      writer.writeByte(NULL);
+      return;
+    }
+
+    final Class<?> type = value.getClass();
+    if (type == String.class) {
+      writer.writeByte(STRING_VALUE);
+      writer.writeString((String) value);
+    } else if (type == Integer.class) {
+      writer.writeByte(INTEGER_VALUE);
+      writer.writeSignedVarInt((Integer) value);
+    } else if (type == Long.class) {
+      writer.writeByte(LONG_VALUE);
+      writer.writeSignedVarLong((Long) value);
+    } else if (type == Boolean.class) {
+      writer.writeByte((Boolean) value ? TRUE_VALUE : FALSE_VALUE);
+    } else if (type == Double.class) {
+      writer.writeByte(DOUBLE_VALUE);
+      writer.writeDouble((Double) value);
+    } else if (type == Float.class) {
+      writer.writeByte(FLOAT_VALUE);
+      writer.writeFloat((Float) value);
+    } else if (type == Short.class) {
+      writer.writeByte(SHORT_VALUE);
+      writer.writeSignedVarInt((Short) value);
+    } else if (type == Byte.class) {
+      writer.writeByte(BYTE_VALUE);
+      writer.writeByte((Byte) value);
+    } else if (type == Character.class) {
+      writer.writeByte(CHARACTER_VALUE);
+      writer.writeVarInt((Character) value);
+    } else if (type == byte[].class) {
+      writer.writeByte(BYTES_VALUE);
+      writer.writeBytes((byte[]) value);
+    } else if (codecsByType.containsKey(type)) {
+      final Registration registration = codecsByType.get(type);
+      writer.writeByte(REGISTERED_VALUE);
+      writer.writeVarInt(registration.id);
+      registration.codec.write(value, writer);
+    } else if (value instanceof InternalEvent) {
+      writer.writeByte(EVENT_VALUE);
+      writeEvent((InternalEvent) value, writer);
+    } else if (value instanceof Message && isPlainMessage((Message) value)) {
+      writer.writeByte(MESSAGE_VALUE);
+      writeMessage((Message) value, writer);
+    } else if (value instanceof TypedValue) {
+      writer.writeByte(TYPED_VALUE_VALUE);
+      writeTypedValue((TypedValue<?>) value, writer);
+    } else if (value instanceof DataType && isSimpleDataType((DataType) value)) {
+      writer.writeByte(DATA_TYPE_VALUE);
+      writeDataType((DataType) value, writer);
+    } else if (value instanceof CursorStreamProvider) {
+      writer.writeByte(BYTES_VALUE);
+      writer.writeBytes(toBytes((CursorStreamProvider) value));
+    } else {
+      writer.writeByte(JAVA_VALUE);
+      writeJavaValue(value, writer);
+    }
+  }
+
+  Object readValue(BinaryReader reader) throws IOException {
+    final int tag = reader.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case STRING_VALUE:
+        return reader.readString();
+      case INTEGER_VALUE:
+        return reader.readSignedVarInt();
+      case LONG_VALUE:
+        return reader.readSignedVarLong();
+      case TRUE_VALUE:
+        return true;
+      case FALSE_VALUE:
+        return false;
+      case DOUBLE_VALUE:
+        return reader.readDouble();
+      case FLOAT_VALUE:
+        return reader.readFloat();
+      case SHORT_VALUE:
+        return (short) reader.readSignedVarInt();
+      case BYTE_VALUE:
+        return (byte) reader.readByte();
+      case CHARACTER_VALUE:
+        return (char) reader.readVarInt();
+      case BYTES_VALUE:
+        return reader.readBytes();
+      case DATA_TYPE_VALUE:
+        return readDataType(reader);
+      case TYPED_VALUE_VALUE:
+        return readTypedValue(reader);
+      case MESSAGE_VALUE:
+        return readMessage(reader);
+      case EVENT_VALUE:
+        return readEvent(reader);
+      case REGISTERED_VALUE:
+        final int id = reader.readVarInt();
+        final Registration<?> registration = codecsById.get(id);
+        if (registration == null) {
+          throw new SerializationException(format("There's no codec registered with id %d", id));
+        }
+        return registration.codec.read(reader);
+      case JAVA_VALUE:
+        return readJavaValue(reader);
+      default:
+        throw new SerializationException(format("Unknown value tag %d", tag));
+    }
+  }
+
+  private void writeEvent(InternalEvent event, BinaryWriter writer) throws IOException {
+    writer.writeObject(event.getContext());
+    writer.writeObject(event.getMessage());
+
+    final Map<String, TypedValue<?>> variables = event.getVariables();
+    writer.writeVarInt(variables.size());
+    for (Entry<String, TypedValue<?>> variable : variables.entrySet()) {
+      writer.writeString(variable.getKey());
+      writeTypedValue(variable.getValue(), writer);
+    }
+
+    writer.writeObject(event.getError().orElse(null));
+
+    final ItemSequenceInfo itemSequenceInfo = event.getItemSequenceInfo().orElse(null);
+    writer.writeBoolean(itemSequenceInfo != null);
+    if (itemSequenceInfo != null) {
+      writer.writeSignedVarInt(itemSequenceInfo.getPosition());
+      final OptionalInt sequenceSize = itemSequenceInfo.getSequenceSize();
+      writer.writeBoolean(sequenceSize.isPresent());
+      if (sequenceSize.isPresent()) {
+        writer.writeSignedVarInt(sequenceSize.getAsInt());
+      }
+    }
+
+    writer.writeObject(event.getLegacyCorrelationId());
+    writer.writeObject(event.getSession());
+    writer.writeObject(event.getSecurityContext());
+    writer.writeBoolean(event.isNotificationsEnabled());
+  }
+
+  private CoreEvent readEvent(BinaryReader reader) throws IOException {
+    final EventContext context = reader.readObject();
+    final InternalEvent.Builder builder = InternalEvent.builder(context);
+    builder.message((Message) reader.readObject());
+
+    final int variables = reader.readVarInt();
+    for (int i = 0; i < variables; ++i) {
+      final String name = reader.readString();
+      builder.addVariable(name, readTypedValue(reader));
+    }
+
+    final Error error = reader.readObject();
+    if (error != null) {
+      builder.error(error);
+    }
+
+    if (reader.readBoolean()) {
+      final int position = reader.readSignedVarInt();
+      builder.itemSequenceInfo(of(reader.readBoolean()
+          ? ItemSequenceInfo.of(position, reader.readSignedVarInt())
+          : ItemSequenceInfo.of(position)));
+    }
+
+    final String legacyCorrelationId = reader.readObject();
+    if (legacyCorrelationId != null) {
+      builder.correlationId(legacyCorrelationId);
+    }
+    builder.session((MuleSession) reader.readObject());
+    builder.securityContext((SecurityContext) reader.readObject());
+    if (!reader.readBoolean()) {
+      builder.disableNotifications();
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Messages with legacy properties or attachments, or with values that need to be transformed to be serialized, are left to
+   * Java serialization.
+   */
+  private boolean isPlainMessage(Message message) {
+    if (!(message instanceof InternalMessage)) {
+      return false;
+    }
+
+    final InternalMessage internalMessage = (InternalMessage) message;
+    return isDirectlySerializable(internalMessage.getPayload().getValue())
+        && isDirectlySerializable(internalMessage.getAttributes().getValue())
+        && internalMessage.getInboundPropertyNames().isEmpty()
+        && internalMessage.getOutboundPropertyNames().isEmpty()
+        && internalMessage.getInboundAttachmentNames().isEmpty()
+        && internalMessage.getOutboundAttachmentNames().isEmpty();
+  }
+
+  private boolean isDirectlySerializable(Object value) {
+    return value == null || value instanceof Serializable || value instanceof CursorStreamProvider;
+  }
+
+  private void writeMessage(Message message, BinaryWriter writer) throws IOException {
+    writeTypedValue(message.getPayload(), writer);
+    writeTypedValue(message.getAttributes(), writer);
+  }
+
+  private Message readMessage(BinaryReader reader) throws IOException {
+    return Message.builder().payload(readTypedValue(reader)).attributes(readTypedValue(reader)).build();
+  }
+
+  private void writeTypedValue(TypedValue<?> typedValue, BinaryWriter writer) throws IOException {
+    Object value = typedValue.getValue();
+    DataType dataType = typedValue.getDataType();
+    OptionalLong length = typedValue.getByteLength();
+
+    // Same as Java serialization of messages, the contents of streams are serialized instead of the stream
+    if (value instanceof CursorStreamProvider) {
+      final byte[] bytes = toBytes((CursorStreamProvider) value);
+      value = bytes;
+      dataType = DataType.builder(BYTE_ARRAY).mediaType(dataType.getMediaType()).build();
+      length = OptionalLong.of(bytes.length);
+    }
+
+    writer.writeObject(value);
+    writer.writeObject(dataType);
+    writer.writeVarLong(length.isPresent() ? length.getAsLong() + 1 : 0);
+  }
+
+  private TypedValue<?> readTypedValue(BinaryReader reader) throws IOException {
+    final Object value = reader.readObject();
+    final DataType dataType = reader.readObject();
+    final long length = reader.readVarLong();
+    return new TypedValue<>(value, dataType, length > 0 ? OptionalLong.of(length - 1) : OptionalLong.empty());
+  }
+
+  /**
+   * Collection, map and function data types are left to Java serialization.
+   */
+  private boolean isSimpleDataType(DataType dataType) {
+    return !(dataType instanceof CollectionDataType || dataType instanceof MapDataType || dataType instanceof FunctionDataType);
+  }
+
+  private void writeDataType(DataType dataType, BinaryWriter writer) throws IOException {
+    for (int i = 0; i < WELL_KNOWN_DATA_TYPES.length; ++i) {
+      if (WELL_KNOWN_DATA_TYPES[i].equals(dataType)) {
+        writer.writeVarInt(i + 1);
+        return;
+      }
+    }
+
+    writer.writeVarInt(0);
+    writer.writeString(dataType.getType().getName());
+    writer.writeString(dataType.getMediaType().toRfcString());
+  }
+
+  private DataType readDataType(BinaryReader reader) throws IOException {
+    final int wellKnown = reader.readVarInt();
+    if (wellKnown > 0) {
+      return WELL_KNOWN_DATA_TYPES[wellKnown - 1];
+    }
+
+    final String typeName = reader.readString();
+    final String mediaType = reader.readString();
+    try {
+      // Also resolves primitive and array types
+      final Class<?> type = org.apache.commons.lang3.ClassUtils.getClass(reader.getClassLoader(), typeName, false);
+      return DataType.builder().type(type).mediaType(mediaType).build();
+    } catch (ClassNotFoundException e) {
+      throw new SerializationException(format("Could not load class '%s' of serialized data type", typeName), e);
+    }
+  }
+
+  private void writeJavaValue(Object value, BinaryWriter writer) throws IOException {
+    if (!(value instanceof Serializable)) {
+      throw new SerializationException(format("Was expecting a Serializable type. %s was found instead",
+                                              value.getClass().getName()));
+    }
+    writer.writeBytes(org.apache.commons.lang3.SerializationUtils.serialize((Serializable) value));
+  }
+
+  private Object readJavaValue(BinaryReader reader) throws IOException {
+    try (ClassLoaderObjectInputStream in =
+        new ClassLoaderObjectInputStream(reader.getClassLoader(), new ByteArrayInputStream(reader.readBytes()))) {
+      return in.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new SerializationException("Could not load class of serialized object", e);
+    }
+  }
+
+  private byte[] toBytes(CursorStreamProvider provider) throws IOException {
+    try (CursorStream cursor = provider.openCursor()) {
+      return toByteArray(cursor);
+    }
+  }
+
+  private static final class Registration<T> {
+
+    private final int id;
+    private final BinaryCodec<T> codec;
+
+    private Registration(int id, BinaryCodec<T> codec) {
+      this.id = id;
+      this.codec = codec;
+    }
+  }
+
+  /**
+   * Codec for root event contexts. The restored context keeps the identity of the serialized one, but starts its own completion
+   * lifecycle. Its originating location is written with Java serialization, since it is not a runtime type.
+   */
+  private static final class EventContextCodec implements BinaryCodec<DefaultEventContext> {
+
+    @Override
+    public void write(DefaultEventContext value, BinaryWriter writer) throws IOException {
+      writer.writeString(value.getId());
+      writer.writeObject(value.getServerId());
+      writer.writeObject(value.isCorrelationIdFromSource() ? value.getCorrelationId() : null);
+      writer.writeSignedVarLong(value.getReceivedTime().getEpochSecond());
+      writer.writeVarInt(value.getReceivedTime().getNano());
+      writer.writeObject(value.getOriginatingLocation());
+
+      // Elements are written from the bottom of the stack, so they are pushed in the same order when read
+      final List<FlowStackElement> elements = value.getFlowCallStack().getElements();
+      writer.writeVarInt(elements.size());
+      for (int i = elements.size() - 1; i >= 0; --i) {
+        writer.writeString(elements.get(i).getFlowName());
+        writer.writeObject(elements.get(i).getProcessorPath());
+      }
+    }
+
+    @Override
+    public DefaultEventContext read(BinaryReader reader) throws IOException {
+      final String id = reader.readString();
+      final String serverId = reader.readObject();
+      final String correlationId = reader.readObject();
+      final Instant receivedTime = ofEpochSecond(reader.readSignedVarLong(), reader.readVarInt());
+      final ComponentLocation location = reader.readObject();
+
+      final DefaultFlowCallStack flowCallStack = new DefaultFlowCallStack();
+      final int elements = reader.readVarInt();
+      for (int i = 0; i < elements; ++i) {
+        final String flowName = reader.readString();
+        flowCallStack.push(new FlowStackElement(flowName, reader.readObject()));
+      }
+
+      return restore(id, serverId, location, correlationId, receivedTime, flowCallStack);
+    }
+  }
+
+  /**
+   * Codec for the entries of persistent object stores.
+   */
+  private static final class StoreValueCodec implements BinaryCodec<StoreValue> {
+
+    @Override
+    public void write(StoreValue value, BinaryWriter writer) throws IOException {
+      writer.writeObject(value.getKey());
+      writer.writeObject(value.getValue());
+    }
+
+    @Override
+    public StoreValue read(BinaryReader reader) throws IOException {
+      final Serializable key = reader.readObject();
+      return new StoreValue<>(key, reader.readObject());
+    }
+  }
+}
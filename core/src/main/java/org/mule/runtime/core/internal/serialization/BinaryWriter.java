@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Float.floatToRawIntBits;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes values in the format of the {@link BinarySerializationProtocol} to a caller provided {@link OutputStream}.
+ * <p>
+ * Values are accumulated in a caller provided buffer that is written to the stream as it fills up, so serializing a large object
+ * graph doesn't require holding all of its bytes in memory. Integer values are written as variable length integers.
+ *
+ * @since 4.4
+ */
+public final class BinaryWriter {
+
+  private final BinarySerializationProtocol protocol;
+  private final OutputStream out;
+  private final byte[] buffer;
+  private int position;
+
+  /**
+   * @param protocol the protocol with the codecs to write objects with
+   * @param out      the stream to write to
+   * @param buffer   the buffer to accumulate values in before writing them to the stream. It must not be used by anyone else
+   *                 until the writer is {@link #flush() flushed}, and must fit at least a variable length long.
+   */
+  BinaryWriter(BinarySerializationProtocol protocol, OutputStream out, byte[] buffer) {
+    this.protocol = protocol;
+    this.out = out;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Writes any object, using the codec of the protocol for its type or falling back to Java serialization.
+   *
+   * @param value the object to write, may be {@code null}
+   */
+  public void writeObject(Object value) throws IOException {
+    protocol.writeValue(value, this);
+  }
+
+  public void writeByte(int value) throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  public void writeBoolean(boolean value) throws IOException {
+    writeByte(value ? 1 : 0);
+  }
+
+  /**
+   * Writes an int in 1 to 5 bytes, using less bytes for small positive values.
+   */
+  public void writeVarInt(int value) throws IOException {
+    ensureCapacity(5);
+    while ((value & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  /**
+   * Writes a long in 1 to 10 bytes, using less bytes for small positive values.
+   */
+  public void writeVarLong(long value) throws IOException {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  /**
+   * Writes an int in 1 to 5 bytes, using less bytes for values close to zero, either positive or negative.
+   */
+  public void writeSignedVarInt(int value) throws IOException {
+    writeVarInt((value << 1) ^ (value >> 31));
+  }
+
+  /**
+   * Writes a long in 1 to 10 bytes, using less bytes for values close to zero, either positive or negative.
+   */
+  public void writeSignedVarLong(long value) throws IOException {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  public void writeFloat(float value) throws IOException {
+    final int bits = floatToRawIntBits(value);
+    ensureCapacity(4);
+    buffer[position++] = (byte) (bits >>> 24);
+    buffer[position++] = (byte) (bits >>> 16);
+    buffer[position++] = (byte) (bits >>> 8);
+    buffer[position++] = (byte) bits;
+  }
+
+  public void writeDouble(double value) throws IOException {
+    final long bits = doubleToRawLongBits(value);
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (bits >>> shift);
+    }
+  }
+
+  /**
+   * Writes the length of the given array followed by its contents.
+   */
+  public void writeBytes(byte[] value) throws IOException {
+    writeVarInt(value.length);
+    writeRawBytes(value, 0, value.length);
+  }
+
+  /**
+   * Writes the given {@link String} as UTF-8. It must not be {@code null}, use {@link #writeObject(Object)} for nullable values.
+   */
+  public void writeString(String value) throws IOException {
+    final int length = value.length();
+    // Fast path for ASCII strings, avoiding the intermediate array of the encoded string
+    if (length < buffer.length && isAscii(value, length)) {
+      writeVarInt(length);
+      ensureCapacity(length);
+      for (int i = 0; i < length; ++i) {
+        buffer[position++] = (byte) value.charAt(i);
+      }
+    } else {
+      writeBytes(value.getBytes(UTF_8));
+    }
+  }
+
+  void writeRawBytes(byte[] value, int offset, int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+      if (length > buffer.length) {
+        out.write(value, offset, length);
+        return;
+      }
+    }
+    System.arraycopy(value, offset, buffer, position, length);
+    position += length;
+  }
+
+  /**
+   * Writes the buffered bytes to the underlying stream and flushes it.
+   */
+  void flush() throws IOException {
+    flushBuffer();
+    out.flush();
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+
+  private static boolean isAscii(String value, int length) {
+    for (int i = 0; i < length; ++i) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
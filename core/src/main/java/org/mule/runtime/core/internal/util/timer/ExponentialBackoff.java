@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.round;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calculates the delay before each retry of an operation, growing exponentially from a base delay up to a maximum and randomly
+ * spread by a jitter factor, so that many operations failing at the same time don't retry at the same time.
+ * <p>
+ * With a multiplier of 1 and no jitter, the delay is always the base delay.
+ *
+ * @since 4.4
+ */
+public final class ExponentialBackoff {
+
+  private final double multiplier;
+  private final long maxDelay;
+  private final double jitter;
+
+  /**
+   * @param multiplier the factor by which the delay grows on each attempt. Must be 1 or greater.
+   * @param maxDelay   the maximum delay, before applying the jitter. A negative value means unbounded.
+   * @param jitter     the fraction of the delay by which it is randomly spread, between 0 and 1.
+   */
+  public ExponentialBackoff(double multiplier, long maxDelay, double jitter) {
+    checkArgument(multiplier >= 1, "multiplier must be 1 or greater");
+    checkArgument(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+    this.multiplier = multiplier;
+    this.maxDelay = maxDelay;
+    this.jitter = jitter;
+  }
+
+  /**
+   * @param baseDelay the delay before the first retry
+   * @param attempt   the number of the retry about to be performed, starting at 1
+   * @return the delay before performing the given retry, in the same unit as {@code baseDelay}.
+   */
+  public long delayFor(long baseDelay, int attempt) {
+    double delay = baseDelay * pow(multiplier, max(0, attempt - 1));
+    if (maxDelay >= 0) {
+      delay = min(delay, maxDelay);
+    }
+    if (jitter > 0) {
+      delay += delay * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    }
+    return round(delay);
+  }
+
+  /**
+   * @return whether the delay is the same for every attempt.
+   */
+  public boolean isFixed() {
+    return multiplier == 1 && jitter == 0;
+  }
+}
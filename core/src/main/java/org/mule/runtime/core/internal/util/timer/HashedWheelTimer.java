@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+/**
+ * Timer that keeps its pending timeouts in a hashed wheel, so that scheduling and cancelling a timeout are constant time operations
+ * regardless of how many timeouts are pending.
+ * <p>
+ * A single task, running in the {@link ExecutorService} given on construction, advances the wheel one bucket each tick, expiring
+ * the timeouts of that bucket. The tasks of the expired timeouts are not run in that thread but dispatched to the {@link Executor}
+ * given when scheduling them, so the precision of the timer is the tick duration and the wheel thread is never blocked by a task.
+ * <p>
+ * This is meant for large amounts of delays that don't need precise timing, such as the delays between retries.
+ *
+ * @since 4.4
+ */
+public final class HashedWheelTimer {
+
+  private static final Logger LOGGER = getLogger(HashedWheelTimer.class);
+
+  private static final int STATE_CREATED = 0;
+  private static final int STATE_STARTED = 1;
+  private static final int STATE_STOPPED = 2;
+
+  // Bounds the time spent moving new timeouts into the wheel on each tick
+  private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+  private final String name;
+  private final ExecutorService workerExecutor;
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+
+  private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger state = new AtomicInteger(STATE_CREATED);
+  private final AtomicInteger pendingTimeouts = new AtomicInteger();
+  private volatile Future<?> worker;
+
+  private final long startTime = nanoTime();
+  private long tick;
+
+  /**
+   * Creates a new timer. Its task is submitted to the {@code workerExecutor} when the first timeout is scheduled, catching up
+   * with the ticks elapsed since the timer was created.
+   *
+   * @param name           the name of the timer
+   * @param tickDuration   the duration of each tick, which is the precision of the timer
+   * @param unit           the unit of {@code tickDuration}
+   * @param ticksPerWheel  the amount of buckets of the wheel, rounded up to a power of two
+   * @param workerExecutor the executor where the task that advances the wheel runs. It is kept busy until this timer is stopped.
+   */
+  public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, ExecutorService workerExecutor) {
+    checkArgument(tickDuration > 0, "tickDuration must be greater than 0");
+    checkArgument(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "ticksPerWheel must be between 1 and 2^30");
+
+    this.name = name;
+    this.workerExecutor = workerExecutor;
+    this.tickNanos = unit.toNanos(tickDuration);
+
+    int wheelSize = 1;
+    while (wheelSize < ticksPerWheel) {
+      wheelSize <<= 1;
+    }
+    this.wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; ++i) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheelSize - 1;
+  }
+
+  /**
+   * Schedules the given task to be dispatched to the given executor once the given delay elapses.
+   *
+   * @param task     the task to run
+   * @param delay    the time to wait before running the task
+   * @param unit     the unit of {@code delay}
+   * @param executor the executor where the task will be run
+   * @return the scheduled timeout, which can be used to cancel it.
+   * @throws RejectedExecutionException if this timer was stopped.
+   */
+  public Timeout newTimeout(Runnable task, long delay, TimeUnit unit, Executor executor) {
+    start();
+
+    final WheelTimeout timeout = new WheelTimeout(task, executor, nanoTime() - startTime + max(0, unit.toNanos(delay)));
+    pendingTimeouts.incrementAndGet();
+    newTimeouts.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * @return the amount of timeouts that were scheduled and are neither expired nor cancelled.
+   */
+  public int getPendingTimeouts() {
+    return pendingTimeouts.get();
+  }
+
+  /**
+   * Stops the task of this timer, releasing the thread of the worker executor. The pending timeouts are discarded without running
+   * their tasks.
+   */
+  public void stop() {
+    if (state.getAndSet(STATE_STOPPED) == STATE_STARTED && worker != null) {
+      worker.cancel(true);
+    }
+  }
+
+  private void start() {
+    switch (state.get()) {
+      case STATE_CREATED:
+        if (state.compareAndSet(STATE_CREATED, STATE_STARTED)) {
+          try {
+            worker = workerExecutor.submit(this::run);
+          } catch (RejectedExecutionException e) {
+            state.set(STATE_STOPPED);
+            throw e;
+          }
+          // The timer may have been stopped before the worker was set
+          if (state.get() == STATE_STOPPED) {
+            worker.cancel(true);
+          }
+        }
+        break;
+      case STATE_STARTED:
+        break;
+      default:
+        throw new RejectedExecutionException("Timer '" + name + "' was stopped");
+    }
+  }
+
+  private void run() {
+    while (state.get() == STATE_STARTED) {
+      final long deadline = waitForNextTick();
+      if (deadline < 0) {
+        break;
+      }
+
+      processCancelledTimeouts();
+      transferNewTimeouts();
+      wheel[(int) (tick & mask)].expireTimeouts(deadline);
+      ++tick;
+    }
+  }
+
+  /**
+   * @return the time of the tick the timer just reached, relative to the start time, or -1 if the timer was stopped meanwhile.
+   */
+  private long waitForNextTick() {
+    final long deadline = tickNanos * (tick + 1);
+
+    while (true) {
+      final long sleepMillis = NANOSECONDS.toMillis(deadline - (nanoTime() - startTime) + 999999);
+      if (sleepMillis <= 0) {
+        return deadline;
+      }
+
+      try {
+        Thread.sleep(sleepMillis);
+      } catch (InterruptedException e) {
+        if (state.get() == STATE_STOPPED) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  private void transferNewTimeouts() {
+    for (int i = 0; i < MAX_TRANSFERS_PER_TICK; ++i) {
+      final WheelTimeout timeout = newTimeouts.poll();
+      if (timeout == null) {
+        return;
+      }
+      if (timeout.isCancelled()) {
+        continue;
+      }
+
+      final long ticks = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (ticks - tick) / wheel.length;
+      // Timeouts whose deadline already passed are expired on the current tick
+      timeout.bucket = wheel[(int) (max(ticks, tick) & mask)];
+      timeout.bucket.add(timeout);
+    }
+  }
+
+  private void processCancelledTimeouts() {
+    WheelTimeout timeout;
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  /**
+   * A task scheduled in a {@link HashedWheelTimer}.
+   */
+  public interface Timeout {
+
+    /**
+     * Cancels this timeout, so its task is not run if it wasn't already.
+     *
+     * @return {@code true} if this timeout was cancelled by this call.
+     */
+    boolean cancel();
+
+    /**
+     * @return whether this timeout was cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * @return whether this timeout expired and its task was dispatched.
+     */
+    boolean isExpired();
+  }
+
+  private final class WheelTimeout implements Timeout {
+
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final Runnable task;
+    private final Executor executor;
+    private final long deadline;
+    private final AtomicInteger timeoutState = new AtomicInteger(ST_INIT);
+
+    // Only accessed by the worker thread
+    private long remainingRounds;
+    private Bucket bucket;
+    private WheelTimeout next;
+    private WheelTimeout prev;
+
+    private WheelTimeout(Runnable task, Executor executor, long deadline) {
+      this.task = task;
+      this.executor = executor;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!timeoutState.compareAndSet(ST_INIT, ST_CANCELLED)) {
+        return false;
+      }
+      pendingTimeouts.decrementAndGet();
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return timeoutState.get() == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return timeoutState.get() == ST_EXPIRED;
+    }
+
+    private void expire() {
+      if (!timeoutState.compareAndSet(ST_INIT, ST_EXPIRED)) {
+        return;
+      }
+      pendingTimeouts.decrementAndGet();
+
+      try {
+        executor.execute(task);
+      } catch (RejectedExecutionException e) {
+        LOGGER.warn("Task of an expired timeout of timer '{}' was rejected: {}", name, e.getMessage());
+      } catch (Throwable t) {
+        LOGGER.error("Exception dispatching the task of an expired timeout of timer '" + name + "'", t);
+      }
+    }
+  }
+
+  /**
+   * Doubly linked list of the timeouts in a slot of the wheel. Only accessed by the worker thread.
+   */
+  private static final class Bucket {
+
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    private void add(WheelTimeout timeout) {
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    private void expireTimeouts(long deadline) {
+      WheelTimeout timeout = head;
+      while (timeout != null) {
+        final WheelTimeout next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          if (timeout.deadline <= deadline) {
+            timeout.expire();
+          } else {
+            // Should not happen, since the bucket of a timeout is calculated from its deadline
+            throw new IllegalStateException("Timeout deadline (" + timeout.deadline + ") is after the tick deadline (" + deadline
+                + ")");
+          }
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+        } else {
+          --timeout.remainingRounds;
+        }
+        timeout = next;
+      }
+    }
+
+    private void remove(WheelTimeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      if (timeout == head) {
+        head = timeout.next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
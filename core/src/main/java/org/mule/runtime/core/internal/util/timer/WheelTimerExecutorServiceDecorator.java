@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.callable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.core.internal.util.timer.HashedWheelTimer.Timeout;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorator for a {@link ScheduledExecutorService} that keeps the delays of one-shot scheduled tasks in a {@link HashedWheelTimer}
+ * instead of the decorated executor, running the tasks in the decorated executor once their delay elapses.
+ * <p>
+ * Recurrent tasks and tasks without delay are handled by the decorated executor as usual.
+ *
+ * @since 4.4
+ */
+public class WheelTimerExecutorServiceDecorator implements ScheduledExecutorService {
+
+  private final ScheduledExecutorService delegate;
+  private final HashedWheelTimer timer;
+
+  /**
+   * @param executorService the executor to decorate, where the tasks will run
+   * @param timer           the timer to use for the delays of the scheduled tasks
+   */
+  public WheelTimerExecutorServiceDecorator(ScheduledExecutorService executorService, HashedWheelTimer timer) {
+    this.delegate = executorService;
+    this.timer = timer;
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    final WheelScheduledFuture<V> future = new WheelScheduledFuture<>(callable, nanoTime() + unit.toNanos(delay));
+    future.timeout = timer.newTimeout(future, delay, unit, delegate);
+    return future;
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return delegate.scheduleAtFixedRate(command, initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  @Override
+  public <T> Future<T> submit(Callable<T> task) {
+    return delegate.submit(task);
+  }
+
+  @Override
+  public <T> Future<T> submit(Runnable task, T result) {
+    return delegate.submit(task, result);
+  }
+
+  @Override
+  public Future<?> submit(Runnable task) {
+    return delegate.submit(task);
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+    return delegate.invokeAll(tasks);
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    return delegate.invokeAll(tasks, timeout, unit);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+    return delegate.invokeAny(tasks);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return delegate.invokeAny(tasks, timeout, unit);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    delegate.execute(command);
+  }
+
+  @Override
+  public String toString() {
+    return "WheelTimerExecutorServiceDecorator{" + delegate.toString() + "}";
+  }
+
+  private static final class WheelScheduledFuture<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+    private final long triggerTime;
+    private volatile Timeout timeout;
+
+    private WheelScheduledFuture(Callable<V> callable, long triggerTime) {
+      super(callable);
+      this.triggerTime = triggerTime;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(triggerTime - nanoTime(), NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return Long.compare(getDelay(NANOSECONDS), o.getDelay(NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      final boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled && timeout != null) {
+        timeout.cancel();
+      }
+      return cancelled;
+    }
+  }
+}
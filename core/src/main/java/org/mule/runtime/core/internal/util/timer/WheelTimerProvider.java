@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.timer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Provides the {@link HashedWheelTimer} shared by the components of an artifact.
+ * <p>
+ * The wheel of the timer is advanced in a custom scheduler of the artifact, which is stopped along with the timer when the
+ * artifact is disposed.
+ * <p>
+ * The amount of pending timeouts of the timer is published through {@link ApplicationStatistics#getPendingTimeouts()}.
+ *
+ * @since 4.4
+ */
+public class WheelTimerProvider implements Initialisable, Disposable, MuleContextAware {
+
+  private MuleContext muleContext;
+  private Scheduler scheduler;
+  private HashedWheelTimer timer;
+
+  @Override
+  public void initialise() throws InitialisationException {
+    scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig()
+        .withName("wheel.timer").withMaxConcurrentTasks(1).withShutdownTimeout(0, MILLISECONDS));
+    timer = new HashedWheelTimer("wheel.timer", 10, MILLISECONDS, 512, scheduler);
+    publishPendingTimeouts(timer::getPendingTimeouts);
+  }
+
+  @Override
+  public void dispose() {
+    if (scheduler != null) {
+      publishPendingTimeouts(() -> 0);
+      timer.stop();
+      scheduler.stop();
+      scheduler = null;
+    }
+  }
+
+  private void publishPendingTimeouts(IntSupplier pendingTimeouts) {
+    if (muleContext.getStatistics() == null) {
+      return;
+    }
+    FlowConstructStatistics applicationStatistics = muleContext.getStatistics().getApplicationStatistics();
+    if (applicationStatistics instanceof ApplicationStatistics) {
+      ((ApplicationStatistics) applicationStatistics).setPendingTimeouts(pendingTimeouts);
+    }
+  }
+
+  /**
+   * @return the timer of this artifact.
+   */
+  public HashedWheelTimer getTimer() {
+    return timer;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+}
@@ -31,4 +31,19 @@ public interface RevocationCheck {
    * @return the configured trust manager factory parameters
    */
   ManagerFactoryParameters configFor(KeyStore trustStore, Set<TrustAnchor> defaultTrustAnchors);
+
+  /**
+   * Configures trust store factory parameters for certificate revocation checking according to the method implementation. The
+   * key store is provided so that the revocation data for its certificate chains can be prepared along with the one for the
+   * trust store.
+   *
+   * @param trustStore the trust store configured for the corresponding TLS context
+   * @param keyStore the key store configured for the corresponding TLS context, or {@code null} if there is none
+   * @param defaultTrustAnchors the default trusted CAs from the JVM
+   * @return the configured trust manager factory parameters
+   * @since 4.4
+   */
+  default ManagerFactoryParameters configFor(KeyStore trustStore, KeyStore keyStore, Set<TrustAnchor> defaultTrustAnchors) {
+    return configFor(trustStore, defaultTrustAnchors);
+  }
 }
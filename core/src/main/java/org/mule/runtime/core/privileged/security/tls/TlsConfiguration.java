@@ -206,10 +206,11 @@ public final class TlsConfiguration extends AbstractComponent
     validate(anon);
 
 
+    KeyStore keyStore = null;
     if (!anon) {
-      initKeyManagerFactory();
+      keyStore = initKeyManagerFactory();
     }
-    initTrustManagerFactory();
+    initTrustManagerFactory(keyStore);
 
     tlsProperties.load(String.format(PROPERTIES_FILE_PATTERN, SecurityUtils.getSecurityModel()));
 
@@ -235,7 +236,7 @@ public final class TlsConfiguration extends AbstractComponent
     }
   }
 
-  private void initKeyManagerFactory() throws CreateException {
+  private KeyStore initKeyManagerFactory() throws CreateException {
     if (logger.isDebugEnabled()) {
       logger.debug("initialising key manager factory from keystore data");
     }
@@ -254,6 +255,7 @@ public final class TlsConfiguration extends AbstractComponent
     } catch (Exception e) {
       throw new CreateException(failedToLoad("Key Manager"), e, this);
     }
+    return tempKeyStore;
   }
 
   private KeyStore loadKeyStore() throws GeneralSecurityException, IOException {
@@ -312,7 +314,7 @@ public final class TlsConfiguration extends AbstractComponent
     }
   }
 
-  private void initTrustManagerFactory() throws CreateException {
+  private void initTrustManagerFactory(KeyStore keyStore) throws CreateException {
     if (null == trustStoreName && revocationCheck == null) {
       return;
     }
@@ -330,7 +332,7 @@ public final class TlsConfiguration extends AbstractComponent
       trustManagerFactory = TrustManagerFactory.getInstance(trustManagerAlgorithm);
 
       if (revocationEnabled) {
-        ManagerFactoryParameters tmfParams = revocationCheck.configFor(trustStore, getDefaultCaCerts());
+        ManagerFactoryParameters tmfParams = revocationCheck.configFor(trustStore, keyStore, getDefaultCaCerts());
         trustManagerFactory.init(tmfParams);
       } else {
         trustManagerFactory.init(trustStore);
@@ -13,7 +13,9 @@ import static java.util.Optional.of;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.http.policy.api.SourcePolicyAwareAttributes.noAttributes;
 
+import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.core.api.policy.ComponentAwarePointcut;
 import org.mule.runtime.core.api.policy.Policy;
 import org.mule.runtime.core.api.policy.PolicyParametrization;
 import org.mule.runtime.core.api.policy.PolicyProvider;
@@ -158,6 +160,16 @@ public class MuleApplicationPolicyProvider implements ApplicationPolicyProvider,
         .anyMatch(pip -> pip.getApplicationPolicyInstance().getOperationPolicy().isPresent());
   }
 
+  @Override
+  public boolean isOperationPoliciesAvailable(ComponentIdentifier operationIdentifier) {
+    return registeredPolicyInstanceProviders
+        .stream()
+        .map(RegisteredPolicyInstanceProvider::getApplicationPolicyInstance)
+        .filter(policyInstance -> policyInstance.getOperationPolicy().isPresent())
+        .anyMatch(policyInstance -> !(policyInstance.getPointcut() instanceof ComponentAwarePointcut)
+            || ((ComponentAwarePointcut) policyInstance.getPointcut()).mayMatch(operationIdentifier));
+  }
+
   @Override
   public void onPoliciesChanged(Runnable policiesChangedCallback) {
     this.policiesChangedCallback = () -> {
@@ -10,12 +10,14 @@ package org.mule.runtime.module.deployment.impl.internal.artifact;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.extension.MuleExtensionModelProvider;
 import org.mule.runtime.core.api.registry.SpiServiceRegistry;
 import org.mule.runtime.core.api.extension.RuntimeExtensionModelProvider;
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
@@ -64,6 +66,14 @@ public class ExtensionModelDiscoverer {
   public Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> discoverPluginsExtensionModels(ExtensionModelLoaderRepository loaderRepository,
                                                                                             List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
                                                                                             Set<ExtensionModel> parentArtifactExtensions) {
+    try (StartupPhase extensionModelsPhase = startPhase("extensionModels")) {
+      return doDiscoverPluginsExtensionModels(loaderRepository, artifactPlugins, parentArtifactExtensions);
+    }
+  }
+
+  private Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> doDiscoverPluginsExtensionModels(ExtensionModelLoaderRepository loaderRepository,
+                                                                                               List<Pair<ArtifactPluginDescriptor, ArtifactClassLoader>> artifactPlugins,
+                                                                                               Set<ExtensionModel> parentArtifactExtensions) {
     final Set<Pair<ArtifactPluginDescriptor, ExtensionModel>> descriptorsWithExtensions = new HashSet<>();
     artifactPlugins.forEach(artifactPlugin -> {
       Set<ExtensionModel> extensions = descriptorsWithExtensions.stream().map(Pair::getSecond).collect(toSet());
@@ -72,11 +82,14 @@ public class ExtensionModelDiscoverer {
       Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
       ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
       String artifactName = artifactPluginDescriptor.getName();
-      ExtensionModel extension = loaderDescriber
-          .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
-          .orElse(null);
+      ExtensionModel extension;
+      try (StartupPhase pluginPhase = startPhase("extensionModel: " + artifactName)) {
+        extension = loaderDescriber
+            .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
+                                                                    extensions, artifactClassloader,
+                                                                    artifactName))
+            .orElse(null);
+      }
       if (extension != null) {
         descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
       }
@@ -8,12 +8,14 @@ package org.mule.runtime.module.deployment.impl.internal.artifact;
 
 import static java.lang.String.format;
 import static org.mule.maven.client.api.MavenClientProvider.discoverProvider;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 import static org.mule.runtime.deployment.model.api.artifact.ArtifactDescriptorConstants.MULE_LOADER_ID;
 import static org.mule.runtime.globalconfig.api.GlobalConfigLoader.getMavenConfig;
 import org.mule.maven.client.api.MavenClient;
 import org.mule.maven.client.api.MavenClientProvider;
 import org.mule.maven.client.api.model.MavenConfiguration;
 import org.mule.runtime.core.api.config.bootstrap.ArtifactType;
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
 import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModel;
 import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModelLoader;
@@ -68,7 +70,7 @@ public class MavenClassLoaderModelLoader implements ClassLoaderModelLoader {
   public ClassLoaderModel load(File artifactFile, Map<String, Object> attributes, ArtifactType artifactType)
       throws InvalidDescriptorLoaderException {
     long stamp = lock.readLock();
-    try {
+    try (StartupPhase classLoaderModelPhase = startPhase("classLoaderModel: " + artifactFile.getName())) {
       MavenConfiguration updatedMavenConfiguration = getMavenConfig();
       if (!mavenRuntimeConfig.equals(updatedMavenConfiguration)) {
         long writeStamp = lock.tryConvertToWriteLock(stamp);
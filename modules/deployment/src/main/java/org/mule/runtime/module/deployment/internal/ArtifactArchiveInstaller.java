@@ -14,10 +14,12 @@ import static org.apache.commons.io.FileUtils.writeStringToFile;
 import static org.apache.commons.io.FilenameUtils.getBaseName;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.util.FileUtils.deleteTree;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
 import static org.mule.runtime.module.deployment.internal.MuleDeploymentService.ARTIFACT_ANCHOR_SUFFIX;
 
 import org.mule.runtime.core.api.util.FileUtils;
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.deployment.model.api.DeploymentException;
 import org.mule.runtime.deployment.model.api.DeploymentInitException;
 
@@ -68,7 +70,7 @@ public class ArtifactArchiveInstaller {
     File artifactDir = null;
     boolean errorEncountered = false;
     String artifactName;
-    try {
+    try (StartupPhase installPhase = startPhase("install")) {
       final String fullPath = artifactFile.getAbsolutePath();
 
       if (logger.isInfoEnabled()) {
@@ -18,10 +18,14 @@ import static org.apache.commons.lang3.StringUtils.removeEndIgnoreCase;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getAppDataFolder;
 import static org.mule.runtime.core.api.util.ExceptionUtils.containsType;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.removeProfile;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startArtifact;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 import static org.mule.runtime.core.internal.logging.LogUtil.log;
 import static org.mule.runtime.core.internal.util.splash.SplashScreen.miniSplash;
 import static org.mule.runtime.module.deployment.impl.internal.util.DeploymentPropertiesUtils.resolveDeploymentProperties;
 
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.deployment.model.api.DeployableArtifact;
 import org.mule.runtime.deployment.model.api.DeployableArtifactDescriptor;
 import org.mule.runtime.deployment.model.api.DeploymentException;
@@ -108,6 +112,8 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
   @Override
   public void undeployArtifact(String artifactId) {
     this.undeployArtifact(artifactId, true);
+    // Not done in the private method, that is also used when redeploying while the new deployment is being profiled
+    removeProfile(artifactId);
   }
 
   private void undeployArtifact(String artifactId, boolean removeData) {
@@ -210,6 +216,14 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
       logger.debug("================== New Exploded Artifact: " + addedApp);
     }
 
+    try (StartupPhase deploymentPhase = startArtifact(addedApp)) {
+      T artifact = createExplodedArtifact(addedApp, deploymentProperties);
+      deployArtifact(artifact, deploymentProperties);
+      return artifact;
+    }
+  }
+
+  private T createExplodedArtifact(String addedApp, Optional<Properties> deploymentProperties) throws DeploymentException {
     T artifact;
     try {
       File artifactLocation = new File(artifactDir, addedApp);
@@ -240,7 +254,6 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
       }
     }
 
-    deployArtifact(artifact, deploymentProperties);
     return artifact;
   }
 
@@ -334,9 +347,11 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
   }
 
   private T createArtifact(File artifactLocation, Optional<Properties> appProperties) throws IOException {
-    T artifact = artifactFactory.createArtifact(artifactLocation, appProperties);
-    artifact.setMuleContextListener(muleContextListenerFactory.create(artifact.getArtifactName()));
-    return artifact;
+    try (StartupPhase createPhase = startPhase("create")) {
+      T artifact = artifactFactory.createArtifact(artifactLocation, appProperties);
+      artifact.setMuleContextListener(muleContextListenerFactory.create(artifact.getArtifactName()));
+      return artifact;
+    }
   }
 
   private static boolean allResourcesExist(File[] resourceFiles) {
@@ -417,6 +432,15 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
       }
     }
 
+    try (StartupPhase deploymentPhase = startArtifact(artifactName)) {
+      doRedeploy(artifactName, artifactLocation, artifactDescriptor, deploymentProperties);
+    }
+  }
+
+  private void doRedeploy(String artifactName, File artifactLocation, DeployableArtifactDescriptor artifactDescriptor,
+                          Optional<Properties> deploymentProperties)
+      throws DeploymentException {
+    T artifact = null;
     deploymentListener.onDeploymentStart(artifactName);
     try {
       artifact = createArtifact(artifactLocation,
@@ -466,7 +490,9 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
       trackArtifact(artifact);
 
       deploymentListener.onDeploymentStart(artifact.getArtifactName());
-      deployer.deploy(artifact, shouldStartArtifact(artifact, deploymentProperties.orElse(null)));
+      try (StartupPhase deployPhase = startPhase("deploy")) {
+        deployer.deploy(artifact, shouldStartArtifact(artifact, deploymentProperties.orElse(null)));
+      }
 
       artifactArchiveInstaller.createAnchorFile(artifact.getArtifactName());
       deploymentListener.onDeploymentSuccess(artifact.getArtifactName());
@@ -514,7 +540,7 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
     // check if this artifact is running first, undeployArtifact it then
     T artifact = findArtifact(artifactName);
     boolean isRedeploy = artifact != null;
-    try {
+    try (StartupPhase deploymentPhase = startArtifact(artifactName)) {
       if (isRedeploy) {
         deploymentListener.onRedeploymentStart(artifactName);
         deploymentTemplate.preRedeploy(artifact);
@@ -11,7 +11,9 @@ import static java.lang.String.format;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_ENABLE_XML_VALIDATIONS_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.deployment.model.api.DeployableArtifact;
 import org.mule.runtime.deployment.model.api.DeploymentException;
 
@@ -27,10 +29,16 @@ public class DefaultArtifactDeployer<T extends DeployableArtifact> implements Ar
   @Override
   public void deploy(T artifact, boolean startArtifact) {
     try {
-      artifact.install();
-      doInit(artifact);
+      try (StartupPhase installPhase = startPhase("installArtifact")) {
+        artifact.install();
+      }
+      try (StartupPhase initPhase = startPhase("initialise")) {
+        doInit(artifact);
+      }
       if (startArtifact) {
-        artifact.start();
+        try (StartupPhase startingPhase = startPhase("start")) {
+          artifact.start();
+        }
       }
     } catch (Throwable t) {
       artifact.dispose();
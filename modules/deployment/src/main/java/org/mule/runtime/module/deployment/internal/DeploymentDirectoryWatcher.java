@@ -89,7 +89,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ReentrantLock deploymentLock;
-  private final ArchiveDeployer<Domain> domainArchiveDeployer;
+  protected final ArchiveDeployer<Domain> domainArchiveDeployer;
   protected final ArchiveDeployer<Application> applicationArchiveDeployer;
   protected final Supplier<SchedulerService> schedulerServiceSupplier;
   private final ArtifactTimestampListener<Application> applicationTimestampListener;
@@ -305,21 +305,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
 
       redeployModifiedApplications();
 
-      // list new apps
-      String[] apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
-
-      final String[] appZips = appsDir.list(JAR_ARTIFACT_FILTER);
-
-      deployPackedApps(appZips);
-
-      // re-scan exploded apps and update our state, as deploying Mule app archives might have added some
-      if (appZips.length > 0 || dirty) {
-        apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
-      }
-
-      // Sorts apps to ensure they are always deployed in the same order
-      sort(apps);
-      deployExplodedApps(apps);
+      deployApps(appsDir.list(JAR_ARTIFACT_FILTER));
     } catch (Exception e) {
       // preserve the flag for the thread
       Thread.currentThread().interrupt();
@@ -331,6 +317,27 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
+  /**
+   * Deploys the packaged applications and then the exploded ones that are found in the applications folder.
+   *
+   * @param appZips names of the packaged applications found in the applications folder.
+   */
+  protected void deployApps(String[] appZips) {
+    // list new apps
+    String[] apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
+
+    deployPackedApps(appZips);
+
+    // re-scan exploded apps and update our state, as deploying Mule app archives might have added some
+    if (appZips.length > 0 || dirty) {
+      apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
+    }
+
+    // Sorts apps to ensure they are always deployed in the same order
+    sort(apps);
+    deployExplodedApps(apps);
+  }
+
   private void deployDomainBundles() {
     final String[] domainBundles = domainsDir.list(ZIP_ARTIFACT_FILTER);
 
@@ -409,7 +416,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return anchors;
   }
 
-  private void deployExplodedDomains(String[] domains) {
+  protected void deployExplodedDomains(String[] domains) {
     for (String addedDomain : domains) {
       try {
         if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
@@ -421,7 +428,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
-  private void deployPackedDomains(String[] zips) {
+  protected void deployPackedDomains(String[] zips) {
     for (String zip : zips) {
       try {
         domainArchiveDeployer.deployPackagedArtifact(zip, empty());
@@ -8,6 +8,7 @@ package org.mule.runtime.module.deployment.internal;
 
 import static java.lang.String.format;
 import static java.lang.System.getProperties;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -18,6 +19,7 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getAppsFolder;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getDomainsFolder;
+import static org.mule.runtime.core.internal.management.startup.StartupProfilerMBean.DEFAULT_JMX_NAME;
 import static org.mule.runtime.module.deployment.internal.ArtifactDeploymentTemplate.NOP_ARTIFACT_DEPLOYMENT_TEMPLATE;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
 import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.DEPLOYMENT_APPLICATION_PROPERTY;
@@ -27,6 +29,7 @@ import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.service.Service;
 import org.mule.runtime.api.service.ServiceRepository;
 import org.mule.runtime.api.util.Preconditions;
+import org.mule.runtime.core.internal.management.startup.StartupProfilerService;
 import org.mule.runtime.deployment.model.api.DeploymentException;
 import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.domain.Domain;
@@ -53,6 +56,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.FileFileFilter;
 import org.apache.commons.io.filefilter.IOFileFilter;
@@ -141,6 +147,8 @@ public class MuleDeploymentService implements DeploymentService {
         new StartupSummaryDeploymentListener(deploymentStatusTracker, this);
     addStartupListener(summaryDeploymentListener);
 
+    registerStartupProfiler();
+
     deploymentDirectoryWatcher.start();
 
     notifyStartupListeners();
@@ -159,6 +167,32 @@ public class MuleDeploymentService implements DeploymentService {
   @Override
   public void stop() {
     deploymentDirectoryWatcher.stop();
+
+    unregisterStartupProfiler();
+  }
+
+  private void registerStartupProfiler() {
+    try {
+      MBeanServer mBeanServer = getPlatformMBeanServer();
+      ObjectName name = new ObjectName(DEFAULT_JMX_NAME);
+      if (!mBeanServer.isRegistered(name)) {
+        mBeanServer.registerMBean(new StartupProfilerService(), name);
+      }
+    } catch (Exception e) {
+      logger.warn("Unable to register the startup profiler MBean", e);
+    }
+  }
+
+  private void unregisterStartupProfiler() {
+    try {
+      MBeanServer mBeanServer = getPlatformMBeanServer();
+      ObjectName name = new ObjectName(DEFAULT_JMX_NAME);
+      if (mBeanServer.isRegistered(name)) {
+        mBeanServer.unregisterMBean(name);
+      }
+    } catch (Exception e) {
+      logger.warn("Unable to unregister the startup profiler MBean", e);
+    }
   }
 
   @Override
@@ -7,31 +7,60 @@
 
 package org.mule.runtime.module.deployment.internal;
 
-import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static java.lang.Integer.getInteger;
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.sort;
 import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.commons.lang3.StringUtils.removeEndIgnoreCase;
+import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
 
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.util.func.CheckedRunnable;
 import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.domain.Domain;
 import org.mule.runtime.module.deployment.internal.util.ObservableList;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+import org.apache.commons.io.filefilter.DirectoryFileFilter;
+
 /**
- * Provides parallel deployment of Mule applications.
+ * Provides parallel deployment of Mule artifacts.
+ * <p>
+ * Artifacts are deployed following their dependencies: domains do not depend on each other, so all of them are deployed
+ * concurrently, and then all the applications, which depend only on their already deployed domain, are deployed concurrently.
+ * Packaged and exploded applications are deployed in the same batch, so exploding the archives of some applications overlaps
+ * with the creation of the class loaders and contexts of the others.
+ * <p>
+ * The number of artifacts deployed at the same time is bounded by {@link #PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY}.
  *
  * @since 3.8.2
  */
 public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatcher {
 
-  private Scheduler threadPoolExecutor;
+  /**
+   * Maximum number of artifacts to deploy concurrently.
+   *
+   * @since 4.4
+   */
+  public static final String PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "deployment.parallel.maxConcurrency";
+
+  private static final int DEFAULT_PARALLEL_DEPLOYMENT_MAX_CONCURRENCY = 20;
+
+  private final int maxConcurrency;
 
   public ParallelDeploymentDirectoryWatcher(
                                             DomainBundleArchiveDeployer domainBundleDeployer,
@@ -41,55 +70,83 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
                                             Supplier<SchedulerService> schedulerServiceSupplier, ReentrantLock deploymentLock) {
     super(domainBundleDeployer, domainArchiveDeployer, applicationArchiveDeployer, domains, applications,
           schedulerServiceSupplier, deploymentLock);
+    this.maxConcurrency = getInteger(PARALLEL_DEPLOYMENT_MAX_CONCURRENCY_PROPERTY, DEFAULT_PARALLEL_DEPLOYMENT_MAX_CONCURRENCY);
   }
 
   @Override
-  protected void deployPackedApps(String[] zips) {
-    if (zips.length == 0) {
-      return;
-    }
-
+  protected void deployPackedDomains(String[] zips) {
     List<Callable<Object>> tasks = new ArrayList<>(zips.length);
     for (final String zip : zips) {
-      tasks.add(() -> {
-        try {
-          applicationArchiveDeployer.deployPackagedArtifact(zip, empty());
-        } catch (Exception e) {
-          // Ignore and continue
-        }
-        return null;
-      });
+      tasks.add(timedDeployment("domain", removeEndIgnoreCase(zip, JAR_FILE_SUFFIX),
+                                () -> domainArchiveDeployer.deployPackagedArtifact(zip, empty())));
     }
 
     waitForTasksToFinish(tasks);
   }
 
+  @Override
+  protected void deployExplodedDomains(String[] domains) {
+    List<Callable<Object>> tasks = new ArrayList<>(domains.length);
+    for (final String addedDomain : domains) {
+      if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
+        tasks.add(timedDeployment("domain", addedDomain,
+                                  () -> domainArchiveDeployer.deployExplodedArtifact(addedDomain, empty())));
+      }
+    }
+
+    waitForTasksToFinish(tasks);
+  }
 
   @Override
-  protected void deployExplodedApps(String[] apps) {
-    List<Callable<Object>> tasks = new ArrayList<>(apps.length);
+  protected void deployApps(String[] appZips) {
+    String[] apps = applicationArchiveDeployer.getDeploymentDirectory().list(DirectoryFileFilter.DIRECTORY);
+    // Sorts apps to ensure they are always submitted in the same order
+    sort(apps);
+
+    List<Callable<Object>> tasks = new ArrayList<>(appZips.length + apps.length);
+    Set<String> packedApps = new HashSet<>();
+    for (final String zip : appZips) {
+      String appName = removeEndIgnoreCase(zip, JAR_FILE_SUFFIX);
+      packedApps.add(appName);
+      tasks.add(timedDeployment("application", appName, () -> applicationArchiveDeployer.deployPackagedArtifact(zip, empty())));
+    }
 
     for (final String addedApp : apps) {
-      if (applicationArchiveDeployer.isUpdatedZombieArtifact(addedApp)) {
-        tasks.add(() -> {
-          try {
-            applicationArchiveDeployer.deployExplodedArtifact(addedApp, empty());
-          } catch (Exception e) {
-            // Ignore and continue
-          }
-          return null;
-        });
+      // An exploded app that also has an archive will be replaced by the deployment of that archive
+      if (!packedApps.contains(addedApp) && applicationArchiveDeployer.isUpdatedZombieArtifact(addedApp)) {
+        tasks.add(timedDeployment("application", addedApp,
+                                  () -> applicationArchiveDeployer.deployExplodedArtifact(addedApp, empty())));
       }
     }
 
-    if (!tasks.isEmpty()) {
-      waitForTasksToFinish(tasks);
-    }
+    waitForTasksToFinish(tasks);
+  }
+
+  private Callable<Object> timedDeployment(String artifactType, String artifactName, CheckedRunnable deployment) {
+    return () -> {
+      final long startTime = nanoTime();
+      try {
+        deployment.runChecked();
+      } catch (Exception e) {
+        // Logged and ignored, so the failure of an artifact doesn't prevent the deployment of the others
+        logger.error("Error deploying {} '{}'", artifactType, artifactName, e);
+      } finally {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Deployment of {} '{}' took {} ms", artifactType, artifactName,
+                       NANOSECONDS.toMillis(nanoTime() - startTime));
+        }
+      }
+      return null;
+    };
   }
 
   private void waitForTasksToFinish(List<Callable<Object>> tasks) {
-    this.threadPoolExecutor =
-        schedulerServiceSupplier.get().ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(20));
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    Scheduler threadPoolExecutor =
+        schedulerServiceSupplier.get().ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(maxConcurrency));
     try {
       final List<Future<Object>> futures = threadPoolExecutor.invokeAll(tasks);
 
@@ -97,7 +154,7 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
         try {
           future.get();
         } catch (ExecutionException e) {
-          // Ignore and continue with the next one
+          logger.error("Error deploying artifact", e.getCause());
         }
       }
 
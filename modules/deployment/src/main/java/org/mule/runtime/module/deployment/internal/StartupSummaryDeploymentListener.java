@@ -8,6 +8,8 @@ package org.mule.runtime.module.deployment.internal;
 
 import static org.mule.runtime.core.internal.logging.LogUtil.log;
 import org.mule.runtime.core.internal.logging.LogUtil;
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
+import org.mule.runtime.core.internal.management.startup.StartupProfiler;
 import org.mule.runtime.core.internal.util.splash.SimpleLoggingTable;
 import org.mule.runtime.core.internal.util.splash.SplashScreen;
 import org.mule.runtime.module.deployment.api.DeploymentService;
@@ -23,7 +25,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Prints application status summary table on Mule startup.
+ * Prints application status summary table on Mule startup, followed by the time each phase of the deployment of each artifact
+ * took, as recorded by the {@link StartupProfiler}.
  */
 public class StartupSummaryDeploymentListener implements StartupListener {
 
@@ -35,6 +38,14 @@ public class StartupSummaryDeploymentListener implements StartupListener {
   private static final int ARTIFACT_NAME_LABEL_LENGTH = 45;
   private static final int STATUS_LABEL_LENGTH = 18;
   private static final int DOMAIN_OWNER_LABEL_LENGTH = 30;
+  private static final String ARTIFACT_LABEL = "ARTIFACT";
+  private static final String PHASE_LABEL = "PHASE";
+  private static final String TIME_LABEL = "TIME (ms)";
+  private static final String ALLOCATED_LABEL = "ALLOCATED (KB)";
+  private static final int PHASE_LABEL_LENGTH = 60;
+  private static final int TIME_LABEL_LENGTH = 12;
+  private static final int ALLOCATED_LABEL_LENGTH = 16;
+  private static final String PHASE_INDENTATION = "  ";
 
   private static final String UNKNOWN_ARTIFACT_NAME = "UNKNOWN";
 
@@ -95,5 +106,30 @@ public class StartupSummaryDeploymentListener implements StartupListener {
     }
 
     log(message);
+
+    Map<String, StartupPhase> profiles = StartupProfiler.getProfiles();
+    if (!profiles.isEmpty()) {
+      SimpleLoggingTable phasesTable = new SimpleLoggingTable();
+      phasesTable.addColumn(ARTIFACT_LABEL, ARTIFACT_NAME_LABEL_LENGTH);
+      phasesTable.addColumn(PHASE_LABEL, PHASE_LABEL_LENGTH);
+      phasesTable.addColumn(TIME_LABEL, TIME_LABEL_LENGTH);
+      phasesTable.addColumn(ALLOCATED_LABEL, ALLOCATED_LABEL_LENGTH);
+
+      for (Map.Entry<String, StartupPhase> profile : profiles.entrySet()) {
+        addPhaseRows(phasesTable, profile.getKey(), profile.getValue(), "");
+      }
+
+      log(String.format("%n%s", phasesTable));
+    }
+  }
+
+  private void addPhaseRows(SimpleLoggingTable phasesTable, String artifactName, StartupPhase phase, String indentation) {
+    long allocatedBytes = phase.getAllocatedBytes();
+    phasesTable.addDataRow(new String[] {artifactName, indentation + phase.getName(),
+        String.valueOf(phase.getDurationMillis()), allocatedBytes < 0 ? "-" : String.valueOf(allocatedBytes / 1024)});
+
+    for (StartupPhase child : phase.getChildren()) {
+      addPhaseRows(phasesTable, artifactName, child, indentation + PHASE_INDENTATION);
+    }
   }
 }
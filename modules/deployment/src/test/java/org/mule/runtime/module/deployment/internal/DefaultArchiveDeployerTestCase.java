@@ -8,8 +8,12 @@
 package org.mule.runtime.module.deployment.internal;
 
 import static java.util.Optional.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.getProfile;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startArtifact;
 import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.application.ApplicationDescriptor;
 import org.mule.runtime.module.deployment.api.DeploymentListener;
@@ -42,6 +46,20 @@ public class DefaultArchiveDeployerTestCase extends AbstractMuleTestCase {
     deployer.undeployArtifact(ARTIFACT_ID);
   }
 
+  @Test
+  public void removesStartupProfileOnUndeploy() throws Exception {
+    DefaultArchiveDeployer<Application> deployer =
+        new DefaultArchiveDeployer(mock(ArtifactDeployer.class), mock(AbstractDeployableArtifactFactory.class),
+                                   new ObservableList(), null, null);
+    deployer.setDeploymentListener(mock(DeploymentListener.class));
+
+    startArtifact(ARTIFACT_ID).close();
+    deployer.deployArtifact(createMockApplication(), empty());
+    deployer.undeployArtifact(ARTIFACT_ID);
+
+    assertThat(getProfile(ARTIFACT_ID).isPresent(), is(false));
+  }
+
   private Application createMockApplication() {
     Application artifact = mock(Application.class);
     ApplicationDescriptor descriptor = mock(ApplicationDescriptor.class);
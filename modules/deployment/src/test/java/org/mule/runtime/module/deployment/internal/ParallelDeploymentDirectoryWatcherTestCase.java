@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.internal;
+
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.deployment.model.api.DeploymentException;
+import org.mule.runtime.deployment.model.api.application.Application;
+import org.mule.runtime.deployment.model.api.domain.Domain;
+import org.mule.runtime.module.deployment.internal.util.DebuggableReentrantLock;
+import org.mule.runtime.module.deployment.internal.util.ObservableList;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ParallelDeploymentDirectoryWatcherTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ArchiveDeployer<Domain> domainArchiveDeployer = mock(ArchiveDeployer.class);
+  private final ArchiveDeployer<Application> applicationArchiveDeployer = mock(ArchiveDeployer.class);
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private final List<String> deployed = new CopyOnWriteArrayList<>();
+
+  private File domainsDir;
+  private File appsDir;
+  private ParallelDeploymentDirectoryWatcher watcher;
+
+  @Before
+  public void before() throws Exception {
+    domainsDir = temporaryFolder.newFolder("domains");
+    appsDir = temporaryFolder.newFolder("apps");
+    when(domainArchiveDeployer.getDeploymentDirectory()).thenReturn(domainsDir);
+    when(applicationArchiveDeployer.getDeploymentDirectory()).thenReturn(appsDir);
+
+    watcher = new ParallelDeploymentDirectoryWatcher(mock(DomainBundleArchiveDeployer.class), domainArchiveDeployer,
+                                                     applicationArchiveDeployer, new ObservableList<>(), new ObservableList<>(),
+                                                     () -> schedulerService, new DebuggableReentrantLock());
+  }
+
+  @After
+  public void after() throws MuleException {
+    schedulerService.stop();
+  }
+
+  @Test
+  public void domainsDeployedConcurrently() throws Exception {
+    // Each deployment waits for the other one, so they only finish if both run at the same time
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    when(domainArchiveDeployer.deployPackagedArtifact(anyString(), any())).then(invocation -> {
+      bothStarted.countDown();
+      bothStarted.await(5, SECONDS);
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+
+    watcher.deployPackedDomains(new String[] {"domain1.jar", "domain2.jar"});
+
+    assertThat(bothStarted.getCount(), is(0L));
+    assertThat(deployed, containsInAnyOrder("domain1.jar", "domain2.jar"));
+  }
+
+  @Test
+  public void failedDeploymentDoesNotPreventOthers() throws Exception {
+    when(domainArchiveDeployer.isUpdatedZombieArtifact(anyString())).thenReturn(true);
+    when(domainArchiveDeployer.deployExplodedArtifact(eq("domain1"), any()))
+        .thenThrow(new DeploymentException(createStaticMessage("Expected")));
+    when(domainArchiveDeployer.deployExplodedArtifact(eq("domain2"), any())).then(invocation -> {
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+
+    watcher.deployExplodedDomains(new String[] {"domain1", "domain2"});
+
+    assertThat(deployed, contains("domain2"));
+  }
+
+  @Test
+  public void packedAndExplodedAppsDeployedTogether() throws Exception {
+    new File(appsDir, "app1").mkdir();
+    new File(appsDir, "app2").mkdir();
+    when(applicationArchiveDeployer.isUpdatedZombieArtifact(anyString())).thenReturn(true);
+    when(applicationArchiveDeployer.deployPackagedArtifact(anyString(), any())).then(invocation -> {
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+    when(applicationArchiveDeployer.deployExplodedArtifact(anyString(), any())).then(invocation -> {
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+
+    watcher.deployApps(new String[] {"app1.jar"});
+
+    assertThat(deployed, containsInAnyOrder("app1.jar", "app2"));
+    verify(applicationArchiveDeployer, never()).deployExplodedArtifact("app1", empty());
+  }
+
+  @Test
+  public void applicationsDeployedAfterDomains() throws Exception {
+    new File(domainsDir, "domain1.jar").createNewFile();
+    new File(domainsDir, "domain2.jar").createNewFile();
+    new File(appsDir, "app1.jar").createNewFile();
+    new File(appsDir, "app2.jar").createNewFile();
+    when(domainArchiveDeployer.deployPackagedArtifact(anyString(), any())).then(invocation -> {
+      Thread.sleep(100);
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+    when(applicationArchiveDeployer.deployPackagedArtifact(anyString(), any())).then(invocation -> {
+      deployed.add(invocation.getArgument(0));
+      return null;
+    });
+
+    watcher.run();
+
+    assertThat(deployed.size(), is(4));
+    assertThat(deployed.subList(0, 2), containsInAnyOrder("domain1.jar", "domain2.jar"));
+    assertThat(deployed.subList(2, 4), containsInAnyOrder("app1.jar", "app2.jar"));
+  }
+}
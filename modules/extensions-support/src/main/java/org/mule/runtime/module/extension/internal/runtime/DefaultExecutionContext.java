@@ -26,6 +26,7 @@ import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.api.transaction.TransactionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 import org.mule.runtime.module.extension.api.runtime.privileged.ExecutionContextAdapter;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ResolvedParameterMap;
 
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -142,7 +143,8 @@ public class DefaultExecutionContext<M extends ComponentModel> implements Execut
    */
   @Override
   public Map<String, Object> getParameters() {
-    return unmodifiableMap(parameters);
+    // a ResolvedParameterMap is already unmodifiable, and keeping its type allows resolving arguments by slot
+    return parameters instanceof ResolvedParameterMap ? parameters : unmodifiableMap(parameters);
   }
 
   /**
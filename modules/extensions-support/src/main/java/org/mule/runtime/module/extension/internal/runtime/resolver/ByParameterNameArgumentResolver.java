@@ -8,8 +8,13 @@ package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 
+import java.util.Map;
+
 /**
  * An implementation of {@link ArgumentResolver} which resolves to a parameter value of name {@link #parameterName}
+ * <p>
+ * When the parameters were resolved into a {@link ResolvedParameterMap}, the slot of the parameter in its
+ * {@link ResolvedParameterMap.Layout} is bound once and the value is read from that slot afterwards.
  *
  * @param <T> the type of the argument to be resolved
  * @since 3.7.0
@@ -17,6 +22,7 @@ import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
 
   private final String parameterName;
+  private volatile SlotBinding slotBinding;
 
   public ByParameterNameArgumentResolver(String parameterName) {
     this.parameterName = parameterName;
@@ -30,11 +36,39 @@ public class ByParameterNameArgumentResolver<T> implements ArgumentResolver<T> {
    */
   @Override
   public T resolve(ExecutionContext executionContext) {
-    return (T) executionContext.getParameters().get(parameterName);
+    final Map<String, Object> parameters = executionContext.getParameters();
+    if (parameters instanceof ResolvedParameterMap) {
+      final ResolvedParameterMap resolvedParameters = (ResolvedParameterMap) parameters;
+      final int slot = getSlot(resolvedParameters.getLayout());
+      return slot >= 0 ? (T) resolvedParameters.get(slot) : null;
+    }
+
+    // The parameters may have been replaced, by a policy for instance
+    return (T) parameters.get(parameterName);
+  }
+
+  private int getSlot(ResolvedParameterMap.Layout layout) {
+    SlotBinding binding = slotBinding;
+    if (binding == null || binding.layout != layout) {
+      binding = new SlotBinding(layout, layout.slotOf(parameterName));
+      slotBinding = binding;
+    }
+    return binding.slot;
   }
 
   @Override
   public String toString() {
     return "ByParameterNameArgumentResolver(" + parameterName + ")";
   }
+
+  private static final class SlotBinding {
+
+    private final ResolvedParameterMap.Layout layout;
+    private final int slot;
+
+    private SlotBinding(ResolvedParameterMap.Layout layout, int slot) {
+      this.layout = layout;
+      this.slot = slot;
+    }
+  }
 }
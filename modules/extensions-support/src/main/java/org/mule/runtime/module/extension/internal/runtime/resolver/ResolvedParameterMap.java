@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.resolver;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable {@link Map} with the values resolved by a {@link ResolverSet}, kept in an array in the order in which the
+ * resolvers were added to the set.
+ * <p>
+ * All the maps resolved by the same {@link ResolverSet} share the same {@link Layout}, so components that know the
+ * {@link Layout} can access the values by their slot instead of looking them up by name.
+ *
+ * @since 4.4
+ */
+public final class ResolvedParameterMap extends AbstractMap<String, Object> {
+
+  /**
+   * Maps the keys of a {@link ResolvedParameterMap} to the slots of the array that holds its values.
+   *
+   * @since 4.4
+   */
+  public static final class Layout {
+
+    private final String[] keys;
+    private final Map<String, Integer> slots;
+
+    Layout(String[] keys) {
+      this.keys = keys;
+      this.slots = new HashMap<>(keys.length * 2);
+      for (int i = 0; i < keys.length; ++i) {
+        slots.put(keys[i], i);
+      }
+    }
+
+    /**
+     * @param key a key of the map
+     * @return the slot holding the value for the given {@code key}, or {@code -1} if there is no such key.
+     */
+    public int slotOf(String key) {
+      final Integer slot = slots.get(key);
+      return slot != null ? slot : -1;
+    }
+
+    int size() {
+      return keys.length;
+    }
+  }
+
+  private final Layout layout;
+  private final Object[] values;
+  private Set<Entry<String, Object>> entrySet;
+
+  ResolvedParameterMap(Layout layout, Object[] values) {
+    this.layout = layout;
+    this.values = values;
+  }
+
+  /**
+   * @return the {@link Layout} of this map.
+   */
+  public Layout getLayout() {
+    return layout;
+  }
+
+  /**
+   * @param slot a slot obtained from {@link Layout#slotOf(String)} on the {@link #getLayout() layout} of this map.
+   * @return the value in the given {@code slot}
+   */
+  public Object get(int slot) {
+    return values[slot];
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    final int slot = layout.slotOf((String) key);
+    return slot >= 0 ? values[slot] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && layout.slotOf((String) key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new Iterator<Entry<String, Object>>() {
+
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+          return index < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final Entry<String, Object> entry = new SimpleImmutableEntry<>(layout.keys[index], values[index]);
+          index++;
+          return entry;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
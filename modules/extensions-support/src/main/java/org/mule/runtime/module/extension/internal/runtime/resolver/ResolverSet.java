@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Arrays.copyOf;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
@@ -40,6 +41,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private final Map<String, ValueResolver<?>> resolvers = new LinkedHashMap<>();
   private boolean dynamic = false;
   private final MuleContext muleContext;
+  private volatile ResolutionPlan resolutionPlan;
 
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
@@ -61,6 +63,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (resolvers.put(key, resolver) != null) {
       throw new IllegalStateException("A value was already given for key " + key);
     }
+    resolutionPlan = null;
 
     if (!dynamic && resolver.isDynamic()) {
       dynamic = true;
@@ -101,6 +104,9 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
 
   /**
    * Evaluates all the added {@link ValueResolver}s and returns the results into a {@link ResolverSetResult}
+   * <p>
+   * The values of the {@link StaticValueResolver}s are bound once into a {@link ResolutionPlan} and only the remaining resolvers
+   * are evaluated on each invocation, writing their results into the slots of a {@link ResolvedParameterMap}.
    *
    * @param context a not {@code null} {@link ValueResolvingContext}
    * @return a {@link ResolverSetResult}
@@ -108,13 +114,23 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
-    ResolverSetResult.Builder builder = getResolverSetBuilder();
+    final ResolutionPlan plan = getResolutionPlan();
+    final Object[] values = plan.staticValues.clone();
 
-    for (Map.Entry<String, ValueResolver<?>> entry : resolvers.entrySet()) {
-      builder.add(entry.getKey(), resolveRecursively(entry.getValue(), context));
+    for (int i = 0; i < plan.resolvers.length; ++i) {
+      values[plan.slots[i]] = resolveRecursively(plan.resolvers[i], context);
     }
 
-    return builder.build();
+    return new ResolverSetResult(new ResolvedParameterMap(plan.layout, values));
+  }
+
+  private ResolutionPlan getResolutionPlan() throws MuleException {
+    ResolutionPlan plan = resolutionPlan;
+    if (plan == null) {
+      plan = new ResolutionPlan(resolvers);
+      resolutionPlan = plan;
+    }
+    return plan;
   }
 
   /**
@@ -142,7 +158,48 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     initialiseIfNeeded(resolvers.values(), muleContext);
   }
 
-  ResolverSetResult.Builder getResolverSetBuilder() {
-    return ResolverSetResult.newBuilder();
+  /**
+   * The precompiled form of the resolvers of a {@link ResolverSet}: the values of the static resolvers already bound to their
+   * slots and the remaining resolvers associated to the slot their value goes in.
+   */
+  private static final class ResolutionPlan {
+
+    private final ResolvedParameterMap.Layout layout;
+    private final Object[] staticValues;
+    private final ValueResolver<?>[] resolvers;
+    private final int[] slots;
+
+    private ResolutionPlan(Map<String, ValueResolver<?>> resolversByKey) throws MuleException {
+      final int size = resolversByKey.size();
+      final String[] keys = new String[size];
+      final ValueResolver<?>[] pendingResolvers = new ValueResolver<?>[size];
+      final int[] pendingSlots = new int[size];
+      staticValues = new Object[size];
+
+      int slot = 0;
+      int pending = 0;
+      for (Map.Entry<String, ValueResolver<?>> entry : resolversByKey.entrySet()) {
+        keys[slot] = entry.getKey();
+        final ValueResolver<?> resolver = entry.getValue();
+
+        if (isStaticValue(resolver)) {
+          staticValues[slot] = resolver.resolve(null);
+        } else {
+          pendingResolvers[pending] = resolver;
+          pendingSlots[pending] = slot;
+          pending++;
+        }
+        slot++;
+      }
+
+      layout = new ResolvedParameterMap.Layout(keys);
+      resolvers = copyOf(pendingResolvers, pending);
+      slots = copyOf(pendingSlots, pending);
+    }
+
+    private static boolean isStaticValue(ValueResolver<?> resolver) throws MuleException {
+      // a static value which is a resolver itself still has to be resolved on each invocation
+      return resolver.getClass() == StaticValueResolver.class && !(resolver.resolve(null) instanceof ValueResolver);
+    }
   }
 }
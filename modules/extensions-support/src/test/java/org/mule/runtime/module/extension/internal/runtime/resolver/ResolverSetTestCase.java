@@ -6,11 +6,17 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
+
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.core.api.MuleContext;
@@ -67,6 +73,42 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertResult(result, mapping);
   }
 
+  @Test
+  public void staticValuesAreBoundOnce() throws Exception {
+    ValueResolver<String> dynamicResolver = getResolver(NAME);
+    ResolverSet resolverSet = new ResolverSet(muleContext);
+    resolverSet.add("static", new StaticValueResolver<>(AGE));
+    resolverSet.add("dynamic", dynamicResolver);
+
+    resolverSet.resolve(resolvingContext);
+    ResolverSetResult result = resolverSet.resolve(resolvingContext);
+
+    assertThat(result.get("static"), is(AGE));
+    assertThat(result.get("dynamic"), is(NAME));
+    assertThat(result.asMap().keySet(), contains("static", "dynamic"));
+    verify(dynamicResolver, times(2)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void resolvedValuesShareLayout() throws Exception {
+    ResolverSetResult result = set.resolve(resolvingContext);
+    ResolverSetResult otherResult = set.resolve(resolvingContext);
+    ResolvedParameterMap parameters = (ResolvedParameterMap) result.asMap();
+
+    assertThat(parameters.getLayout(), is(sameInstance(((ResolvedParameterMap) otherResult.asMap()).getLayout())));
+    assertThat(parameters.get(parameters.getLayout().slotOf("age")), is(AGE));
+    assertThat(parameters.getLayout().slotOf("missing"), is(-1));
+    assertThat(result, is(equalTo(otherResult)));
+  }
+
+  @Test
+  public void addAfterResolve() throws Exception {
+    set.resolve(resolvingContext);
+    set.add("other", getResolver(NAME));
+
+    assertThat(set.resolve(resolvingContext).get("other"), is(NAME));
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void addNullParameter() throws Exception {
     set.add(null, getResolver(null));
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import org.mule.runtime.api.util.LazyValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.ByteArrayOutputStream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the result of transforming the XML of a <module/> with {@value #TRANSFORMATION_FOR_TNS_RESOURCE}, so that every artifact
+ * depending on the same module, or a module redeployed without changes, doesn't transform it again.
+ * <p>
+ * Only the transformed XML is kept, keyed by a digest of the module contents. The {@link org.mule.runtime.ast.api.ArtifactAst}
+ * and the {@link org.mule.runtime.api.meta.model.ExtensionModel} built from it are created for each loading, as they hold
+ * references to the class loader of the plugin being loaded.
+ *
+ * @since 4.4
+ */
+final class TnsTransformationCache {
+
+  static final String TRANSFORMATION_FOR_TNS_RESOURCE = "META-INF/transform_for_tns.xsl";
+
+  private static final int MAX_SIZE = 256;
+
+  private static final LazyValue<Templates> TEMPLATES = new LazyValue<>(() -> {
+    try (InputStream in = TnsTransformationCache.class.getClassLoader().getResourceAsStream(TRANSFORMATION_FOR_TNS_RESOURCE)) {
+      return TransformerFactory.newInstance().newTemplates(new StreamSource(in));
+    } catch (IOException | TransformerConfigurationException e) {
+      throw new IllegalStateException("Could not load " + TRANSFORMATION_FOR_TNS_RESOURCE, e);
+    }
+  });
+
+  private static final Cache<String, byte[]> TRANSFORMED = Caffeine.newBuilder().maximumSize(MAX_SIZE).build();
+
+  private TnsTransformationCache() {}
+
+  /**
+   * @param resource the <module/>'s resource
+   * @return the <module/> with the content of its <body/> elements removed
+   * @throws IOException          if it fails reading the resource
+   * @throws TransformerException if it fails transforming the resource
+   */
+  static byte[] transform(URL resource) throws IOException, TransformerException {
+    final byte[] module;
+    try (InputStream in = resource.openStream()) {
+      module = IOUtils.toByteArray(in);
+    }
+
+    final String key = digest(module);
+    byte[] transformed = TRANSFORMED.getIfPresent(key);
+    if (transformed == null) {
+      final ByteArrayOutputStream resultStream = new ByteArrayOutputStream();
+      TEMPLATES.get().newTransformer()
+          .transform(new StreamSource(new ByteArrayInputStream(module), resource.toExternalForm()),
+                     new StreamResult(resultStream));
+      transformed = resultStream.toByteArray();
+      TRANSFORMED.put(key, transformed);
+    }
+    return transformed;
+  }
+
+  private static String digest(byte[] module) {
+    try {
+      return new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(module)).toString(16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return the number of transformed modules kept
+   */
+  static long size() {
+    TRANSFORMED.cleanUp();
+    return TRANSFORMED.estimatedSize();
+  }
+
+  static void clear() {
+    TRANSFORMED.invalidateAll();
+  }
+}
@@ -106,7 +106,6 @@ import org.mule.runtime.properties.api.ConfigurationProperty;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -118,14 +117,9 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
-import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.cycle.CycleDetector;
 import org.jgrapht.graph.DefaultDirectedGraph;
@@ -172,7 +166,6 @@ public final class XmlExtensionLoaderDelegate {
   private static final String ATTRIBUTE_VISIBILITY = "visibility";
   private static final String NAMESPACE_SEPARATOR = ":";
 
-  private static final String TRANSFORMATION_FOR_TNS_RESOURCE = "META-INF/transform_for_tns.xsl";
   private static final String XMLNS_TNS = XMLNS_ATTRIBUTE + ":" + TNS_PREFIX;
   public static final String MODULE_CONNECTION_MARKER_ATTRIBUTE = "xmlns:connection";
   private static final String GLOBAL_ELEMENT_NAME_ATTRIBUTE = "name";
@@ -365,13 +358,9 @@ public final class XmlExtensionLoaderDelegate {
    */
   private Optional<ExtensionModel> createTnsExtensionModel(URL resource, ExtensionModelHelper extensionModelHelper)
       throws IOException {
-    final ByteArrayOutputStream resultStream = new ByteArrayOutputStream();
-    try (InputStream in = getClass().getClassLoader().getResourceAsStream(TRANSFORMATION_FOR_TNS_RESOURCE)) {
-      final Source xslt = new StreamSource(in);
-      final Source moduleToTransform = new StreamSource(resource.openStream());
-      TransformerFactory.newInstance()
-          .newTransformer(xslt)
-          .transform(moduleToTransform, new StreamResult(resultStream));
+    final byte[] transformed;
+    try {
+      transformed = TnsTransformationCache.transform(resource);
     } catch (TransformerException e) {
       throw new MuleRuntimeException(
                                      createStaticMessage(format("There was an issue transforming the stream for the resource %s while trying to remove the content of the <body> element to generate an XSD",
@@ -386,7 +375,7 @@ public final class XmlExtensionLoaderDelegate {
         .build();
 
     ArtifactAst transformedModuleAst =
-        xmlToAstParser.parse("transformed_" + resource.getFile(), new ByteArrayInputStream(resultStream.toByteArray()));
+        xmlToAstParser.parse("transformed_" + resource.getFile(), new ByteArrayInputStream(transformed));
 
     if (transformedModuleAst.topLevelComponentsStream().findFirst().get().getRawParameterValue(XMLNS_TNS).isPresent()) {
       loadModuleExtension(extensionDeclarer, transformedModuleAst, extensionModelHelper, true);
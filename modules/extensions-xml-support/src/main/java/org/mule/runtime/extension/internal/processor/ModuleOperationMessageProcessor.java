@@ -6,13 +6,10 @@
  */
 package org.mule.runtime.extension.internal.processor;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
-import static org.mule.metadata.api.model.MetadataFormat.JAVA;
-import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
 import static org.mule.runtime.api.el.BindingContextUtils.getTargetBindingContext;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.CONTENT;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.PRIMARY_CONTENT;
@@ -47,7 +44,6 @@ import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.metadata.DataType;
-import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.notification.EnrichedNotificationInfo;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.context.notification.FlowStackElement;
@@ -57,6 +53,7 @@ import org.mule.runtime.core.api.exception.BaseExceptionHandler;
 import org.mule.runtime.core.api.execution.ExceptionContextProvider;
 import org.mule.runtime.core.api.processor.AbstractMessageProcessorOwner;
 import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.streaming.StreamingManager;
 import org.mule.runtime.core.internal.context.notification.DefaultFlowCallStack;
 import org.mule.runtime.core.internal.exception.EnrichedErrorMapping;
 import org.mule.runtime.core.internal.exception.ErrorMappingsAware;
@@ -106,6 +103,9 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   @Inject
   private ExpressionManager expressionManager;
 
+  @Inject
+  private StreamingManager streamingManager;
+
   @Inject
   private Collection<ExceptionContextProvider> exceptionContextProviders;
 
@@ -119,6 +119,9 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private final String targetValue;
   private final List<EnrichedErrorMapping> errorMappings;
   private CompiledExpression targetValueExpression;
+  private ModuleParametersResolver propertiesResolver;
+  private ModuleParametersResolver parametersResolver;
+  private ComponentLocation headLocation;
 
   public ModuleOperationMessageProcessor(Map<String, String> properties,
                                          Map<String, Object> parameters,
@@ -154,7 +157,7 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
    *
    * @param parameters list of parameters taken from the XML
    * @param parameterModels collection of elements taken from the matching {@link ExtensionModel}
-   * @return a collection of parameters to be later consumed in {@link #getEvaluatedValue(CoreEvent, String, MetadataType)}
+   * @return a collection of parameters to be later consumed by a {@link ModuleParametersResolver}
    */
   private Map<String, Pair<String, MetadataType>> parseParameters(Map<String, ?> parameters,
                                                                   List<ParameterModel> parameterModels) {
@@ -322,8 +325,8 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   private CoreEvent createEventWithParameters(CoreEvent event) {
     InternalEvent.Builder builder = InternalEvent.builder(event.getContext());
     builder.message(builder().nullValue().build());
-    addVariables(event, builder, properties);
-    addVariables(event, builder, parameters);
+    propertiesResolver.addVariables(event, builder, headLocation);
+    parametersResolver.addVariables(event, builder, headLocation);
     builder.internalParameters(((InternalEvent) event).getInternalParameters());
     builder.addInternalParameter(getParameterId(ORIGINAL_EVENT_KEY, event), event);
     builder.securityContext(event.getSecurityContext());
@@ -332,43 +335,6 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
     return newEvent;
   }
 
-  private void addVariables(CoreEvent event, CoreEvent.Builder builder,
-                            Map<String, Pair<String, MetadataType>> unevaluatedMap) {
-    unevaluatedMap.entrySet().stream()
-        .forEach(entry -> {
-          final boolean isExpression = expressionManager.isExpression(entry.getValue().getFirst());
-          if (isExpression) {
-            final TypedValue<?> evaluatedValue =
-                getEvaluatedValue(event, entry.getValue().getFirst(), entry.getValue().getSecond());
-            builder.addVariable(entry.getKey(), evaluatedValue);
-          } else {
-            builder.addVariable(entry.getKey(), entry.getValue().getFirst());
-          }
-        });
-  }
-
-  private TypedValue<?> getEvaluatedValue(CoreEvent event, String value, MetadataType metadataType) {
-    ComponentLocation headLocation;
-    final Processor head = nestedChain.getMessageProcessors().get(0);
-    headLocation = ((Component) head).getLocation();
-
-    TypedValue<?> evaluatedResult;
-    if (JAVA.equals(metadataType.getMetadataFormat())) {
-      evaluatedResult = expressionManager.evaluate(value, event, headLocation);
-    } else {
-      final String mediaType = metadataType.getMetadataFormat().getValidMimeTypes().iterator().next();
-      final DataType expectedOutputType =
-          DataType.builder()
-              .type(String.class)
-              .mediaType(mediaType)
-              .charset(UTF_8)
-              .build();
-      evaluatedResult = expressionManager
-          .evaluate(value, expectedOutputType, NULL_BINDING_CONTEXT, event, headLocation, false);
-    }
-    return evaluatedResult;
-  }
-
   /**
    * Configure the nested {@link Processor}'s of the XML SDK operation.
    *
@@ -382,6 +348,9 @@ public class ModuleOperationMessageProcessor extends AbstractMessageProcessorOwn
   public void initialise() throws InitialisationException {
     this.nestedChain = buildNewChainWithListOfProcessors(getProcessingStrategy(locator, getRootContainerLocation()), processors);
     super.initialise();
+    this.headLocation = ((Component) nestedChain.getMessageProcessors().get(0)).getLocation();
+    this.propertiesResolver = new ModuleParametersResolver(properties, expressionManager, streamingManager);
+    this.parametersResolver = new ModuleParametersResolver(parameters, expressionManager, streamingManager);
     if (targetValue != null) {
       targetValueExpression = compile(targetValue, expressionManager);
     }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static java.lang.Character.isDigit;
+import static java.lang.Character.isJavaIdentifierPart;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_POSTFIX;
+import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_PREFIX;
+import static org.mule.runtime.core.api.util.StreamingUtils.updateTypedValueForStreaming;
+import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.compile;
+import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.sanitize;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.el.CompiledExpression;
+import org.mule.runtime.api.el.ExpressionCompilationException;
+import org.mule.runtime.api.el.ExpressionExecutionException;
+import org.mule.runtime.api.el.ExpressionLanguageSession;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.streaming.CursorProvider;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.el.ExpressionManagerSession;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.internal.el.IllegalCompiledExpression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the parameters or properties of an XML SDK module operation into the variables of the event for its inner processors.
+ * <p>
+ * The values are classified once, when the operation is built: literal values and constant expressions (without any
+ * identifier, such as {@code #[60 * 1000]}) are bound into {@link TypedValue}s shared by all the executions of the operation.
+ * The rest of the expressions are compiled, and only evaluated for each execution with their expected {@link DataType} already
+ * computed.
+ *
+ * @since 4.4
+ */
+public final class ModuleParametersResolver {
+
+  private final ExpressionManager expressionManager;
+  private final StreamingManager streamingManager;
+  private final String[] constantNames;
+  private final TypedValue<?>[] constantValues;
+  private final String[] expressionNames;
+  private final CompiledExpression[] expressions;
+  // null for expressions whose output is Java
+  private final DataType[] expectedOutputTypes;
+
+  /**
+   * @param parameters        the values of the parameters as written in the XML, along with their {@link MetadataType}
+   * @param expressionManager the {@link ExpressionManager} to compile and evaluate the expressions with
+   * @param streamingManager  the {@link StreamingManager} to manage the streams that the expressions evaluate to
+   */
+  public ModuleParametersResolver(Map<String, Pair<String, MetadataType>> parameters, ExpressionManager expressionManager,
+                                  StreamingManager streamingManager) {
+    this.expressionManager = expressionManager;
+    this.streamingManager = streamingManager;
+
+    final List<String> constantNames = new ArrayList<>();
+    final List<TypedValue<?>> constantValues = new ArrayList<>();
+    final List<String> expressionNames = new ArrayList<>();
+    final List<CompiledExpression> expressions = new ArrayList<>();
+    final List<DataType> expectedOutputTypes = new ArrayList<>();
+
+    for (Map.Entry<String, Pair<String, MetadataType>> entry : parameters.entrySet()) {
+      final String value = entry.getValue().getFirst();
+      if (!expressionManager.isExpression(value)) {
+        constantNames.add(entry.getKey());
+        constantValues.add(new TypedValue<>(value, DataType.fromObject(value)));
+        continue;
+      }
+
+      final DataType expectedOutputType = getExpectedOutputType(entry.getValue().getSecond());
+      final CompiledExpression constantExpression = compileConstant(value);
+      final TypedValue<?> constantValue =
+          constantExpression != null ? evaluateConstant(constantExpression, expectedOutputType) : null;
+      if (constantValue != null) {
+        constantNames.add(entry.getKey());
+        constantValues.add(constantValue);
+      } else {
+        expressionNames.add(entry.getKey());
+        expressions.add(compile(value, expressionManager));
+        expectedOutputTypes.add(expectedOutputType);
+      }
+    }
+
+    this.constantNames = constantNames.toArray(new String[constantNames.size()]);
+    this.constantValues = constantValues.toArray(new TypedValue<?>[constantValues.size()]);
+    this.expressionNames = expressionNames.toArray(new String[expressionNames.size()]);
+    this.expressions = expressions.toArray(new CompiledExpression[expressions.size()]);
+    this.expectedOutputTypes = expectedOutputTypes.toArray(new DataType[expectedOutputTypes.size()]);
+  }
+
+  private static DataType getExpectedOutputType(MetadataType metadataType) {
+    if (JAVA.equals(metadataType.getMetadataFormat())) {
+      return null;
+    }
+
+    return DataType.builder()
+        .type(String.class)
+        .mediaType(metadataType.getMetadataFormat().getValidMimeTypes().iterator().next())
+        .charset(UTF_8)
+        .build();
+  }
+
+  /**
+   * Compiles the given expression if it is constant, that is, if its value depends neither on the event nor on when it is
+   * evaluated.
+   * <p>
+   * DataWeave resolves the references of an expression when compiling it, so an expression that compiles without any binding
+   * can't refer to the event, the flow or their variables. That still leaves the functions of DataWeave and of the runtime, which
+   * may not be pure (such as {@code now()} or {@code lookup()}), so expressions with identifiers are never constant, even if the
+   * identifiers are only inside string literals. Whether the rest of the text, such as a {@code #[} inside a string literal, is a
+   * single valid expression is left to the parser as well.
+   *
+   * @return the expression compiled without any binding, or {@code null} if it is not constant.
+   */
+  private CompiledExpression compileConstant(String expression) {
+    if (!expression.startsWith(DEFAULT_EXPRESSION_PREFIX) || !expression.endsWith(DEFAULT_EXPRESSION_POSTFIX)) {
+      return null;
+    }
+
+    final String sanitized = sanitize(expression);
+    for (int i = 0; i < sanitized.length(); ++i) {
+      final char c = sanitized.charAt(i);
+      if (isJavaIdentifierPart(c) && !isDigit(c)) {
+        return null;
+      }
+    }
+
+    try {
+      final CompiledExpression compiled = expressionManager.compile(expression, NULL_BINDING_CONTEXT);
+      return compiled instanceof IllegalCompiledExpression ? null : compiled;
+    } catch (ExpressionCompilationException e) {
+      // Let the failure happen for each execution, as it would for any other expression
+      return null;
+    }
+  }
+
+  /**
+   * @return the value of the given constant expression, or {@code null} if it has to be evaluated for each execution anyway.
+   */
+  private TypedValue<?> evaluateConstant(CompiledExpression expression, DataType expectedOutputType) {
+    final TypedValue<?> value;
+    try (ExpressionManagerSession session = expressionManager.openSession(NULL_BINDING_CONTEXT)) {
+      value = evaluate(session, expression, expectedOutputType);
+    } catch (ExpressionExecutionException e) {
+      // Let the failure happen for each execution, as it would for any other expression
+      return null;
+    }
+
+    // Streams can't be shared among executions
+    return value.getValue() instanceof CursorProvider ? null : value;
+  }
+
+  private static TypedValue<?> evaluate(ExpressionLanguageSession session, CompiledExpression expression,
+                                        DataType expectedOutputType) {
+    return expectedOutputType == null
+        ? session.evaluate(expression)
+        : session.evaluate(expression, expectedOutputType);
+  }
+
+  /**
+   * Adds a variable for each of the parameters to the given {@code builder}, evaluating the expressions against {@code event}.
+   *
+   * @param event              the event calling the module operation
+   * @param builder            the builder of the event for the inner processors of the operation
+   * @param expressionLocation the location to evaluate the expressions at
+   */
+  public void addVariables(CoreEvent event, CoreEvent.Builder builder, ComponentLocation expressionLocation) {
+    for (int i = 0; i < constantNames.length; ++i) {
+      builder.addVariable(constantNames[i], constantValues[i]);
+    }
+
+    if (expressionNames.length == 0) {
+      return;
+    }
+
+    try (ExpressionManagerSession session = expressionManager.openSession(expressionLocation, event, NULL_BINDING_CONTEXT)) {
+      for (int i = 0; i < expressionNames.length; ++i) {
+        builder.addVariable(expressionNames[i],
+                            updateTypedValueForStreaming(evaluate(session, expressions[i], expectedOutputTypes[i]), event,
+                                                         streamingManager));
+      }
+    }
+  }
+}
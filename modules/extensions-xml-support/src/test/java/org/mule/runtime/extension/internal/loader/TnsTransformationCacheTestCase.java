@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class TnsTransformationCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String MODULE = "modules/module-calling-operations-within-module.xml";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before
+  @After
+  public void clear() {
+    TnsTransformationCache.clear();
+  }
+
+  @Test
+  public void transformedOnceForSameContent() throws Exception {
+    URL resource = currentThread().getContextClassLoader().getResource(MODULE);
+    File copied = temporaryFolder.newFile();
+    try (InputStream in = resource.openStream()) {
+      copy(in, copied.toPath(), REPLACE_EXISTING);
+    }
+
+    byte[] transformed = TnsTransformationCache.transform(resource);
+    assertThat(TnsTransformationCache.transform(copied.toURI().toURL()), is(sameInstance(transformed)));
+    assertThat(TnsTransformationCache.size(), is(1L));
+  }
+
+  @Test
+  public void bodyRemoved() throws Exception {
+    File module = temporaryFolder.newFile();
+    write(module.toPath(), moduleWithBody("<echo/>").getBytes(UTF_8));
+
+    String transformed = new String(TnsTransformationCache.transform(module.toURI().toURL()), UTF_8);
+    assertThat(transformed, containsString("operation"));
+    assertThat(transformed, not(containsString("echo")));
+  }
+
+  @Test
+  public void transformedAgainWhenContentChanges() throws Exception {
+    File module = temporaryFolder.newFile();
+    write(module.toPath(), moduleWithBody("<first/>").getBytes(UTF_8));
+    byte[] first = TnsTransformationCache.transform(module.toURI().toURL());
+
+    write(module.toPath(), moduleWithBody("<second/>").getBytes(UTF_8));
+    byte[] second = TnsTransformationCache.transform(module.toURI().toURL());
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(TnsTransformationCache.size(), is(2L));
+  }
+
+  private String moduleWithBody(String body) {
+    return "<module name=\"test\" xmlns=\"http://www.mulesoft.org/schema/mule/module\">"
+        + "<operation name=\"op\"><body>" + body + "</body></operation></module>";
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.metadata.api.model.MetadataFormat.JSON;
+import static org.mule.runtime.api.el.BindingContextUtils.NULL_BINDING_CONTEXT;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.metadata.api.model.MetadataFormat;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.el.CompiledExpression;
+import org.mule.runtime.api.el.ExpressionCompilationException;
+import org.mule.runtime.api.el.ExpressionExecutionException;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.el.ExpressionManagerSession;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.internal.el.IllegalCompiledExpression;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ModuleParametersResolverTestCase extends AbstractMuleTestCase {
+
+  private final ExpressionManager expressionManager = mock(ExpressionManager.class);
+  private final ExpressionManagerSession constantSession = mock(ExpressionManagerSession.class);
+  private final ExpressionManagerSession session = mock(ExpressionManagerSession.class);
+  private final ComponentLocation location = mock(ComponentLocation.class);
+  private final CoreEvent event = mock(CoreEvent.class);
+  private final CoreEvent.Builder builder = mock(CoreEvent.Builder.class);
+  private final Map<String, Pair<String, MetadataType>> parameters = new LinkedHashMap<>();
+
+  @Before
+  public void before() {
+    when(expressionManager.isExpression(anyString())).then(invocation -> invocation.<String>getArgument(0).startsWith("#["));
+    when(expressionManager.compile(anyString(), any())).then(invocation -> mock(CompiledExpression.class));
+    when(expressionManager.openSession(NULL_BINDING_CONTEXT)).thenReturn(constantSession);
+    when(expressionManager.openSession(location, event, NULL_BINDING_CONTEXT)).thenReturn(session);
+    when(constantSession.evaluate(any(CompiledExpression.class))).thenReturn(new TypedValue<>(60000, DataType.NUMBER));
+    when(session.evaluate(any(CompiledExpression.class))).thenReturn(new TypedValue<>("value", DataType.STRING));
+    when(event.getContext()).thenReturn(mock(BaseEventContext.class));
+  }
+
+  @Test
+  public void literalsNotEvaluated() {
+    parameters.put("literal", parameter("value", JAVA));
+
+    addVariablesTwice();
+
+    verify(builder, times(2)).addVariable(eq("literal"), argThat((TypedValue<?> value) -> value.getValue().equals("value")));
+    verify(expressionManager, never()).compile(anyString(), any());
+    verify(expressionManager, never()).openSession(any());
+    verify(expressionManager, never()).openSession(any(), any(), any());
+  }
+
+  @Test
+  public void expressionsCompiledOnInitialise() {
+    parameters.put("expression", parameter("#[vars.name]", JAVA));
+
+    addVariablesTwice();
+
+    verify(expressionManager).compile(eq("#[vars.name]"), any());
+    verify(session, times(2)).evaluate(any(CompiledExpression.class));
+    verify(builder, times(2)).addVariable(eq("expression"), argThat((TypedValue<?> value) -> value.getValue().equals("value")));
+  }
+
+  @Test
+  public void constantExpressionsEvaluatedOnInitialise() {
+    parameters.put("arithmetic", parameter("#[60 * 1000]", JAVA));
+    parameters.put("string", parameter("#['-' ++ '-']", JAVA));
+
+    addVariablesTwice();
+
+    verify(constantSession, times(2)).evaluate(any(CompiledExpression.class));
+    verify(expressionManager, never()).openSession(any(), any(), any());
+    verify(builder, times(2)).addVariable(eq("arithmetic"), argThat((TypedValue<?> value) -> value.getValue().equals(60000)));
+  }
+
+  @Test
+  public void failingConstantExpressionEvaluatedPerCall() {
+    when(constantSession.evaluate(any(CompiledExpression.class)))
+        .thenThrow(new ExpressionExecutionException(createStaticMessage("Expected")));
+    parameters.put("constant", parameter("#[1 / 0]", JAVA));
+
+    addVariablesTwice();
+
+    verify(session, times(2)).evaluate(any(CompiledExpression.class));
+  }
+
+  @Test
+  public void identifiersNotConstant() {
+    parameters.put("function", parameter("#[now()]", JAVA));
+    parameters.put("string", parameter("#['value']", JAVA));
+
+    addVariablesTwice();
+
+    verify(expressionManager, never()).compile(anyString(), same(NULL_BINDING_CONTEXT));
+    verify(session, times(4)).evaluate(any(CompiledExpression.class));
+  }
+
+  @Test
+  public void notCompilableWithoutBindingsNotConstant() {
+    when(expressionManager.compile("#['#[' ++ '-' ++ ']']", NULL_BINDING_CONTEXT))
+        .thenReturn(new IllegalCompiledExpression("#['#[' ++ '-' ++ ']']",
+                                                  new ExpressionCompilationException(createStaticMessage("Expected"))));
+    parameters.put("constant", parameter("#['#[' ++ '-' ++ ']']", JAVA));
+
+    addVariablesTwice();
+
+    verify(constantSession, never()).evaluate(any(CompiledExpression.class));
+    verify(session, times(2)).evaluate(any(CompiledExpression.class));
+  }
+
+  @Test
+  public void interpolatedStringNotConstant() {
+    parameters.put("interpolated", parameter("#['$(vars.name)']", JAVA));
+
+    addVariablesTwice();
+
+    verify(constantSession, never()).evaluate(any(CompiledExpression.class));
+    verify(session, times(2)).evaluate(any(CompiledExpression.class));
+  }
+
+  @Test
+  public void singleSessionPerCall() {
+    parameters.put("expression1", parameter("#[vars.name]", JAVA));
+    parameters.put("expression2", parameter("#[payload]", JAVA));
+    parameters.put("literal", parameter("value", JAVA));
+
+    addVariablesTwice();
+
+    verify(expressionManager, times(2)).openSession(location, event, NULL_BINDING_CONTEXT);
+    verify(session, times(4)).evaluate(any(CompiledExpression.class));
+    verify(session, times(2)).close();
+  }
+
+  @Test
+  public void expectedOutputTypeForNonJavaFormat() {
+    when(session.evaluate(any(CompiledExpression.class), any(DataType.class)))
+        .thenReturn(new TypedValue<>("{}", DataType.JSON_STRING));
+    parameters.put("json", parameter("#[vars.name]", JSON));
+
+    final ModuleParametersResolver resolver =
+        new ModuleParametersResolver(parameters, expressionManager, mock(StreamingManager.class));
+    resolver.addVariables(event, builder, location);
+
+    verify(session).evaluate(any(CompiledExpression.class),
+                             argThat((DataType dataType) -> dataType.getMediaType().matches(APPLICATION_JSON)));
+    verify(session, never()).evaluate(any(CompiledExpression.class));
+  }
+
+  @Test
+  public void sameConstantValueForEachCall() {
+    parameters.put("constant", parameter("#[60 * 1000]", JAVA));
+    final TypedValue<?> constantValue = new TypedValue<>(60000, DataType.NUMBER);
+    when(constantSession.evaluate(any(CompiledExpression.class))).thenReturn(constantValue);
+
+    addVariablesTwice();
+
+    verify(builder, times(2)).addVariable(eq("constant"), same(constantValue));
+  }
+
+  private void addVariablesTwice() {
+    final ModuleParametersResolver resolver =
+        new ModuleParametersResolver(parameters, expressionManager, mock(StreamingManager.class));
+    resolver.addVariables(event, builder, location);
+    resolver.addVariables(event, builder, location);
+  }
+
+  private static Pair<String, MetadataType> parameter(String value, MetadataFormat format) {
+    return new Pair<>(value, BaseTypeBuilder.create(format).stringType().build());
+  }
+}
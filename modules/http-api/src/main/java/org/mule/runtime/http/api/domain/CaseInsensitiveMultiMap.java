@@ -61,7 +61,8 @@ public class CaseInsensitiveMultiMap extends AbstractCaseInsensitiveMultiMap {
    */
   public static AbstractCaseInsensitiveMultiMap unmodifiableCaseInsensitiveMultiMap(AbstractCaseInsensitiveMultiMap m) {
     requireNonNull(m);
-    if (m instanceof UnmodifiableCaseInsensitiveMultiMap || m instanceof ImmutableCaseInsensitiveMultiMap) {
+    if (m instanceof UnmodifiableCaseInsensitiveMultiMap || m instanceof ImmutableCaseInsensitiveMultiMap
+        || (m instanceof CompactCaseInsensitiveMultiMap && ((CompactCaseInsensitiveMultiMap) m).isImmutable())) {
       return m;
     } else {
       return new UnmodifiableCaseInsensitiveMultiMap(m);
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.http.api.server.HttpServerProperties;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * {@link AbstractCaseInsensitiveMultiMap} backed by arrays instead of a map of wrapped keys, meant for the small amount of
+ * entries of HTTP headers.
+ * <p>
+ * Keys are kept in insertion order along with their case-folded hash, and looked up through an open-addressing table of
+ * indexes into those arrays. A key with a single value holds it directly, only keys with several values hold a list. When
+ * {@code optimized}, keys are stored and returned in lowercase; otherwise, the case they first had is kept.
+ * <p>
+ * {@link #toImmutableMultiMap()} shares the arrays with the returned snapshot. They are only copied if this map is modified
+ * afterwards.
+ * <p>
+ * As with {@link CaseInsensitiveMultiMap}, only maps of this same class and kind of keys are equal to each other.
+ * <p>
+ * The HTTP message builders use this map for the headers when {@link HttpServerProperties#COMPACT_HEADERS} is set.
+ *
+ * @since 4.4
+ */
+@NoExtend
+public class CompactCaseInsensitiveMultiMap extends AbstractCaseInsensitiveMultiMap {
+
+  private static final long serialVersionUID = 3196418733615289641L;
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private static final CompactCaseInsensitiveMultiMap EMPTY_MAP = new CompactCaseInsensitiveMultiMap(true, true);
+
+  protected final boolean optimized;
+  private final boolean immutable;
+
+  private String[] keys;
+  private int[] hashes;
+  private Object[] values;
+  private int[] table;
+  private int size;
+  private boolean shared;
+
+  public CompactCaseInsensitiveMultiMap() {
+    this(true);
+  }
+
+  public CompactCaseInsensitiveMultiMap(boolean optimized) {
+    this(optimized, false);
+  }
+
+  public CompactCaseInsensitiveMultiMap(MultiMap<String, String> paramsMap) {
+    this(paramsMap, true);
+  }
+
+  public CompactCaseInsensitiveMultiMap(MultiMap<String, String> paramsMap, boolean optimized) {
+    this(optimized, false);
+    putAll(paramsMap);
+  }
+
+  private CompactCaseInsensitiveMultiMap(boolean optimized, boolean immutable) {
+    this.optimized = optimized;
+    this.immutable = immutable;
+  }
+
+  private CompactCaseInsensitiveMultiMap(CompactCaseInsensitiveMultiMap snapshotOf) {
+    this(snapshotOf.optimized, true);
+    this.keys = snapshotOf.keys;
+    this.hashes = snapshotOf.hashes;
+    this.values = snapshotOf.values;
+    this.table = snapshotOf.table;
+    this.size = snapshotOf.size;
+    this.shared = true;
+  }
+
+  @Override
+  public CompactCaseInsensitiveMultiMap toImmutableMultiMap() {
+    if (immutable) {
+      return this;
+    }
+    if (size == 0) {
+      return EMPTY_MAP;
+    }
+
+    shared = true;
+    return new CompactCaseInsensitiveMultiMap(this);
+  }
+
+  boolean isImmutable() {
+    return immutable;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (int i = 0; i < size; ++i) {
+      if (valuesAt(i).contains(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String get(Object key) {
+    int index = indexOf(key);
+    return index < 0 ? null : firstValueAt(index);
+  }
+
+  @Override
+  public String getOrDefault(Object key, String defaultValue) {
+    int index = indexOf(key);
+    return index < 0 ? defaultValue : firstValueAt(index);
+  }
+
+  @Override
+  public List<String> getAll(Object key) {
+    int index = indexOf(key);
+    return index < 0 ? emptyList() : valuesAt(index);
+  }
+
+  @Override
+  public String put(String key, String value) {
+    prepareForWrite();
+    int hash = hash(key);
+    int index = indexOf(key, hash);
+    if (index < 0) {
+      index = add(key, hash);
+      values[index] = value;
+      return null;
+    }
+
+    String previous = firstValueAt(index);
+    Object current = values[index];
+    if (current instanceof ValueList) {
+      ((ValueList) current).add(value);
+    } else {
+      ValueList list = new ValueList();
+      list.add((String) current);
+      list.add(value);
+      values[index] = list;
+    }
+    return previous;
+  }
+
+  @Override
+  public void put(String key, Collection<String> keyValues) {
+    prepareForWrite();
+    for (String value : keyValues) {
+      put(key, value);
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends String> aMap) {
+    prepareForWrite();
+    if (aMap instanceof MultiMap) {
+      putAll((MultiMap<? extends String, ? extends String>) aMap);
+      return;
+    }
+    for (Entry<? extends String, ? extends String> entry : aMap.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public void putAll(MultiMap<? extends String, ? extends String> aMultiMap) {
+    prepareForWrite();
+    for (String key : aMultiMap.keySet()) {
+      put(key, (Collection<String>) aMultiMap.getAll(key));
+    }
+  }
+
+  @Override
+  public String remove(Object key) {
+    List<String> removed = removeAll(key);
+    return removed == null ? null : removed.get(0);
+  }
+
+  @Override
+  public List<String> removeAll(Object key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      if (immutable) {
+        throw new UnsupportedOperationException();
+      }
+      return null;
+    }
+
+    prepareForWrite();
+    List<String> removed = valuesAt(index);
+    --size;
+    arraycopy(keys, index + 1, keys, index, size - index);
+    arraycopy(hashes, index + 1, hashes, index, size - index);
+    arraycopy(values, index + 1, values, index, size - index);
+    keys[size] = null;
+    values[size] = null;
+    rehash();
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    prepareForWrite();
+    if (keys != null) {
+      fill(keys, 0, size, null);
+      fill(values, 0, size, null);
+      fill(table, 0);
+    }
+    size = 0;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return new IndexedSet<String>(i -> keys[i]) {
+
+      @Override
+      public boolean contains(Object o) {
+        return containsKey(o);
+      }
+    };
+  }
+
+  @Override
+  public Collection<String> values() {
+    return new AbstractCollection<String>() {
+
+      @Override
+      public Iterator<String> iterator() {
+        return new IndexIterator<>(i -> firstValueAt(i));
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new IndexedSet<>(i -> new SimpleImmutableEntry<>(keys[i], firstValueAt(i)));
+  }
+
+  @Override
+  public List<Entry<String, String>> entryList() {
+    List<Entry<String, String>> entries = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      for (String value : valuesAt(i)) {
+        entries.add(new SimpleImmutableEntry<>(keys[i], value));
+      }
+    }
+    return unmodifiableList(entries);
+  }
+
+  @Override
+  public Map<String, ? extends List<String>> toListValuesMap() {
+    Map<String, List<String>> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; ++i) {
+      map.put(keys[i], valuesAt(i));
+    }
+    return unmodifiableMap(map);
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super String> action) {
+    for (int i = 0; i < size; ++i) {
+      action.accept(keys[i], firstValueAt(i));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompactCaseInsensitiveMultiMap)) {
+      return false;
+    }
+    CompactCaseInsensitiveMultiMap that = (CompactCaseInsensitiveMultiMap) o;
+    if (that.optimized != optimized || that.size != size) {
+      return false;
+    }
+    for (int i = 0; i < size; ++i) {
+      if (!valuesAt(i).equals(that.getAll(keys[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (int i = 0; i < size; ++i) {
+      hashCode += hashes[i] ^ valuesAt(i).hashCode();
+    }
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("{");
+    for (int i = 0; i < size; ++i) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(keys[i]).append('=').append(valuesAt(i));
+    }
+    return builder.append('}').toString();
+  }
+
+  private String firstValueAt(int index) {
+    Object value = values[index];
+    return value instanceof ValueList ? ((ValueList) value).get(0) : (String) value;
+  }
+
+  private List<String> valuesAt(int index) {
+    Object value = values[index];
+    return value instanceof ValueList ? unmodifiableList((ValueList) value) : singletonList((String) value);
+  }
+
+  private int indexOf(Object key) {
+    if (size == 0 || !(key instanceof String)) {
+      return -1;
+    }
+    return indexOf((String) key, hash((String) key));
+  }
+
+  private int indexOf(String key, int hash) {
+    if (size == 0) {
+      return -1;
+    }
+    int mask = table.length - 1;
+    for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+      int entry = table[slot];
+      if (entry == 0) {
+        return -1;
+      }
+      int index = entry - 1;
+      if (hashes[index] == hash && equalsIgnoreCase(keys[index], key)) {
+        return index;
+      }
+    }
+  }
+
+  private int add(String key, int hash) {
+    if (keys == null) {
+      keys = new String[INITIAL_CAPACITY];
+      hashes = new int[INITIAL_CAPACITY];
+      values = new Object[INITIAL_CAPACITY];
+      table = new int[INITIAL_CAPACITY * 2];
+    } else if (size == keys.length) {
+      keys = copyOf(keys, size * 2);
+      hashes = copyOf(hashes, size * 2);
+      values = copyOf(values, size * 2);
+      table = new int[size * 4];
+      rehash();
+    }
+
+    int index = size++;
+    keys[index] = optimized ? key.toLowerCase() : key;
+    hashes[index] = hash;
+    insertInTable(index);
+    return index;
+  }
+
+  private void rehash() {
+    fill(table, 0);
+    for (int i = 0; i < size; ++i) {
+      insertInTable(i);
+    }
+  }
+
+  private void insertInTable(int index) {
+    int mask = table.length - 1;
+    int slot = hashes[index] & mask;
+    while (table[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = index + 1;
+  }
+
+  /**
+   * Copies the arrays shared with a snapshot before they are modified.
+   */
+  private void prepareForWrite() {
+    if (immutable) {
+      throw new UnsupportedOperationException();
+    }
+    if (!shared) {
+      return;
+    }
+
+    keys = keys.clone();
+    hashes = hashes.clone();
+    values = values.clone();
+    table = table.clone();
+    for (int i = 0; i < size; ++i) {
+      if (values[i] instanceof ValueList) {
+        values[i] = new ValueList((ValueList) values[i]);
+      }
+    }
+    shared = false;
+  }
+
+  private static int hash(String key) {
+    int hash = 0;
+    for (int i = 0; i < key.length(); ++i) {
+      hash = 31 * hash + fold(key.charAt(i));
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equalsIgnoreCase(String a, String b) {
+    if (a == b) {
+      return true;
+    }
+    if (a.length() != b.length()) {
+      return false;
+    }
+    for (int i = 0; i < a.length(); ++i) {
+      char ca = a.charAt(i);
+      char cb = b.charAt(i);
+      if (ca != cb && fold(ca) != fold(cb)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Folds the case of ASCII characters without any lookup, the rest are folded as {@link String#equalsIgnoreCase(String)} does.
+   */
+  private static char fold(char c) {
+    if (c < 128) {
+      return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    return toLowerCase(toUpperCase(c));
+  }
+
+  private static final class ValueList extends ArrayList<String> {
+
+    private static final long serialVersionUID = -4427390405370329713L;
+
+    private ValueList() {
+      super(4);
+    }
+
+    private ValueList(ValueList other) {
+      super(other);
+    }
+  }
+
+  private class IndexedSet<E> extends AbstractSet<E> {
+
+    private final IntFunction<E> elementAt;
+
+    private IndexedSet(IntFunction<E> elementAt) {
+      this.elementAt = elementAt;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      return new IndexIterator<>(elementAt);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  private class IndexIterator<E> implements Iterator<E> {
+
+    private final IntFunction<E> elementAt;
+    private int next;
+
+    private IndexIterator(IntFunction<E> elementAt) {
+      this.elementAt = elementAt;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return elementAt.apply(next++);
+    }
+  }
+}
@@ -8,12 +8,15 @@ package org.mule.runtime.http.api.domain.message;
 
 import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.util.Preconditions.checkNotNull;
+import static org.mule.runtime.http.api.server.HttpServerProperties.COMPACT_HEADERS;
 
 import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
 import org.mule.runtime.http.api.domain.entity.EmptyHttpEntity;
 import org.mule.runtime.http.api.domain.entity.HttpEntity;
 import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.server.HttpServerProperties;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -41,7 +44,19 @@ public abstract class HttpMessageBuilder<B extends HttpMessageBuilder, M extends
   }
 
   protected void initHeaders() {
-    headers = new CaseInsensitiveMultiMap();
+    headers = createHeaders(true);
+  }
+
+  /**
+   * Creates the map for the headers of the message. It is a {@link CompactCaseInsensitiveMultiMap} if
+   * {@link HttpServerProperties#COMPACT_HEADERS} is set, or a {@link CaseInsensitiveMultiMap} otherwise.
+   *
+   * @param optimized {@code false} to preserve the case of the header names
+   * @return a new, empty, map for the headers
+   * @since 4.4
+   */
+  protected static MultiMap<String, String> createHeaders(boolean optimized) {
+    return COMPACT_HEADERS ? new CompactCaseInsensitiveMultiMap(optimized) : new CaseInsensitiveMultiMap(optimized);
   }
 
   /**
@@ -8,7 +8,6 @@ package org.mule.runtime.http.api.domain.message.response;
 
 import static org.mule.runtime.http.api.server.HttpServerProperties.PRESERVE_HEADER_CASE;
 
-import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
 import org.mule.runtime.http.api.domain.message.HttpMessageBuilder;
 
 /**
@@ -35,7 +34,7 @@ public final class HttpResponseBuilder extends HttpMessageBuilder<HttpResponseBu
 
   @Override
   protected void initHeaders() {
-    headers = new CaseInsensitiveMultiMap(!PRESERVE_HEADER_CASE);
+    headers = createHeaders(!PRESERVE_HEADER_CASE);
   }
 
   private void responseStatus(HttpResponse httpResponse) {
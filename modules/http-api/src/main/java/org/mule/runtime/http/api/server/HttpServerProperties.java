@@ -8,6 +8,10 @@ package org.mule.runtime.http.api.server;
 
 import static java.lang.Boolean.getBoolean;
 
+import org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.CompactCaseInsensitiveMultiMap;
+import org.mule.runtime.http.api.domain.message.HttpMessageBuilder;
+
 /**
  * Contains a set of system properties that may be used to customize the behavior of the underlying HTTP transport.
  *
@@ -24,11 +28,30 @@ public final class HttpServerProperties {
    */
   public static boolean PRESERVE_HEADER_CASE = getBoolean("org.glassfish.grizzly.http.PRESERVE_HEADER_CASE");
 
+  /**
+   * The system property that sets {@link #COMPACT_HEADERS}.
+   *
+   * @since 4.4
+   */
+  public static final String COMPACT_HEADERS_PROPERTY = "mule.http.headers.compact";
+
+  /**
+   * By default, the headers of the messages created through an {@link HttpMessageBuilder} are kept in a
+   * {@link CaseInsensitiveMultiMap}.
+   * <p>
+   * This flag may be set to {@code true} to keep them in a {@link CompactCaseInsensitiveMultiMap} instead, which allocates less
+   * for each header. Note that maps of different classes are never equal to each other.
+   *
+   * @since 4.4
+   */
+  public static boolean COMPACT_HEADERS = getBoolean(COMPACT_HEADERS_PROPERTY);
+
   private HttpServerProperties() {
     // Nothing to do
   }
 
   public static void refreshSystemProperties() {
     PRESERVE_HEADER_CASE = getBoolean("org.glassfish.grizzly.http.PRESERVE_HEADER_CASE");
+    COMPACT_HEADERS = getBoolean(COMPACT_HEADERS_PROPERTY);
   }
 }
@@ -10,15 +10,20 @@ import static java.net.URLEncoder.encode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.regex.Pattern.compile;
+import static org.mule.runtime.api.util.IOUtils.toByteArray;
 import static org.mule.runtime.api.util.MultiMap.emptyMultiMap;
+import static org.mule.runtime.http.api.utils.UrlEncodedDecoder.isAsciiCompatible;
 
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.api.util.MultiMap.StringMultiMap;
 import org.mule.runtime.api.util.collection.SmallMap;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Map;
@@ -38,6 +43,7 @@ public final class HttpEncoderDecoderUtils {
 
   private static final Pattern SPACES_MATCHER = compile(" ");
   private static final String SPACE_ENTITY = "%20";
+  private static final int STREAM_BUFFER_SIZE = 8 * 1024;
 
   /**
    * Extracts the path (what's left of the {@code ?} character) from the passed uri.
@@ -103,24 +109,83 @@ public final class HttpEncoderDecoderUtils {
    * @return a map representation of the {@code queryString}
    */
   public static MultiMap<String, String> decodeUrlEncodedBody(String queryString, Charset encoding) {
-    if (queryString != null && queryString.trim().length() > 0) {
+    if (queryString != null && !isBlank(queryString)) {
       MultiMap<String, String> queryParams = new StringMultiMap();
+      UrlEncodedDecoder.decode(queryString, encoding, queryParams);
+      return queryParams;
+    } else {
+      return emptyMultiMap();
+    }
+  }
 
-      String[] pairs = queryString.split("&");
-      for (String pair : pairs) {
-        int idx = pair.indexOf("=");
-
-        if (idx != -1) {
-          addParam(queryParams, pair.substring(0, idx), pair.substring(idx + 1), encoding);
-        } else {
-          addParam(queryParams, pair, null, encoding);
+  /**
+   * Converts an url-encoded body held in a {@link ByteBuffer} into a {@link MultiMap} with a given encoding, without decoding the
+   * whole body into a {@link String} first. The position of the {@code body} is not modified.
+   * <p>
+   * This is equivalent to {@link #decodeUrlEncodedBody(String, Charset)} on the decoded body.
+   *
+   * @param body the buffer to parse, from its position up to its limit
+   * @param encoding the charset of the body
+   * @return a map representation of the {@code body}
+   * @since 4.4
+   */
+  public static MultiMap<String, String> decodeUrlEncodedBuffer(ByteBuffer body, Charset encoding) {
+    if (body == null || !body.hasRemaining()) {
+      return emptyMultiMap();
+    }
+    if (!isAsciiCompatible(encoding)) {
+      return decodeUrlEncodedBody(encoding.decode(body.duplicate()).toString(), encoding);
+    }
 
-        }
-      }
-      return queryParams;
+    MultiMap<String, String> params = new StringMultiMap();
+    UrlEncodedDecoder decoder = new UrlEncodedDecoder(encoding, params);
+    if (body.hasArray()) {
+      decoder.accept(body.array(), body.arrayOffset() + body.position(), body.remaining());
     } else {
+      for (int i = body.position(); i < body.limit(); ++i) {
+        decoder.accept(body.get(i));
+      }
+    }
+    return decoder.complete() ? params : emptyMultiMap();
+  }
+
+  /**
+   * Converts an url-encoded body into a {@link MultiMap} with a given encoding while reading it, so that only the parameter
+   * being decoded and the resulting map are held in memory. The stream is read until its end but not closed.
+   * <p>
+   * This is equivalent to {@link #decodeUrlEncodedBody(String, Charset)} on the whole decoded body.
+   *
+   * @param body the stream to parse
+   * @param encoding the charset of the body
+   * @return a map representation of the {@code body}
+   * @throws IOException if the {@code body} could not be read
+   * @since 4.4
+   */
+  public static MultiMap<String, String> decodeUrlEncodedStream(InputStream body, Charset encoding) throws IOException {
+    if (body == null) {
       return emptyMultiMap();
     }
+    if (!isAsciiCompatible(encoding)) {
+      return decodeUrlEncodedBody(new String(toByteArray(body), encoding), encoding);
+    }
+
+    MultiMap<String, String> params = new StringMultiMap();
+    UrlEncodedDecoder decoder = new UrlEncodedDecoder(encoding, params);
+    byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+    int read;
+    while ((read = body.read(buffer)) != -1) {
+      decoder.accept(buffer, 0, read);
+    }
+    return decoder.complete() ? params : emptyMultiMap();
+  }
+
+  private static boolean isBlank(String text) {
+    for (int i = 0; i < text.length(); ++i) {
+      if (text.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -152,10 +217,6 @@ public final class HttpEncoderDecoderUtils {
     }
   }
 
-  private static void addParam(MultiMap<String, String> queryParams, String name, String value, Charset encoding) {
-    queryParams.put(decode(name, encoding), decode(value, encoding));
-  }
-
   private static String decode(String text, Charset encoding) {
     if (text == null) {
       return null;
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.lang.String.format;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.binarySearch;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link RequestMatcherRegistry} backed by a compressed radix trie of the registered paths.
+ * <p>
+ * Each path is turned into a key where URI parameter segments ({@code {param}}) and wildcard segments ({@code *}) are replaced by
+ * a marker character, so paths that only differ in the name of their parameters share the same key. When looking up a path,
+ * literal edges are preferred over parameters, parameters over a wildcard segment and a wildcard segment over a trailing
+ * wildcard, backtracking whenever a more specific edge does not lead to a match.
+ * <p>
+ * The trie is immutable: {@link #add(PathAndMethodRequestMatcher, Object)} and {@link RequestMatcherRegistryEntry#remove()} copy
+ * the nodes along the updated key and publish a new root, so lookups never lock. Disabling an entry only flips a flag on it.
+ *
+ * @param <T> the type of object associated to the registry
+ * @since 4.4
+ */
+@SuppressWarnings("unchecked")
+final class RadixTrieRequestMatcherRegistry<T> implements RequestMatcherRegistry<T> {
+
+  private static final char PARAM = '\u0001';
+  private static final char WILDCARD = '\u0002';
+  private static final char CATCH_ALL = '\u0003';
+
+  private static final char[] NO_INDICES = new char[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+  private static final Registration[] NO_REGISTRATIONS = new Registration[0];
+
+  private final Supplier<T> onMethodMismatch;
+  private final Supplier<T> onNotFound;
+  private final Supplier<T> onInvalidRequest;
+  private final Supplier<T> onDisabled;
+
+  private final Object updateLock = new Object();
+  private volatile Node<T> root = new Node<>("", NO_INDICES, NO_CHILDREN, NO_REGISTRATIONS);
+
+  RadixTrieRequestMatcherRegistry(Supplier<T> onMethodMismatch, Supplier<T> onNotFound, Supplier<T> onInvalidRequest,
+                                  Supplier<T> onDisabled) {
+    this.onMethodMismatch = onMethodMismatch;
+    this.onNotFound = onNotFound;
+    this.onInvalidRequest = onInvalidRequest;
+    this.onDisabled = onDisabled;
+  }
+
+  @Override
+  public RequestMatcherRegistryEntry add(PathAndMethodRequestMatcher matcher, T item) {
+    checkArgument(matcher != null, "matcher cannot be null");
+    Registration<T> registration = new Registration<>(this, toKey(matcher.getPath()), matcher, item);
+    synchronized (updateLock) {
+      root = root.insert(registration.key, 0, registration);
+    }
+    return registration;
+  }
+
+  @Override
+  public T find(HttpRequest request) {
+    return find(request.getMethod(), request.getPath());
+  }
+
+  @Override
+  public T find(String method, String path) {
+    if (method == null || path == null || path.isEmpty() || path.charAt(0) != '/') {
+      return onInvalidRequest.get();
+    }
+
+    int end = path.length();
+    if (end > 1 && path.charAt(end - 1) == '/') {
+      end--;
+    }
+
+    Node<T> current = root;
+    Registration<T> registration = current.find(path, 0, end, method);
+    if (registration != null) {
+      return registration.enabled ? registration.item : onDisabled.get();
+    }
+    return current.find(path, 0, end, null) != null ? onMethodMismatch.get() : onNotFound.get();
+  }
+
+  /**
+   * Transforms a registered path into its trie key: the trailing slash is dropped, URI parameter segments are replaced by
+   * {@link #PARAM}, wildcard segments by {@link #WILDCARD} and a trailing wildcard segment, along with the slash preceding it, by
+   * {@link #CATCH_ALL}.
+   */
+  static String toKey(String path) {
+    String normalized = path.startsWith("/") ? path : "/" + path;
+    if (normalized.length() > 1 && normalized.endsWith("/")) {
+      normalized = normalized.substring(0, normalized.length() - 1);
+    }
+
+    String[] segments = normalized.split("/", -1);
+    StringBuilder key = new StringBuilder(normalized.length());
+    for (int i = 1; i < segments.length; ++i) {
+      String segment = segments[i];
+      if ("*".equals(segment) && i == segments.length - 1) {
+        key.append(CATCH_ALL);
+        continue;
+      }
+
+      key.append('/');
+      if ("*".equals(segment)) {
+        key.append(WILDCARD);
+      } else if (segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}")) {
+        key.append(PARAM);
+      } else {
+        for (int j = 0; j < segment.length(); ++j) {
+          checkArgument(segment.charAt(j) > CATCH_ALL, format("path '%s' contains invalid characters", path));
+        }
+        key.append(segment);
+      }
+    }
+    return key.toString();
+  }
+
+  private static int commonPrefixLength(String label, String key, int offset) {
+    int max = Math.min(label.length(), key.length() - offset);
+    int i = 0;
+    while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+      ++i;
+    }
+    return i;
+  }
+
+  private static int segmentEnd(String path, int from, int end) {
+    int i = from;
+    while (i < end && path.charAt(i) != '/') {
+      ++i;
+    }
+    return i;
+  }
+
+  private static boolean accepts(Registration<?> registration, String method) {
+    if (registration.acceptsAllMethods) {
+      return true;
+    }
+    for (String accepted : registration.methods) {
+      if (accepted.equalsIgnoreCase(method)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Immutable node of the trie. The {@code label} of a node is the section of the key between its parent and itself, and its
+   * children are sorted by the first character of their labels, which makes the marker characters come before any literal one.
+   */
+  private static final class Node<T> {
+
+    private final String label;
+    private final char[] indices;
+    private final Node<T>[] children;
+    private final Registration<T>[] registrations;
+
+    private Node(String label, char[] indices, Node<T>[] children, Registration<T>[] registrations) {
+      this.label = label;
+      this.indices = indices;
+      this.children = children;
+      this.registrations = registrations;
+    }
+
+    private Registration<T> find(String path, int from, int end, String method) {
+      int pos = from;
+      for (int i = 0; i < label.length(); ++i) {
+        char c = label.charAt(i);
+        if (c == PARAM || c == WILDCARD) {
+          if (pos >= end || path.charAt(pos) == '/') {
+            return null;
+          }
+          pos = segmentEnd(path, pos, end);
+        } else if (c == CATCH_ALL) {
+          if (pos < end && path.charAt(pos) != '/') {
+            return null;
+          }
+          pos = end;
+        } else {
+          if (pos >= end || path.charAt(pos) != c) {
+            return null;
+          }
+          ++pos;
+        }
+      }
+
+      if (pos == end) {
+        Registration<T> registration = select(method);
+        if (registration != null) {
+          return registration;
+        }
+        // only a trailing wildcard may match an empty remainder
+        return findInChild(CATCH_ALL, path, pos, end, method);
+      }
+
+      char next = path.charAt(pos);
+      if (next > CATCH_ALL) {
+        Registration<T> registration = findInChild(next, path, pos, end, method);
+        if (registration != null) {
+          return registration;
+        }
+      }
+      for (char marker = PARAM; marker <= CATCH_ALL; ++marker) {
+        Registration<T> registration = findInChild(marker, path, pos, end, method);
+        if (registration != null) {
+          return registration;
+        }
+      }
+      return null;
+    }
+
+    private Registration<T> findInChild(char index, String path, int pos, int end, String method) {
+      int i = indexOf(index);
+      return i < 0 ? null : children[i].find(path, pos, end, method);
+    }
+
+    private Registration<T> select(String method) {
+      for (Registration<T> registration : registrations) {
+        if (method == null || accepts(registration, method)) {
+          return registration;
+        }
+      }
+      return null;
+    }
+
+    private int indexOf(char c) {
+      return binarySearch(indices, c);
+    }
+
+    private Node<T> insert(String key, int offset, Registration<T> registration) {
+      if (offset == key.length()) {
+        return new Node<>(label, indices, children, withRegistration(registration));
+      }
+
+      int index = indexOf(key.charAt(offset));
+      if (index < 0) {
+        Node<T> leaf = new Node<>(key.substring(offset), NO_INDICES, NO_CHILDREN, new Registration[] {registration});
+        return withChild(-index - 1, leaf, false);
+      }
+
+      Node<T> child = children[index];
+      int common = commonPrefixLength(child.label, key, offset);
+      if (common < child.label.length()) {
+        Node<T> lower = child.withLabel(child.label.substring(common));
+        child = new Node<>(child.label.substring(0, common), new char[] {lower.label.charAt(0)}, new Node[] {lower},
+                           NO_REGISTRATIONS);
+      }
+      return withChild(index, child.insert(key, offset + common, registration), true);
+    }
+
+    private Node<T> remove(String key, int offset, Registration<T> registration, boolean isRoot) {
+      Node<T> updated;
+      if (offset == key.length()) {
+        Registration<T>[] remaining = withoutRegistration(registration);
+        if (remaining == registrations) {
+          return this;
+        }
+        updated = new Node<>(label, indices, children, remaining);
+      } else {
+        int index = indexOf(key.charAt(offset));
+        if (index < 0 || !key.startsWith(children[index].label, offset)) {
+          return this;
+        }
+        Node<T> child = children[index];
+        Node<T> updatedChild = child.remove(key, offset + child.label.length(), registration, false);
+        if (updatedChild == child) {
+          return this;
+        }
+        updated = updatedChild == null ? withoutChild(index) : withChild(index, updatedChild, true);
+      }
+
+      if (isRoot || updated.registrations.length > 0) {
+        return updated;
+      }
+      if (updated.children.length == 0) {
+        return null;
+      }
+      if (updated.children.length == 1) {
+        Node<T> child = updated.children[0];
+        return child.withLabel(label + child.label);
+      }
+      return updated;
+    }
+
+    private Node<T> withLabel(String newLabel) {
+      return new Node<>(newLabel, indices, children, registrations);
+    }
+
+    private Node<T> withChild(int index, Node<T> child, boolean replace) {
+      char[] newIndices;
+      Node<T>[] newChildren;
+      if (replace) {
+        newIndices = indices;
+        newChildren = children.clone();
+      } else {
+        newIndices = new char[indices.length + 1];
+        newChildren = new Node[children.length + 1];
+        arraycopy(indices, 0, newIndices, 0, index);
+        arraycopy(children, 0, newChildren, 0, index);
+        arraycopy(indices, index, newIndices, index + 1, indices.length - index);
+        arraycopy(children, index, newChildren, index + 1, children.length - index);
+        newIndices[index] = child.label.charAt(0);
+      }
+      newChildren[index] = child;
+      return new Node<>(label, newIndices, newChildren, registrations);
+    }
+
+    private Node<T> withoutChild(int index) {
+      char[] newIndices = new char[indices.length - 1];
+      Node<T>[] newChildren = new Node[children.length - 1];
+      arraycopy(indices, 0, newIndices, 0, index);
+      arraycopy(children, 0, newChildren, 0, index);
+      arraycopy(indices, index + 1, newIndices, index, indices.length - index - 1);
+      arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+      return new Node<>(label, newIndices, newChildren, registrations);
+    }
+
+    /**
+     * Registrations accepting specific methods go before the ones accepting all of them, so the former take precedence.
+     */
+    private Registration<T>[] withRegistration(Registration<T> registration) {
+      MethodRequestMatcher methodMatcher = registration.matcher.getMethodRequestMatcher();
+      int position = registrations.length;
+      for (int i = 0; i < registrations.length; ++i) {
+        Registration<T> existing = registrations[i];
+        if (existing.matcher.getMethodRequestMatcher().intersectsWith(methodMatcher)) {
+          throw new MatcherCollisionException(createStaticMessage(format("Already registered '%s' for path '%s' and methods %s",
+                                                                         existing.matcher.getPath(),
+                                                                         registration.matcher.getPath(),
+                                                                         methodMatcher.getMethods())));
+        }
+        if (existing.acceptsAllMethods && !registration.acceptsAllMethods && position == registrations.length) {
+          position = i;
+        }
+      }
+
+      Registration<T>[] updated = new Registration[registrations.length + 1];
+      arraycopy(registrations, 0, updated, 0, position);
+      arraycopy(registrations, position, updated, position + 1, registrations.length - position);
+      updated[position] = registration;
+      return updated;
+    }
+
+    private Registration<T>[] withoutRegistration(Registration<T> registration) {
+      for (int i = 0; i < registrations.length; ++i) {
+        if (registrations[i] == registration) {
+          Registration<T>[] updated = new Registration[registrations.length - 1];
+          arraycopy(registrations, 0, updated, 0, i);
+          arraycopy(registrations, i + 1, updated, i, registrations.length - i - 1);
+          return updated;
+        }
+      }
+      return registrations;
+    }
+  }
+
+  private static final class Registration<T> implements RequestMatcherRegistryEntry {
+
+    private final RadixTrieRequestMatcherRegistry<T> registry;
+    private final String key;
+    private final PathAndMethodRequestMatcher matcher;
+    private final T item;
+    private final boolean acceptsAllMethods;
+    private final List<String> methods;
+    private volatile boolean enabled = true;
+
+    private Registration(RadixTrieRequestMatcherRegistry<T> registry, String key, PathAndMethodRequestMatcher matcher,
+                         T item) {
+      this.registry = registry;
+      this.key = key;
+      this.matcher = matcher;
+      this.item = item;
+      this.acceptsAllMethods = matcher.getMethodRequestMatcher().acceptsAll();
+      this.methods = matcher.getMethodRequestMatcher().getMethods();
+    }
+
+    @Override
+    public void disable() {
+      enabled = false;
+    }
+
+    @Override
+    public void enable() {
+      enabled = true;
+    }
+
+    @Override
+    public void remove() {
+      synchronized (registry.updateLock) {
+        registry.root = registry.root.remove(key, 0, this, true);
+      }
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.http.api.HttpService;
+import org.mule.runtime.http.api.utils.RequestMatcherRegistry.RequestMatcherRegistryBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link RequestMatcherRegistryBuilder} of registries backed by a compressed radix trie of the registered paths, which
+ * {@link HttpService} implementations may return from {@link HttpService#getRequestMatcherRegistryBuilder()}.
+ * <p>
+ * Lookups in the built registries don't lock and their cost depends on the length of the requested path rather than on the
+ * amount of registered paths.
+ *
+ * @param <T> the type of object associated to the registry
+ * @since 4.4
+ */
+public class RadixTrieRequestMatcherRegistryBuilder<T> implements RequestMatcherRegistryBuilder<T> {
+
+  private Supplier<T> onMethodMismatch = () -> null;
+  private Supplier<T> onNotFound = () -> null;
+  private Supplier<T> onInvalidRequest = () -> null;
+  private Supplier<T> onDisabled = () -> null;
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onMethodMismatch(Supplier<T> itemSupplier) {
+    checkArgument(itemSupplier != null, "item supplier cannot be null");
+    this.onMethodMismatch = itemSupplier;
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onNotFound(Supplier<T> itemSupplier) {
+    checkArgument(itemSupplier != null, "item supplier cannot be null");
+    this.onNotFound = itemSupplier;
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onInvalidRequest(Supplier<T> itemSupplier) {
+    checkArgument(itemSupplier != null, "item supplier cannot be null");
+    this.onInvalidRequest = itemSupplier;
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistryBuilder<T> onDisabled(Supplier<T> itemSupplier) {
+    checkArgument(itemSupplier != null, "item supplier cannot be null");
+    this.onDisabled = itemSupplier;
+    return this;
+  }
+
+  @Override
+  public RequestMatcherRegistry<T> build() {
+    return new RadixTrieRequestMatcherRegistry<>(onMethodMismatch, onNotFound, onInvalidRequest, onDisabled);
+  }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.lang.Character.digit;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import org.mule.runtime.api.util.MultiMap;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Single pass decoder of {@code application/x-www-form-urlencoded} content, with the same results as splitting the content on
+ * {@code &} and {@code =} and decoding each part with {@link java.net.URLDecoder}.
+ * <p>
+ * Content already held as characters is decoded through {@link #decode(CharSequence, Charset, MultiMap)}, which takes
+ * substrings of the parts with no escapes instead of decoding them. Binary content is decoded by feeding its bytes to an instance
+ * through {@link #accept(byte[], int, int)}, so it doesn't need to be fully read in memory. The latter only applies to charsets
+ * where {@code %}, {@code &}, {@code +}, {@code =} and hex digits are encoded as in ASCII, as checked by
+ * {@link #isAsciiCompatible(Charset)}.
+ *
+ * @since 4.4
+ */
+final class UrlEncodedDecoder {
+
+  private static final String ILLEGAL_HEX_CHARACTERS = "URLDecoder: Illegal hex characters in escape (%) pattern";
+  private static final String INCOMPLETE_ESCAPE = "URLDecoder: Incomplete trailing escape (%) pattern";
+
+  private static final String ASCII_PROBE = "%&+=0123456789ABCDEFabcdef";
+
+  private final Charset encoding;
+  private final MultiMap<String, String> target;
+
+  private byte[] part = new byte[32];
+  private int partLength;
+  private String name;
+  private boolean nameComplete;
+  private boolean pairStarted;
+  private int pendingEmptyPairs;
+  private int escapeDigits = -1;
+  private int escapedByte;
+  private boolean blank = true;
+
+  UrlEncodedDecoder(Charset encoding, MultiMap<String, String> target) {
+    this.encoding = encoding;
+    this.target = target;
+  }
+
+  /**
+   * Decodes {@code encoded} into {@code target}.
+   *
+   * @param encoded the url-encoded content
+   * @param encoding the charset of the escaped bytes
+   * @param target the map to put the decoded parameters in
+   */
+  static void decode(CharSequence encoded, Charset encoding, MultiMap<String, String> target) {
+    int length = encoded.length();
+    int pendingEmptyPairs = 0;
+    int pairStart = 0;
+    while (pairStart < length) {
+      int pairEnd = indexOf(encoded, '&', pairStart, length);
+      if (pairEnd == pairStart) {
+        // empty pairs are only kept if followed by a non empty one, as String#split does
+        ++pendingEmptyPairs;
+      } else {
+        for (; pendingEmptyPairs > 0; --pendingEmptyPairs) {
+          target.put("", (String) null);
+        }
+        int separator = indexOf(encoded, '=', pairStart, pairEnd);
+        if (separator == pairEnd) {
+          target.put(decode(encoded, pairStart, pairEnd, encoding), (String) null);
+        } else {
+          target.put(decode(encoded, pairStart, separator, encoding), decode(encoded, separator + 1, pairEnd, encoding));
+        }
+      }
+      pairStart = pairEnd + 1;
+    }
+  }
+
+  private static int indexOf(CharSequence sequence, char c, int from, int to) {
+    for (int i = from; i < to; ++i) {
+      if (sequence.charAt(i) == c) {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private static String decode(CharSequence encoded, int from, int to, Charset encoding) {
+    int i = from;
+    while (i < to && encoded.charAt(i) != '%' && encoded.charAt(i) != '+') {
+      ++i;
+    }
+    if (i == to) {
+      return encoded.subSequence(from, to).toString();
+    }
+
+    StringBuilder decoded = new StringBuilder(to - from);
+    decoded.append(encoded, from, i);
+    byte[] bytes = null;
+    while (i < to) {
+      char c = encoded.charAt(i);
+      if (c == '+') {
+        decoded.append(' ');
+        ++i;
+      } else if (c == '%') {
+        if (bytes == null) {
+          bytes = new byte[(to - i) / 3];
+        }
+        int count = 0;
+        while (i < to && encoded.charAt(i) == '%') {
+          if (i + 2 >= to) {
+            throw new IllegalArgumentException(INCOMPLETE_ESCAPE);
+          }
+          bytes[count++] = (byte) ((hexDigit(encoded.charAt(i + 1)) << 4) | hexDigit(encoded.charAt(i + 2)));
+          i += 3;
+        }
+        decoded.append(new String(bytes, 0, count, encoding));
+      } else {
+        decoded.append(c);
+        ++i;
+      }
+    }
+    return decoded.toString();
+  }
+
+  private static int hexDigit(int c) {
+    int digit = digit(c, 16);
+    if (digit < 0) {
+      throw new IllegalArgumentException(ILLEGAL_HEX_CHARACTERS);
+    }
+    return digit;
+  }
+
+  /**
+   * @param encoding a charset
+   * @return whether {@code encoding} represents the characters with a meaning in url-encoded content as ASCII does
+   */
+  static boolean isAsciiCompatible(Charset encoding) {
+    return encoding.equals(UTF_8) || encoding.equals(ISO_8859_1) || encoding.equals(US_ASCII)
+        || Arrays.equals(ASCII_PROBE.getBytes(encoding), ASCII_PROBE.getBytes(US_ASCII));
+  }
+
+  /**
+   * Decodes the next chunk of the content.
+   *
+   * @param bytes the buffer holding the chunk
+   * @param offset the position of the chunk in {@code bytes}
+   * @param length the length of the chunk
+   */
+  void accept(byte[] bytes, int offset, int length) {
+    for (int i = offset; i < offset + length; ++i) {
+      accept(bytes[i]);
+    }
+  }
+
+  /**
+   * Decodes the next byte of the content.
+   *
+   * @param b the byte
+   */
+  void accept(byte b) {
+    if (blank && (b & 0xFF) > ' ') {
+      blank = false;
+    }
+
+    if (escapeDigits >= 0) {
+      escapedByte = (escapedByte << 4) | hexDigit(b & 0xFF);
+      if (++escapeDigits == 2) {
+        append((byte) escapedByte);
+        escapeDigits = -1;
+      }
+      return;
+    }
+
+    switch (b) {
+      case '&':
+        completePair();
+        break;
+      case '=':
+        pairStarted = true;
+        if (nameComplete) {
+          append(b);
+        } else {
+          name = completePart();
+          nameComplete = true;
+        }
+        break;
+      case '+':
+        pairStarted = true;
+        append((byte) ' ');
+        break;
+      case '%':
+        pairStarted = true;
+        escapeDigits = 0;
+        escapedByte = 0;
+        break;
+      default:
+        pairStarted = true;
+        append(b);
+    }
+  }
+
+  /**
+   * Completes the decoding once all the content was accepted.
+   *
+   * @return whether the content had any non whitespace character
+   */
+  boolean complete() {
+    if (escapeDigits >= 0) {
+      throw new IllegalArgumentException(INCOMPLETE_ESCAPE);
+    }
+    completePair();
+    return !blank;
+  }
+
+  private void append(byte b) {
+    if (partLength == part.length) {
+      part = copyOf(part, part.length * 2);
+    }
+    part[partLength++] = b;
+  }
+
+  private String completePart() {
+    String decoded = new String(part, 0, partLength, encoding);
+    partLength = 0;
+    return decoded;
+  }
+
+  private void completePair() {
+    if (!pairStarted) {
+      ++pendingEmptyPairs;
+      return;
+    }
+
+    for (; pendingEmptyPairs > 0; --pendingEmptyPairs) {
+      target.put("", (String) null);
+    }
+    if (nameComplete) {
+      target.put(name, completePart());
+    } else {
+      target.put(completePart(), (String) null);
+    }
+    name = null;
+    nameComplete = false;
+    pairStarted = false;
+  }
+}
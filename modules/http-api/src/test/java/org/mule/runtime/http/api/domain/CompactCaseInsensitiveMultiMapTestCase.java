@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.http.api.domain;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.domain.CaseInsensitiveMultiMap.unmodifiableCaseInsensitiveMultiMap;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.MULTI_MAP;
+
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMapTestCase;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(MULTI_MAP)
+public class CompactCaseInsensitiveMultiMapTestCase extends MultiMapTestCase {
+
+  public CompactCaseInsensitiveMultiMapTestCase(Supplier<MultiMap<String, String>> mapSupplier,
+                                                Function<MultiMap<String, String>, MultiMap<String, String>> mapCopier) {
+    super(mapSupplier, mapCopier);
+  }
+
+  @Parameters
+  public static Collection<Object[]> data() {
+    return asList(new Object[][] {
+        {(Supplier<MultiMap<String, String>>) (CompactCaseInsensitiveMultiMap::new),
+            (Function<MultiMap<String, String>, MultiMap<String, String>>) (CompactCaseInsensitiveMultiMap::new)},
+        {(Supplier<MultiMap<String, String>>) (() -> new CompactCaseInsensitiveMultiMap(false)),
+            (Function<MultiMap<String, String>, MultiMap<String, String>>) (m -> new CompactCaseInsensitiveMultiMap(m, false))}
+    });
+  }
+
+  @Test
+  public void aggregatesSameCaseKeys() {
+    assertThat(multiMap.put("kEy", VALUE_1), nullValue());
+    assertThat(multiMap.put("KeY", VALUE_2), is(VALUE_1));
+    assertThat(multiMap.get("key"), is(VALUE_1));
+    assertThat(multiMap.getAll("KEY"), is(asList(VALUE_1, VALUE_2)));
+    assertThat(multiMap.size(), is(1));
+  }
+
+  @Test
+  public void optimizedKeysAreLowercase() {
+    CompactCaseInsensitiveMultiMap map = new CompactCaseInsensitiveMultiMap();
+    map.put("Content-Type", VALUE_1);
+    map.put("CONTENT-TYPE", VALUE_2);
+
+    assertThat(map.keySet(), contains("content-type"));
+  }
+
+  @Test
+  public void notOptimizedKeysKeepFirstCase() {
+    CompactCaseInsensitiveMultiMap map = new CompactCaseInsensitiveMultiMap(false);
+    map.put("Content-Type", VALUE_1);
+    map.put("CONTENT-TYPE", VALUE_2);
+
+    assertThat(map.keySet(), contains("Content-Type"));
+  }
+
+  @Test
+  public void manyKeys() {
+    for (int i = 0; i < 100; ++i) {
+      multiMap.put("Header-" + i, VALUE_1 + i);
+    }
+    multiMap.remove("HEADER-50");
+
+    assertThat(multiMap.size(), is(99));
+    assertThat(multiMap.get("header-50"), nullValue());
+    for (int i = 0; i < 100; ++i) {
+      if (i != 50) {
+        assertThat(multiMap.get("HEADER-" + i), is(VALUE_1 + i));
+      }
+    }
+  }
+
+  @Test
+  public void nonAsciiKeys() {
+    multiMap.put("ÀÉÎ", VALUE_1);
+
+    assertThat(multiMap.get("àéî"), is(VALUE_1));
+  }
+
+  @Test
+  public void snapshotIsNotAffectedByLaterChanges() {
+    multiMap.put(KEY_1, VALUE_1);
+    multiMap.put(KEY_2, VALUE_1);
+    multiMap.put(KEY_2, VALUE_2);
+    MultiMap<String, String> snapshot = multiMap.toImmutableMultiMap();
+
+    multiMap.put(KEY_2, VALUE_1);
+    multiMap.put(KEY_3, VALUE_1);
+    multiMap.remove(KEY_1);
+
+    assertThat(snapshot.size(), is(2));
+    assertThat(snapshot.getAll(KEY_1), is(asList(VALUE_1)));
+    assertThat(snapshot.getAll(KEY_2), is(asList(VALUE_1, VALUE_2)));
+    assertThat(snapshot.getAll(KEY_3), is(empty()));
+    assertThat(multiMap.getAll(KEY_2), is(asList(VALUE_1, VALUE_2, VALUE_1)));
+  }
+
+  @Test
+  public void equalsIgnoringCase() {
+    CompactCaseInsensitiveMultiMap otherMultiMap =
+        new CompactCaseInsensitiveMultiMap(((CompactCaseInsensitiveMultiMap) multiMap).optimized);
+    otherMultiMap.put("hello", "there");
+    multiMap.put("HellO", "there");
+
+    assertThat(multiMap, is(equalTo(otherMultiMap)));
+    assertThat(otherMultiMap, is(equalTo(multiMap)));
+    assertThat(multiMap.hashCode(), is(otherMultiMap.hashCode()));
+  }
+
+  @Test
+  public void notEqualsCaseInsensitiveMultiMap() {
+    CaseInsensitiveMultiMap otherMultiMap = new CaseInsensitiveMultiMap(((CompactCaseInsensitiveMultiMap) multiMap).optimized);
+    otherMultiMap.put("hello", "there");
+    multiMap.put("hello", "there");
+
+    assertThat(multiMap, is(not(equalTo(otherMultiMap))));
+    assertThat(otherMultiMap, is(not(equalTo(multiMap))));
+  }
+
+  @Test
+  public void unmodifiableSnapshotIsNotWrapped() {
+    multiMap.put(KEY_1, VALUE_1);
+    AbstractCaseInsensitiveMultiMap snapshot = ((CompactCaseInsensitiveMultiMap) multiMap).toImmutableMultiMap();
+
+    assertThat(unmodifiableCaseInsensitiveMultiMap(snapshot), is(sameInstance(snapshot)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutableFailsOnPut() {
+    multiMap.toImmutableMultiMap().put(KEY_1, VALUE_1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutableFailsOnRemove() {
+    multiMap.put(KEY_1, VALUE_1);
+    multiMap.toImmutableMultiMap().remove(KEY_1);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutableFailsOnClear() {
+    multiMap.put(KEY_1, VALUE_1);
+    multiMap.toImmutableMultiMap().clear();
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.server.HttpServerProperties.COMPACT_HEADERS_PROPERTY;
+import static org.mule.runtime.http.api.server.HttpServerProperties.refreshSystemProperties;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.MULTI_MAP;
+
+import org.mule.runtime.http.api.domain.message.request.HttpRequest;
+import org.mule.runtime.http.api.domain.message.response.HttpResponse;
+import org.mule.runtime.http.api.domain.message.response.HttpResponseBuilder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(MULTI_MAP)
+public class CompactHeadersTestCase {
+
+  @Before
+  public void before() {
+    setProperty(COMPACT_HEADERS_PROPERTY, "true");
+    refreshSystemProperties();
+  }
+
+  @After
+  public void after() {
+    clearProperty(COMPACT_HEADERS_PROPERTY);
+    refreshSystemProperties();
+  }
+
+  @Test
+  public void requestHeaders() {
+    HttpRequest request = HttpRequest.builder()
+        .uri("http://localhost:8081/path")
+        .addHeader("Content-Type", "text/plain")
+        .addHeader("Accept", "text/plain")
+        .addHeader("ACCEPT", "application/json")
+        .build();
+
+    assertThat(request.getHeaders(), is(instanceOf(CompactCaseInsensitiveMultiMap.class)));
+    assertThat(request.getHeaderNames(), contains("content-type", "accept"));
+    assertThat(request.getHeaderValue("content-type"), is("text/plain"));
+    assertThat(request.getHeaderValues("Accept"), contains("text/plain", "application/json"));
+  }
+
+  @Test
+  public void requestHeadersPreservingCase() {
+    HttpRequest request = HttpRequest.builder(true)
+        .uri("http://localhost:8081/path")
+        .addHeader("Content-Type", "text/plain")
+        .build();
+
+    assertThat(request.getHeaders(), is(instanceOf(CompactCaseInsensitiveMultiMap.class)));
+    assertThat(request.getHeaderNames(), contains("Content-Type"));
+    assertThat(request.getHeaderValue("CONTENT-TYPE"), is("text/plain"));
+  }
+
+  @Test
+  public void responseHeaders() {
+    HttpResponse response = HttpResponse.builder()
+        .addHeader("Content-Type", "text/plain")
+        .build();
+
+    assertThat(response.getHeaders(), is(instanceOf(CompactCaseInsensitiveMultiMap.class)));
+    assertThat(response.getHeaderValue("content-type"), is("text/plain"));
+  }
+
+  @Test
+  public void copiedResponseHeaders() {
+    HttpResponse response = HttpResponse.builder()
+        .addHeader("Content-Type", "text/plain")
+        .build();
+    HttpResponse copy = new HttpResponseBuilder(response).addHeader("Content-Length", "0").build();
+
+    assertThat(copy.getHeaders(), is(instanceOf(CompactCaseInsensitiveMultiMap.class)));
+    assertThat(copy.getHeaderNames(), contains("content-type", "content-length"));
+  }
+
+  @Test
+  public void caseInsensitiveMultiMapByDefault() {
+    clearProperty(COMPACT_HEADERS_PROPERTY);
+    refreshSystemProperties();
+
+    HttpResponse response = HttpResponse.builder().addHeader("Content-Type", "text/plain").build();
+
+    assertThat(response.getHeaders(), is(instanceOf(CaseInsensitiveMultiMap.class)));
+  }
+}
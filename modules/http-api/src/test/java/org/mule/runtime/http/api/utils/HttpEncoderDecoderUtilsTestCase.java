@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.lang.Math.min;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedBody;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedBuffer;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedStream;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HttpStory.URL_ENCODED;
+
+import org.mule.runtime.api.util.MultiMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature(HTTP_SERVICE)
+@Story(URL_ENCODED)
+public class HttpEncoderDecoderUtilsTestCase {
+
+  private static final String[] INPUTS = {
+      "a=1",
+      "a=1&b=2&a=3",
+      "a",
+      "a=",
+      "=1",
+      "a=1=2",
+      "&a=1",
+      "a=1&&b=2",
+      "a=1&",
+      "a=1&&&",
+      "&",
+      "name=John+Doe&city=S%C3%A3o+Paulo",
+      "k%20ey=va%2Blue%26more",
+      "emoji=%F0%9F%98%80&mixed=a%41b%42c",
+      "raw=café&x=á%C3%A1",
+      " a = 1 ",
+      "%3D=%26"
+  };
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void decodesAsUrlDecoder() throws IOException {
+    for (String input : INPUTS) {
+      Map<String, List<String>> expected = legacyDecode(input, UTF_8);
+      assertDecoded(input, decodeQueryString(input), expected);
+      assertDecoded(input, decodeUrlEncodedBody(input, UTF_8), expected);
+      assertDecoded(input, decodeUrlEncodedBuffer(wrap(input.getBytes(UTF_8)), UTF_8), expected);
+      assertDecoded(input, decodeUrlEncodedBuffer(direct(input, UTF_8), UTF_8), expected);
+      assertDecoded(input, decodeUrlEncodedStream(new ChunkedInputStream(input.getBytes(UTF_8)), UTF_8), expected);
+    }
+  }
+
+  @Test
+  public void decodesWithOtherCharsets() throws IOException {
+    String input = "name=Jos%E9&city=M%E1laga";
+    Map<String, List<String>> expected = legacyDecode(input, ISO_8859_1);
+    assertDecoded(input, decodeUrlEncodedBody(input, ISO_8859_1), expected);
+    assertDecoded(input, decodeUrlEncodedBuffer(wrap(input.getBytes(ISO_8859_1)), ISO_8859_1), expected);
+    assertDecoded(input, decodeUrlEncodedStream(new ChunkedInputStream(input.getBytes(UTF_16)), UTF_16),
+                  legacyDecode(input, UTF_16));
+  }
+
+  @Test
+  public void blankContent() throws IOException {
+    assertThat(decodeUrlEncodedBody(null, UTF_8).isEmpty(), is(true));
+    assertThat(decodeUrlEncodedBody("  ", UTF_8).isEmpty(), is(true));
+    assertThat(decodeUrlEncodedBuffer(wrap(" \t".getBytes(UTF_8)), UTF_8).isEmpty(), is(true));
+    assertThat(decodeUrlEncodedStream(new ByteArrayInputStream(new byte[0]), UTF_8).isEmpty(), is(true));
+  }
+
+  @Test
+  public void bufferPositionIsKept() {
+    ByteBuffer buffer = wrap("ignored&a=1&b=2".getBytes(UTF_8));
+    buffer.position("ignored&".length());
+
+    MultiMap<String, String> params = decodeUrlEncodedBuffer(buffer, UTF_8);
+
+    assertThat(params.getAll("a"), contains("1"));
+    assertThat(params.getAll("b"), contains("2"));
+    assertThat(params.get("ignored"), is(nullValue()));
+    assertThat(buffer.position(), is("ignored&".length()));
+  }
+
+  @Test
+  public void illegalEscape() {
+    expectedException.expect(IllegalArgumentException.class);
+    decodeUrlEncodedBody("a=%G1", UTF_8);
+  }
+
+  @Test
+  public void incompleteEscape() {
+    expectedException.expect(IllegalArgumentException.class);
+    decodeUrlEncodedBody("a=1%2", UTF_8);
+  }
+
+  @Test
+  public void incompleteEscapeInStream() throws IOException {
+    expectedException.expect(IllegalArgumentException.class);
+    decodeUrlEncodedStream(new ByteArrayInputStream("a=1%2".getBytes(UTF_8)), UTF_8);
+  }
+
+  private static void assertDecoded(String input, MultiMap<String, String> actual, Map<String, List<String>> expected) {
+    assertThat(input, new LinkedHashMap<>(actual.toListValuesMap()), equalTo(expected));
+  }
+
+  private static ByteBuffer direct(String input, Charset encoding) {
+    byte[] bytes = input.getBytes(encoding);
+    ByteBuffer buffer = allocateDirect(bytes.length);
+    buffer.put(bytes);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * The decoding as done before it was done in a single pass.
+   */
+  private static Map<String, List<String>> legacyDecode(String queryString, Charset encoding) throws IOException {
+    Map<String, List<String>> params = new LinkedHashMap<>();
+    if (queryString.trim().length() > 0) {
+      for (String pair : queryString.split("&")) {
+        int idx = pair.indexOf("=");
+        String name = URLDecoder.decode(idx != -1 ? pair.substring(0, idx) : pair, encoding.name());
+        String value = idx != -1 ? URLDecoder.decode(pair.substring(idx + 1), encoding.name()) : null;
+        params.computeIfAbsent(name, k -> new LinkedList<>()).add(value);
+      }
+    }
+    return params;
+  }
+
+  /**
+   * Returns at most 3 bytes per read, so that escapes and multi-byte characters are split between reads.
+   */
+  private static class ChunkedInputStream extends ByteArrayInputStream {
+
+    public ChunkedInputStream(byte[] buf) {
+      super(buf);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, min(len, 3));
+    }
+
+    @Override
+    public int read(byte[] b) {
+      return read(b, 0, b.length);
+    }
+  }
+}
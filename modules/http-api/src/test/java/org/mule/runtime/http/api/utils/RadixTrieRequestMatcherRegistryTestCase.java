@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.test.allure.AllureConstants.HttpFeature.HTTP_SERVICE;
+
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+import org.mule.runtime.http.api.utils.RequestMatcherRegistry.RequestMatcherRegistryEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import io.qameta.allure.Feature;
+
+@Feature(HTTP_SERVICE)
+public class RadixTrieRequestMatcherRegistryTestCase {
+
+  private static final String METHOD_MISMATCH = "method mismatch";
+  private static final String NOT_FOUND = "not found";
+  private static final String INVALID_REQUEST = "invalid request";
+  private static final String DISABLED = "disabled";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private RequestMatcherRegistry<String> registry;
+
+  @Before
+  public void before() {
+    registry = new RadixTrieRequestMatcherRegistryBuilder<String>()
+        .onMethodMismatch(() -> METHOD_MISMATCH)
+        .onNotFound(() -> NOT_FOUND)
+        .onInvalidRequest(() -> INVALID_REQUEST)
+        .onDisabled(() -> DISABLED)
+        .build();
+  }
+
+  @Test
+  public void exactPath() {
+    add("/api/users", "users");
+    add("/api/user", "user");
+
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+    assertThat(registry.find("GET", "/api/users/"), is("users"));
+    assertThat(registry.find("GET", "/api/user"), is("user"));
+    assertThat(registry.find("GET", "/api/use"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/users/1"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void rootPath() {
+    add("/", "root");
+
+    assertThat(registry.find("GET", "/"), is("root"));
+    assertThat(registry.find("GET", "/other"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void uriParameters() {
+    add("/api/users/{id}", "user");
+    add("/api/users/{id}/orders/{order}", "order");
+
+    assertThat(registry.find("GET", "/api/users/1"), is("user"));
+    assertThat(registry.find("GET", "/api/users/1/orders/2"), is("order"));
+    assertThat(registry.find("GET", "/api/users/1/orders"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/users//orders/2"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void literalTakesPrecedenceOverParameter() {
+    add("/api/users/{id}", "user");
+    add("/api/users/me", "me");
+
+    assertThat(registry.find("GET", "/api/users/me"), is("me"));
+    assertThat(registry.find("GET", "/api/users/mee"), is("user"));
+    assertThat(registry.find("GET", "/api/users/m"), is("user"));
+  }
+
+  @Test
+  public void backtracksToLessSpecificPath() {
+    add("/api/users/me/profile", "profile");
+    add("/api/users/{id}/orders", "orders");
+
+    assertThat(registry.find("GET", "/api/users/me/orders"), is("orders"));
+    assertThat(registry.find("GET", "/api/users/me/profile"), is("profile"));
+  }
+
+  @Test
+  public void trailingWildcard() {
+    add("/api/*", "api");
+    add("/api/users/*", "users");
+
+    assertThat(registry.find("GET", "/api"), is("api"));
+    assertThat(registry.find("GET", "/api/orders/1"), is("api"));
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+    assertThat(registry.find("GET", "/api/users/1/orders"), is("users"));
+    assertThat(registry.find("GET", "/apis"), is(NOT_FOUND));
+  }
+
+  @Test
+  public void rootWildcard() {
+    add("/*", "all");
+    add("/api/users", "users");
+
+    assertThat(registry.find("GET", "/"), is("all"));
+    assertThat(registry.find("GET", "/api"), is("all"));
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+  }
+
+  @Test
+  public void wildcardSegment() {
+    add("/api/*/orders", "orders");
+    add("/api/{version}/orders", "versioned");
+    add("/api/*", "api");
+
+    assertThat(registry.find("GET", "/api/v1/orders"), is("versioned"));
+    assertThat(registry.find("GET", "/api/v1/users"), is("api"));
+  }
+
+  @Test
+  public void methodMismatch() {
+    add("/api/users", "get", "GET");
+    add("/api/users", "post", "POST");
+
+    assertThat(registry.find("GET", "/api/users"), is("get"));
+    assertThat(registry.find("post", "/api/users"), is("post"));
+    assertThat(registry.find("DELETE", "/api/users"), is(METHOD_MISMATCH));
+  }
+
+  @Test
+  public void methodMismatchFallsBackToOtherPath() {
+    add("/api/users/me", "me", "GET");
+    add("/api/users/{id}", "user", "DELETE");
+
+    assertThat(registry.find("DELETE", "/api/users/me"), is("user"));
+    assertThat(registry.find("PUT", "/api/users/me"), is(METHOD_MISMATCH));
+  }
+
+  @Test
+  public void specificMethodsTakePrecedenceOverAllMethods() {
+    add("/api/users", "all");
+    add("/api/users", "get", "GET");
+
+    assertThat(registry.find("GET", "/api/users"), is("get"));
+    assertThat(registry.find("POST", "/api/users"), is("all"));
+  }
+
+  @Test
+  public void disableAndEnable() {
+    RequestMatcherRegistryEntry entry = add("/api/users", "users");
+
+    entry.disable();
+    assertThat(registry.find("GET", "/api/users"), is(DISABLED));
+
+    entry.enable();
+    assertThat(registry.find("GET", "/api/users"), is("users"));
+  }
+
+  @Test
+  public void remove() {
+    RequestMatcherRegistryEntry users = add("/api/users", "users");
+    RequestMatcherRegistryEntry user = add("/api/users/{id}", "user");
+    add("/api/user", "single");
+
+    users.remove();
+    assertThat(registry.find("GET", "/api/users"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/users/1"), is("user"));
+    assertThat(registry.find("GET", "/api/user"), is("single"));
+
+    user.remove();
+    assertThat(registry.find("GET", "/api/users/1"), is(NOT_FOUND));
+    assertThat(registry.find("GET", "/api/user"), is("single"));
+
+    add("/api/users", "again");
+    assertThat(registry.find("GET", "/api/users"), is("again"));
+  }
+
+  @Test
+  public void invalidRequest() {
+    add("/*", "all");
+
+    assertThat(registry.find("GET", "api"), is(INVALID_REQUEST));
+    assertThat(registry.find("GET", ""), is(INVALID_REQUEST));
+  }
+
+  @Test
+  public void collisionOnSamePath() {
+    add("/api/users", "get", "GET", "POST");
+
+    expectedException.expect(MatcherCollisionException.class);
+    add("/api/users/", "other", "POST");
+  }
+
+  @Test
+  public void collisionOnParameterNames() {
+    add("/api/users/{id}", "user");
+
+    expectedException.expect(MatcherCollisionException.class);
+    add("/api/users/{name}", "other");
+  }
+
+  @Test
+  public void parametersAndWildcardsDoNotCollide() {
+    add("/api/{id}", "param");
+    add("/api/*", "wildcard");
+
+    assertThat(registry.find("GET", "/api/1"), is("param"));
+    assertThat(registry.find("GET", "/api/1/2"), is("wildcard"));
+  }
+
+  private RequestMatcherRegistryEntry add(String path, String item, String... methods) {
+    MethodRequestMatcher methodMatcher = methods.length == 0 ? MethodRequestMatcher.acceptAll()
+        : MethodRequestMatcher.builder(asList(methods)).build();
+    return registry.add(PathAndMethodRequestMatcher.builder().path(path).methodRequestMatcher(methodMatcher).build(), item);
+  }
+}
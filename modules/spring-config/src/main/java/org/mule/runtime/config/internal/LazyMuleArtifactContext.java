@@ -8,13 +8,17 @@ package org.mule.runtime.config.internal;
 
 import static com.google.common.collect.ImmutableSet.copyOf;
 import static com.google.common.collect.Sets.newHashSet;
+import static java.lang.Boolean.parseBoolean;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.sort;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.exception.ExceptionUtils.hasCause;
 import static org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType.OPERATION;
@@ -33,9 +37,13 @@ import static org.mule.runtime.config.internal.LazyConnectivityTestingService.NO
 import static org.mule.runtime.config.internal.LazyValueProviderService.NON_LAZY_VALUE_PROVIDER_SERVICE;
 import static org.mule.runtime.config.internal.parsers.generic.AutoIdUtils.uniqueValue;
 import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ON_DEMAND_INIT_WARM_UP_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_SECURITY_MANAGER;
+import static org.mule.runtime.core.api.construct.Flow.INITIAL_STATE_STOPPED;
+import static org.mule.runtime.core.api.context.notification.MuleContextNotification.CONTEXT_STARTED;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.mule.runtime.core.internal.metadata.cache.AbstractPersistentMetadataCacheManager.getPersistentMetadataCacheManagerType;
 import static org.mule.runtime.core.internal.metadata.cache.MetadataCacheManager.METADATA_CACHE_MANAGER_KEY;
 import static org.mule.runtime.core.internal.store.SharedPartitionedPersistentObjectStore.SHARED_PERSISTENT_OBJECT_STORE_KEY;
 import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.unregisterObject;
@@ -54,6 +62,8 @@ import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.meta.model.stereotype.HasStereotypeModel;
 import org.mule.runtime.api.metadata.MetadataService;
+import org.mule.runtime.api.notification.IntegerAction;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.ObjectStoreManager;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.api.value.ValueProviderService;
@@ -66,10 +76,12 @@ import org.mule.runtime.config.internal.dsl.model.SpringComponentModel;
 import org.mule.runtime.config.internal.model.ComponentBuildingDefinitionRegistryFactory;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.bootstrap.ArtifactType;
+import org.mule.runtime.core.api.context.notification.MuleContextNotification;
+import org.mule.runtime.core.api.context.notification.MuleContextNotificationListener;
 import org.mule.runtime.core.api.transaction.TransactionManagerFactory;
 import org.mule.runtime.core.internal.connectivity.DefaultConnectivityTestingService;
 import org.mule.runtime.core.internal.metadata.MuleMetadataService;
-import org.mule.runtime.core.internal.metadata.cache.DefaultPersistentMetadataCacheManager;
+import org.mule.runtime.core.internal.metadata.cache.AbstractPersistentMetadataCacheManager;
 import org.mule.runtime.core.internal.metadata.cache.DelegateMetadataCacheManager;
 import org.mule.runtime.core.internal.security.DefaultMuleSecurityManager;
 import org.mule.runtime.core.internal.store.SharedPartitionedPersistentObjectStore;
@@ -93,6 +105,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
@@ -107,6 +122,11 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
  * Implementation of {@link MuleArtifactContext} that allows to create configuration components lazily.
  * <p/>
  * Components will be created upon request to use the from the exposed services.
+ * <p/>
+ * When created for on demand initialization, components are never recreated. The flows with message sources and their
+ * dependencies are created at startup, and any other top level component is added on first reference by name, from a dynamic
+ * {@code flow-ref} or a registry lookup by name, or by a background warm-up once the artifact is started. Lookups by type only
+ * find the components already created.
  *
  * @since 4.0
  */
@@ -128,6 +148,19 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
   private final Set<String> currentComponentLocationsRequested = new HashSet<>();
   private boolean appliedStartedPhaseRequest = false;
 
+  private final boolean onDemandInit;
+  private final Set<String> createdComponentLocations = newKeySet();
+  // Serializes the creation of beans on demand, the lifecycle of the created components is applied outside of it
+  private final Object onDemandCreationLock = new Object();
+  // The locations of the top level components that can be created on demand, by name
+  private volatile Map<String, String> onDemandComponentLocations = emptyMap();
+  // Completed once the component at a location created on demand is available, with its lifecycle applied
+  private final Map<String, CompletableFuture<Void>> componentsInitializedOnDemand = new ConcurrentHashMap<>();
+  // The locations of the components being created on demand by the current thread
+  private final ThreadLocal<Set<String>> componentsInitializingOnDemand = ThreadLocal.withInitial(HashSet::new);
+  private volatile boolean startupComponentsCreated = false;
+  private volatile Scheduler warmUpScheduler;
+
   /**
    * Parses configuration files creating a spring ApplicationContext which is used as a parent registry using the SpringRegistry
    * registry implementation to wraps the spring ApplicationContext
@@ -150,15 +183,64 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
                                  LockFactory runtimeLockFactory,
                                  ComponentBuildingDefinitionRegistryFactory componentBuildingDefinitionRegistryFactory)
       throws BeansException {
+    this(muleContext, artifactConfigResources, artifactDeclaration, optionalObjectsController, artifactProperties, artifactType,
+         parentComponentModelInitializer, parentConfigurationProperties, disableXmlValidations, runtimeLockFactory,
+         componentBuildingDefinitionRegistryFactory, false);
+  }
+
+  /**
+   * Parses configuration files creating a spring ApplicationContext which is used as a parent registry using the SpringRegistry
+   * registry implementation to wraps the spring ApplicationContext
+   *
+   * @param muleContext the {@link MuleContext} that own this context
+   * @param artifactDeclaration the mule configuration defined programmatically
+   * @param optionalObjectsController the {@link OptionalObjectsController} to use. Cannot be {@code null} @see
+   *        org.mule.runtime.config.internal.SpringRegistry
+   * @param parentConfigurationProperties
+   * @param disableXmlValidations {@code true} when loading XML configs it will not apply validations.
+   * @param runtimeComponentBuildingDefinitionProvider provider for the runtime
+   *        {@link org.mule.runtime.dsl.api.component.ComponentBuildingDefinition}s
+   * @param onDemandInit {@code true} if the artifact runs in production and components must be created on demand without ever
+   *        being recreated, {@code false} if it is used by tooling.
+   * @since 4.4
+   */
+  public LazyMuleArtifactContext(MuleContext muleContext, ConfigResource[] artifactConfigResources,
+                                 ArtifactDeclaration artifactDeclaration, OptionalObjectsController optionalObjectsController,
+                                 Map<String, String> artifactProperties, ArtifactType artifactType,
+                                 Optional<ComponentModelInitializer> parentComponentModelInitializer,
+                                 Optional<ConfigurationProperties> parentConfigurationProperties, boolean disableXmlValidations,
+                                 LockFactory runtimeLockFactory,
+                                 ComponentBuildingDefinitionRegistryFactory componentBuildingDefinitionRegistryFactory,
+                                 boolean onDemandInit)
+      throws BeansException {
     super(muleContext, artifactConfigResources, artifactDeclaration, optionalObjectsController, parentConfigurationProperties,
-          extendArtifactProperties(artifactProperties),
+          onDemandInit ? artifactProperties : extendArtifactProperties(artifactProperties),
           artifactType, disableXmlValidations, componentBuildingDefinitionRegistryFactory);
 
     // Changes the component locator in order to allow accessing any component by location even when they are prototype
     this.componentLocator = new SpringConfigurationComponentLocator();
 
     this.parentComponentModelInitializer = parentComponentModelInitializer;
+    this.onDemandInit = onDemandInit;
+
+    if (onDemandInit) {
+      if (parseBoolean(artifactProperties.getOrDefault(MULE_ON_DEMAND_INIT_WARM_UP_DEPLOYMENT_PROPERTY, "true"))) {
+        muleContext.getNotificationManager().addListener(new WarmUpListener());
+      }
+    } else {
+      overrideToolingServices(muleContext, artifactProperties, runtimeLockFactory);
+    }
 
+    muleContext.getCustomizationService().overrideDefaultServiceImpl(LAZY_COMPONENT_INITIALIZER_SERVICE_KEY, this);
+
+    initialize();
+    // Graph should be generated after the initialize() method since the applicationModel will change by macro expanding XmlSdk
+    // components.
+    this.graph = generateFor(getApplicationModel());
+  }
+
+  private void overrideToolingServices(MuleContext muleContext, Map<String, String> artifactProperties,
+                                       LockFactory runtimeLockFactory) {
     final CustomizationService customizationService = muleContext.getCustomizationService();
     customizationService.overrideDefaultServiceImpl(CONNECTIVITY_TESTING_SERVICE_KEY,
                                                     new LazyConnectivityTestingService(this, () -> getRegistry()
@@ -178,8 +260,6 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     customizationService.registerCustomServiceClass(NON_LAZY_VALUE_PROVIDER_SERVICE,
                                                     MuleValueProviderService.class);
 
-    customizationService.overrideDefaultServiceImpl(LAZY_COMPONENT_INITIALIZER_SERVICE_KEY, this);
-
     String sharedPartitionatedPersistentObjectStorePath = artifactProperties.get(SHARED_PARTITIONED_PERSISTENT_OBJECT_STORE_PATH);
     if (sharedPartitionatedPersistentObjectStorePath != null) {
       // We need to first define this service so it would be later initialized
@@ -198,11 +278,11 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
       }
 
       muleContext.getCustomizationService().registerCustomServiceClass(DEFAULT_METADATA_CACHE_MANAGER_KEY,
-                                                                       DefaultPersistentMetadataCacheManager.class);
+                                                                       getPersistentMetadataCacheManagerType());
       muleContext.getCustomizationService().overrideDefaultServiceImpl(METADATA_CACHE_MANAGER_KEY,
                                                                        new DelegateMetadataCacheManager(() -> {
-                                                                         DefaultPersistentMetadataCacheManager defaultPersistentMetadataCacheManager =
-                                                                             (DefaultPersistentMetadataCacheManager) getRegistry()
+                                                                         AbstractPersistentMetadataCacheManager defaultPersistentMetadataCacheManager =
+                                                                             (AbstractPersistentMetadataCacheManager) getRegistry()
                                                                                  .lookupByName(DEFAULT_METADATA_CACHE_MANAGER_KEY)
                                                                                  .get();
                                                                          defaultPersistentMetadataCacheManager
@@ -214,11 +294,6 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
                                                                          return defaultPersistentMetadataCacheManager;
                                                                        }));
     }
-
-    initialize();
-    // Graph should be generated after the initialize() method since the applicationModel will change by macro expanding XmlSdk
-    // components.
-    this.graph = generateFor(getApplicationModel());
   }
 
   @Override
@@ -228,6 +303,31 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     addBeanPostProcessors(beanFactory, trackingPostProcessor);
   }
 
+  @Override
+  protected void finishRefresh() {
+    super.finishRefresh();
+    if (onDemandInit) {
+      // The lifecycle of these components is applied along with the rest of the artifact
+      initializeComponents(this::isStartupComponent, true);
+      onDemandComponentLocations = getApplicationModel().topLevelComponentsStream()
+          .filter(comp -> comp.getComponentId().isPresent() && comp.getLocation() != null)
+          .collect(toMap(comp -> comp.getComponentId().get(), comp -> comp.getLocation().getLocation(), (first, other) -> first));
+      startupComponentsCreated = true;
+    }
+  }
+
+  /**
+   * Flows with an enabled message source must be available as soon as the artifact starts.
+   */
+  private boolean isStartupComponent(ComponentAst componentModel) {
+    return componentModel.directChildrenStream().anyMatch(child -> child.getComponentType() == SOURCE)
+        && !isInitiallyStopped(componentModel);
+  }
+
+  private boolean isInitiallyStopped(ComponentAst componentModel) {
+    return componentModel.getRawParameterValue("initialState").map(INITIAL_STATE_STOPPED::equals).orElse(false);
+  }
+
   private static Map<String, String> extendArtifactProperties(Map<String, String> artifactProperties) {
     Map<String, String> extendedArtifactProperties = new HashMap<>(artifactProperties);
     extendedArtifactProperties.put(MULE_LAZY_INIT_DEPLOYMENT_PROPERTY, "true");
@@ -338,6 +438,111 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
             .initializeComponents(componentModelPredicate, applyStartPhase));
   }
 
+  /**
+   * Creates the top level component with the given name if it was not created yet, applying the lifecycle phases the artifact is
+   * in. Only has effect when this context was created for on demand initialization, once the components required at startup
+   * were created.
+   * <p>
+   * This is used when a component is referenced by name, either by a dynamic {@code flow-ref} or by a registry lookup.
+   *
+   * @param componentName the name of a flow, sub-flow or configuration.
+   * @return {@code true} if the component is available after this call, either because it was created by this call or because
+   *         a concurrent call created it, {@code false} if there is no such component or it is the one being created by the
+   *         current thread.
+   * @since 4.4
+   */
+  public boolean initializeOnDemand(String componentName) {
+    if (!onDemandInit || !startupComponentsCreated) {
+      return false;
+    }
+
+    final String location = onDemandComponentLocations.get(componentName);
+    return location != null && initializeOnDemandAt(location);
+  }
+
+  /**
+   * Creates the component at the given location once, no matter how many threads request it. Threads that find it being created
+   * by another one wait for it without holding any lock. A thread that is itself creating a component never waits for another
+   * one, it creates what it needs right away, so that two threads cannot end up waiting for each other.
+   */
+  private boolean initializeOnDemandAt(String location) {
+    final Set<String> initializingOnCurrentThread = componentsInitializingOnDemand.get();
+    // A component that looks itself up while being created must not be created again
+    if (initializingOnCurrentThread.contains(location)) {
+      return false;
+    }
+
+    final CompletableFuture<Void> initialized = new CompletableFuture<>();
+    final CompletableFuture<Void> concurrentlyInitialized = componentsInitializedOnDemand.putIfAbsent(location, initialized);
+    if (concurrentlyInitialized == null) {
+      try {
+        doInitializeOnDemand(location, initializingOnCurrentThread);
+        initialized.complete(null);
+        return true;
+      } catch (RuntimeException e) {
+        componentsInitializedOnDemand.remove(location, initialized);
+        initialized.completeExceptionally(e);
+        throw e;
+      }
+    } else if (concurrentlyInitialized.isDone() || initializingOnCurrentThread.isEmpty()) {
+      try {
+        concurrentlyInitialized.join();
+        return true;
+      } catch (CompletionException e) {
+        return false;
+      }
+    } else {
+      // Creating the components already created by another thread has no effect
+      doInitializeOnDemand(location, initializingOnCurrentThread);
+      return true;
+    }
+  }
+
+  private void doInitializeOnDemand(String location, Set<String> initializingOnCurrentThread) {
+    initializingOnCurrentThread.add(location);
+    try {
+      LOGGER.debug("Initializing component '{}' on demand...", location);
+      initializeComponent(location);
+    } finally {
+      initializingOnCurrentThread.remove(location);
+    }
+  }
+
+  private void initializeComponent(String location) {
+    final Predicate<ComponentAst> locationPredicate =
+        comp -> comp.getLocation() != null && comp.getLocation().getLocation().equals(location);
+    final boolean initiallyStopped = getApplicationModel().filteredComponents(locationPredicate)
+        .anyMatch(this::isInitiallyStopped);
+
+    initializeComponents(locationPredicate, !initiallyStopped);
+  }
+
+  private void warmUp() {
+    List<String> pendingLocations = getApplicationModel().topLevelComponentsStream()
+        .filter(comp -> comp.getLocation() != null && !isIgnored(comp) && !isAlreadyCreated(comp))
+        .map(comp -> comp.getLocation().getLocation())
+        .collect(toList());
+
+    LOGGER.debug("Warming up components: {}", pendingLocations);
+    for (String location : pendingLocations) {
+      final Scheduler scheduler = warmUpScheduler;
+      if (!getMuleContext().isStarted() || scheduler == null || scheduler.isShutdown()) {
+        return;
+      }
+      try {
+        initializeOnDemandAt(location);
+      } catch (Exception e) {
+        LOGGER.warn("Could not warm up component '{}', it will be created on first reference instead: {}", location,
+                    e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  protected boolean isAlreadyCreated(ComponentAst componentModel) {
+    return componentModel.getLocation() != null && createdComponentLocations.contains(componentModel.getLocation().getLocation());
+  }
+
   private List<Object> createComponents(Optional<Predicate<ComponentAst>> predicateOptional, Optional<Location> locationOptional,
                                         boolean applyStartPhase,
                                         Optional<ComponentModelInitializerAdapter> parentComponentModelInitializerAdapter) {
@@ -358,6 +563,10 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
             + locationOptional.get().toString()));
       }
 
+      if (onDemandInit) {
+        return createMissingComponents(minimalApplicationModel);
+      }
+
       Set<String> requestedLocations = locationOptional.map(location -> (Set<String>) newHashSet(location.toString()))
           .orElseGet(() -> getApplicationModel()
               .filteredComponents(basePredicate)
@@ -405,6 +614,46 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     });
   }
 
+  /**
+   * Adds the components from the minimal application model that were not created yet, keeping the existing ones untouched.
+   */
+  private List<Object> createMissingComponents(ArtifactAst minimalApplicationModel) {
+    synchronized (onDemandCreationLock) {
+      return doCreateMissingComponents(minimalApplicationModel);
+    }
+  }
+
+  private List<Object> doCreateMissingComponents(ArtifactAst minimalApplicationModel) {
+    if (minimalApplicationModel.topLevelComponentsStream().allMatch(this::isAlreadyCreated)) {
+      return emptyList();
+    }
+
+    final List<String> previouslyTrackedBeans = trackingPostProcessor.getBeansTracked();
+    final int previousObjectProviders = objectProviders.size();
+
+    List<Pair<String, ComponentAst>> applicationComponents =
+        createApplicationComponents((DefaultListableBeanFactory) this.getBeanFactory(), minimalApplicationModel, false);
+
+    configureObjectProviders(new ArrayList<>(objectProviders.subList(previousObjectProviders, objectProviders.size())));
+
+    LOGGER.debug("Will create beans: {}", applicationComponents);
+    final List<Object> components;
+    try {
+      components = createBeans(applicationComponents);
+    } catch (RuntimeException e) {
+      List<String> createdBeans = new ArrayList<>(trackingPostProcessor.getBeansTracked());
+      createdBeans.removeAll(previouslyTrackedBeans);
+      trackingPostProcessor.intersection(previouslyTrackedBeans);
+      doUnregisterBeans(createdBeans.stream().collect(toCollection(LinkedList::new)).descendingIterator());
+      throw e;
+    }
+
+    minimalApplicationModel.topLevelComponentsStream()
+        .filter(comp -> comp.getLocation() != null)
+        .forEach(comp -> createdComponentLocations.add(comp.getLocation().getLocation()));
+    return components;
+  }
+
   private ArtifactAst buildMinimalApplicationModel(final Predicate<ComponentAst> basePredicate) {
     return graph.minimalArtifactFor(basePredicate
         .or(cm -> cm.getModel(HasStereotypeModel.class)
@@ -430,6 +679,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
     // Handle orphan named components...
     orphanComponents.stream()
+        .filter(springComponentModels::containsKey)
         .filter(cm -> asList(SOURCE, OPERATION, SCOPE).contains(cm.getComponentType()))
         .filter(cm -> cm.getComponentId().isPresent())
         .forEach(cm -> {
@@ -447,6 +697,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
     // Handle orphan components without name, rely on the location.
     orphanComponents.stream()
+        .filter(springComponentModels::containsKey)
         .forEach(cm -> {
           final SpringComponentModel springCompModel = springComponentModels.get(cm);
           final BeanDefinition beanDef = springCompModel.getBeanDefinition();
@@ -476,6 +727,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
    * @return List beans created for the given component names sorted by precedence.
    */
   private List<Object> createBeans(List<Pair<String, ComponentAst>> applicationComponentNames) {
+    final List<String> previouslyTrackedBeans = trackingPostProcessor.getBeansTracked();
     trackingPostProcessor.startTracking();
     Map<Pair<String, ComponentAst>, Object> objects = new LinkedHashMap<>();
     // Create beans only once by calling the lookUp at the Registry
@@ -494,7 +746,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
         }
       } catch (Exception e) {
         trackingPostProcessor.stopTracking();
-        trackingPostProcessor.intersection(objects.keySet().stream().map(pair -> pair.getFirst()).collect(toList()));
+        trackingPostProcessor.intersection(beanNames(previouslyTrackedBeans, objects));
         safeUnregisterBean(componentPair.getFirst());
 
         throw new MuleRuntimeException(e);
@@ -511,7 +763,7 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
 
     // TODO: Once is implemented MULE-17778 we should use graph to get the order for disposing beans
     trackingPostProcessor.stopTracking();
-    trackingPostProcessor.intersection(objects.keySet().stream().map(pair -> pair.getFirst()).collect(toList()));
+    trackingPostProcessor.intersection(beanNames(previouslyTrackedBeans, objects));
 
     // Sort in order to later initialize and start components according to their dependencies
     List<Object> sortedObjects = new ArrayList<>(objects.values());
@@ -520,6 +772,12 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     return sortedObjects;
   }
 
+  private List<String> beanNames(List<String> previouslyTrackedBeans, Map<Pair<String, ComponentAst>, Object> objects) {
+    List<String> beanNames = new ArrayList<>(previouslyTrackedBeans);
+    objects.keySet().stream().map(pair -> pair.getFirst()).forEach(beanNames::add);
+    return beanNames;
+  }
+
   private void handleChainBuilder(MessageProcessorChainBuilder object, Pair<String, ComponentAst> componentPair,
                                   Map<Pair<String, ComponentAst>, Object> objects) {
     Pair<String, ComponentAst> chainKey =
@@ -591,6 +849,15 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
     appliedStartedPhaseRequest = false;
     currentComponentLocationsRequested.clear();
 
+    if (warmUpScheduler != null) {
+      warmUpScheduler.stop();
+      warmUpScheduler = null;
+    }
+    createdComponentLocations.clear();
+    componentsInitializedOnDemand.clear();
+    onDemandComponentLocations = emptyMap();
+    startupComponentsCreated = false;
+
     super.close();
   }
 
@@ -638,6 +905,27 @@ public class LazyMuleArtifactContext extends MuleArtifactContext
         .forEach(cm -> componentLocator.addComponentLocation(cm.getLocation()));
   }
 
+  /**
+   * Triggers the creation of the components not required at startup once the artifact is started.
+   */
+  private class WarmUpListener implements MuleContextNotificationListener<MuleContextNotification> {
+
+    @Override
+    public boolean isBlocking() {
+      return false;
+    }
+
+    @Override
+    public void onNotification(MuleContextNotification notification) {
+      if (new IntegerAction(CONTEXT_STARTED).equals(notification.getAction()) && warmUpScheduler == null) {
+        warmUpScheduler = getMuleContext().getSchedulerService()
+            .ioScheduler(getMuleContext().getSchedulerBaseConfig().withName("lazy-components-warm-up").withMaxConcurrentTasks(1));
+        warmUpScheduler.submit(() -> withContextClassLoader(getMuleContext().getExecutionClassLoader(),
+                                                            LazyMuleArtifactContext.this::warmUp));
+      }
+    }
+  }
+
   /**
    * Adapter for {@link ComponentModelInitializer} that hides the lifecycle phase from component model creation logic.
    */
@@ -354,11 +354,21 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
   }
 
   protected void prepareObjectProviders() {
+    configureObjectProviders(objectProviders);
+  }
+
+  /**
+   * Configures the given {@link ConfigurableObjectProvider}s so they can resolve objects from this context.
+   *
+   * @param providers the object providers to configure.
+   * @since 4.4
+   */
+  protected void configureObjectProviders(List<ConfigurableObjectProvider> providers) {
     MuleArtifactObjectProvider muleArtifactObjectProvider = new MuleArtifactObjectProvider(this);
     ImmutableObjectProviderConfiguration providerConfiguration =
         new ImmutableObjectProviderConfiguration(applicationModel.getConfigurationProperties(),
                                                  muleArtifactObjectProvider);
-    for (ConfigurableObjectProvider objectProvider : objectProviders) {
+    for (ConfigurableObjectProvider objectProvider : providers) {
       objectProvider.configure(providerConfiguration);
     }
   }
@@ -571,6 +581,7 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
         .filter(cm -> !mustBeRoot || rootComponents.contains(cm.getFirst())
             || cm.getSecond().stream().anyMatch(rootComponents::contains))
         .filter(cm -> !isIgnored(cm.getFirst()))
+        .filter(cm -> !isAlreadyCreated(cm.getFirst()) && cm.getSecond().stream().noneMatch(this::isAlreadyCreated))
         .forEach(cm -> {
           if (rootComponents.contains(cm.getFirst())) {
             cm.getFirst().getComponentId()
@@ -625,6 +636,18 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     return createdComponentModels;
   }
 
+  /**
+   * Allows subclasses that create components incrementally to avoid redefining the beans of components that were already created,
+   * since doing so would destroy the existing instances.
+   *
+   * @param componentAst a component of the application model.
+   * @return {@code true} if the beans for the given component were already created.
+   * @since 4.4
+   */
+  protected boolean isAlreadyCreated(ComponentAst componentAst) {
+    return false;
+  }
+
   protected boolean isIgnored(ComponentAst componentAst) {
     return beanDefinitionFactory.isComponentIgnored(componentAst.getIdentifier());
   }
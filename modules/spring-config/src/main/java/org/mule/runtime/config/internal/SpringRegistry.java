@@ -179,7 +179,7 @@ public class SpringRegistry extends AbstractRegistry implements Injector {
     } else {
       Object object;
       try {
-        object = applicationContext.getBean(key);
+        object = getBean(key);
       } catch (NoSuchBeanDefinitionException e) {
         if (logger.isTraceEnabled()) {
           logger.trace(e.getMessage(), e);
@@ -198,6 +198,22 @@ public class SpringRegistry extends AbstractRegistry implements Injector {
     }
   }
 
+  /**
+   * Components of an application initialized on demand may not have been created yet when they are looked up by name, in which
+   * case they are created now.
+   */
+  private Object getBean(String key) {
+    try {
+      return applicationContext.getBean(key);
+    } catch (NoSuchBeanDefinitionException e) {
+      if (applicationContext instanceof LazyMuleArtifactContext
+          && ((LazyMuleArtifactContext) applicationContext).initializeOnDemand(key)) {
+        return applicationContext.getBean(key);
+      }
+      throw e;
+    }
+  }
+
   private boolean isNullBean(Object bean) {
     return bean != null && "org.springframework.beans.factory.support.NullBean".equals(bean.getClass().getName());
   }
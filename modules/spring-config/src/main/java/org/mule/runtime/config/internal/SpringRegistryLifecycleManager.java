@@ -7,6 +7,7 @@
 package org.mule.runtime.config.internal;
 
 import static org.mule.runtime.config.internal.MuleArtifactContext.INNER_BEAN_PREFIX;
+import static org.mule.runtime.core.internal.lifecycle.ParallelInitialiseLifecycleCallback.isParallelInitialisationEnabled;
 
 import org.mule.runtime.api.el.ExpressionLanguage;
 import org.mule.runtime.api.exception.MuleException;
@@ -34,6 +35,7 @@ import org.mule.runtime.core.api.util.queue.QueueManager;
 import org.mule.runtime.core.internal.el.mvel.ExpressionLanguageExtension;
 import org.mule.runtime.core.internal.lifecycle.EmptyLifecycleCallback;
 import org.mule.runtime.core.internal.lifecycle.LifecycleInterceptor;
+import org.mule.runtime.core.internal.lifecycle.ParallelInitialiseLifecycleCallback;
 import org.mule.runtime.core.internal.lifecycle.RegistryLifecycleCallback;
 import org.mule.runtime.core.internal.lifecycle.RegistryLifecycleManager;
 import org.mule.runtime.core.internal.lifecycle.phases.LifecycleObjectSorter;
@@ -61,7 +63,12 @@ public class SpringRegistryLifecycleManager extends RegistryLifecycleManager {
     final RegistryLifecycleCallback callback = new RegistryLifecycleCallback(this);
 
     registerPhase(NotInLifecyclePhase.PHASE_NAME, new NotInLifecyclePhase(), new EmptyLifecycleCallback<>());
-    registerPhase(Initialisable.PHASE_NAME, new SpringContextInitialisePhase(), callback);
+    registerPhase(Initialisable.PHASE_NAME, new SpringContextInitialisePhase(),
+                  isParallelInitialisationEnabled()
+                      ? new ParallelInitialiseLifecycleCallback<>(this,
+                                                                  name -> getSpringRegistry().getBeanDependencyResolver()
+                                                                      .resolveBeanDependencies(name))
+                      : callback);
     registerPhase(Startable.PHASE_NAME, new MuleContextStartPhase(), callback);
     registerPhase(Stoppable.PHASE_NAME, new MuleContextStopPhase(), callback);
     registerPhase(Disposable.PHASE_NAME, new SpringContextDisposePhase(), callback);
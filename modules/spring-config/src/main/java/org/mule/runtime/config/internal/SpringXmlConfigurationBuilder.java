@@ -6,15 +6,18 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.DOMAIN;
 import static org.mule.runtime.core.internal.config.RuntimeLockFactoryUtil.getRuntimeLockFactory;
+import static org.mule.runtime.core.internal.management.startup.StartupProfiler.startPhase;
 
 import org.mule.runtime.api.component.ConfigurationProperties;
 import org.mule.runtime.api.lifecycle.Startable;
@@ -33,6 +36,7 @@ import org.mule.runtime.core.internal.config.ParentMuleContextAwareConfiguration
 import org.mule.runtime.core.internal.context.DefaultMuleContext;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
 import org.mule.runtime.core.internal.context.NullDomainMuleContextLifecycleStrategy;
+import org.mule.runtime.core.internal.management.startup.StartupPhase;
 import org.mule.runtime.core.internal.registry.CompositeMuleRegistryHelper;
 import org.mule.runtime.core.internal.registry.MuleRegistryHelper;
 import org.mule.runtime.deployment.model.api.artifact.ArtifactContext;
@@ -138,8 +142,10 @@ public class SpringXmlConfigurationBuilder extends AbstractResourceConfiguration
       return;
     }
 
-    muleArtifactContext = createApplicationContext(muleContext);
-    createSpringRegistry(muleContext, muleArtifactContext);
+    try (StartupPhase artifactContextPhase = startPhase("artifactContext")) {
+      muleArtifactContext = createApplicationContext(muleContext);
+      createSpringRegistry(muleContext, muleArtifactContext);
+    }
   }
 
   /**
@@ -177,14 +183,15 @@ public class SpringXmlConfigurationBuilder extends AbstractResourceConfiguration
         this.componentBuildingDefinitionRegistryFactory
             .orElse(new DefaultComponentBuildingDefinitionRegistryFactory());
 
-    if (enableLazyInit) {
+    if (enableLazyInit || isOnDemandInit()) {
       muleArtifactContext = new LazyMuleArtifactContext(muleContext, resolveArtifactConfigResources(), artifactDeclaration,
                                                         optionalObjectsController,
                                                         getArtifactProperties(), artifactType,
                                                         resolveComponentModelInitializer(),
                                                         resolveParentConfigurationProperties(), disableXmlValidations,
                                                         runtimeLockFactory,
-                                                        componentBuildingDefinitionRegistryFactory);
+                                                        componentBuildingDefinitionRegistryFactory,
+                                                        !enableLazyInit);
     } else {
       muleArtifactContext =
           new MuleArtifactContext(muleContext, resolveArtifactConfigResources(), artifactDeclaration,
@@ -199,6 +206,10 @@ public class SpringXmlConfigurationBuilder extends AbstractResourceConfiguration
     return muleArtifactContext;
   }
 
+  private boolean isOnDemandInit() {
+    return artifactType == APP && parseBoolean(getArtifactProperties().get(MULE_ON_DEMAND_INIT_DEPLOYMENT_PROPERTY));
+  }
+
   private ConfigResource[] resolveArtifactConfigResources() {
     return artifactConfigResources;
   }
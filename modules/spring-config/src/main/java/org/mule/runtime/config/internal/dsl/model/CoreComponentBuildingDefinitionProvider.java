@@ -138,6 +138,9 @@ import org.mule.runtime.core.internal.routing.RoundRobin;
 import org.mule.runtime.core.internal.routing.ScatterGatherRouter;
 import org.mule.runtime.core.internal.routing.UntilSuccessful;
 import org.mule.runtime.core.internal.routing.forkjoin.CollectListForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.routing.forkjoin.FirstCompletedForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.routing.forkjoin.HedgedForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.routing.forkjoin.QuorumForkJoinStrategyFactory;
 import org.mule.runtime.core.internal.security.PasswordBasedEncryptionStrategy;
 import org.mule.runtime.core.internal.security.SecretKeyEncryptionStrategy;
 import org.mule.runtime.core.internal.security.UsernamePasswordAuthenticationFilter;
@@ -190,6 +193,9 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
   private static final String PARALLEL_FOREACH = "parallel-foreach";
   private static final String FORK_JOIN_STRATEGY = "forkJoinStrategyFactory";
   private static final String COLLECT_LIST = "collect-list";
+  private static final String FIRST_COMPLETED = "first-completed";
+  private static final String QUORUM = "quorum";
+  private static final String HEDGED = "hedged";
   private static final String ASYNC = "async";
   private static final String TRY = "try";
   private static final String UNTIL_SUCCESSFUL = "until-successful";
@@ -308,6 +314,8 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
             .withSetterParameterDefinition(EXCEPTION_LISTENER_ATTRIBUTE,
                                            fromChildConfiguration(FlowExceptionHandler.class).build())
             .withSetterParameterDefinition("maxConcurrency", fromSimpleParameter("maxConcurrency").build())
+            .withSetterParameterDefinition("adaptiveConcurrency", fromSimpleParameter("adaptiveConcurrency").build())
+            .withSetterParameterDefinition("virtualThreads", fromSimpleParameter("virtualThreads").build())
             .build());
 
     Builder processorRefBuilder = baseDefinition
@@ -326,6 +334,20 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
     componentBuildingDefinitions.add(baseDefinition.withIdentifier(COLLECT_LIST)
         .withTypeDefinition(fromType(CollectListForkJoinStrategyFactory.class))
         .build());
+    componentBuildingDefinitions.add(baseDefinition.withIdentifier(FIRST_COMPLETED)
+        .withTypeDefinition(fromType(FirstCompletedForkJoinStrategyFactory.class))
+        .withSetterParameterDefinition("count", fromSimpleParameter("count").build())
+        .build());
+    componentBuildingDefinitions.add(baseDefinition.withIdentifier(QUORUM)
+        .withTypeDefinition(fromType(QuorumForkJoinStrategyFactory.class))
+        .withSetterParameterDefinition("quorum", fromSimpleParameter("quorum").build())
+        .withSetterParameterDefinition("key", fromSimpleParameter("key").build())
+        .build());
+    componentBuildingDefinitions.add(baseDefinition.withIdentifier(HEDGED)
+        .withTypeDefinition(fromType(HedgedForkJoinStrategyFactory.class))
+        .withSetterParameterDefinition("hedgeDelay", fromSimpleParameter("hedgeDelay").build())
+        .withSetterParameterDefinition("percentile", fromSimpleParameter("percentile").build())
+        .build());
     componentBuildingDefinitions.add(baseDefinition.withIdentifier(SCATTER_GATHER)
         .withTypeDefinition(fromType(ScatterGatherRouter.class))
         .withSetterParameterDefinition("timeout", fromSimpleParameter("timeout").build())
@@ -342,6 +364,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("collectionExpression", fromSimpleParameter("collection").build())
         .withSetterParameterDefinition("timeout", fromSimpleParameter("timeout").build())
         .withSetterParameterDefinition("maxConcurrency", fromSimpleParameter("maxConcurrency").build())
+        .withSetterParameterDefinition("streaming", fromSimpleParameter("streaming").build())
         .withSetterParameterDefinition("target", fromSimpleParameter("target").build())
         .withSetterParameterDefinition("targetValue", fromSimpleParameter("targetValue")
             .withDefaultValue("#[payload]")
@@ -374,11 +397,15 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
             .withSetterParameterDefinition("maxRetries", fromSimpleParameter("maxRetries").withDefaultValue("5").build())
             .withSetterParameterDefinition("millisBetweenRetries",
                                            fromSimpleParameter("millisBetweenRetries").withDefaultValue("60000").build())
+            .withSetterParameterDefinition("backoffMultiplier", fromSimpleParameter("backoffMultiplier").build())
+            .withSetterParameterDefinition("maxMillisBetweenRetries", fromSimpleParameter("maxMillisBetweenRetries").build())
+            .withSetterParameterDefinition("jitter", fromSimpleParameter("jitter").build())
             .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
             .build());
     componentBuildingDefinitions.add(baseDefinition.withIdentifier(FOREACH).withTypeDefinition(fromType(Foreach.class))
         .withSetterParameterDefinition("collectionExpression", fromSimpleParameter("collection").build())
         .withSetterParameterDefinition("batchSize", fromSimpleParameter("batchSize").build())
+        .withSetterParameterDefinition("maxConcurrency", fromSimpleParameter("maxConcurrency").build())
         .withSetterParameterDefinition("rootMessageVariableName", fromSimpleParameter("rootMessageVariableName").build())
         .withSetterParameterDefinition("counterVariableName", fromSimpleParameter("counterVariableName").build())
         .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
@@ -18,6 +18,7 @@ import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategyFactory;
 import org.mule.runtime.core.api.source.MessageSource;
 import org.mule.runtime.core.internal.construct.DefaultFlowBuilder.DefaultFlow;
+import org.mule.runtime.core.internal.processor.strategy.VirtualThreadProactorStreamEmitterProcessingStrategyFactory;
 
 import java.util.List;
 
@@ -39,6 +40,8 @@ public class DefaultFlowFactoryBean extends AbstractComponent
   private FlowExceptionHandler exceptionListener;
   private ProcessingStrategyFactory processingStrategyFactory;
   private Integer maxConcurrency;
+  private boolean adaptiveConcurrency;
+  private boolean virtualThreads;
 
   @Override
   public Flow getObject() throws Exception {
@@ -55,10 +58,13 @@ public class DefaultFlowFactoryBean extends AbstractComponent
     }
     if (processingStrategyFactory != null) {
       flowBuilder.processingStrategyFactory(processingStrategyFactory);
+    } else if (virtualThreads) {
+      flowBuilder.processingStrategyFactory(new VirtualThreadProactorStreamEmitterProcessingStrategyFactory());
     }
     if (maxConcurrency != null) {
       flowBuilder.maxConcurrency(maxConcurrency.intValue());
     }
+    flowBuilder.adaptiveConcurrency(adaptiveConcurrency);
 
     final DefaultFlow build = (DefaultFlow) flowBuilder.build();
 
@@ -150,4 +156,12 @@ public class DefaultFlowFactoryBean extends AbstractComponent
   public void setMaxConcurrency(Integer maxConcurrency) {
     this.maxConcurrency = maxConcurrency;
   }
+
+  public void setAdaptiveConcurrency(boolean adaptiveConcurrency) {
+    this.adaptiveConcurrency = adaptiveConcurrency;
+  }
+
+  public void setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
 }
@@ -38,6 +38,7 @@ import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.LazyValue;
+import org.mule.runtime.config.internal.LazyMuleArtifactContext;
 import org.mule.runtime.config.internal.MuleArtifactContext;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.Flow;
@@ -206,6 +207,10 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
   }
 
   private Component getReferencedProcessor(String name) {
+    return getReferencedProcessor(name, true);
+  }
+
+  private Component getReferencedProcessor(String name, boolean initializeOnDemand) {
     if (applicationContext instanceof MuleArtifactContext) {
       MuleArtifactContext muleArtifactContext = (MuleArtifactContext) applicationContext;
       try {
@@ -219,6 +224,10 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
           }
         }
       } catch (NoSuchBeanDefinitionException e) {
+        if (initializeOnDemand && muleArtifactContext instanceof LazyMuleArtifactContext
+            && ((LazyMuleArtifactContext) muleArtifactContext).initializeOnDemand(name)) {
+          return getReferencedProcessor(name, false);
+        }
         // Null is handled by the caller method
         return null;
       }
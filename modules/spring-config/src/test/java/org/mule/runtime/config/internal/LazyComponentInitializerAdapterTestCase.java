@@ -8,8 +8,11 @@
 package org.mule.runtime.config.internal;
 
 import static java.lang.Thread.currentThread;
+import static java.lang.Thread.holdsLock;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,11 +25,13 @@ import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.component.location.Location.builderFromStringRepresentation;
 import static org.mule.runtime.app.declaration.api.fluent.ElementDeclarer.forExtension;
 import static org.mule.runtime.app.declaration.api.fluent.ElementDeclarer.newArtifact;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_ON_DEMAND_INIT_WARM_UP_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.api.extension.MuleExtensionModelProvider.MULE_NAME;
 import static org.mule.runtime.core.api.extension.MuleExtensionModelProvider.getExtensionModel;
 import static org.mule.runtime.internal.dsl.DslConstants.FLOW_ELEMENT_IDENTIFIER;
+import static org.mule.tck.probe.PollingProber.DEFAULT_TIMEOUT;
 import static org.mule.tck.util.MuleContextUtils.mockContextWithServices;
 import static org.mule.test.allure.AllureConstants.ConfigurationComponentLocatorFeature.CONFIGURATION_COMPONENT_LOCATOR;
 import static org.mule.test.allure.AllureConstants.ConfigurationComponentLocatorFeature.ComponentLifeCycle.COMPONENT_LIFE_CYCLE;
@@ -52,7 +57,12 @@ import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChainBui
 import org.mule.runtime.dsl.api.ConfigResource;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
@@ -118,7 +128,7 @@ public class LazyComponentInitializerAdapterTestCase extends AbstractDslModelTes
     doReturn(new String[0]).when(beanFactory).getBeanNamesForType(any(Class.class), anyBoolean(), anyBoolean());
     doNothing().when(beanFactory).setSerializationId(any(String.class));
 
-    lazyMuleArtifactContext = createLazyMuleArtifactContextStub(beanFactory);
+    lazyMuleArtifactContext = createLazyMuleArtifactContextStub(beanFactory, false);
 
     doAnswer(a -> {
       initializations.incrementAndGet();
@@ -171,6 +181,76 @@ public class LazyComponentInitializerAdapterTestCase extends AbstractDslModelTes
     assertThat(initializations.get(), is(2));
   }
 
+  @Test
+  public void shouldNotRecreateBeansOnDemand() {
+    LazyMuleArtifactContext onDemandContext = createLazyMuleArtifactContextStub(beanFactory, true);
+    Location location = builderFromStringRepresentation(MY_FLOW).build();
+
+    onDemandContext.initializeComponent(location, false);
+    onDemandContext.initializeComponent(location);
+
+    assertThat(initializations.get(), is(1));
+  }
+
+  @Test
+  public void shouldInitializeReferencedComponentOnlyOnce() {
+    LazyMuleArtifactContext onDemandContext = createLazyMuleArtifactContextStub(beanFactory, true);
+
+    assertThat(onDemandContext.initializeOnDemand(MY_FLOW), is(true));
+    assertThat(onDemandContext.initializeOnDemand(MY_FLOW), is(true));
+    assertThat(initializations.get(), is(1));
+  }
+
+  @Test
+  public void shouldInitializeReferencedComponentOnceForConcurrentReferences() throws Exception {
+    LazyMuleArtifactContext onDemandContext = createLazyMuleArtifactContextStub(beanFactory, true);
+    CountDownLatch initializing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean contextLocked = new AtomicBoolean();
+    doAnswer(a -> {
+      initializations.incrementAndGet();
+      contextLocked.set(holdsLock(onDemandContext));
+      initializing.countDown();
+      release.await();
+      return null;
+    }).when((Initialisable) targetProcessor).initialise();
+
+    ExecutorService executor = newFixedThreadPool(2);
+    try {
+      Future<Boolean> first = executor.submit(() -> onDemandContext.initializeOnDemand(MY_FLOW));
+      initializing.await();
+      Future<Boolean> second = executor.submit(() -> onDemandContext.initializeOnDemand(MY_FLOW));
+
+      // The second reference waits for the component being created by the first one
+      Thread.sleep(100);
+      assertThat(second.isDone(), is(false));
+
+      release.countDown();
+      assertThat(first.get(DEFAULT_TIMEOUT, MILLISECONDS), is(true));
+      assertThat(second.get(DEFAULT_TIMEOUT, MILLISECONDS), is(true));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+
+    assertThat(initializations.get(), is(1));
+    assertThat(contextLocked.get(), is(false));
+  }
+
+  @Test
+  public void shouldNotInitializeMissingComponentOnDemand() {
+    LazyMuleArtifactContext onDemandContext = createLazyMuleArtifactContextStub(beanFactory, true);
+
+    assertThat(onDemandContext.initializeOnDemand("missingFlow"), is(false));
+    assertThat(initializations.get(), is(0));
+  }
+
+  @Test
+  public void shouldNotInitializeOnDemandWhenUsedByTooling() {
+    assertThat(lazyMuleArtifactContext.initializeOnDemand(MY_FLOW), is(false));
+    assertThat(initializations.get(), is(0));
+  }
+
   @Override
   protected void initializeExtensionMock(ExtensionModel extension) {
     when(extension.getName()).thenReturn(EXTENSION_NAME);
@@ -185,12 +265,16 @@ public class LazyComponentInitializerAdapterTestCase extends AbstractDslModelTes
         .getDeclaration();
   }
 
-  private LazyMuleArtifactContext createLazyMuleArtifactContextStub(ObjectProviderAwareBeanFactory beanFactory) {
+  private LazyMuleArtifactContext createLazyMuleArtifactContextStub(ObjectProviderAwareBeanFactory beanFactory,
+                                                                    boolean onDemandInit) {
+    Map<String, String> artifactProperties = new HashMap<>();
+    artifactProperties.put(MULE_ON_DEMAND_INIT_WARM_UP_DEPLOYMENT_PROPERTY, "false");
+
     LazyMuleArtifactContext muleArtifactContext =
         new LazyMuleArtifactContext(muleContext, new ConfigResource[0], getSimpleApp(),
-                                    optionalObjectsController, new HashMap<>(), APP,
+                                    optionalObjectsController, artifactProperties, APP,
                                     empty(), empty(), true, lockFactory,
-                                    new DefaultComponentBuildingDefinitionRegistryFactory()) {
+                                    new DefaultComponentBuildingDefinitionRegistryFactory(), onDemandInit) {
 
           @Override
           protected DefaultListableBeanFactory createBeanFactory() {
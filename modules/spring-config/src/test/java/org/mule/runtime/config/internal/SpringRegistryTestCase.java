@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.config.internal.dsl.model.ConfigurationDependencyResolver;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.lifecycle.LifecycleInterceptor;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+
+@SmallTest
+public class SpringRegistryTestCase extends AbstractMuleTestCase {
+
+  private static final String MY_FLOW = "myFlow";
+
+  private LazyMuleArtifactContext applicationContext;
+  private SpringRegistry registry;
+
+  @Before
+  public void before() {
+    applicationContext = mock(LazyMuleArtifactContext.class);
+    when(applicationContext.isSingleton(MY_FLOW)).thenReturn(true);
+    registry = new SpringRegistry(applicationContext, mock(MuleContext.class), mock(ConfigurationDependencyResolver.class),
+                                  mock(LifecycleInterceptor.class));
+  }
+
+  @Test
+  public void lookupInitializesComponentOnDemand() {
+    Object flow = new Object();
+    when(applicationContext.getBean(MY_FLOW)).thenThrow(new NoSuchBeanDefinitionException(MY_FLOW)).thenReturn(flow);
+    when(applicationContext.initializeOnDemand(MY_FLOW)).thenReturn(true);
+
+    assertThat(registry.lookupObject(MY_FLOW), is(sameInstance(flow)));
+  }
+
+  @Test
+  public void lookupMissingComponent() {
+    when(applicationContext.getBean(MY_FLOW)).thenThrow(new NoSuchBeanDefinitionException(MY_FLOW));
+    when(applicationContext.initializeOnDemand(MY_FLOW)).thenReturn(false);
+
+    assertThat(registry.lookupObject(MY_FLOW), is(nullValue()));
+    verify(applicationContext, times(1)).getBean(MY_FLOW);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.factories;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.mule.runtime.core.api.construct.Flow.INITIAL_STATE_STARTED;
+
+import org.mule.runtime.core.internal.construct.DefaultFlowBuilder.DefaultFlow;
+import org.mule.runtime.core.internal.processor.strategy.VirtualThreadProactorStreamEmitterProcessingStrategyFactory;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class DefaultFlowFactoryBeanTestCase extends AbstractMuleContextTestCase {
+
+  @Test
+  public void virtualThreads() throws Exception {
+    DefaultFlowFactoryBean factoryBean = createFactoryBean();
+    factoryBean.setVirtualThreads(true);
+
+    DefaultFlow flow = (DefaultFlow) factoryBean.getObject();
+    assertThat(flow.getProcessingStrategyFactory(),
+               instanceOf(VirtualThreadProactorStreamEmitterProcessingStrategyFactory.class));
+  }
+
+  @Test
+  public void noVirtualThreadsByDefault() throws Exception {
+    DefaultFlow flow = (DefaultFlow) createFactoryBean().getObject();
+    assertThat(flow.getProcessingStrategyFactory(),
+               not(instanceOf(VirtualThreadProactorStreamEmitterProcessingStrategyFactory.class)));
+  }
+
+  private DefaultFlowFactoryBean createFactoryBean() {
+    DefaultFlowFactoryBean factoryBean = new DefaultFlowFactoryBean();
+    factoryBean.setName("flow");
+    factoryBean.setMuleContext(muleContext);
+    factoryBean.setInitialState(INITIAL_STATE_STARTED);
+    return factoryBean;
+  }
+}
@@ -8,9 +8,13 @@ package org.mule.runtime.module.tls.internal;
 
 import static java.util.Arrays.copyOf;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.module.tls.internal.SslContextCache.getSslContextCache;
+import static org.mule.runtime.module.tls.internal.SslContextCache.key;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.lifecycle.CreateException;
+import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.tls.TlsContextFactory;
@@ -23,6 +27,7 @@ import org.mule.runtime.core.internal.security.tls.RestrictedSSLSocketFactory;
 import org.mule.runtime.core.internal.util.ArrayUtils;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 import org.mule.runtime.core.privileged.security.tls.TlsConfiguration;
+import org.mule.runtime.module.tls.internal.revocation.CrlFile;
 
 import com.google.common.base.Joiner;
 
@@ -46,7 +51,7 @@ import org.slf4j.LoggerFactory;
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
  */
-public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable {
+public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable, Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(DefaultTlsContextFactory.class);
   private static final String DEFAULT = "default";
@@ -54,11 +59,13 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   private String name;
 
   private final TlsConfiguration tlsConfiguration;
+  private SslContextCache sslContextCache = getSslContextCache();
 
   private AtomicBoolean initialized = new AtomicBoolean(false);
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
+  private RevocationCheck revocationCheck;
 
   public DefaultTlsContextFactory(Map<QName, Object> annotations) {
     tlsConfiguration = new TlsConfiguration(null);
@@ -99,6 +106,16 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
     }
   }
 
+  /**
+   * Releases the {@link SSLContext}s this factory got from its {@link SslContextCache}, and the revocation data of its
+   * {@link RevocationCheck}, so they are discarded if no other factory uses them.
+   */
+  @Override
+  public void dispose() {
+    sslContextCache.release(this);
+    disposeIfNeeded(revocationCheck, logger);
+  }
+
   private boolean isUseDefaults(String[] array) {
     return (array == null) || ((array.length == 1) && DEFAULT.equalsIgnoreCase(array[0]));
   }
@@ -215,20 +232,74 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   }
 
   public void setRevocationCheck(RevocationCheck revocationCheck) {
+    this.revocationCheck = revocationCheck;
     tlsConfiguration.setRevocationCheck(revocationCheck);
   }
 
+  /**
+   * @param sslContextCache the cache of the {@link SSLContext}s returned by {@link #createSslContext()}
+   */
+  public void setSslContextCache(SslContextCache sslContextCache) {
+    this.sslContextCache = sslContextCache;
+  }
+
+  /**
+   * Returns an {@link SSLContext} for the settings of this factory. It is shared with every other factory with the same effective
+   * settings, and built again if the key store, trust store or CRL files it was built from change.
+   */
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
+    boolean keyStoreConfigured = isKeyStoreConfigured();
+    SslContextCache.Key key = key(tlsConfiguration.getSslType(), trustStoreInsecure, revocationCheck,
+                                  getTrustStorePath(), getTrustStoreType(), getTrustStorePassword(), getTrustManagerAlgorithm(),
+                                  keyStoreConfigured ? getKeyStorePath() : null,
+                                  keyStoreConfigured ? getKeyStoreType() : null,
+                                  keyStoreConfigured ? getKeyAlias() : null,
+                                  keyStoreConfigured ? getKeyStorePassword() : null,
+                                  keyStoreConfigured ? getKeyPassword() : null,
+                                  keyStoreConfigured ? getKeyManagerAlgorithm() : null);
+    String[] files = {getKeyStorePath(), getTrustStorePath(),
+        revocationCheck instanceof CrlFile ? ((CrlFile) revocationCheck).getPath() : null};
+    return sslContextCache.get(key, files, this::buildSslContext, this);
+  }
+
+  private SSLContext buildSslContext(boolean reload) throws KeyManagementException, NoSuchAlgorithmException {
+    // The stores of the configuration of this factory are only loaded when it is initialised, so changed files are loaded into
+    // a new one instead of changing the configuration in use
+    TlsConfiguration configuration = reload ? reloadTlsConfiguration() : tlsConfiguration;
+
     SSLContext sslContext;
     if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+      sslContext = configuration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
     } else {
-      sslContext = tlsConfiguration.getSslContext();
+      sslContext = configuration.getSslContext();
     }
     return sslContext;
   }
 
+  private TlsConfiguration reloadTlsConfiguration() throws KeyManagementException {
+    TlsConfiguration reloaded = new TlsConfiguration(null);
+    reloaded.setAnnotations(tlsConfiguration.getAnnotations());
+    try {
+      reloaded.setKeyStore(getKeyStorePath());
+      reloaded.setKeyStoreType(getKeyStoreType());
+      reloaded.setKeyAlias(getKeyAlias());
+      reloaded.setKeyStorePassword(getKeyStorePassword());
+      reloaded.setKeyPassword(getKeyPassword());
+      reloaded.setKeyManagerAlgorithm(getKeyManagerAlgorithm());
+      reloaded.setTrustStore(getTrustStorePath());
+      reloaded.setTrustStoreType(getTrustStoreType());
+      reloaded.setTrustStorePassword(getTrustStorePassword());
+      reloaded.setTrustManagerAlgorithm(getTrustManagerAlgorithm());
+      reloaded.setRevocationCheck(revocationCheck);
+      reloaded.setSslType(tlsConfiguration.getSslType());
+      reloaded.initialise(null == getKeyStorePath(), null);
+    } catch (IOException | CreateException e) {
+      throw new KeyManagementException("Unable to reload TLS configuration", e);
+    }
+    return reloaded;
+  }
+
   @Override
   public SSLSocketFactory createSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
     return new RestrictedSSLSocketFactory(createSslContext(), getEnabledCipherSuites(), getEnabledProtocols());
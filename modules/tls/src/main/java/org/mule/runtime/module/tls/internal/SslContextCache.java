@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.list;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+
+import java.io.File;
+import java.security.GeneralSecurityException;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Container level cache of the {@link SSLContext}s built by {@link DefaultTlsContextFactory}s, keyed by the effective key store,
+ * trust store and protocol settings.
+ * <p>
+ * TLS contexts with the same settings, even if they belong to different configs or applications, share the same
+ * {@link SSLContext} and hence its client session cache, so connections created through any of them may resume the sessions
+ * negotiated by the others instead of doing a full handshake.
+ * <p>
+ * The files the context was built from (key store, trust store and CRL) are checked for changes at most once every
+ * {@link #MULE_TLS_CONTEXT_CACHE_FILE_CHECK_INTERVAL} milliseconds, and the context is built again if any of them changed.
+ * <p>
+ * Each context is kept while any of the owners that got it is not {@link #release(Object) released}, so the contexts (and their
+ * trust managers and revocation checkers) of an undeployed application are not kept by the container.
+ *
+ * @since 4.4
+ */
+public final class SslContextCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SslContextCache.class);
+
+  public static final String MULE_TLS_CONTEXT_CACHE_MAX_SIZE = SYSTEM_PROPERTY_PREFIX + "tls.contextCache.maxSize";
+  public static final String MULE_TLS_CONTEXT_CACHE_FILE_CHECK_INTERVAL =
+      SYSTEM_PROPERTY_PREFIX + "tls.contextCache.fileCheckInterval";
+  public static final String MULE_TLS_CLIENT_SESSION_CACHE_SIZE = SYSTEM_PROPERTY_PREFIX + "tls.clientSessionCache.size";
+  public static final String MULE_TLS_CLIENT_SESSION_TIMEOUT = SYSTEM_PROPERTY_PREFIX + "tls.clientSessionCache.timeout";
+
+  private static final int DEFAULT_MAX_SIZE = 64;
+  private static final long DEFAULT_FILE_CHECK_INTERVAL = 5000;
+
+  private static final SslContextCache INSTANCE =
+      new SslContextCache(getInteger(MULE_TLS_CONTEXT_CACHE_MAX_SIZE, DEFAULT_MAX_SIZE),
+                          getLong(MULE_TLS_CONTEXT_CACHE_FILE_CHECK_INTERVAL, DEFAULT_FILE_CHECK_INTERVAL),
+                          getInteger(MULE_TLS_CLIENT_SESSION_CACHE_SIZE, -1),
+                          getInteger(MULE_TLS_CLIENT_SESSION_TIMEOUT, -1));
+
+  /**
+   * @return the cache shared by all the TLS contexts in the container.
+   */
+  public static SslContextCache getSslContextCache() {
+    return INSTANCE;
+  }
+
+  private final boolean enabled;
+  private final long fileCheckIntervalNanos;
+  private final int clientSessionCacheSize;
+  private final int clientSessionTimeout;
+  private final Cache<Key, CachedContext> contexts;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder builds = new LongAdder();
+  private final LongAdder reloads = new LongAdder();
+
+  /**
+   * @param maxSize the maximum amount of contexts to keep, {@code 0} to disable the cache
+   * @param fileCheckInterval the minimum time in milliseconds between checks for changes of the files of a context
+   * @param clientSessionCacheSize the session cache size to set to the client session context of the built contexts, or a
+   *        negative value to keep the default
+   * @param clientSessionTimeout the session timeout in seconds to set to the client session context of the built contexts, or a
+   *        negative value to keep the default
+   */
+  public SslContextCache(int maxSize, long fileCheckInterval, int clientSessionCacheSize, int clientSessionTimeout) {
+    this.enabled = maxSize > 0;
+    this.fileCheckIntervalNanos = MILLISECONDS.toNanos(fileCheckInterval);
+    this.clientSessionCacheSize = clientSessionCacheSize;
+    this.clientSessionTimeout = clientSessionTimeout;
+    this.contexts = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Returns the context for the given settings, building it if it's not cached yet or if any of its files changed since it was
+   * built.
+   *
+   * @param key the settings of the context, as returned by {@link #key(Object...)}
+   * @param files the paths of the files the context is built from. Those not found in the file system are not checked for changes
+   * @param builder builds the context if needed
+   * @param owner the object using the context, until it is {@link #release(Object) released}
+   * @return the context
+   */
+  public SSLContext get(Key key, String[] files, SslContextBuilder builder, Object owner)
+      throws KeyManagementException, NoSuchAlgorithmException {
+    if (!enabled) {
+      builds.increment();
+      return configure(builder.build(false));
+    }
+
+    CachedContext cached = contexts.getIfPresent(key);
+    if (cached != null && !cached.filesChanged()) {
+      hits.increment();
+      cached.owners.add(owner);
+      return cached.context;
+    }
+
+    try {
+      return contexts.asMap().compute(key, (k, current) -> {
+        if (current != null && current != cached && !current.filesChanged()) {
+          // built by another thread in the meantime
+          hits.increment();
+          current.owners.add(owner);
+          return current;
+        }
+
+        CachedContext built = build(builder, files, current != null);
+        if (current != null) {
+          synchronized (current.owners) {
+            built.owners.addAll(current.owners);
+          }
+        }
+        built.owners.add(owner);
+        return built;
+      }).context;
+    } catch (SslContextBuildException e) {
+      if (e.getCause() instanceof NoSuchAlgorithmException) {
+        throw (NoSuchAlgorithmException) e.getCause();
+      }
+      throw (KeyManagementException) e.getCause();
+    }
+  }
+
+  private CachedContext build(SslContextBuilder builder, String[] files, boolean reload) {
+    long[] fingerprints = fingerprints(files);
+    SSLContext context;
+    try {
+      context = configure(builder.build(reload));
+    } catch (KeyManagementException | NoSuchAlgorithmException e) {
+      throw new SslContextBuildException(e);
+    }
+
+    if (reload) {
+      reloads.increment();
+    } else {
+      builds.increment();
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("{} SSL context. Cache stats: {} contexts, {} builds, {} reloads, {} hits, {} client sessions",
+                   reload ? "Reloaded" : "Built", getCachedContexts(), getContextBuilds(), getContextReloads(), getContextHits(),
+                   getClientSessions());
+    }
+    return new CachedContext(context, files, fingerprints);
+  }
+
+  private SSLContext configure(SSLContext context) {
+    SSLSessionContext clientSessionContext = context.getClientSessionContext();
+    if (clientSessionContext != null) {
+      if (clientSessionCacheSize >= 0) {
+        clientSessionContext.setSessionCacheSize(clientSessionCacheSize);
+      }
+      if (clientSessionTimeout >= 0) {
+        clientSessionContext.setSessionTimeout(clientSessionTimeout);
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Releases the contexts got by the given {@code owner}, discarding those that have no other owner.
+   *
+   * @param owner the owner given when getting the contexts
+   */
+  public void release(Object owner) {
+    for (Key key : contexts.asMap().keySet()) {
+      contexts.asMap().computeIfPresent(key, (k, cached) -> {
+        cached.owners.remove(owner);
+        return cached.owners.isEmpty() ? null : cached;
+      });
+    }
+  }
+
+  /**
+   * Discards all the cached contexts.
+   */
+  public void invalidateAll() {
+    contexts.invalidateAll();
+  }
+
+  /**
+   * @return the amount of contexts currently cached
+   */
+  public long getCachedContexts() {
+    return contexts.estimatedSize();
+  }
+
+  /**
+   * @return the amount of contexts built because they were not cached
+   */
+  public long getContextBuilds() {
+    return builds.sum();
+  }
+
+  /**
+   * @return the amount of contexts built again because their files changed
+   */
+  public long getContextReloads() {
+    return reloads.sum();
+  }
+
+  /**
+   * @return the amount of times a cached context was returned instead of building a new one
+   */
+  public long getContextHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the ratio of requests for a context that were served from the cache, from 0 to 1
+   */
+  public double getContextReuseRate() {
+    long hitCount = getContextHits();
+    long total = hitCount + getContextBuilds() + getContextReloads();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * @return the amount of client sessions held by the cached contexts, available to be resumed by new connections
+   */
+  public long getClientSessions() {
+    long sessions = 0;
+    for (CachedContext cached : contexts.asMap().values()) {
+      SSLSessionContext clientSessionContext = cached.context.getClientSessionContext();
+      if (clientSessionContext != null) {
+        sessions += list(clientSessionContext.getIds()).size();
+      }
+    }
+    return sessions;
+  }
+
+  private static long[] fingerprints(String[] files) {
+    long[] fingerprints = new long[files.length];
+    for (int i = 0; i < files.length; ++i) {
+      fingerprints[i] = fingerprint(files[i]);
+    }
+    return fingerprints;
+  }
+
+  private static long fingerprint(String path) {
+    if (path == null) {
+      return 0;
+    }
+    File file = new File(path);
+    return file.isFile() ? 31 * file.lastModified() + file.length() : 0;
+  }
+
+  /**
+   * Creates the key for a context with the given settings.
+   *
+   * @param settings every setting that affects how the context is built. Each of them must implement {@code equals} and
+   *        {@code hashCode} based on its value
+   * @return the key
+   */
+  public static Key key(Object... settings) {
+    return new Key(settings);
+  }
+
+  /**
+   * Builds an {@link SSLContext} that is not cached.
+   */
+  @FunctionalInterface
+  public interface SslContextBuilder {
+
+    /**
+     * @param reload whether the context is being built again because its files changed, so they have to be read again
+     * @return the new context
+     */
+    SSLContext build(boolean reload) throws KeyManagementException, NoSuchAlgorithmException;
+  }
+
+  /**
+   * The settings an {@link SSLContext} is built from.
+   */
+  public static final class Key {
+
+    private final Object[] settings;
+    private final int hashCode;
+
+    private Key(Object[] settings) {
+      this.settings = settings;
+      this.hashCode = Arrays.hashCode(settings);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o || (o instanceof Key && hashCode == ((Key) o).hashCode && Arrays.equals(settings, ((Key) o).settings));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final class CachedContext {
+
+    private final SSLContext context;
+    private final String[] files;
+    private final long[] fingerprints;
+    // By identity, as owners with equal settings are equal
+    private final Set<Object> owners = synchronizedSet(newSetFromMap(new IdentityHashMap<>()));
+    private volatile long nextCheck;
+
+    private CachedContext(SSLContext context, String[] files, long[] fingerprints) {
+      this.context = context;
+      this.files = files;
+      this.fingerprints = fingerprints;
+      this.nextCheck = nanoTime() + fileCheckIntervalNanos;
+    }
+
+    private boolean filesChanged() {
+      long now = nanoTime();
+      if (now - nextCheck < 0) {
+        return false;
+      }
+      nextCheck = now + fileCheckIntervalNanos;
+      return !Arrays.equals(fingerprints, fingerprints(files));
+    }
+  }
+
+  private static final class SslContextBuildException extends RuntimeException {
+
+    private static final long serialVersionUID = -6129043851284310932L;
+
+    private SslContextBuildException(GeneralSecurityException cause) {
+      super(cause);
+    }
+  }
+}
@@ -6,12 +6,16 @@
  */
 package org.mule.runtime.module.tls.internal.config;
 
+import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.api.tls.TlsContextKeyStoreConfiguration;
 import org.mule.runtime.api.tls.TlsContextTrustStoreConfiguration;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 import org.mule.runtime.dsl.api.component.AbstractComponentFactory;
 import org.mule.runtime.dsl.api.component.ObjectFactory;
 import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
+import org.mule.runtime.module.tls.internal.revocation.AbstractCachedRevocationCheck;
+
+import javax.inject.Inject;
 
 /**
  * {@link ObjectFactory} for TLS context factory
@@ -20,6 +24,9 @@ import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
  */
 public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFactory<DefaultTlsContextFactory> {
 
+  @Inject
+  private SchedulerService schedulerService;
+
   private String name;
   private TlsContextKeyStoreConfiguration keyStore;
   private TlsContextTrustStoreConfiguration trustStore;
@@ -89,6 +96,9 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
     }
 
     if (revocationCheck != null) {
+      if (revocationCheck instanceof AbstractCachedRevocationCheck) {
+        ((AbstractCachedRevocationCheck) revocationCheck).setSchedulerService(schedulerService);
+      }
       tlsContextFactory.setRevocationCheck(revocationCheck);
     }
 
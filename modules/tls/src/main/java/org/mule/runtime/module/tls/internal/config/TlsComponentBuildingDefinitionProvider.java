@@ -78,6 +78,7 @@ public class TlsComponentBuildingDefinitionProvider implements ComponentBuilding
             .withTypeDefinition(fromType(CustomOcspResponder.class))
             .withSetterParameterDefinition("url", fromSimpleParameter("url").build())
             .withSetterParameterDefinition("certAlias", fromSimpleParameter("certAlias").build())
+            .withSetterParameterDefinition("softFail", fromSimpleParameter("softFail").build())
             .build());
 
     componentBuildingDefinitions
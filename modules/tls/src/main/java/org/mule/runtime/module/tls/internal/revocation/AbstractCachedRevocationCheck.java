@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.getRevocationDataService;
+
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.privileged.security.RevocationCheck;
+
+/**
+ * Base class for the revocation checks whose data is kept by the {@link RevocationDataService}. The data a check uses is
+ * released when the check is disposed, along with the artifact it belongs to.
+ *
+ * @since 4.4
+ */
+public abstract class AbstractCachedRevocationCheck extends AbstractComponent implements RevocationCheck, Disposable {
+
+  private RevocationDataService revocationDataService = getRevocationDataService();
+  private SchedulerService schedulerService;
+
+  /**
+   * @param schedulerService the service to refresh the revocation data of this check with. If not set, the data is only
+   *                         refreshed in the background while some other check provides one.
+   */
+  public void setSchedulerService(SchedulerService schedulerService) {
+    this.schedulerService = schedulerService;
+  }
+
+  SchedulerService getSchedulerService() {
+    return schedulerService;
+  }
+
+  /**
+   * @param revocationDataService the service to keep the revocation data of this check, instead of the one shared by all the
+   *                              TLS contexts
+   */
+  void setDataService(RevocationDataService revocationDataService) {
+    this.revocationDataService = revocationDataService;
+  }
+
+  /**
+   * @return the service that keeps the revocation data of this check
+   */
+  RevocationDataService getDataService() {
+    return revocationDataService;
+  }
+
+  /**
+   * Releases the revocation data used by this check, so it is discarded if no other check uses it.
+   */
+  @Override
+  public void dispose() {
+    revocationDataService.release(this);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.security.cert.CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS;
+import static java.util.Collections.emptySet;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.module.tls.internal.revocation.OcspResponse.CertStatus;
+
+import java.net.URI;
+import java.security.PublicKey;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.PKIXCertPathChecker;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.slf4j.Logger;
+
+/**
+ * Checks the revocation of each certificate in a path with an OCSP responder, using only the responses kept in memory by the
+ * {@link RevocationDataService}. The responder is never contacted during the check: if there is no current response for a
+ * certificate, it is fetched in the background for the following checks.
+ * <p>
+ * A certificate without a current response in memory is accepted if {@code softFail} is set, as the JDK revocation checker does
+ * with the {@code SOFT_FAIL} option when the responder can't be reached. Otherwise, as with the {@code NO_FALLBACK} option,
+ * validation fails if the status of a certificate can't be determined.
+ *
+ * @since 4.4
+ */
+final class CachedOcspChecker extends PKIXCertPathChecker {
+
+  private static final Logger LOGGER = getLogger(CachedOcspChecker.class);
+
+  private final RevocationDataService revocationDataService;
+  private final AbstractCachedRevocationCheck owner;
+  private final URI responder;
+  private final X509Certificate responderCert;
+  private final Map<X500Principal, PublicKey> trustAnchorKeys;
+  private final boolean softFail;
+
+  private PublicKey previousKey;
+
+  /**
+   * @param revocationDataService the service keeping the OCSP responses
+   * @param owner the check this checker is for
+   * @param responder the OCSP responder to use, or {@code null} to use the one in each certificate
+   * @param responderCert the certificate of the responder, or {@code null} if it has to be the issuer or delegated by it
+   * @param trustAnchorKeys the public keys of the trust anchors, by subject
+   * @param softFail whether to accept the certificates without a current response in memory
+   */
+  CachedOcspChecker(RevocationDataService revocationDataService, AbstractCachedRevocationCheck owner, URI responder,
+                    X509Certificate responderCert, Map<X500Principal, PublicKey> trustAnchorKeys, boolean softFail) {
+    this.revocationDataService = revocationDataService;
+    this.owner = owner;
+    this.responder = responder;
+    this.responderCert = responderCert;
+    this.trustAnchorKeys = trustAnchorKeys;
+    this.softFail = softFail;
+  }
+
+  @Override
+  public void init(boolean forward) throws CertPathValidatorException {
+    if (forward) {
+      throw new CertPathValidatorException("Forward checking not supported");
+    }
+    previousKey = null;
+  }
+
+  @Override
+  public boolean isForwardCheckingSupported() {
+    return false;
+  }
+
+  @Override
+  public Set<String> getSupportedExtensions() {
+    return emptySet();
+  }
+
+  @Override
+  public void check(Certificate cert, Collection<String> unresolvedCritExts) throws CertPathValidatorException {
+    X509Certificate certificate = (X509Certificate) cert;
+    PublicKey issuerKey = previousKey != null ? previousKey : trustAnchorKeys.get(certificate.getIssuerX500Principal());
+    previousKey = certificate.getPublicKey();
+
+    URI certResponder = responder != null ? responder : OcspClient.getResponder(certificate);
+    if (issuerKey == null || certResponder == null) {
+      throw undetermined("Could not determine revocation status of " + certificate.getSubjectX500Principal()
+          + ": no OCSP responder or issuer key", null);
+    }
+
+    OcspResponse response =
+        revocationDataService.getCachedOcspResponse(certificate, issuerKey, certResponder, responderCert, owner);
+    if (response == null) {
+      if (softFail) {
+        LOGGER.debug("Accepting {} without revocation status, its OCSP response from {} is being fetched",
+                     certificate.getSubjectX500Principal(), certResponder);
+        return;
+      }
+      throw undetermined("Could not determine revocation status of " + certificate.getSubjectX500Principal()
+          + ": no current response from OCSP responder " + certResponder + " yet", null);
+    }
+
+    CertStatus status = response.getStatus();
+    if (status == CertStatus.REVOKED) {
+      throw new CertPathValidatorException("Certificate has been revoked, revocation date: " + response.getRevocationTime()
+          + ", authority: " + certificate.getIssuerX500Principal(), null, null, -1, REVOKED);
+    } else if (status != CertStatus.GOOD) {
+      throw undetermined("OCSP responder " + certResponder + " doesn't know the status of "
+          + certificate.getSubjectX500Principal(), null);
+    }
+  }
+
+  private static CertPathValidatorException undetermined(String message, Throwable cause) {
+    return new CertPathValidatorException(message, cause, null, -1, UNDETERMINED_REVOCATION_STATUS);
+  }
+}
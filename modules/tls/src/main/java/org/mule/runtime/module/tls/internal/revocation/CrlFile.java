@@ -7,28 +7,15 @@
 package org.mule.runtime.module.tls.internal.revocation;
 
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
-
-import org.mule.runtime.api.component.AbstractComponent;
-import org.mule.runtime.core.api.util.IOUtils;
-import org.mule.runtime.core.privileged.security.RevocationCheck;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.getTrustAnchorKeys;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.getTrustAnchors;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
-import java.security.cert.CRL;
-import java.security.cert.CRLException;
-import java.security.cert.CertStore;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.CollectionCertStoreParameters;
 import java.security.cert.PKIXBuilderParameters;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
-import java.security.cert.X509Certificate;
-import java.util.Collection;
-import java.util.Enumeration;
-import java.util.HashSet;
 import java.util.Set;
 
 import javax.net.ssl.CertPathTrustManagerParameters;
@@ -38,15 +25,22 @@ import javax.net.ssl.ManagerFactoryParameters;
  * Local file based certificate revocation checker, which requires a CRL file to be accessible and ignores
  * extension points (additional tags for CRLDP and OCSP) in the certificate.
  *
+ * The CRLs are parsed once and kept in memory by the {@link RevocationDataService}, which reloads the file in the
+ * background when it changes.
+ *
  * Note that the signer of the CRL must be the client certificate's CA, in case that's not possible consider
  * using {@link CustomOcspResponder}.
  *
  * @since 4.1
  */
-public class CrlFile extends AbstractComponent implements RevocationCheck {
+public class CrlFile extends AbstractCachedRevocationCheck {
 
   private String path;
 
+  public String getPath() {
+    return path;
+  }
+
   public void setPath(String path) {
     this.path = path;
   }
@@ -57,16 +51,14 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     checkArgument(trustStore != null, "tls:crl-file requires a trust store");
 
     try {
-      Set<TrustAnchor> trustAnchors = getTrustAnchorsFromKeyStore(trustStore);
+      Set<TrustAnchor> trustAnchors = getTrustAnchors(trustStore);
       PKIXBuilderParameters pbParams = new PKIXBuilderParameters(trustAnchors, new X509CertSelector());
 
-      // Make sure revocation checking is enabled (com.sun.net.ssl.checkRevocation)
-      pbParams.setRevocationEnabled(true);
-
-      Collection<? extends CRL> crls = loadCRL(path);
-      if (crls != null && !crls.isEmpty()) {
-        pbParams.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls)));
-      }
+      // The CRLs are checked from the in-memory index kept by the revocation data service, instead of having the JDK
+      // revocation checker go through them on each handshake
+      pbParams.setRevocationEnabled(false);
+      pbParams.addCertPathChecker(new IndexedCrlChecker(getDataService().getCrlIndex(path, this),
+                                                        getTrustAnchorKeys(trustAnchors)));
 
       return new CertPathTrustManagerParameters(pbParams);
     } catch (IOException | GeneralSecurityException e) {
@@ -74,37 +66,6 @@ public class CrlFile extends AbstractComponent implements RevocationCheck {
     }
   }
 
-  private Collection<? extends CRL> loadCRL(String crlPath) throws CertificateException, IOException, CRLException {
-    Collection<? extends CRL> crlList = null;
-
-    if (crlPath != null) {
-      InputStream in = null;
-      try {
-        in = IOUtils.getResourceAsStream(crlPath, getClass());
-        crlList = CertificateFactory.getInstance("X.509").generateCRLs(in);
-      } finally {
-        if (in != null) {
-          in.close();
-        }
-      }
-    }
-
-    return crlList;
-  }
-
-  private static Set<TrustAnchor> getTrustAnchorsFromKeyStore(KeyStore keyStore) throws GeneralSecurityException {
-    Enumeration<String> aliases = keyStore.aliases();
-    HashSet<TrustAnchor> trustAnchors = new HashSet<>();
-    while (aliases.hasMoreElements()) {
-      String alias = aliases.nextElement();
-      if (keyStore.isCertificateEntry(alias)) {
-        trustAnchors.add(new TrustAnchor((X509Certificate) keyStore.getCertificate(alias), null));
-      }
-    }
-
-    return trustAnchors;
-  }
-
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CRL;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * The CRLs of a file, indexed by issuer and revoked serial number so that checking a certificate doesn't require going through
+ * them. The file is parsed once, and again only when it changes.
+ *
+ * @since 4.4
+ */
+final class CrlIndex {
+
+  // The checks that use this index, guarded by the RevocationDataService
+  final Set<AbstractCachedRevocationCheck> owners = newSetFromMap(new IdentityHashMap<>());
+
+  private final String path;
+  private final URL url;
+  private volatile long fingerprint;
+  private volatile Map<X500Principal, IssuerCrl> crlsByIssuer;
+
+  /**
+   * Creates the index, parsing the file.
+   *
+   * @param path the path of the file, as configured
+   * @param url the URL {@code path} resolves to, which the file is always read from
+   */
+  CrlIndex(String path, URL url) throws IOException, GeneralSecurityException {
+    this.path = path;
+    this.url = url;
+    this.fingerprint = fingerprint();
+    this.crlsByIssuer = load();
+  }
+
+  /**
+   * Parses the file again if it changed since it was last parsed.
+   *
+   * @return whether the file was parsed again
+   */
+  boolean reloadIfChanged() throws IOException, GeneralSecurityException {
+    long current = fingerprint();
+    if (current == fingerprint) {
+      return false;
+    }
+    crlsByIssuer = load();
+    fingerprint = current;
+    return true;
+  }
+
+  /**
+   * @param issuer the issuer of a certificate
+   * @return the CRL of {@code issuer}, or {@code null} if there is none in the file
+   */
+  IssuerCrl forIssuer(X500Principal issuer) {
+    return crlsByIssuer.get(issuer);
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  private Map<X500Principal, IssuerCrl> load() throws IOException, GeneralSecurityException {
+    Collection<? extends CRL> crls;
+    try (InputStream in = url.openStream()) {
+      crls = CertificateFactory.getInstance("X.509").generateCRLs(in);
+    }
+
+    Map<X500Principal, IssuerCrl> index = new HashMap<>();
+    for (CRL crl : crls) {
+      X509CRL x509Crl = (X509CRL) crl;
+      IssuerCrl current = index.get(x509Crl.getIssuerX500Principal());
+      // Keep the most recent CRL of each issuer
+      if (current == null || x509Crl.getThisUpdate().after(current.crl.getThisUpdate())) {
+        index.put(x509Crl.getIssuerX500Principal(), new IssuerCrl(x509Crl));
+      }
+    }
+    return unmodifiableMap(index);
+  }
+
+  private long fingerprint() {
+    if (!"file".equals(url.getProtocol())) {
+      // Only files in the file system can change while running
+      return 0;
+    }
+    try {
+      File file = new File(url.toURI());
+      return 31 * file.lastModified() + file.length();
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * The CRL of an issuer, with its revoked serial numbers.
+   */
+  static final class IssuerCrl {
+
+    private final X509CRL crl;
+    private final Map<BigInteger, X509CRLEntry> revoked = new HashMap<>();
+    private volatile PublicKey verifiedKey;
+
+    private IssuerCrl(X509CRL crl) {
+      this.crl = crl;
+      Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+      if (entries != null) {
+        for (X509CRLEntry entry : entries) {
+          revoked.put(entry.getSerialNumber(), entry);
+        }
+      }
+    }
+
+    /**
+     * Verifies the signature of the CRL. A successful verification is remembered, so it's not repeated for the same key.
+     *
+     * @param issuerKey the public key of the issuer
+     */
+    void verify(PublicKey issuerKey) throws GeneralSecurityException {
+      if (issuerKey.equals(verifiedKey)) {
+        return;
+      }
+      crl.verify(issuerKey);
+      verifiedKey = issuerKey;
+    }
+
+    /**
+     * @param date a date
+     * @return whether the CRL is expected to have been replaced by a newer one by {@code date}
+     */
+    boolean isOutdated(Date date) {
+      return crl.getNextUpdate() != null && date.after(crl.getNextUpdate());
+    }
+
+    /**
+     * @param serialNumber the serial number of a certificate of the issuer
+     * @return the entry of the certificate if it was revoked, {@code null} otherwise
+     */
+    X509CRLEntry getRevoked(BigInteger serialNumber) {
+      return revoked.get(serialNumber);
+    }
+  }
+}
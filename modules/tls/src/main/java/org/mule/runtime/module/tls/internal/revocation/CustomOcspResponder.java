@@ -6,38 +6,43 @@
  */
 package org.mule.runtime.module.tls.internal.revocation;
 
+import static java.util.Collections.list;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
-
-import org.mule.runtime.api.component.AbstractComponent;
-import org.mule.runtime.core.privileged.security.RevocationCheck;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.getTrustAnchorKeys;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.getTrustAnchors;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
-import java.security.cert.CertPathBuilder;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
 import java.security.cert.PKIXBuilderParameters;
-import java.security.cert.PKIXRevocationChecker;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509CertSelector;
 import java.security.cert.X509Certificate;
-import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 
 import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.ManagerFactoryParameters;
+import javax.security.auth.x500.X500Principal;
 
 /**
  * Uses a custom OCSP responder for certificate revocation checks, with a specific trusted certificate for
  * revocating other keys. This ignores extension points (additional tags for CRLDP or OCSP) present in the
  * certificate, if any.
+ * <p>
+ * The OCSP responses for the certificates of the trust store and of the chains of the key store are fetched when the TLS context
+ * is initialised. Handshakes only use the responses in memory.
  *
  * @since 4.1
  */
-public class CustomOcspResponder extends AbstractComponent implements RevocationCheck {
+public class CustomOcspResponder extends AbstractCachedRevocationCheck {
 
   private String url;
   private String certAlias;
+  private boolean softFail;
 
   public void setUrl(String url) {
     this.url = url;
@@ -47,29 +52,58 @@ public class CustomOcspResponder extends AbstractComponent implements Revocation
     this.certAlias = certAlias;
   }
 
+  /**
+   * @param softFail whether to accept the certificates for which there is no OCSP response in memory yet, instead of failing
+   *                 the handshake. This is a possible security risk.
+   * @since 4.4
+   */
+  public void setSoftFail(boolean softFail) {
+    this.softFail = softFail;
+  }
+
   @Override
   public ManagerFactoryParameters configFor(KeyStore trustStore, Set<TrustAnchor> defaultTrustAnchors) {
+    return configFor(trustStore, null, defaultTrustAnchors);
+  }
+
+  @Override
+  public ManagerFactoryParameters configFor(KeyStore trustStore, KeyStore keyStore, Set<TrustAnchor> defaultTrustAnchors) {
     checkArgument(url != null, "tls:custom-ocsp-responder requires the 'url' attribute");
     checkArgument(trustStore != null, "tls:custom-ocsp-responder requires a trust store");
 
     try {
-      CertPathBuilder cpb = CertPathBuilder.getInstance("PKIX");
-      PKIXRevocationChecker rc = (PKIXRevocationChecker) cpb.getRevocationChecker();
-      rc.setOptions(EnumSet.of(PKIXRevocationChecker.Option.NO_FALLBACK));
-
-      if (url != null) {
-        rc.setOcspResponder(new URI(url));
-      }
+      X509Certificate responderCert = null;
       if (certAlias != null) {
         if (trustStore.isCertificateEntry(certAlias)) {
-          rc.setOcspResponderCert((X509Certificate) trustStore.getCertificate(certAlias));
+          responderCert = (X509Certificate) trustStore.getCertificate(certAlias);
         } else {
           throw new IllegalStateException("Key with alias \"" + certAlias + "\" was not found");
         }
       }
 
-      PKIXBuilderParameters pkixParams = new PKIXBuilderParameters(trustStore, new X509CertSelector());
-      pkixParams.addCertPathChecker(rc);
+      Set<TrustAnchor> trustAnchors = getTrustAnchors(trustStore);
+      Map<X500Principal, PublicKey> trustAnchorKeys = getTrustAnchorKeys(trustAnchors);
+      URI responder = new URI(url);
+      PKIXBuilderParameters pkixParams = new PKIXBuilderParameters(trustAnchors, new X509CertSelector());
+
+      // The OCSP responses are kept and refreshed by the revocation data service, so that handshakes never wait for the
+      // responder
+      pkixParams.setRevocationEnabled(false);
+      pkixParams.addCertPathChecker(new CachedOcspChecker(getDataService(), this, responder, responderCert,
+                                                          trustAnchorKeys, softFail));
+
+      for (String alias : list(trustStore.aliases())) {
+        if (trustStore.isCertificateEntry(alias)) {
+          prefetch(new Certificate[] {trustStore.getCertificate(alias)}, responder, responderCert, trustAnchorKeys);
+        }
+      }
+      if (keyStore != null) {
+        for (String alias : list(keyStore.aliases())) {
+          if (keyStore.isKeyEntry(alias) && keyStore.getCertificateChain(alias) != null) {
+            prefetch(keyStore.getCertificateChain(alias), responder, responderCert, trustAnchorKeys);
+          }
+        }
+      }
 
       return new CertPathTrustManagerParameters(pkixParams);
     } catch (GeneralSecurityException | URISyntaxException e) {
@@ -77,6 +111,27 @@ public class CustomOcspResponder extends AbstractComponent implements Revocation
     }
   }
 
+  /**
+   * Fetches the OCSP responses for the certificates of {@code chain} whose issuer is known, that is, the next one in the chain or
+   * a trust anchor. Self-signed certificates can only be trust anchors, whose revocation is not checked.
+   */
+  private void prefetch(Certificate[] chain, URI responder, X509Certificate responderCert,
+                        Map<X500Principal, PublicKey> trustAnchorKeys) {
+    for (int i = 0; i < chain.length; ++i) {
+      X509Certificate certificate = (X509Certificate) chain[i];
+      if (certificate.getIssuerX500Principal().equals(certificate.getSubjectX500Principal())) {
+        continue;
+      }
+
+      PublicKey issuerKey = i + 1 < chain.length
+          ? chain[i + 1].getPublicKey()
+          : trustAnchorKeys.get(certificate.getIssuerX500Principal());
+      if (issuerKey != null) {
+        getDataService().prefetchOcspResponse(certificate, issuerKey, responder, responderCert, this);
+      }
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -88,6 +143,9 @@ public class CustomOcspResponder extends AbstractComponent implements Revocation
 
     CustomOcspResponder that = (CustomOcspResponder) o;
 
+    if (softFail != that.softFail) {
+      return false;
+    }
     if (url != null ? !url.equals(that.url) : that.url != null) {
       return false;
     }
@@ -98,6 +156,7 @@ public class CustomOcspResponder extends AbstractComponent implements Revocation
   public int hashCode() {
     int result = url != null ? url.hashCode() : 0;
     result = 31 * result + (certAlias != null ? certAlias.hashCode() : 0);
+    result = 31 * result + (softFail ? 1 : 0);
     return result;
   }
 }
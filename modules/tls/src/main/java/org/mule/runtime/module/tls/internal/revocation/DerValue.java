@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Arrays.copyOfRange;
+
+import java.io.ByteArrayOutputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Minimal reader and writer of the DER encoded ASN.1 structures needed to request and verify OCSP responses, without depending
+ * on internal JDK classes. Only definite lengths and single byte tags are supported, as required by DER for
+ * these structures.
+ *
+ * @since 4.4
+ */
+final class DerValue {
+
+  static final int TAG_INTEGER = 0x02;
+  static final int TAG_BIT_STRING = 0x03;
+  static final int TAG_OCTET_STRING = 0x04;
+  static final int TAG_NULL = 0x05;
+  static final int TAG_OID = 0x06;
+  static final int TAG_ENUMERATED = 0x0A;
+  static final int TAG_GENERALIZED_TIME = 0x18;
+  static final int TAG_SEQUENCE = 0x30;
+
+  static final int CONTEXT_SPECIFIC = 0x80;
+  static final int CONSTRUCTED = 0x20;
+
+  private final byte[] encoded;
+  private final int start;
+  private final int tag;
+  private final int contentStart;
+  private final int contentEnd;
+
+  private DerValue(byte[] encoded, int start, int tag, int contentStart, int contentEnd) {
+    this.encoded = encoded;
+    this.start = start;
+    this.tag = tag;
+    this.contentStart = contentStart;
+    this.contentEnd = contentEnd;
+  }
+
+  /**
+   * Parses the value at the start of {@code encoded}.
+   *
+   * @param encoded the DER encoding of a value
+   * @return the parsed value
+   * @throws IllegalArgumentException if {@code encoded} is not a valid DER encoding
+   */
+  static DerValue parse(byte[] encoded) {
+    return parse(encoded, 0, encoded.length);
+  }
+
+  private static DerValue parse(byte[] encoded, int offset, int limit) {
+    if (offset + 2 > limit) {
+      throw new IllegalArgumentException("Truncated DER value");
+    }
+    int tag = encoded[offset] & 0xFF;
+    if ((tag & 0x1F) == 0x1F) {
+      throw new IllegalArgumentException("Multi-byte DER tags are not supported");
+    }
+
+    int position = offset + 1;
+    int length = encoded[position++] & 0xFF;
+    if (length > 0x7F) {
+      int lengthBytes = length & 0x7F;
+      if (lengthBytes == 0 || lengthBytes > 3 || position + lengthBytes > limit) {
+        throw new IllegalArgumentException("Unsupported DER length");
+      }
+      length = 0;
+      for (int i = 0; i < lengthBytes; ++i) {
+        length = (length << 8) | (encoded[position++] & 0xFF);
+      }
+    }
+    if (position + length > limit) {
+      throw new IllegalArgumentException("Truncated DER value");
+    }
+    return new DerValue(encoded, offset, tag, position, position + length);
+  }
+
+  int getTag() {
+    return tag;
+  }
+
+  /**
+   * @return whether this value has the given context specific tag, as used for tagged optional fields
+   */
+  boolean isContextSpecific(int number) {
+    return (tag & CONTEXT_SPECIFIC) != 0 && (tag & 0x1F) == number;
+  }
+
+  /**
+   * @return the values this constructed value is made of
+   */
+  List<DerValue> getChildren() {
+    List<DerValue> children = new ArrayList<>();
+    int position = contentStart;
+    while (position < contentEnd) {
+      DerValue child = parse(encoded, position, contentEnd);
+      children.add(child);
+      position = child.contentEnd;
+    }
+    return children;
+  }
+
+  /**
+   * @return the single value wrapped by this explicitly tagged value
+   */
+  DerValue getExplicit() {
+    return parse(encoded, contentStart, contentEnd);
+  }
+
+  /**
+   * @return the whole encoding of this value, including its tag and length
+   */
+  byte[] getEncoded() {
+    return copyOfRange(encoded, start, contentEnd);
+  }
+
+  byte[] getContent() {
+    return copyOfRange(encoded, contentStart, contentEnd);
+  }
+
+  /**
+   * @return the bits of this {@code BIT STRING}, without the leading unused bits count
+   */
+  byte[] getBitStringBits() {
+    checkTag(TAG_BIT_STRING);
+    return copyOfRange(encoded, contentStart + 1, contentEnd);
+  }
+
+  int getInt() {
+    if (tag != TAG_INTEGER && tag != TAG_ENUMERATED) {
+      throw new IllegalArgumentException("Not an integer DER value: " + tag);
+    }
+    int value = 0;
+    for (int i = contentStart; i < contentEnd; ++i) {
+      value = (value << 8) | (encoded[i] & 0xFF);
+    }
+    return value;
+  }
+
+  String getString() {
+    return new String(encoded, contentStart, contentEnd - contentStart, US_ASCII);
+  }
+
+  Date getGeneralizedTime() {
+    checkTag(TAG_GENERALIZED_TIME);
+    String time = getString();
+    // Fractions of seconds are allowed in GeneralizedTime but not needed here
+    int fraction = time.indexOf('.');
+    if (fraction > 0) {
+      time = time.substring(0, fraction) + "Z";
+    }
+    SimpleDateFormat format = new SimpleDateFormat("yyyyMMddHHmmss'Z'");
+    format.setTimeZone(TimeZone.getTimeZone("UTC"));
+    try {
+      return format.parse(time);
+    } catch (ParseException e) {
+      throw new IllegalArgumentException("Invalid GeneralizedTime: " + time, e);
+    }
+  }
+
+  /**
+   * @return whether this is an {@code OBJECT IDENTIFIER} with the given DER encoded content
+   */
+  boolean isOid(byte[] oid) {
+    if (tag != TAG_OID || contentEnd - contentStart != oid.length) {
+      return false;
+    }
+    for (int i = 0; i < oid.length; ++i) {
+      if (encoded[contentStart + i] != oid[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the dotted representation of this {@code OBJECT IDENTIFIER}
+   */
+  String getOid() {
+    checkTag(TAG_OID);
+    StringBuilder oid = new StringBuilder();
+    long component = 0;
+    boolean first = true;
+    for (int i = contentStart; i < contentEnd; ++i) {
+      component = (component << 7) | (encoded[i] & 0x7F);
+      if ((encoded[i] & 0x80) == 0) {
+        if (first) {
+          int root = (int) Math.min(component / 40, 2);
+          oid.append(root).append('.').append(component - 40 * root);
+          first = false;
+        } else {
+          oid.append('.').append(component);
+        }
+        component = 0;
+      }
+    }
+    return oid.toString();
+  }
+
+  private void checkTag(int expected) {
+    if (tag != expected) {
+      throw new IllegalArgumentException("Expected DER tag " + expected + " but was " + tag);
+    }
+  }
+
+  /**
+   * Encodes a value.
+   *
+   * @param tag the tag of the value
+   * @param contents the encoded values it is made of, or its raw content for primitive values
+   * @return the DER encoding of the value
+   */
+  static byte[] encode(int tag, byte[]... contents) {
+    int length = 0;
+    for (byte[] content : contents) {
+      length += content.length;
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(length + 5);
+    out.write(tag);
+    if (length < 0x80) {
+      out.write(length);
+    } else if (length < 0x100) {
+      out.write(0x81);
+      out.write(length);
+    } else if (length < 0x10000) {
+      out.write(0x82);
+      out.write(length >> 8);
+      out.write(length);
+    } else {
+      out.write(0x83);
+      out.write(length >> 16);
+      out.write(length >> 8);
+      out.write(length);
+    }
+    for (byte[] content : contents) {
+      out.write(content, 0, content.length);
+    }
+    return out.toByteArray();
+  }
+}
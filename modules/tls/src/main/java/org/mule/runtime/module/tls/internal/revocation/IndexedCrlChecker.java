@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.cert.CRLReason.UNSPECIFIED;
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.security.cert.CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS;
+import static java.util.Collections.emptySet;
+
+import org.mule.runtime.module.tls.internal.revocation.CrlIndex.IssuerCrl;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CRLReason;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.PKIXCertPathChecker;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * Checks the revocation of each certificate in a path against a {@link CrlIndex}, so it only involves in-memory lookups.
+ * <p>
+ * As the JDK revocation checker does with the CRLs of a cert store, validation fails if there is no valid CRL for the issuer of a
+ * certificate. The CRL signature is verified with the key of the previous certificate in the path, or with that of the trust
+ * anchor for the first one.
+ *
+ * @since 4.4
+ */
+final class IndexedCrlChecker extends PKIXCertPathChecker {
+
+  private final CrlIndex crlIndex;
+  private final Map<X500Principal, PublicKey> trustAnchorKeys;
+
+  private PublicKey previousKey;
+
+  /**
+   * @param crlIndex the CRLs to check the certificates against
+   * @param trustAnchorKeys the public keys of the trust anchors, by subject
+   */
+  IndexedCrlChecker(CrlIndex crlIndex, Map<X500Principal, PublicKey> trustAnchorKeys) {
+    this.crlIndex = crlIndex;
+    this.trustAnchorKeys = trustAnchorKeys;
+  }
+
+  @Override
+  public void init(boolean forward) throws CertPathValidatorException {
+    if (forward) {
+      throw new CertPathValidatorException("Forward checking not supported");
+    }
+    previousKey = null;
+  }
+
+  @Override
+  public boolean isForwardCheckingSupported() {
+    return false;
+  }
+
+  @Override
+  public Set<String> getSupportedExtensions() {
+    return emptySet();
+  }
+
+  @Override
+  public void check(Certificate cert, Collection<String> unresolvedCritExts) throws CertPathValidatorException {
+    X509Certificate certificate = (X509Certificate) cert;
+    X500Principal issuer = certificate.getIssuerX500Principal();
+    PublicKey issuerKey = previousKey != null ? previousKey : trustAnchorKeys.get(issuer);
+    previousKey = certificate.getPublicKey();
+
+    IssuerCrl crl = crlIndex.forIssuer(issuer);
+    if (crl == null || issuerKey == null || crl.isOutdated(new Date())) {
+      throw undetermined("Could not determine revocation status of " + certificate.getSubjectX500Principal()
+          + ": no valid CRL for " + issuer + " in " + crlIndex.getPath(), null);
+    }
+    try {
+      crl.verify(issuerKey);
+    } catch (GeneralSecurityException e) {
+      throw undetermined("CRL of " + issuer + " in " + crlIndex.getPath() + " could not be verified", e);
+    }
+
+    X509CRLEntry revoked = crl.getRevoked(certificate.getSerialNumber());
+    if (revoked != null) {
+      CRLReason reason = revoked.getRevocationReason() != null ? revoked.getRevocationReason() : UNSPECIFIED;
+      throw new CertPathValidatorException("Certificate has been revoked, reason: " + reason + ", revocation date: "
+          + revoked.getRevocationDate() + ", authority: " + issuer, null, null, -1, REVOKED);
+    }
+  }
+
+  private static CertPathValidatorException undetermined(String message, Throwable cause) {
+    return new CertPathValidatorException(message, cause, null, -1, UNDETERMINED_REVOCATION_STATUS);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.lang.Integer.getInteger;
+import static java.security.MessageDigest.getInstance;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_INTEGER;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_NULL;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_OCTET_STRING;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_OID;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_SEQUENCE;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.encode;
+import static org.mule.runtime.module.tls.internal.revocation.RevocationDataService.MULE_TLS_OCSP_TIMEOUT;
+
+import org.mule.runtime.core.api.util.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+/**
+ * Requests OCSP responses for certificates, as described in RFC 6960. The responses are verified by {@link OcspResponse}.
+ *
+ * @since 4.4
+ */
+final class OcspClient {
+
+  private static final int DEFAULT_TIMEOUT = 10000;
+
+  private static final String AUTHORITY_INFO_ACCESS_OID = "1.3.6.1.5.5.7.1.1";
+  // 1.3.14.3.2.26
+  private static final byte[] SHA1_OID = {0x2B, 0x0E, 0x03, 0x02, 0x1A};
+  // 1.3.6.1.5.5.7.48.1
+  private static final byte[] AD_OCSP_OID = {0x2B, 0x06, 0x01, 0x05, 0x05, 0x07, 0x30, 0x01};
+
+  private static final int URI_GENERAL_NAME = 6;
+
+  private OcspClient() {}
+
+  /**
+   * Creates a request for the status of a single certificate, identified with SHA-1 hashes as required by RFC 5019.
+   *
+   * @param certificate the certificate to check
+   * @param issuerKey the public key of the issuer of {@code certificate}
+   * @return the DER encoded {@code OCSPRequest}
+   */
+  static byte[] createRequest(X509Certificate certificate, PublicKey issuerKey) throws GeneralSecurityException {
+    byte[] issuerNameHash = getInstance("SHA-1").digest(certificate.getIssuerX500Principal().getEncoded());
+    byte[] issuerPublicKey = DerValue.parse(issuerKey.getEncoded()).getChildren().get(1).getBitStringBits();
+    byte[] issuerKeyHash = getInstance("SHA-1").digest(issuerPublicKey);
+
+    byte[] certId = encode(TAG_SEQUENCE,
+                           encode(TAG_SEQUENCE, encode(TAG_OID, SHA1_OID), encode(TAG_NULL)),
+                           encode(TAG_OCTET_STRING, issuerNameHash),
+                           encode(TAG_OCTET_STRING, issuerKeyHash),
+                           encode(TAG_INTEGER, certificate.getSerialNumber().toByteArray()));
+    byte[] requestList = encode(TAG_SEQUENCE, encode(TAG_SEQUENCE, certId));
+    return encode(TAG_SEQUENCE, encode(TAG_SEQUENCE, requestList));
+  }
+
+  /**
+   * @param certificate a certificate
+   * @return the OCSP responder in the authority information access extension of {@code certificate}, or {@code null} if it
+   *         has none
+   */
+  static URI getResponder(X509Certificate certificate) {
+    byte[] extension = certificate.getExtensionValue(AUTHORITY_INFO_ACCESS_OID);
+    if (extension == null) {
+      return null;
+    }
+
+    try {
+      DerValue accessDescriptions = DerValue.parse(DerValue.parse(extension).getContent());
+      for (DerValue accessDescription : accessDescriptions.getChildren()) {
+        List<DerValue> fields = accessDescription.getChildren();
+        if (fields.size() == 2 && fields.get(0).isOid(AD_OCSP_OID) && fields.get(1).isContextSpecific(URI_GENERAL_NAME)) {
+          return new URI(fields.get(1).getString());
+        }
+      }
+    } catch (IllegalArgumentException | URISyntaxException e) {
+      // An invalid extension is handled as if there was none
+    }
+    return null;
+  }
+
+  /**
+   * Sends a request to an OCSP responder.
+   *
+   * @param responder the URI of the responder
+   * @param request the DER encoded request
+   * @return the DER encoded response
+   */
+  static byte[] fetch(URI responder, byte[] request) throws IOException {
+    int timeout = getInteger(MULE_TLS_OCSP_TIMEOUT, DEFAULT_TIMEOUT);
+    HttpURLConnection connection = (HttpURLConnection) responder.toURL().openConnection();
+    try {
+      connection.setConnectTimeout(timeout);
+      connection.setReadTimeout(timeout);
+      connection.setDoOutput(true);
+      connection.setRequestMethod("POST");
+      connection.setRequestProperty("Content-Type", "application/ocsp-request");
+      connection.setRequestProperty("Accept", "application/ocsp-response");
+      connection.setFixedLengthStreamingMode(request.length);
+      try (OutputStream out = connection.getOutputStream()) {
+        out.write(request);
+      }
+      if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+        throw new IOException("OCSP responder " + responder + " returned status " + connection.getResponseCode());
+      }
+      try (InputStream in = connection.getInputStream()) {
+        return IOUtils.toByteArray(in);
+      }
+    } finally {
+      connection.disconnect();
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.security.MessageDigest.getInstance;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_GENERALIZED_TIME;
+import static org.mule.runtime.module.tls.internal.revocation.DerValue.TAG_SEQUENCE;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * The verified status of a certificate, from an OCSP response.
+ * <p>
+ * The response is verified once when it is received, as the JDK does: it has to be signed either by the configured responder
+ * certificate, by the issuer of the certificate or by a responder certificate delegated by that issuer. After that, using it only
+ * requires checking that it is still current.
+ *
+ * @since 4.4
+ */
+final class OcspResponse {
+
+  /**
+   * The tolerance when checking the validity interval of a response, the same the JDK uses.
+   */
+  static final long MAX_CLOCK_SKEW = MINUTES.toMillis(15);
+
+  private static final byte[] OCSP_BASIC_OID = {0x2B, 0x06, 0x01, 0x05, 0x05, 0x07, 0x30, 0x01, 0x01};
+  private static final String OCSP_SIGNING_OID = "1.3.6.1.5.5.7.3.9";
+
+  private static final int SUCCESSFUL = 0;
+  private static final int RESPONDER_BY_NAME = 1;
+  private static final int RESPONDER_BY_KEY = 2;
+  private static final int STATUS_GOOD = 0;
+  private static final int STATUS_REVOKED = 1;
+
+  enum CertStatus {
+    GOOD, REVOKED, UNKNOWN
+  }
+
+  private final CertStatus status;
+  private final Date revocationTime;
+  private final Date thisUpdate;
+  private final Date nextUpdate;
+
+  private OcspResponse(CertStatus status, Date revocationTime, Date thisUpdate, Date nextUpdate) {
+    this.status = status;
+    this.revocationTime = revocationTime;
+    this.thisUpdate = thisUpdate;
+    this.nextUpdate = nextUpdate;
+  }
+
+  /**
+   * Parses and verifies a response.
+   *
+   * @param encoded the DER encoded {@code OCSPResponse}
+   * @param certificate the certificate the response is for
+   * @param issuerKey the public key of the issuer of {@code certificate}
+   * @param responderCert the certificate of the responder that must have signed the response, or {@code null} to accept only
+   *        the issuer or a responder delegated by it
+   * @return the status of {@code certificate} in the response
+   * @throws GeneralSecurityException if the response is not valid, not successful, or doesn't have the status of
+   *         {@code certificate}
+   */
+  static OcspResponse verify(byte[] encoded, X509Certificate certificate, PublicKey issuerKey, X509Certificate responderCert)
+      throws GeneralSecurityException {
+    try {
+      List<DerValue> ocspResponse = DerValue.parse(encoded).getChildren();
+      if (ocspResponse.get(0).getInt() != SUCCESSFUL) {
+        throw new GeneralSecurityException("OCSP response status is " + ocspResponse.get(0).getInt());
+      }
+      List<DerValue> responseBytes = ocspResponse.get(1).getExplicit().getChildren();
+      if (!responseBytes.get(0).isOid(OCSP_BASIC_OID)) {
+        throw new GeneralSecurityException("Unsupported OCSP response type " + responseBytes.get(0).getOid());
+      }
+
+      List<DerValue> basicResponse = DerValue.parse(responseBytes.get(1).getContent()).getChildren();
+      DerValue tbsResponseData = basicResponse.get(0);
+      String signatureAlgorithm = basicResponse.get(1).getChildren().get(0).getOid();
+      byte[] signature = basicResponse.get(2).getBitStringBits();
+
+      PublicKey signerKey = signerKey(tbsResponseData, basicResponse, certificate, issuerKey, responderCert);
+      Signature verifier = Signature.getInstance(signatureAlgorithm);
+      verifier.initVerify(signerKey);
+      verifier.update(tbsResponseData.getEncoded());
+      if (!verifier.verify(signature)) {
+        throw new SignatureException("Invalid OCSP response signature");
+      }
+
+      for (DerValue field : tbsResponseData.getChildren()) {
+        if (field.getTag() == TAG_SEQUENCE) {
+          return singleResponse(field.getChildren(), certificate, issuerKey);
+        }
+      }
+      throw new GeneralSecurityException("OCSP response has no responses");
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new GeneralSecurityException("Invalid OCSP response", e);
+    }
+  }
+
+  private static PublicKey signerKey(DerValue tbsResponseData, List<DerValue> basicResponse, X509Certificate certificate,
+                                     PublicKey issuerKey, X509Certificate responderCert)
+      throws GeneralSecurityException {
+    if (responderCert != null) {
+      return responderCert.getPublicKey();
+    }
+
+    DerValue responderId = null;
+    for (DerValue field : tbsResponseData.getChildren()) {
+      if (field.isContextSpecific(RESPONDER_BY_NAME) || field.isContextSpecific(RESPONDER_BY_KEY)) {
+        responderId = field;
+        break;
+      }
+    }
+    if (responderId == null) {
+      throw new GeneralSecurityException("OCSP response has no responder id");
+    }
+    if (isResponder(responderId, certificate.getIssuerX500Principal(), issuerKey)) {
+      return issuerKey;
+    }
+
+    // The responder has to be delegated by the issuer, with a certificate included in the response
+    if (basicResponse.size() > 3) {
+      CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+      for (DerValue encodedCert : basicResponse.get(3).getExplicit().getChildren()) {
+        X509Certificate candidate = (X509Certificate) certificateFactory
+            .generateCertificate(new ByteArrayInputStream(encodedCert.getEncoded()));
+        if (isResponder(responderId, candidate.getSubjectX500Principal(), candidate.getPublicKey())) {
+          verifyDelegated(candidate, certificate, issuerKey);
+          return candidate.getPublicKey();
+        }
+      }
+    }
+    throw new GeneralSecurityException("OCSP response is not signed by an authorized responder");
+  }
+
+  private static boolean isResponder(DerValue responderId, X500Principal name, PublicKey key) throws GeneralSecurityException {
+    if (responderId.isContextSpecific(RESPONDER_BY_NAME)) {
+      return new X500Principal(responderId.getExplicit().getEncoded()).equals(name);
+    }
+    return Arrays.equals(responderId.getExplicit().getContent(), keyHash(key, "SHA-1"));
+  }
+
+  private static void verifyDelegated(X509Certificate responder, X509Certificate certificate, PublicKey issuerKey)
+      throws GeneralSecurityException {
+    if (!responder.getIssuerX500Principal().equals(certificate.getIssuerX500Principal())) {
+      throw new GeneralSecurityException("OCSP responder certificate is not issued by the issuer of the certificate");
+    }
+    List<String> extendedKeyUsage = responder.getExtendedKeyUsage();
+    if (extendedKeyUsage == null || !extendedKeyUsage.contains(OCSP_SIGNING_OID)) {
+      throw new GeneralSecurityException("OCSP responder certificate is not authorized to sign OCSP responses");
+    }
+    responder.verify(issuerKey);
+    responder.checkValidity();
+  }
+
+  private static OcspResponse singleResponse(List<DerValue> singleResponses, X509Certificate certificate, PublicKey issuerKey)
+      throws GeneralSecurityException {
+    for (DerValue singleResponse : singleResponses) {
+      List<DerValue> fields = singleResponse.getChildren();
+      List<DerValue> certId = fields.get(0).getChildren();
+      if (!new BigInteger(certId.get(3).getContent()).equals(certificate.getSerialNumber())) {
+        continue;
+      }
+      String hashAlgorithm = certId.get(0).getChildren().get(0).getOid();
+      if (!Arrays.equals(certId.get(1).getContent(),
+                  getInstance(hashAlgorithm).digest(certificate.getIssuerX500Principal().getEncoded()))
+          || !Arrays.equals(certId.get(2).getContent(), keyHash(issuerKey, hashAlgorithm))) {
+        continue;
+      }
+
+      DerValue certStatus = fields.get(1);
+      CertStatus status;
+      Date revocationTime = null;
+      if (certStatus.isContextSpecific(STATUS_GOOD)) {
+        status = CertStatus.GOOD;
+      } else if (certStatus.isContextSpecific(STATUS_REVOKED)) {
+        status = CertStatus.REVOKED;
+        revocationTime = certStatus.getChildren().get(0).getGeneralizedTime();
+      } else {
+        status = CertStatus.UNKNOWN;
+      }
+
+      Date thisUpdate = fields.get(2).getGeneralizedTime();
+      Date nextUpdate = null;
+      if (fields.size() > 3 && fields.get(3).isContextSpecific(0)
+          && fields.get(3).getExplicit().getTag() == TAG_GENERALIZED_TIME) {
+        nextUpdate = fields.get(3).getExplicit().getGeneralizedTime();
+      }
+      return new OcspResponse(status, revocationTime, thisUpdate, nextUpdate);
+    }
+    throw new GeneralSecurityException("OCSP response has no status for certificate " + certificate.getSerialNumber());
+  }
+
+  private static byte[] keyHash(PublicKey key, String hashAlgorithm) throws GeneralSecurityException {
+    return getInstance(hashAlgorithm).digest(DerValue.parse(key.getEncoded()).getChildren().get(1).getBitStringBits());
+  }
+
+  CertStatus getStatus() {
+    return status;
+  }
+
+  Date getRevocationTime() {
+    return revocationTime;
+  }
+
+  /**
+   * @return until when this response can be used, considering the clock skew tolerance
+   */
+  Date getValidUntil() {
+    return new Date((nextUpdate != null ? nextUpdate : thisUpdate).getTime() + MAX_CLOCK_SKEW);
+  }
+
+  /**
+   * @param date a date
+   * @return whether this response can be used at {@code date}
+   */
+  boolean isCurrent(Date date) {
+    return thisUpdate.getTime() - MAX_CLOCK_SKEW <= date.getTime() && date.before(getValidUntil());
+  }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.lang.Long.getLong;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.api.util.MuleSystemProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.util.IOUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps the revocation data used by {@link CrlFile} and {@link CustomOcspResponder} in memory, so that checking a certificate
+ * during a handshake doesn't require reading or parsing CRLs, nor waiting for an OCSP responder.
+ * <p>
+ * CRL files are parsed into a {@link CrlIndex} when first used. OCSP responses for the certificates of the trust and key stores
+ * of a TLS context are fetched when the context is initialised, and the ones for any other certificate are fetched in the
+ * background the first time it is checked. Checks never contact the responder themselves. After that, a scheduler reloads the
+ * CRL files that changed and fetches new OCSP responses before the cached ones expire. If refreshing fails, the previous data is
+ * kept for as long as it is valid.
+ * <p>
+ * The data is shared by all the artifacts, so each CRL file is identified by the URL its path resolves to in the artifact that
+ * uses it. Each piece of data is kept for as long as some {@link AbstractCachedRevocationCheck} that uses it is not disposed, and
+ * the scheduler is stopped once none is left.
+ *
+ * @since 4.4
+ */
+public final class RevocationDataService {
+
+  public static final String MULE_TLS_REVOCATION_REFRESH_INTERVAL = SYSTEM_PROPERTY_PREFIX + "tls.revocation.refreshInterval";
+  public static final String MULE_TLS_OCSP_TIMEOUT = SYSTEM_PROPERTY_PREFIX + "tls.revocation.ocspTimeout";
+
+  private static final Logger LOGGER = getLogger(RevocationDataService.class);
+
+  private static final long DEFAULT_REFRESH_INTERVAL = 60000;
+  private static final long OCSP_IDLE_TIMEOUT = HOURS.toMillis(1);
+
+  private static final RevocationDataService INSTANCE =
+      new RevocationDataService(getLong(MULE_TLS_REVOCATION_REFRESH_INTERVAL, DEFAULT_REFRESH_INTERVAL), OcspClient::fetch);
+
+  /**
+   * @return the service shared by all the TLS contexts
+   */
+  public static RevocationDataService getRevocationDataService() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sends an OCSP request to a responder.
+   */
+  @FunctionalInterface
+  interface OcspFetcher {
+
+    byte[] fetch(URI responder, byte[] request) throws IOException;
+  }
+
+  private final long refreshInterval;
+  private final OcspFetcher fetcher;
+  // By the URL of the file
+  private final Map<String, CrlIndex> crlIndexes = new ConcurrentHashMap<>();
+  private final Map<OcspKey, OcspEntry> ocspResponses = new ConcurrentHashMap<>();
+  // Checks are compared by identity, since equal checks of different artifacts have to be released separately
+  private final Set<AbstractCachedRevocationCheck> owners = newSetFromMap(new IdentityHashMap<>());
+
+  // Read without the lock of the service to fetch OCSP responses in the background
+  private volatile Scheduler refresher;
+  private AbstractCachedRevocationCheck refresherOwner;
+
+  /**
+   * @param refreshInterval the time in milliseconds between refreshes of the revocation data
+   * @param fetcher how to send OCSP requests
+   */
+  RevocationDataService(long refreshInterval, OcspFetcher fetcher) {
+    this.refreshInterval = refreshInterval;
+    this.fetcher = fetcher;
+  }
+
+  /**
+   * @param path the path of a CRL file, in the file system or the classpath of the artifact of {@code owner}
+   * @param owner the check that uses the file
+   * @return the index of the CRLs of the file, parsed the first time the file is requested
+   */
+  CrlIndex getCrlIndex(String path, AbstractCachedRevocationCheck owner) throws IOException, GeneralSecurityException {
+    // Resolved in the context of the calling artifact, since the same path may be a different file for each one
+    URL url = IOUtils.getResourceAsUrl(path, getClass());
+    if (url == null) {
+      throw new FileNotFoundException("CRL file " + path + " not found");
+    }
+
+    String key = url.toExternalForm();
+    CrlIndex crlIndex = crlIndexes.get(key);
+    if (crlIndex == null) {
+      crlIndex = new CrlIndex(path, url);
+    }
+    synchronized (this) {
+      CrlIndex existing = crlIndexes.putIfAbsent(key, crlIndex);
+      if (existing != null) {
+        crlIndex = existing;
+      }
+      crlIndex.owners.add(owner);
+      addOwner(owner);
+    }
+    return crlIndex;
+  }
+
+  /**
+   * Fetches the OCSP response of a certificate if there is no current one in memory, so that it is available when the certificate
+   * is checked. If it can't be fetched, the refresher tries again in the background.
+   *
+   * @param certificate the certificate to fetch the response for
+   * @param issuerKey the public key of the issuer of {@code certificate}
+   * @param responder the OCSP responder to ask
+   * @param responderCert the certificate of the responder, or {@code null} if it has to be the issuer or delegated by it
+   * @param owner the check that will use the response
+   */
+  void prefetchOcspResponse(X509Certificate certificate, PublicKey issuerKey, URI responder, X509Certificate responderCert,
+                            AbstractCachedRevocationCheck owner) {
+    OcspEntry entry = registerOcspEntry(new OcspKey(certificate, responder, responderCert), issuerKey, owner);
+    entry.lastUsed = currentTimeMillis();
+
+    OcspResponse response = entry.response;
+    if (response == null || !response.isCurrent(new Date())) {
+      fetchQuietly(entry);
+    }
+  }
+
+  /**
+   * Gets the OCSP response of a certificate from memory, without contacting the responder. If there is no current response for
+   * it, one is fetched in the background for the following checks.
+   *
+   * @param certificate the certificate to check
+   * @param issuerKey the public key of the issuer of {@code certificate}
+   * @param responder the OCSP responder to ask
+   * @param responderCert the certificate of the responder, or {@code null} if it has to be the issuer or delegated by it
+   * @param owner the check that asks for the status
+   * @return the verified response, or {@code null} if there is no current one in memory
+   */
+  OcspResponse getCachedOcspResponse(X509Certificate certificate, PublicKey issuerKey, URI responder,
+                                     X509Certificate responderCert, AbstractCachedRevocationCheck owner) {
+    OcspKey key = new OcspKey(certificate, responder, responderCert);
+    OcspEntry entry = ocspResponses.get(key);
+    if (entry == null || !entry.isUsedBy(owner)) {
+      entry = registerOcspEntry(key, issuerKey, owner);
+    }
+    entry.lastUsed = currentTimeMillis();
+
+    OcspResponse response = entry.response;
+    if (response != null && response.isCurrent(new Date())) {
+      return response;
+    }
+    fetchInBackground(entry);
+    return null;
+  }
+
+  private synchronized OcspEntry registerOcspEntry(OcspKey key, PublicKey issuerKey, AbstractCachedRevocationCheck owner) {
+    OcspEntry entry = ocspResponses.computeIfAbsent(key, k -> new OcspEntry(k, issuerKey));
+    entry.addOwner(owner);
+    addOwner(owner);
+    return entry;
+  }
+
+  /**
+   * Reloads the CRL files that changed, fetches the OCSP responses that expire before the next refresh and discards the
+   * responses that are no longer used.
+   */
+  public void refresh() {
+    for (CrlIndex crlIndex : crlIndexes.values()) {
+      try {
+        if (crlIndex.reloadIfChanged()) {
+          LOGGER.debug("Reloaded CRL file {}", crlIndex.getPath());
+        }
+      } catch (IOException | GeneralSecurityException | RuntimeException e) {
+        LOGGER.warn("Could not reload CRL file {}, keeping the previously loaded CRLs: {}", crlIndex.getPath(), e.getMessage());
+      }
+    }
+
+    long now = currentTimeMillis();
+    Date refreshLimit = new Date(now + 2 * refreshInterval);
+    for (Iterator<OcspEntry> iterator = ocspResponses.values().iterator(); iterator.hasNext();) {
+      OcspEntry entry = iterator.next();
+      if (now - entry.lastUsed > OCSP_IDLE_TIMEOUT) {
+        iterator.remove();
+        continue;
+      }
+      OcspResponse response = entry.response;
+      if (response == null || response.getValidUntil().before(refreshLimit)) {
+        fetchQuietly(entry);
+      }
+    }
+  }
+
+  private void fetchInBackground(OcspEntry entry) {
+    Scheduler scheduler = refresher;
+    if (scheduler == null || !entry.fetching.compareAndSet(false, true)) {
+      // Without a scheduler, the response is fetched on the next refresh
+      return;
+    }
+    try {
+      scheduler.execute(() -> {
+        try {
+          fetchQuietly(entry);
+        } finally {
+          entry.fetching.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      entry.fetching.set(false);
+    }
+  }
+
+  private void fetchQuietly(OcspEntry entry) {
+    try {
+      entry.fetch(fetcher);
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      LOGGER.warn("Could not fetch OCSP response of {} from {}: {}",
+                  entry.key.certificate.getSubjectX500Principal(), entry.key.responder, e.getMessage());
+    }
+  }
+
+  private void addOwner(AbstractCachedRevocationCheck owner) {
+    if (owners.add(owner)) {
+      startRefresher();
+    }
+  }
+
+  /**
+   * Discards the revocation data that is no longer used once {@code owner} doesn't use it, and stops refreshing if there is no
+   * data left.
+   *
+   * @param owner a check that is being disposed
+   */
+  synchronized void release(AbstractCachedRevocationCheck owner) {
+    if (!owners.remove(owner)) {
+      return;
+    }
+    crlIndexes.values().removeIf(crlIndex -> crlIndex.owners.remove(owner) && crlIndex.owners.isEmpty());
+    ocspResponses.values().removeIf(entry -> entry.removeOwner(owner));
+
+    if (owner == refresherOwner) {
+      // Its scheduler service may be stopped along with its artifact, so the refresher is moved to the one of another check
+      stopRefresher();
+      startRefresher();
+    }
+  }
+
+  private void startRefresher() {
+    if (refresher != null || refreshInterval <= 0) {
+      return;
+    }
+    for (AbstractCachedRevocationCheck owner : owners) {
+      SchedulerService schedulerService = owner.getSchedulerService();
+      if (schedulerService != null) {
+        refresher = schedulerService.customScheduler(config()
+            .withName("tls.revocation.refresher")
+            .withMaxConcurrentTasks(1)
+            .withShutdownTimeout(0, MILLISECONDS));
+        refresherOwner = owner;
+        refresher.scheduleWithFixedDelay(this::refresh, refreshInterval, refreshInterval, MILLISECONDS);
+        return;
+      }
+    }
+  }
+
+  private void stopRefresher() {
+    if (refresher != null) {
+      refresher.stop();
+      refresher = null;
+      refresherOwner = null;
+    }
+  }
+
+  /**
+   * Stops refreshing and discards all the revocation data.
+   */
+  public synchronized void dispose() {
+    stopRefresher();
+    owners.clear();
+    crlIndexes.clear();
+    ocspResponses.clear();
+  }
+
+  /**
+   * @param trustStore a trust store
+   * @return the trust anchors for the trusted certificates in {@code trustStore}
+   */
+  static Set<TrustAnchor> getTrustAnchors(KeyStore trustStore) throws GeneralSecurityException {
+    Enumeration<String> aliases = trustStore.aliases();
+    Set<TrustAnchor> trustAnchors = new HashSet<>();
+    while (aliases.hasMoreElements()) {
+      String alias = aliases.nextElement();
+      if (trustStore.isCertificateEntry(alias)) {
+        trustAnchors.add(new TrustAnchor((X509Certificate) trustStore.getCertificate(alias), null));
+      }
+    }
+    return trustAnchors;
+  }
+
+  /**
+   * @param trustAnchors some trust anchors
+   * @return the public keys of {@code trustAnchors}, by subject
+   */
+  static Map<X500Principal, PublicKey> getTrustAnchorKeys(Set<TrustAnchor> trustAnchors) {
+    Map<X500Principal, PublicKey> keys = new HashMap<>();
+    for (TrustAnchor trustAnchor : trustAnchors) {
+      if (trustAnchor.getTrustedCert() != null) {
+        keys.put(trustAnchor.getTrustedCert().getSubjectX500Principal(), trustAnchor.getTrustedCert().getPublicKey());
+      } else {
+        keys.put(trustAnchor.getCA(), trustAnchor.getCAPublicKey());
+      }
+    }
+    return unmodifiableMap(keys);
+  }
+
+  private static final class OcspKey {
+
+    private final X509Certificate certificate;
+    private final URI responder;
+    private final X509Certificate responderCert;
+
+    private OcspKey(X509Certificate certificate, URI responder, X509Certificate responderCert) {
+      this.certificate = certificate;
+      this.responder = responder;
+      this.responderCert = responderCert;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      OcspKey that = (OcspKey) o;
+      return certificate.equals(that.certificate) && responder.equals(that.responder)
+          && Objects.equals(responderCert, that.responderCert);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(certificate, responder, responderCert);
+    }
+  }
+
+  private static final class OcspEntry {
+
+    private final OcspKey key;
+    private final PublicKey issuerKey;
+    private final AtomicBoolean fetching = new AtomicBoolean();
+    private volatile OcspResponse response;
+    private volatile long lastUsed;
+    // Only changed while holding the lock of the service, and read on each check without it
+    private volatile List<AbstractCachedRevocationCheck> owners = emptyList();
+
+    private OcspEntry(OcspKey key, PublicKey issuerKey) {
+      this.key = key;
+      this.issuerKey = issuerKey;
+    }
+
+    private boolean isUsedBy(AbstractCachedRevocationCheck owner) {
+      for (AbstractCachedRevocationCheck current : owners) {
+        if (current == owner) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void addOwner(AbstractCachedRevocationCheck owner) {
+      if (!isUsedBy(owner)) {
+        List<AbstractCachedRevocationCheck> updated = new ArrayList<>(owners);
+        updated.add(owner);
+        owners = updated;
+      }
+    }
+
+    /**
+     * @return whether no check uses this entry anymore
+     */
+    private boolean removeOwner(AbstractCachedRevocationCheck owner) {
+      List<AbstractCachedRevocationCheck> updated = new ArrayList<>(owners);
+      updated.removeIf(current -> current == owner);
+      owners = updated;
+      return updated.isEmpty();
+    }
+
+    private OcspResponse fetch(OcspFetcher fetcher) throws IOException, GeneralSecurityException {
+      byte[] encoded = fetcher.fetch(key.responder, OcspClient.createRequest(key.certificate, issuerKey));
+      OcspResponse fetched = OcspResponse.verify(encoded, key.certificate, issuerKey, key.responderCert);
+      if (!fetched.isCurrent(new Date())) {
+        throw new GeneralSecurityException("OCSP response from " + key.responder + " is outdated");
+      }
+      response = fetched;
+      return fetched;
+    }
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal.revocation;
+
+import static java.nio.file.Files.copy;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.security.cert.CertPathValidatorException.BasicReason.REVOKED;
+import static java.security.cert.CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerConfig;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.runtime.module.tls.internal.revocation.OcspResponse.CertStatus;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXCertPathChecker;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+public class RevocationDataServiceTestCase extends AbstractMuleTestCase {
+
+  private static final URI RESPONDER = URI.create("http://localhost:8888/ocsp");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final AtomicInteger ocspRequests = new AtomicInteger();
+  private byte[] ocspResponse;
+
+  private final CrlFile crlFile = new CrlFile();
+  private final CustomOcspResponder ocspResponder = new CustomOcspResponder();
+
+  private RevocationDataService revocationDataService;
+  private X509Certificate ca;
+  private X509Certificate good;
+  private X509Certificate revoked;
+  private Map<X500Principal, PublicKey> trustAnchorKeys;
+
+  @Before
+  public void setUp() throws Exception {
+    revocationDataService = new RevocationDataService(0, (responder, request) -> {
+      ocspRequests.incrementAndGet();
+      return ocspResponse;
+    });
+    ca = loadCertificate("revocation/ca.crt");
+    good = loadCertificate("revocation/good.crt");
+    revoked = loadCertificate("revocation/revoked.crt");
+    trustAnchorKeys = RevocationDataService.getTrustAnchorKeys(singleton(new TrustAnchor(ca, null)));
+  }
+
+  @After
+  public void tearDown() {
+    revocationDataService.dispose();
+  }
+
+  @Test
+  public void crlIndexFindsRevokedSerial() throws Exception {
+    CrlIndex crlIndex = revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile);
+
+    CrlIndex.IssuerCrl crl = crlIndex.forIssuer(ca.getSubjectX500Principal());
+    assertThat(crl.getRevoked(revoked.getSerialNumber()), is(notNullValue()));
+    assertThat(crl.getRevoked(good.getSerialNumber()), is(nullValue()));
+  }
+
+  @Test
+  public void crlChecker() throws Exception {
+    CrlIndex crlIndex = revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile);
+
+    validate(good, new IndexedCrlChecker(crlIndex, trustAnchorKeys));
+    assertRevoked(revoked, new IndexedCrlChecker(crlIndex, trustAnchorKeys));
+  }
+
+  @Test
+  public void crlReloadedWhenFileChanges() throws Exception {
+    File file = temporaryFolder.newFile("crl.pem");
+    copyResource("revocation/crl-revoked.pem", file);
+    CrlIndex crlIndex = revocationDataService.getCrlIndex(file.getAbsolutePath(), crlFile);
+    validate(good, new IndexedCrlChecker(crlIndex, trustAnchorKeys));
+
+    copyResource("revocation/crl-all-revoked.pem", file);
+    file.setLastModified(file.lastModified() + 10000);
+    revocationDataService.refresh();
+
+    assertRevoked(good, new IndexedCrlChecker(crlIndex, trustAnchorKeys));
+  }
+
+  @Test
+  public void crlIndexPerResolvedFile() throws Exception {
+    // The same relative path is a different file for each artifact
+    ClassLoader artifact1 = artifactClassLoader("revocation/crl-revoked.pem");
+    ClassLoader artifact2 = artifactClassLoader("revocation/crl-all-revoked.pem");
+    CrlFile otherCrlFile = new CrlFile();
+
+    CrlIndex crlIndex1 = withContextClassLoader(artifact1, () -> revocationDataService.getCrlIndex("crl.pem", crlFile));
+    CrlIndex crlIndex2 = withContextClassLoader(artifact2, () -> revocationDataService.getCrlIndex("crl.pem", otherCrlFile));
+
+    assertThat(crlIndex1, is(not(sameInstance(crlIndex2))));
+    validate(good, new IndexedCrlChecker(crlIndex1, trustAnchorKeys));
+    assertRevoked(good, new IndexedCrlChecker(crlIndex2, trustAnchorKeys));
+  }
+
+  @Test
+  public void crlIndexSharedForSameFile() throws Exception {
+    CrlFile otherCrlFile = new CrlFile();
+    String absolutePath = new File(getClass().getClassLoader().getResource("revocation/crl-revoked.pem").toURI()).getPath();
+
+    CrlIndex crlIndex = revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile);
+
+    assertThat(revocationDataService.getCrlIndex(absolutePath, otherCrlFile), is(sameInstance(crlIndex)));
+  }
+
+  @Test
+  public void crlIndexReleasedWhenNoCheckUsesIt() throws Exception {
+    CrlFile otherCrlFile = new CrlFile();
+    CrlIndex crlIndex = revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile);
+    revocationDataService.getCrlIndex("revocation/crl-revoked.pem", otherCrlFile);
+
+    revocationDataService.release(crlFile);
+    assertThat(revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile), is(sameInstance(crlIndex)));
+
+    revocationDataService.release(crlFile);
+    revocationDataService.release(otherCrlFile);
+    assertThat(revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile), is(not(sameInstance(crlIndex))));
+  }
+
+  @Test
+  public void ocspResponseReleasedWhenNoCheckUsesIt() throws Exception {
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+    revocationDataService.prefetchOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+
+    revocationDataService.release(ocspResponder);
+    assertThat(revocationDataService.getCachedOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder),
+               is(nullValue()));
+    revocationDataService.prefetchOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+
+    assertThat(ocspRequests.get(), is(2));
+  }
+
+  @Test
+  public void refreshedWithSchedulerOfChecks() throws Exception {
+    revocationDataService.dispose();
+    revocationDataService = new RevocationDataService(60000, (responder, request) -> ocspResponse);
+    Scheduler scheduler1 = mock(Scheduler.class);
+    Scheduler scheduler2 = mock(Scheduler.class);
+    crlFile.setSchedulerService(schedulerService(scheduler1));
+    CrlFile otherCrlFile = new CrlFile();
+    otherCrlFile.setSchedulerService(schedulerService(scheduler2));
+
+    revocationDataService.getCrlIndex("revocation/crl-revoked.pem", crlFile);
+    revocationDataService.getCrlIndex("revocation/crl-revoked.pem", otherCrlFile);
+    verify(scheduler1).scheduleWithFixedDelay(any(), eq(60000L), eq(60000L), eq(TimeUnit.MILLISECONDS));
+    verify(scheduler2, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+
+    // The scheduler of a disposed check may be stopped along with its artifact
+    revocationDataService.release(crlFile);
+    verify(scheduler1).stop();
+    verify(scheduler2).scheduleWithFixedDelay(any(), eq(60000L), eq(60000L), eq(TimeUnit.MILLISECONDS));
+
+    revocationDataService.release(otherCrlFile);
+    verify(scheduler2).stop();
+    verify(scheduler1, times(1)).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  public void ocspResponseCached() throws Exception {
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+    revocationDataService.prefetchOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+
+    OcspResponse response =
+        revocationDataService.getCachedOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+    assertThat(response.getStatus(), is(CertStatus.GOOD));
+
+    validate(good, ocspChecker(false));
+    assertThat(ocspRequests.get(), is(1));
+  }
+
+  @Test
+  public void ocspRevoked() throws Exception {
+    ocspResponse = loadResource("revocation/revoked-ocsp.der");
+    revocationDataService.prefetchOcspResponse(revoked, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+
+    assertRevoked(revoked, ocspChecker(false));
+    assertRevoked(revoked, ocspChecker(true));
+    assertThat(ocspRequests.get(), is(1));
+  }
+
+  @Test
+  public void ocspResponseForOtherCertificateRejected() throws Exception {
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+    revocationDataService.prefetchOcspResponse(revoked, ca.getPublicKey(), RESPONDER, null, ocspResponder);
+
+    assertUndetermined(revoked, ocspChecker(false));
+  }
+
+  @Test
+  public void ocspResponderNotContactedOnCheck() throws Exception {
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+
+    assertUndetermined(good, ocspChecker(false));
+    assertThat(ocspRequests.get(), is(0));
+
+    // Certificates without a response are fetched on the next refresh
+    revocationDataService.refresh();
+    assertThat(ocspRequests.get(), is(1));
+    validate(good, ocspChecker(false));
+    assertThat(ocspRequests.get(), is(1));
+  }
+
+  @Test
+  public void ocspSoftFailAcceptsCertificateWithoutResponse() throws Exception {
+    ocspResponse = loadResource("revocation/revoked-ocsp.der");
+
+    validate(revoked, ocspChecker(true));
+    assertThat(ocspRequests.get(), is(0));
+
+    revocationDataService.refresh();
+    assertRevoked(revoked, ocspChecker(true));
+  }
+
+  @Test
+  public void ocspResponseFetchedInBackgroundAfterCheck() throws Exception {
+    revocationDataService.dispose();
+    revocationDataService = new RevocationDataService(60000, (responder, request) -> {
+      ocspRequests.incrementAndGet();
+      return ocspResponse;
+    });
+    Scheduler scheduler = mock(Scheduler.class);
+    ocspResponder.setSchedulerService(schedulerService(scheduler));
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+
+    assertUndetermined(good, ocspChecker(false));
+    assertUndetermined(good, ocspChecker(false));
+    assertThat(ocspRequests.get(), is(0));
+
+    // Only one fetch at a time for each certificate
+    ArgumentCaptor<Runnable> fetch = forClass(Runnable.class);
+    verify(scheduler).execute(fetch.capture());
+    fetch.getValue().run();
+
+    assertThat(ocspRequests.get(), is(1));
+    validate(good, ocspChecker(false));
+  }
+
+  @Test
+  public void ocspResponsesPrefetchedForTrustAndKeyStores() throws Exception {
+    ocspResponse = loadResource("revocation/good-ocsp.der");
+    ocspResponder.setDataService(revocationDataService);
+    ocspResponder.setUrl(RESPONDER.toString());
+
+    KeyStore trustStore = KeyStore.getInstance("JKS");
+    trustStore.load(null, null);
+    trustStore.setCertificateEntry("ca", ca);
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    keyStore.load(null, null);
+    keyStore.setKeyEntry("good", generateKeyPair().getPrivate(), "changeit".toCharArray(), new Certificate[] {good});
+
+    ocspResponder.configFor(trustStore, keyStore, emptySet());
+
+    // The CA is self-signed, so only the certificate of the key is checked
+    assertThat(ocspRequests.get(), is(1));
+    assertThat(revocationDataService.getCachedOcspResponse(good, ca.getPublicKey(), RESPONDER, null, ocspResponder)
+        .getStatus(), is(CertStatus.GOOD));
+  }
+
+  @Test
+  public void ocspResponderFromCertificate() throws Exception {
+    assertThat(OcspClient.getResponder(good), is(RESPONDER));
+  }
+
+  private void validate(X509Certificate certificate, PKIXCertPathChecker checker) throws Exception {
+    PKIXParameters parameters = new PKIXParameters(singleton(new TrustAnchor(ca, null)));
+    parameters.setRevocationEnabled(false);
+    parameters.addCertPathChecker(checker);
+    CertPathValidator.getInstance("PKIX")
+        .validate(CertificateFactory.getInstance("X.509").generateCertPath(asList(certificate)), parameters);
+  }
+
+  private CachedOcspChecker ocspChecker(boolean softFail) {
+    return new CachedOcspChecker(revocationDataService, ocspResponder, RESPONDER, null, trustAnchorKeys, softFail);
+  }
+
+  private void assertUndetermined(X509Certificate certificate, PKIXCertPathChecker checker) throws Exception {
+    try {
+      validate(certificate, checker);
+      fail("Certificate with undetermined revocation status was accepted");
+    } catch (CertPathValidatorException e) {
+      assertThat(e.getReason(), is(UNDETERMINED_REVOCATION_STATUS));
+    }
+  }
+
+  private void assertRevoked(X509Certificate certificate, PKIXCertPathChecker checker) throws Exception {
+    try {
+      validate(certificate, checker);
+      fail("Revoked certificate was accepted");
+    } catch (CertPathValidatorException e) {
+      assertThat(e.getReason(), is(REVOKED));
+    }
+  }
+
+  private SchedulerService schedulerService(Scheduler scheduler) {
+    SchedulerService schedulerService = mock(SchedulerService.class);
+    when(schedulerService.customScheduler(any(SchedulerConfig.class))).thenReturn(scheduler);
+    return schedulerService;
+  }
+
+  private ClassLoader artifactClassLoader(String crlResource) throws IOException {
+    File artifactFolder = temporaryFolder.newFolder();
+    copyResource(crlResource, new File(artifactFolder, "crl.pem"));
+    return new URLClassLoader(new URL[] {artifactFolder.toURI().toURL()}, null);
+  }
+
+  private static <T> T withContextClassLoader(ClassLoader classLoader, Callable<T> callable) throws Exception {
+    Thread thread = Thread.currentThread();
+    ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      return callable.call();
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  private X509Certificate loadCertificate(String resource) throws Exception {
+    try (InputStream is = IOUtils.getResourceAsStream(resource, getClass())) {
+      return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(is);
+    }
+  }
+
+  private static KeyPair generateKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    return generator.generateKeyPair();
+  }
+
+  private byte[] loadResource(String resource) throws IOException {
+    try (InputStream is = IOUtils.getResourceAsStream(resource, getClass())) {
+      return IOUtils.toByteArray(is);
+    }
+  }
+
+  private void copyResource(String resource, File file) throws IOException {
+    try (InputStream is = IOUtils.getResourceAsStream(resource, getClass())) {
+      copy(is, file.toPath(), REPLACE_EXISTING);
+    }
+  }
+}
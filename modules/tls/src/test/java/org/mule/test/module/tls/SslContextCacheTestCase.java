@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.module.tls;
+
+import static java.nio.file.Files.copy;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
+import org.mule.runtime.module.tls.internal.SslContextCache;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.File;
+import java.io.InputStream;
+import java.security.KeyManagementException;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SslContextCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String PASSWORD = "mulepassword";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SslContextCache sslContextCache = new SslContextCache(16, 0, -1, -1);
+
+  @Test
+  public void sameSettingsShareContext() throws Exception {
+    SSLContext sslContext = createTlsContextFactory("trustStore", false).createSslContext();
+
+    assertThat(createTlsContextFactory("trustStore", false).createSslContext(), is(sameInstance(sslContext)));
+    assertThat(sslContextCache.getContextBuilds(), is(1L));
+    assertThat(sslContextCache.getContextHits(), is(1L));
+    assertThat(sslContextCache.getContextReuseRate(), is(0.5));
+  }
+
+  @Test
+  public void differentSettingsDoNotShareContext() throws Exception {
+    SSLContext sslContext = createTlsContextFactory("trustStore", false).createSslContext();
+
+    assertThat(createTlsContextFactory("trustStore", true).createSslContext(), is(not(sameInstance(sslContext))));
+    assertThat(sslContextCache.getContextBuilds(), is(2L));
+    assertThat(sslContextCache.getCachedContexts(), is(2L));
+  }
+
+  @Test
+  public void reloadWhenFileChanges() throws Exception {
+    File trustStore = temporaryFolder.newFile("trustStore");
+    trustStore.delete();
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("trustStore")) {
+      copy(is, trustStore.toPath());
+    }
+    DefaultTlsContextFactory tlsContextFactory = createTlsContextFactory(trustStore.getAbsolutePath(), false);
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+
+    trustStore.setLastModified(trustStore.lastModified() + 10000);
+
+    SSLContext reloaded = tlsContextFactory.createSslContext();
+    assertThat(reloaded, is(not(sameInstance(sslContext))));
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(reloaded)));
+    assertThat(sslContextCache.getContextReloads(), is(1L));
+  }
+
+  @Test
+  public void reloadDoesNotChangeFactoryConfiguration() throws Exception {
+    File trustStore = temporaryFolder.newFile("trustStore");
+    trustStore.delete();
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("trustStore")) {
+      copy(is, trustStore.toPath());
+    }
+    DefaultTlsContextFactory tlsContextFactory = createTlsContextFactory(trustStore.getAbsolutePath(), false);
+    tlsContextFactory.createSslContext();
+
+    trustStore.delete();
+
+    // The reload fails since the file is gone, but the factory keeps working with the stores it loaded when initialised
+    try {
+      tlsContextFactory.createSslContext();
+    } catch (KeyManagementException e) {
+      // expected
+    }
+    sslContextCache.invalidateAll();
+    assertThat(tlsContextFactory.createSslContext(), is(notNullValue()));
+  }
+
+  @Test
+  public void contextReleasedWhenOwnersDisposed() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = createTlsContextFactory("trustStore", false);
+    DefaultTlsContextFactory otherTlsContextFactory = createTlsContextFactory("trustStore", false);
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    otherTlsContextFactory.createSslContext();
+
+    tlsContextFactory.dispose();
+    assertThat(sslContextCache.getCachedContexts(), is(1L));
+    assertThat(otherTlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+
+    otherTlsContextFactory.dispose();
+    assertThat(sslContextCache.getCachedContexts(), is(0L));
+  }
+
+  @Test
+  public void disabledCache() throws Exception {
+    sslContextCache = new SslContextCache(0, 0, -1, -1);
+    DefaultTlsContextFactory tlsContextFactory = createTlsContextFactory("trustStore", false);
+
+    assertThat(tlsContextFactory.createSslContext(), is(not(sameInstance(tlsContextFactory.createSslContext()))));
+    assertThat(sslContextCache.getCachedContexts(), is(0L));
+  }
+
+  @Test
+  public void clientSessionCacheSettings() throws Exception {
+    sslContextCache = new SslContextCache(16, 0, 7, 60);
+    SSLContext sslContext = createTlsContextFactory("trustStore", false).createSslContext();
+
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(7));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(60));
+  }
+
+  private DefaultTlsContextFactory createTlsContextFactory(String trustStorePath, boolean insecure) throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setSslContextCache(sslContextCache);
+    tlsContextFactory.setTrustStorePath(trustStorePath);
+    tlsContextFactory.setTrustStorePassword(PASSWORD);
+    tlsContextFactory.setTrustStoreInsecure(insecure);
+    tlsContextFactory.initialise();
+    return tlsContextFactory;
+  }
+}
@@ -547,6 +547,14 @@ class MuleExtensionModelDeclarer {
         .withExpressionSupport(NOT_SUPPORTED)
         .describedAs("Variable name for the item number being processed.");
 
+    forEach.onDefaultParameterGroup()
+        .withOptionalParameter("maxConcurrency")
+        .ofType(typeLoader.load(Integer.class))
+        .defaultingTo(1)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The maximum amount of items to process at the same time. Each item sees the variables as they were before"
+            + " the foreach, and changes to the variables are applied in the order of the items.");
+
   }
 
   private void declareUntilSuccessful(ExtensionDeclarer extensionDeclarer, ClassTypeLoader typeLoader) {
@@ -571,6 +579,29 @@ class MuleExtensionModelDeclarer {
         .describedAs("Specifies the minimum time interval between two process retries in milliseconds.\n" +
             " The actual time interval depends on the previous execution but should not exceed twice this number.\n" +
             " Default value is 60000 (one minute)");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("backoffMultiplier")
+        .ofType(typeLoader.load(Double.class))
+        .defaultingTo(1)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The factor by which the time interval between retries grows on each retry. "
+            + "The default value of 1 keeps the time interval fixed.");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("maxMillisBetweenRetries")
+        .ofType(typeLoader.load(Long.class))
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The maximum time interval between two process retries in milliseconds, when using a backoff multiplier. "
+            + "Unbounded by default.");
+
+    untilSuccessful.onDefaultParameterGroup()
+        .withOptionalParameter("jitter")
+        .ofType(typeLoader.load(Double.class))
+        .defaultingTo(0)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("The fraction, between 0 and 1, by which the time interval between retries is randomly spread, "
+            + "so that events failing at the same time are not retried at the same time.");
   }
 
   private void declareChoice(ExtensionDeclarer extensionDeclarer, ClassTypeLoader typeLoader) {
@@ -615,6 +646,18 @@ class MuleExtensionModelDeclarer {
     flow.onDefaultParameterGroup().withOptionalParameter("maxConcurrency")
         .describedAs("The maximum concurrency. This value determines the maximum level of parallelism that the Flow can use to optimize its performance when processing messages.")
         .ofType(typeLoader.load(Integer.class));
+    flow.onDefaultParameterGroup().withOptionalParameter("adaptiveConcurrency")
+        .ofType(typeLoader.load(boolean.class))
+        .defaultingTo(false)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Whether the concurrency of the Flow adapts to the latency and errors of the messages it processes, up to "
+            + "its maxConcurrency, instead of being fixed to it.");
+    flow.onDefaultParameterGroup().withOptionalParameter("virtualThreads")
+        .ofType(typeLoader.load(boolean.class))
+        .defaultingTo(false)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Whether the blocking operations of the Flow run on virtual threads instead of on the IO pool, when the "
+            + "JVM supports them.");
 
     flow.withComponent("source")
         .withAllowedStereotypes(MuleStereotypes.SOURCE);
@@ -719,6 +762,13 @@ class MuleExtensionModelDeclarer {
         .defaultingTo(Integer.MAX_VALUE)
         .withExpressionSupport(NOT_SUPPORTED)
         .describedAs("This value determines the maximum level of parallelism that will be used by this router.");
+    parallelForeach.onDefaultParameterGroup()
+        .withOptionalParameter("streaming")
+        .ofType(typeLoader.load(boolean.class))
+        .defaultingTo(false)
+        .withExpressionSupport(NOT_SUPPORTED)
+        .describedAs("Whether the results of the routes are handed out as a repeatable iterator, through the object streaming "
+            + "strategy of the application, instead of as a list.");
     parallelForeach.onDefaultParameterGroup()
         .withOptionalParameter(TARGET_PARAMETER_NAME)
         .ofType(typeLoader.load(String.class))
@@ -153,7 +153,7 @@ public class CoreExtensionModelTestCase {
     assertThat(flow.allowsTopLevelDeclaration(), is(true));
 
     final List<ParameterModel> paramModels = flow.getAllParameterModels();
-    assertThat(paramModels, hasSize(3));
+    assertThat(paramModels, hasSize(5));
 
     ParameterModel nameParam = paramModels.get(0);
     assertThat(nameParam.getName(), is("name"));
@@ -167,6 +167,16 @@ public class CoreExtensionModelTestCase {
     ParameterModel maxConcurrency = paramModels.get(2);
     assertThat(maxConcurrency.getName(), is("maxConcurrency"));
 
+    ParameterModel adaptiveConcurrency = paramModels.get(3);
+    assertThat(adaptiveConcurrency.getName(), is("adaptiveConcurrency"));
+    assertThat(adaptiveConcurrency.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(adaptiveConcurrency.getDefaultValue(), is(false));
+
+    ParameterModel virtualThreads = paramModels.get(4);
+    assertThat(virtualThreads.getName(), is("virtualThreads"));
+    assertThat(virtualThreads.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(virtualThreads.getDefaultValue(), is(false));
+
     List<? extends NestableElementModel> nestedComponents = flow.getNestedComponents();
     assertThat(nestedComponents, hasSize(3));
 
@@ -331,7 +341,7 @@ public class CoreExtensionModelTestCase {
     assertThat(processorsChain, instanceOf(NestedChainModel.class));
     assertThat(processorsChain.isRequired(), is(true));
 
-    assertThat(foreach.getAllParameterModels(), hasSize(4));
+    assertThat(foreach.getAllParameterModels(), hasSize(5));
 
     ParameterModel collection = foreach.getAllParameterModels().get(0);
     assertThat(collection.getName(), is("collection"));
@@ -359,6 +369,13 @@ public class CoreExtensionModelTestCase {
     assertThat(counter.getExpressionSupport(), is(NOT_SUPPORTED));
     assertThat(counter.getType(), instanceOf(DefaultStringType.class));
     assertThat(counter.isRequired(), is(false));
+
+    ParameterModel maxConcurrency = foreach.getAllParameterModels().get(4);
+    assertThat(maxConcurrency.getName(), is("maxConcurrency"));
+    assertThat(maxConcurrency.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(maxConcurrency.getType(), instanceOf(DefaultNumberType.class));
+    assertThat(maxConcurrency.isRequired(), is(false));
+    assertThat(maxConcurrency.getDefaultValue(), is(1));
   }
 
   @Test
@@ -484,7 +501,7 @@ public class CoreExtensionModelTestCase {
     assertThat(processorsChain, instanceOf(NestedChainModel.class));
     assertThat(processorsChain.isRequired(), is(true));
 
-    assertThat(parallelForeach.getAllParameterModels(), hasSize(5));
+    assertThat(parallelForeach.getAllParameterModels(), hasSize(6));
 
     final ParameterModel collection = parallelForeach.getAllParameterModels().get(0);
     assertThat(collection.getName(), is("collection"));
@@ -507,13 +524,19 @@ public class CoreExtensionModelTestCase {
     assertThat(maxConcurrency.getType(), instanceOf(DefaultNumberType.class));
     assertThat(maxConcurrency.isRequired(), is(false));
 
-    final ParameterModel target = parallelForeach.getAllParameterModels().get(3);
+    final ParameterModel streaming = parallelForeach.getAllParameterModels().get(3);
+    assertThat(streaming.getName(), is("streaming"));
+    assertThat(streaming.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(streaming.getDefaultValue(), is(false));
+    assertThat(streaming.isRequired(), is(false));
+
+    final ParameterModel target = parallelForeach.getAllParameterModels().get(4);
     assertThat(target.getName(), is(TARGET_PARAMETER_NAME));
     assertThat(target.getExpressionSupport(), is(NOT_SUPPORTED));
     assertThat(target.getType(), instanceOf(DefaultStringType.class));
     assertThat(target.isRequired(), is(false));
 
-    final ParameterModel targetValue = parallelForeach.getAllParameterModels().get(4);
+    final ParameterModel targetValue = parallelForeach.getAllParameterModels().get(5);
     assertThat(targetValue.getName(), is(TARGET_VALUE_PARAMETER_NAME));
     assertThat(targetValue.getExpressionSupport(), is(REQUIRED));
     assertThat(targetValue.getType(), instanceOf(StringType.class));
@@ -565,7 +588,7 @@ public class CoreExtensionModelTestCase {
     final ConstructModel tryModel = coreExtensionModel.getConstructModel("untilSuccessful").get();
 
     List<ParameterModel> allParameterModels = tryModel.getAllParameterModels();
-    assertThat(allParameterModels, hasSize(2));
+    assertThat(allParameterModels, hasSize(5));
 
     ParameterModel action = allParameterModels.get(0);
     assertThat(action.getName(), is("maxRetries"));
@@ -580,6 +603,26 @@ public class CoreExtensionModelTestCase {
     assertThat(type.getExpressionSupport(), is(SUPPORTED));
     assertThat(type.getDefaultValue(), is(60000));
     assertThat(type.isRequired(), is(false));
+
+    ParameterModel backoffMultiplier = allParameterModels.get(2);
+    assertThat(backoffMultiplier.getName(), is("backoffMultiplier"));
+    assertThat(backoffMultiplier.getType(), is(instanceOf(DefaultNumberType.class)));
+    assertThat(backoffMultiplier.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(backoffMultiplier.getDefaultValue(), is(1));
+    assertThat(backoffMultiplier.isRequired(), is(false));
+
+    ParameterModel maxMillisBetweenRetries = allParameterModels.get(3);
+    assertThat(maxMillisBetweenRetries.getName(), is("maxMillisBetweenRetries"));
+    assertThat(maxMillisBetweenRetries.getType(), is(instanceOf(DefaultNumberType.class)));
+    assertThat(maxMillisBetweenRetries.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(maxMillisBetweenRetries.isRequired(), is(false));
+
+    ParameterModel jitter = allParameterModels.get(4);
+    assertThat(jitter.getName(), is("jitter"));
+    assertThat(jitter.getType(), is(instanceOf(DefaultNumberType.class)));
+    assertThat(jitter.getExpressionSupport(), is(NOT_SUPPORTED));
+    assertThat(jitter.getDefaultValue(), is(0));
+    assertThat(jitter.isRequired(), is(false));
   }
 
   @Test
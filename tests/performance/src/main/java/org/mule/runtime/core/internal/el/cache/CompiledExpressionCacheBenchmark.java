@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.el.cache;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.el.ExpressionLanguageUtils.compile;
+import static org.mule.runtime.core.internal.el.cache.CompiledExpressionCaches.MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.openjdk.jmh.annotations.Mode.SingleShotTime;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.el.ExpressionManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the deployment of an artifact with {@value #EXPRESSIONS} distinct expressions, each used by {@value #COMPONENTS}
+ * components, from creating its context until all of its expressions are compiled:
+ * <ul>
+ * <li>{@code none}: no compiled expression cache, so every component compiles its expressions.</li>
+ * <li>{@code inMemory}: the artifact has a compiled expression cache, so each distinct expression is compiled once and the
+ * other components get it from the cache.</li>
+ * </ul>
+ * Each invocation is a whole deployment, so it's measured once instead of in a loop.
+ */
+@BenchmarkMode(SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class CompiledExpressionCacheBenchmark extends AbstractBenchmark {
+
+  private static final int EXPRESSIONS = 50;
+  private static final int COMPONENTS = 4;
+
+  @Param({"none", "inMemory"})
+  public String cache;
+
+  private String[] expressions;
+  private MuleContext muleContext;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    expressions = new String[EXPRESSIONS];
+    for (int i = 0; i < EXPRESSIONS; ++i) {
+      expressions[i] = "#[{ id: " + i + ", name: payload.name ++ '" + i + "', total: sum(payload.items map $.price) }]";
+    }
+
+    if ("inMemory".equals(cache)) {
+      setProperty(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE, Integer.toString(EXPRESSIONS));
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void teardownDeployment() throws MuleException {
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() {
+    clearProperty(MULE_EXPRESSIONS_COMPILED_CACHE_MAX_SIZE);
+  }
+
+  @Benchmark
+  public MuleContext deploy() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    ExpressionManager expressionManager = muleContext.getExpressionManager();
+    for (int component = 0; component < COMPONENTS; ++component) {
+      for (String expression : expressions) {
+        compile(expression, expressionManager);
+      }
+    }
+    return muleContext;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.metadata.cache;
+
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.metadata.MetadataCache;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the {@link DefaultPersistentMetadataCacheManager} and the {@link ShardedPersistentMetadataCacheManager} under
+ * concurrent metadata requests for many components, each accessing its cache the way {@code MuleMetadataService} does: getting
+ * the cache, resolving a value through it and saving it back.
+ */
+@Threads(8)
+public class MetadataCacheManagerBenchmark extends AbstractBenchmark {
+
+  private static final int COMPONENTS = 100;
+  private static final int KEYS_PER_COMPONENT = 20;
+
+  private MuleContext muleContext;
+  private DefaultPersistentMetadataCacheManager defaultCacheManager;
+  private ShardedPersistentMetadataCacheManager shardedCacheManager;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+
+    defaultCacheManager = new DefaultPersistentMetadataCacheManager();
+    defaultCacheManager.setLockFactory(muleContext.getLockFactory());
+    defaultCacheManager.setObjectStoreManager(muleContext.getObjectStoreManager());
+    defaultCacheManager.start();
+
+    shardedCacheManager = new ShardedPersistentMetadataCacheManager();
+    shardedCacheManager.setLockFactory(muleContext.getLockFactory());
+    shardedCacheManager.setObjectStoreManager(muleContext.getObjectStoreManager());
+    shardedCacheManager.setSchedulerService(muleContext.getSchedulerService());
+    shardedCacheManager.start();
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    shardedCacheManager.stop();
+    defaultCacheManager.dispose("");
+    shardedCacheManager.dispose("");
+
+    muleContext.stop();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Object defaultCacheManager() throws Exception {
+    return resolveMetadata(defaultCacheManager);
+  }
+
+  @Benchmark
+  public Object shardedCacheManager() throws Exception {
+    return resolveMetadata(shardedCacheManager);
+  }
+
+  private Object resolveMetadata(MetadataCacheManager cacheManager) throws Exception {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final String id = "component" + random.nextInt(COMPONENTS);
+
+    final MetadataCache cache = cacheManager.getOrCreateCache(id);
+    final Serializable value = cache.computeIfAbsent(KEY + random.nextInt(KEYS_PER_COMPONENT), key -> VALUE + key);
+    cacheManager.updateCache(id, cache);
+    return value;
+  }
+}
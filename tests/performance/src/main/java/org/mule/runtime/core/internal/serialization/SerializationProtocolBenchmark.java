@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+
+/**
+ * Compares the throughput of {@link JavaExternalSerializerProtocol} and {@link BinarySerializationProtocol}. The sizes of the
+ * serialized objects with each protocol are logged on setup.
+ */
+public class SerializationProtocolBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = getLogger(SerializationProtocolBenchmark.class);
+
+  private MuleContext muleContext;
+  private JavaExternalSerializerProtocol javaProtocol;
+  private BinarySerializationProtocol binaryProtocol;
+
+  private CoreEvent event;
+  private byte[] javaEvent;
+  private byte[] binaryEvent;
+  private byte[] javaMessage;
+  private byte[] binaryMessage;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+
+    javaProtocol = new JavaExternalSerializerProtocol();
+    javaProtocol.setMuleContext(muleContext);
+    binaryProtocol = new BinarySerializationProtocol();
+    binaryProtocol.setMuleContext(muleContext);
+
+    CoreEvent.Builder builder = CoreEvent.builder(createEvent(createFlow(muleContext)));
+    for (int i = 0; i < 10; ++i) {
+      builder.addVariable(KEY + i, VALUE + i);
+    }
+    event = builder.build();
+
+    javaEvent = javaProtocol.serialize(event);
+    binaryEvent = binaryProtocol.serialize(event);
+    javaMessage = javaProtocol.serialize(event.getMessage());
+    binaryMessage = binaryProtocol.serialize(event.getMessage());
+
+    LOGGER.info("Serialized event size - java: {} bytes, binary: {} bytes", javaEvent.length, binaryEvent.length);
+    LOGGER.info("Serialized message size - java: {} bytes, binary: {} bytes", javaMessage.length, binaryMessage.length);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    muleContext.stop();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public byte[] javaSerializeEvent() {
+    return javaProtocol.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] binarySerializeEvent() {
+    return binaryProtocol.serialize(event);
+  }
+
+  @Benchmark
+  public Object javaDeserializeEvent() {
+    return javaProtocol.deserialize(javaEvent);
+  }
+
+  @Benchmark
+  public Object binaryDeserializeEvent() {
+    return binaryProtocol.deserialize(binaryEvent);
+  }
+
+  @Benchmark
+  public byte[] javaSerializeMessage() {
+    return javaProtocol.serialize(event.getMessage());
+  }
+
+  @Benchmark
+  public byte[] binarySerializeMessage() {
+    return binaryProtocol.serialize(event.getMessage());
+  }
+
+  @Benchmark
+  public Object javaDeserializeMessage() {
+    return javaProtocol.deserialize(javaMessage);
+  }
+
+  @Benchmark
+  public Object binaryDeserializeMessage() {
+    return binaryProtocol.deserialize(binaryMessage);
+  }
+}
@@ -7,24 +7,41 @@
 package org.mule.runtime.core.policy;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.runtime.core.internal.execution.SourcePolicyTestUtils.block;
 
 import org.mule.AbstractBenchmark;
 import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.policy.Policy;
+import org.mule.runtime.core.api.policy.ParameterAwareOperationPolicyPointcutParametersFactory;
 import org.mule.runtime.core.api.policy.PolicyChain;
 import org.mule.runtime.core.internal.policy.CompositeOperationPolicy;
 import org.mule.runtime.core.internal.policy.OperationPolicy;
+import org.mule.runtime.core.internal.policy.PolicyPointcutParametersManager;
 import org.mule.runtime.extension.api.runtime.operation.CompletableComponentExecutor.ExecutorCallback;
+import org.mule.runtime.policy.api.OperationPolicyPointcutParametersFactory;
+import org.mule.runtime.policy.api.PolicyPointcutParameters;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -44,6 +61,12 @@ public class CompositeOperationPolicyBenchmark extends AbstractBenchmark {
 
   private Scheduler fluxCompleteScheduler;
 
+  private AbstractComponent operation;
+  private Map<String, Object> operationParameters;
+  private CoreEvent operationEvent;
+  private PolicyPointcutParametersManager pointcutParametersManager;
+  private PolicyPointcutParametersManager parameterAwarePointcutParametersManager;
+
   @Setup(Level.Trial)
   public void setUp() throws MuleException {
     MuleContext muleContext = createMuleContextWithServices();
@@ -58,6 +81,21 @@ public class CompositeOperationPolicyBenchmark extends AbstractBenchmark {
     }, "")), empty(), (policy, nextProcessor) -> nextProcessor,
                                            muleContext.getConfiguration().getShutdownTimeout(),
                                            fluxCompleteScheduler);
+
+    operation = new AbstractComponent() {};
+    operation.setAnnotations(singletonMap(LOCATION_KEY, CONNECTOR_LOCATION));
+    operationParameters = new HashMap<>();
+    for (int i = 0; i < 10; ++i) {
+      operationParameters.put("parameter" + i, "value" + i);
+    }
+    operationParameters.put("path", "/api/resource");
+    operationParameters.put("method", "GET");
+    operationEvent = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, null, empty())).message(of(PAYLOAD)).build();
+
+    pointcutParametersManager =
+        new PolicyPointcutParametersManager(emptyList(), singletonList(new PathPointcutParametersFactory()));
+    parameterAwarePointcutParametersManager =
+        new PolicyPointcutParametersManager(emptyList(), singletonList(new ParameterAwarePathPointcutParametersFactory()));
   }
 
   @TearDown(Level.Trial)
@@ -96,4 +134,73 @@ public class CompositeOperationPolicyBenchmark extends AbstractBenchmark {
 
     return (CoreEvent) value;
   }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public PolicyPointcutParameters pointcutParameters() {
+    return pointcutParametersManager.createOperationPointcutParameters(operation, operationEvent, operationParameters);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public PolicyPointcutParameters parameterAwarePointcutParameters() {
+    return parameterAwarePointcutParametersManager.createOperationPointcutParameters(operation, operationEvent,
+                                                                                    operationParameters);
+  }
+
+  private static class PathPointcutParametersFactory implements OperationPolicyPointcutParametersFactory {
+
+    @Override
+    public boolean supportsOperationIdentifier(ComponentIdentifier operationIdentifier) {
+      return true;
+    }
+
+    @Override
+    public PolicyPointcutParameters createPolicyPointcutParameters(Component operation, Map<String, Object> operationParameters) {
+      return createPolicyPointcutParameters(operation, operationParameters, null);
+    }
+
+    @Override
+    public PolicyPointcutParameters createPolicyPointcutParameters(Component operation, Map<String, Object> operationParameters,
+                                                                   PolicyPointcutParameters sourceParameters) {
+      return new PathPointcutParameters(operation, sourceParameters, (String) operationParameters.get("path"),
+                                        (String) operationParameters.get("method"));
+    }
+  }
+
+  private static class ParameterAwarePathPointcutParametersFactory extends PathPointcutParametersFactory
+      implements ParameterAwareOperationPolicyPointcutParametersFactory {
+
+    private final Set<String> pointcutParameterNames = new HashSet<>(asList("path", "method"));
+
+    @Override
+    public Set<String> getPointcutParameterNames() {
+      return pointcutParameterNames;
+    }
+  }
+
+  private static class PathPointcutParameters extends PolicyPointcutParameters {
+
+    private final String path;
+    private final String method;
+
+    private PathPointcutParameters(Component component, PolicyPointcutParameters sourceParameters, String path,
+                                   String method) {
+      super(component, sourceParameters);
+      this.path = path;
+      this.method = method;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof PathPointcutParameters && super.equals(obj)
+          && Objects.equals(path, ((PathPointcutParameters) obj).path)
+          && Objects.equals(method, ((PathPointcutParameters) obj).method);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(super.hashCode(), path, method);
+    }
+  }
 }
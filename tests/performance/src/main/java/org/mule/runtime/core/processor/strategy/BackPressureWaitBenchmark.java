@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.processor.strategy;
+
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.openjdk.jmh.annotations.Mode.SampleTime;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.processor.strategy.CapacitySignal;
+import org.mule.runtime.core.internal.processor.strategy.CapacitySignalingProcessingStrategy;
+import org.mule.runtime.core.internal.processor.strategy.ProactorStreamEmitterProcessingStrategyFactory;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+
+/**
+ * Compares the latency added by the {@code WAIT} back-pressure strategy when sources poll the processing strategy against when
+ * they park on its {@link CapacitySignal}.
+ * <p>
+ * The flow accepts {@link #CAPACITY} concurrent events, each taking {@link #PROCESSING_TIME_MICROS} to complete, and twice as many
+ * source threads try to dispatch events to it.
+ */
+@BenchmarkMode(SampleTime)
+@OutputTimeUnit(MICROSECONDS)
+public class BackPressureWaitBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = getLogger(BackPressureWaitBenchmark.class);
+
+  private static final int CAPACITY = 4;
+  private static final long PROCESSING_TIME_MICROS = 500;
+  private static final long POLL_INTERVAL_MS = 2;
+  private static final long SIGNAL_TIMEOUT_MS = 100;
+
+  @Param({"poll", "signal"})
+  public String waitMode;
+
+  private MuleContext muleContext;
+  private Flow flow;
+  private CapacitySignalingProcessingStrategy processingStrategy;
+  private CapacitySignal capacitySignal;
+  private ScheduledExecutorService processingExecutor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    flow = createFlow(muleContext);
+
+    ProactorStreamEmitterProcessingStrategyFactory processingStrategyFactory =
+        new ProactorStreamEmitterProcessingStrategyFactory();
+    processingStrategyFactory.setMaxConcurrency(CAPACITY);
+    processingStrategy = (CapacitySignalingProcessingStrategy) processingStrategyFactory.create(muleContext, "backPressure_mb");
+    startIfNeeded(processingStrategy);
+    capacitySignal = processingStrategy.getCapacitySignal().get();
+
+    processingExecutor = newScheduledThreadPool(CAPACITY);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws MuleException {
+    processingExecutor.shutdownNow();
+    stopIfNeeded(processingStrategy);
+    disposeIfNeeded(processingStrategy, LOGGER);
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  @Threads(CAPACITY * 2)
+  public CoreEvent dispatch() throws InterruptedException {
+    CoreEvent event = createEvent(flow);
+    if ("signal".equals(waitMode)) {
+      waitForSignal(event);
+    } else {
+      poll(event);
+    }
+
+    processingExecutor.schedule(() -> ((BaseEventContext) event.getContext()).success(event), PROCESSING_TIME_MICROS,
+                                MICROSECONDS);
+    return event;
+  }
+
+  private void poll(CoreEvent event) throws InterruptedException {
+    while (!accept(event)) {
+      sleep(POLL_INTERVAL_MS);
+    }
+  }
+
+  private void waitForSignal(CoreEvent event) throws InterruptedException {
+    long generation = capacitySignal.generation();
+    while (!accept(event)) {
+      capacitySignal.await(generation, SIGNAL_TIMEOUT_MS, MILLISECONDS);
+      generation = capacitySignal.generation();
+    }
+  }
+
+  private boolean accept(CoreEvent event) {
+    try {
+      processingStrategy.checkBackpressureAccepting(event);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+}
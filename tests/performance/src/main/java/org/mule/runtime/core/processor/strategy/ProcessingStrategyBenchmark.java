@@ -6,7 +6,14 @@
  */
 package org.mule.runtime.core.processor.strategy;
 
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.sleep;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
+import static org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.LEAST_LOADED_SINK_SELECTION;
+import static org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory.SINK_SELECTION_PROPERTY;
 import static reactor.core.publisher.FluxSink.OverflowStrategy.ERROR;
 
 import org.mule.AbstractBenchmark;
@@ -18,8 +25,12 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.Sink;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.StreamEmitterProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.TransactionAwareProactorStreamEmitterProcessingStrategyFactory;
 import org.mule.runtime.core.internal.processor.strategy.TransactionAwareStreamEmitterProcessingStrategyFactory;
+import org.mule.runtime.core.internal.processor.strategy.VirtualThreadProactorStreamEmitterProcessingStrategyFactory;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -41,6 +52,9 @@ import reactor.core.publisher.MonoSink;
 @BenchmarkMode(Mode.Throughput)
 public class ProcessingStrategyBenchmark extends AbstractBenchmark {
 
+  private static final long BLOCKING_TIME_MILLIS = 1;
+  private static final int SLOW_EVENT_RATIO = 100;
+
   private MuleContext muleContext;
 
   private ProcessingStrategy directPs;
@@ -59,6 +73,18 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
   private Sink directAllSink;
   private Sink emitterAllSink;
 
+  private ProcessingStrategy proactorPs;
+  private ProcessingStrategy virtualThreadPs;
+
+  private Sink proactorBlockingSink;
+  private Sink virtualThreadBlockingSink;
+
+  private ProcessingStrategy roundRobinPs;
+  private ProcessingStrategy leastLoadedPs;
+
+  private Sink roundRobinSkewedSink;
+  private Sink leastLoadedSkewedSink;
+
   @Setup(Level.Trial)
   public void setUp() throws MuleException {
     muleContext = createMuleContextWithServices();
@@ -94,6 +120,62 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
         directPs.createSink(flow, publisher -> baseFlux(publisher, directPs.onPipeline(directPs.onProcessor(processor))));
     emitterAllSink =
         emitterPs.createSink(flow, publisher -> baseFlux(publisher, emitterPs.onPipeline(emitterPs.onProcessor(processor))));
+
+    proactorPs = new TransactionAwareProactorStreamEmitterProcessingStrategyFactory().create(muleContext, "proactor_mb");
+    startIfNeeded(proactorPs);
+    virtualThreadPs = new VirtualThreadProactorStreamEmitterProcessingStrategyFactory().create(muleContext, "virtual_mb");
+    startIfNeeded(virtualThreadPs);
+
+    final ReactiveProcessor blockingProcessor = new ReactiveProcessor() {
+
+      @Override
+      public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+        return Flux.from(publisher).doOnNext(e -> {
+          try {
+            sleep(BLOCKING_TIME_MILLIS);
+          } catch (InterruptedException ie) {
+            currentThread().interrupt();
+          }
+        });
+      }
+
+      @Override
+      public ProcessingType getProcessingType() {
+        return BLOCKING;
+      }
+    };
+
+    proactorBlockingSink =
+        proactorPs.createSink(flow, publisher -> baseFlux(publisher,
+                                                          proactorPs.onPipeline(proactorPs.onProcessor(blockingProcessor))));
+    virtualThreadBlockingSink =
+        virtualThreadPs.createSink(flow, publisher -> baseFlux(publisher, virtualThreadPs
+            .onPipeline(virtualThreadPs.onProcessor(blockingProcessor))));
+
+    roundRobinPs = new StreamEmitterProcessingStrategyFactory().create(muleContext, "roundRobin_mb");
+    startIfNeeded(roundRobinPs);
+    setProperty(SINK_SELECTION_PROPERTY, LEAST_LOADED_SINK_SELECTION);
+    try {
+      leastLoadedPs = new StreamEmitterProcessingStrategyFactory().create(muleContext, "leastLoaded_mb");
+    } finally {
+      clearProperty(SINK_SELECTION_PROPERTY);
+    }
+    startIfNeeded(leastLoadedPs);
+
+    // One out of every SLOW_EVENT_RATIO events takes much longer than the rest
+    final AtomicLong skewedCounter = new AtomicLong();
+    final ReactiveProcessor skewedProcessor = p -> Flux.from(p).doOnNext(e -> {
+      if (skewedCounter.incrementAndGet() % SLOW_EVENT_RATIO == 0) {
+        Blackhole.consumeCPU(100 * SLOW_EVENT_RATIO);
+      } else {
+        Blackhole.consumeCPU(100);
+      }
+    });
+
+    roundRobinSkewedSink = roundRobinPs.createSink(flow, publisher -> baseFlux(publisher, roundRobinPs
+        .onPipeline(roundRobinPs.onProcessor(skewedProcessor))));
+    leastLoadedSkewedSink = leastLoadedPs.createSink(flow, publisher -> baseFlux(publisher, leastLoadedPs
+        .onPipeline(leastLoadedPs.onProcessor(skewedProcessor))));
   }
 
   private Flux<CoreEvent> baseFlux(Publisher<CoreEvent> publisher,
@@ -153,4 +235,28 @@ public class ProcessingStrategyBenchmark extends AbstractBenchmark {
   public CoreEvent emitterAllSink() {
     return Mono.<CoreEvent>create(resultSink -> emitterAllSink.accept(createEvent(flow, resultSink))).block();
   }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent proactorBlockingSink() {
+    return Mono.<CoreEvent>create(resultSink -> proactorBlockingSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent virtualThreadBlockingSink() {
+    return Mono.<CoreEvent>create(resultSink -> virtualThreadBlockingSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent roundRobinSkewedSink() {
+    return Mono.<CoreEvent>create(resultSink -> roundRobinSkewedSink.accept(createEvent(flow, resultSink))).block();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public CoreEvent leastLoadedSkewedSink() {
+    return Mono.<CoreEvent>create(resultSink -> leastLoadedSkewedSink.accept(createEvent(flow, resultSink))).block();
+  }
 }
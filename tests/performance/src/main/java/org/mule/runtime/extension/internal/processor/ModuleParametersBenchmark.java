@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.processor;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.component.AbstractComponent.ANNOTATION_NAME;
+import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
+import static org.mule.runtime.api.component.ComponentIdentifier.buildFromStringRepresentation;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.processor.MessageProcessors.processToApply;
+
+import org.mule.AbstractBenchmark;
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.OutputModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the processing of two nested XML SDK module operations, the inner one being the only processor of the outer one,
+ * depending on the kind of values of their parameters:
+ * <ul>
+ * <li>{@code literal}: plain values, bound when the operations are initialised.</li>
+ * <li>{@code constant}: constant expressions, evaluated once when the operations are initialised.</li>
+ * <li>{@code expression}: expressions referencing the variables of the calling event, evaluated for each call.</li>
+ * </ul>
+ */
+public class ModuleParametersBenchmark extends AbstractBenchmark {
+
+  private static final int PARAMETERS = 5;
+
+  @Param({"literal", "constant", "expression"})
+  public String parameters;
+
+  private MuleContext muleContext;
+  private ModuleOperationMessageProcessor operation;
+  private CoreEvent event;
+
+  @Setup
+  public void setUp() throws MuleException {
+    muleContext = createMuleContextWithServices();
+    // No flow holds the operations, so there is no processing strategy for them to find
+    ((MuleContextWithRegistry) muleContext).getRegistry()
+        .registerObject("benchmark.locator", mock(ConfigurationComponentLocator.class));
+    muleContext.start();
+
+    final ModuleOperationMessageProcessor inner = createOperation("inner", singletonList(new EchoProcessor()));
+    operation = createOperation("outer", singletonList(inner));
+    initialiseIfNeeded(operation, muleContext);
+    startIfNeeded(operation);
+
+    final CoreEvent.Builder builder = CoreEvent.builder(create("", "", CONNECTOR_LOCATION, null, empty())).message(of(PAYLOAD));
+    for (int i = 0; i < PARAMETERS; ++i) {
+      builder.addVariable("parameter" + i, "value" + i);
+    }
+    event = builder.build();
+  }
+
+  @TearDown
+  public void tearDown() throws MuleException {
+    operation.stop();
+    operation.dispose();
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public CoreEvent nestedOperations() throws MuleException {
+    return processToApply(event, operation);
+  }
+
+  private ModuleOperationMessageProcessor createOperation(String name, List<Processor> processors) {
+    final MetadataType stringType = BaseTypeBuilder.create(JAVA).stringType().build();
+    final List<ParameterModel> parameterModels = new ArrayList<>();
+    final Map<String, Object> values = new HashMap<>();
+    for (int i = 0; i < PARAMETERS; ++i) {
+      final ParameterModel parameterModel = mock(ParameterModel.class);
+      when(parameterModel.getName()).thenReturn("parameter" + i);
+      when(parameterModel.getType()).thenReturn(stringType);
+      parameterModels.add(parameterModel);
+      values.put("parameter" + i, valueOf(i));
+    }
+
+    final OutputModel outputModel = mock(OutputModel.class);
+    when(outputModel.getType()).thenReturn(stringType);
+    final OperationModel operationModel = mock(OperationModel.class);
+    when(operationModel.getAllParameterModels()).thenReturn(parameterModels);
+    when(operationModel.getOutput()).thenReturn(outputModel);
+
+    final ModuleOperationMessageProcessor operation =
+        new ModuleOperationMessageProcessor(emptyMap(), values, emptyList(), mock(ExtensionModel.class), operationModel);
+    operation.setAnnotations(annotations(name));
+    operation.setMessageProcessors(processors);
+    return operation;
+  }
+
+  private String valueOf(int parameter) {
+    switch (parameters) {
+      case "constant":
+        return "#[" + parameter + " * 1000]";
+      case "expression":
+        return "#[vars.parameter" + parameter + "]";
+      default:
+        return "value" + parameter;
+    }
+  }
+
+  private static Map<QName, Object> annotations(String name) {
+    final Map<QName, Object> annotations = new HashMap<>();
+    annotations.put(LOCATION_KEY, CONNECTOR_LOCATION);
+    annotations.put(ANNOTATION_NAME, buildFromStringRepresentation("module:" + name));
+    return annotations;
+  }
+
+  private static class EchoProcessor extends AbstractComponent implements Processor {
+
+    private EchoProcessor() {
+      setAnnotations(annotations("echo"));
+    }
+
+    @Override
+    public CoreEvent process(CoreEvent event) {
+      return event;
+    }
+  }
+}
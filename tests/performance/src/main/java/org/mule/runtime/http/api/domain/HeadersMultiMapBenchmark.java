@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.domain;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.util.MultiMap;
+
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares {@link CaseInsensitiveMultiMap} with {@link CompactCaseInsensitiveMultiMap} for the typical usage of the headers of an
+ * HTTP message: building them, taking an immutable snapshot, looking some up and iterating all of them.
+ */
+public class HeadersMultiMapBenchmark extends AbstractBenchmark {
+
+  private static final String[][] HEADERS = {
+      {"Host", "localhost:8081"},
+      {"User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:80.0) Gecko/20100101 Firefox/80.0"},
+      {"Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"},
+      {"Accept-Language", "en-US,en;q=0.5"},
+      {"Accept-Encoding", "gzip, deflate, br"},
+      {"Connection", "keep-alive"},
+      {"Cookie", "session=38afes7a8"},
+      {"Cookie", "theme=dark"},
+      {"Upgrade-Insecure-Requests", "1"},
+      {"Cache-Control", "max-age=0"},
+      {"Content-Type", "application/json; charset=UTF-8"},
+      {"Content-Length", "348"},
+      {"X-Correlation-ID", "f81d4fae-7dec-11d0-a765-00a0c91e6bf6"},
+      {"X-Forwarded-For", "203.0.113.195"},
+      {"X-Forwarded-Proto", "https"}
+  };
+
+  private static final String[] LOOKUPS = {"content-type", "CONTENT-LENGTH", "Host", "transfer-encoding", "x-correlation-id"};
+
+  @Param({"caseInsensitive", "compact"})
+  public String implementation;
+
+  private Supplier<MultiMap<String, String>> mapSupplier;
+  private MultiMap<String, String> headers;
+
+  @Setup
+  public void setup() {
+    switch (implementation) {
+      case "caseInsensitive":
+        mapSupplier = () -> new CaseInsensitiveMultiMap(true);
+        break;
+      case "compact":
+        mapSupplier = () -> new CompactCaseInsensitiveMultiMap(true);
+        break;
+      default:
+        throw new IllegalArgumentException(implementation);
+    }
+    headers = build();
+  }
+
+  @Benchmark
+  public MultiMap<String, String> build() {
+    MultiMap<String, String> map = mapSupplier.get();
+    for (String[] header : HEADERS) {
+      map.put(header[0], header[1]);
+    }
+    return map.toImmutableMultiMap();
+  }
+
+  @Benchmark
+  public int lookup() {
+    int found = 0;
+    for (String name : LOOKUPS) {
+      if (headers.get(name) != null) {
+        ++found;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int iterate() {
+    int length = 0;
+    for (Entry<String, String> entry : headers.entryList()) {
+      length += entry.getKey().length() + entry.getValue().length();
+    }
+    return length;
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.util.Arrays.asList;
+import static org.mule.runtime.http.api.server.MethodRequestMatcher.acceptAll;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.http.api.server.MethodRequestMatcher;
+import org.mule.runtime.http.api.server.PathAndMethodRequestMatcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures lookups in a {@link RadixTrieRequestMatcherRegistry} holding APIkit-like paths: per resource, a collection, an item
+ * with a URI parameter and a nested collection, plus a trailing wildcard for the whole API
+ * which accepts any method.
+ */
+public class RequestMatcherRegistryBenchmark extends AbstractBenchmark {
+
+  private static final MethodRequestMatcher GET_AND_POST = MethodRequestMatcher.builder(asList("GET", "POST")).build();
+
+  @Param({"10", "1000", "10000"})
+  public int paths;
+
+  private RequestMatcherRegistry<String> registry;
+
+  private String collectionPath;
+  private String itemPath;
+  private String nestedPath;
+  private String wildcardPath;
+
+  @Setup
+  public void setup() {
+    registry = new RadixTrieRequestMatcherRegistryBuilder<String>()
+        .onNotFound(() -> "notFound")
+        .onMethodMismatch(() -> "methodMismatch")
+        .build();
+
+    registry.add(PathAndMethodRequestMatcher.builder().path("/api/*").methodRequestMatcher(acceptAll()).build(), "console");
+    for (int i = 0; i < paths / 3; ++i) {
+      add("/api/v1/resource" + i);
+      add("/api/v1/resource" + i + "/{id}");
+      add("/api/v1/resource" + i + "/{id}/items");
+    }
+
+    int resource = paths / 3 / 2;
+    collectionPath = "/api/v1/resource" + resource;
+    itemPath = "/api/v1/resource" + resource + "/42";
+    nestedPath = "/api/v1/resource" + resource + "/42/items";
+    wildcardPath = "/api/v1/resource" + resource + "/42/unknown/path";
+  }
+
+  private void add(String path) {
+    registry.add(PathAndMethodRequestMatcher.builder().path(path).methodRequestMatcher(GET_AND_POST).build(), path);
+  }
+
+  @Benchmark
+  public String findCollection() {
+    return registry.find("GET", collectionPath);
+  }
+
+  @Benchmark
+  public String findItem() {
+    return registry.find("GET", itemPath);
+  }
+
+  @Benchmark
+  public String findNestedCollection() {
+    return registry.find("POST", nestedPath);
+  }
+
+  @Benchmark
+  public String findWildcard() {
+    return registry.find("GET", wildcardPath);
+  }
+
+  @Benchmark
+  public String findOtherMethod() {
+    return registry.find("DELETE", itemPath);
+  }
+
+}
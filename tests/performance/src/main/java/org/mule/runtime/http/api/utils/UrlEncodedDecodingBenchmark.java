@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.http.api.utils;
+
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeQueryString;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedBuffer;
+import static org.mule.runtime.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedStream;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.util.MultiMap;
+import org.mule.runtime.api.util.MultiMap.StringMultiMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares the single pass url-encoded decoding of {@link HttpEncoderDecoderUtils} with the previous one, based on
+ * {@link String#split(String)} and {@link URLDecoder}, for typical query strings and form bodies as well as pathological ones.
+ */
+public class UrlEncodedDecodingBenchmark extends AbstractBenchmark {
+
+  @Param({"query", "form", "escaped", "manyParams", "longValue", "emptyPairs"})
+  public String input;
+
+  private String encoded;
+  private byte[] encodedBytes;
+
+  @Setup
+  public void setup() {
+    StringBuilder builder = new StringBuilder();
+    switch (input) {
+      case "query":
+        builder.append("page=2&size=25&sort=name%2Casc&q=caf%C3%A9+con+leche&includeDeleted=false");
+        break;
+      case "form":
+        builder.append("grant_type=authorization_code&code=SplxlOBeZQQYbYS6WxSbIA")
+            .append("&redirect_uri=https%3A%2F%2Fclient.example.com%2Fcb&client_id=s6BhdRkqt3&state=xyz");
+        break;
+      case "escaped":
+        for (int i = 0; i < 200; ++i) {
+          builder.append("%E2%82%AC");
+        }
+        builder.insert(0, "euros=");
+        break;
+      case "manyParams":
+        for (int i = 0; i < 1000; ++i) {
+          builder.append(i == 0 ? "" : "&").append("param").append(i).append('=').append("value").append(i);
+        }
+        break;
+      case "longValue":
+        builder.append("data=");
+        for (int i = 0; i < 64 * 1024; ++i) {
+          builder.append((char) ('a' + i % 26));
+        }
+        break;
+      case "emptyPairs":
+        for (int i = 0; i < 1000; ++i) {
+          builder.append('&');
+        }
+        builder.append("a=1");
+        break;
+      default:
+        throw new IllegalArgumentException(input);
+    }
+    encoded = builder.toString();
+    encodedBytes = encoded.getBytes(UTF_8);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> legacy() throws UnsupportedEncodingException {
+    MultiMap<String, String> params = new StringMultiMap();
+    for (String pair : encoded.split("&")) {
+      int idx = pair.indexOf("=");
+      if (idx != -1) {
+        params.put(URLDecoder.decode(pair.substring(0, idx), UTF_8.name()),
+                   URLDecoder.decode(pair.substring(idx + 1), UTF_8.name()));
+      } else {
+        params.put(URLDecoder.decode(pair, UTF_8.name()), (String) null);
+      }
+    }
+    return params;
+  }
+
+  @Benchmark
+  public MultiMap<String, String> string() {
+    return decodeQueryString(encoded);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> buffer() {
+    return decodeUrlEncodedBuffer(wrap(encodedBytes), UTF_8);
+  }
+
+  @Benchmark
+  public MultiMap<String, String> stream() throws IOException {
+    return decodeUrlEncodedStream(new ByteArrayInputStream(encodedBytes), UTF_8);
+  }
+
+}